@@ -0,0 +1,41 @@
+//====================================================================
+// BistroRuntime.java
+//====================================================================
+package smalltalk.benchmark;
+
+import smalltalk.behavior.PrimitiveFactory;
+import smalltalk.behavior.SelectorTable;
+import smalltalk.behavior.SendSite;
+
+/**
+ * Prepares the Bistro runtime for the benchmarks, and supplies the send sites they use.
+ * The library classes must be initialized starting from Object, just as they are when
+ * a compiled Bistro class gets loaded, so every benchmark obtains its primitives here.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+public final class BistroRuntime {
+
+    private BistroRuntime() { }
+
+    /**
+     * Returns the primitive factory, which initializes the library classes on first use.
+     *
+     * @return the primitive factory.
+     */
+    public static PrimitiveFactory primitive() {
+        return smalltalk.behavior.Object.primitive;
+    }
+
+    /**
+     * Returns a new send site, just like those emitted by the compiler.
+     *
+     * @param methodName the name of the method sent.
+     * @param argumentCount the number of message arguments.
+     * @return a new send site.
+     */
+    public static SendSite site(String methodName, int argumentCount) {
+        primitive();
+        return new SendSite(SelectorTable.idOf(methodName, argumentCount));
+    }
+}
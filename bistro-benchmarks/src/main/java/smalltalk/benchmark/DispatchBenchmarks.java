@@ -0,0 +1,123 @@
+//====================================================================
+// DispatchBenchmarks.java
+//====================================================================
+package smalltalk.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Error;
+import smalltalk.behavior.OneArgumentBlock;
+import smalltalk.behavior.PrimitiveFactory;
+import smalltalk.behavior.SendSite;
+import smalltalk.behavior.ZeroArgumentBlock;
+import smalltalk.collection.OrderedCollection;
+import smalltalk.magnitude.SmallInteger;
+
+/**
+ * Measures the costs of message dispatch, method lookup, block evaluation, and exception signaling.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmarks {
+
+    static final PrimitiveFactory primitive = BistroRuntime.primitive();
+
+    static final SendSite plus = BistroRuntime.site("$plus", 1);
+    static final SendSite yourself = BistroRuntime.site("yourself", 0);
+
+    Object three;
+    Object four;
+    Object[] receivers;
+    int next;
+
+    ZeroArgumentBlock constantBlock;
+    OneArgumentBlock identityBlock;
+    ZeroArgumentBlock signalingBlock;
+    OneArgumentBlock handlerBlock;
+
+    @Setup
+    public void prepare() {
+        three = primitive.IntegerFrom(3);
+        four = primitive.IntegerFrom(4);
+
+        // one receiver for each of several classes, enough to make a send site megamorphic
+        receivers = new Object[] {
+            three,
+            primitive.FloatFrom(3.0f),
+            primitive.StringFrom("three"),
+            primitive.SymbolFrom("three"),
+            primitive.CharacterFrom('3'),
+            ((Behavior) OrderedCollection.$class).$new(),
+        };
+
+        constantBlock = new ZeroArgumentBlock() {
+            @Override public Object value() {
+                return four;
+            }
+        };
+
+        identityBlock = new OneArgumentBlock() {
+            @Override public Object value(final Object argument) {
+                return argument;
+            }
+        };
+
+        signalingBlock = new ZeroArgumentBlock() {
+            @Override public Object value() {
+                return Error.$class.signal();
+            }
+        };
+
+        handlerBlock = new OneArgumentBlock() {
+            @Override public Object value(final Object exception) {
+                return four;
+            }
+        };
+    }
+
+    @Benchmark
+    public Object performSelector() {
+        return three.perform_with("$plus", four);
+    }
+
+    @Benchmark
+    public Object monomorphicSend() {
+        return plus.perform_with(three, four);
+    }
+
+    @Benchmark
+    public Object megamorphicSend() {
+        next = (next + 1) % receivers.length;
+        return yourself.perform(receivers[next]);
+    }
+
+    @Benchmark
+    public java.lang.reflect.Method methodLookup() {
+        return primitive.methodNamed("$plus", SmallInteger.$class, 1);
+    }
+
+    @Benchmark
+    public Object zeroArgumentBlock() {
+        return constantBlock.value();
+    }
+
+    @Benchmark
+    public Object oneArgumentBlock() {
+        return identityBlock.value(four);
+    }
+
+    @Benchmark
+    public Object exceptionSignal() {
+        return signalingBlock.on_do(Error.$class, handlerBlock);
+    }
+}
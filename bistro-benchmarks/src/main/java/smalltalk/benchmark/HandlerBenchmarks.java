@@ -0,0 +1,95 @@
+//====================================================================
+// HandlerBenchmarks.java
+//====================================================================
+package smalltalk.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Error;
+import smalltalk.behavior.OneArgumentBlock;
+import smalltalk.behavior.PrimitiveFactory;
+import smalltalk.behavior.ZeroArgumentBlock;
+
+/**
+ * Measures the cost of exception handler activation as the number of threads grows.
+ * Each thread keeps its own handler environment, so the cost per thread should stay flat.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerBenchmarks {
+
+    static final PrimitiveFactory primitive = BistroRuntime.primitive();
+
+    Object four;
+    ZeroArgumentBlock protectedBlock;
+    ZeroArgumentBlock signalingBlock;
+    OneArgumentBlock handlerBlock;
+
+    @Setup
+    public void prepare() {
+        four = primitive.IntegerFrom(4);
+
+        protectedBlock = new ZeroArgumentBlock() {
+            @Override public Object value() {
+                return four;
+            }
+        };
+
+        signalingBlock = new ZeroArgumentBlock() {
+            @Override public Object value() {
+                return Error.$class.signal();
+            }
+        };
+
+        handlerBlock = new OneArgumentBlock() {
+            @Override public Object value(final Object exception) {
+                return four;
+            }
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object handlerActivation1() {
+        return protectedBlock.on_do(Error.$class, handlerBlock);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object handlerActivation4() {
+        return protectedBlock.on_do(Error.$class, handlerBlock);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object handlerActivation16() {
+        return protectedBlock.on_do(Error.$class, handlerBlock);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object handledSignal1() {
+        return signalingBlock.on_do(Error.$class, handlerBlock);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object handledSignal4() {
+        return signalingBlock.on_do(Error.$class, handlerBlock);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object handledSignal16() {
+        return signalingBlock.on_do(Error.$class, handlerBlock);
+    }
+}
@@ -0,0 +1,162 @@
+//====================================================================
+// SticBenchmarks.java
+//====================================================================
+package smalltalk.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.OneArgumentBlock;
+import smalltalk.behavior.PrimitiveFactory;
+import smalltalk.behavior.SendSite;
+import smalltalk.collection.Array;
+import smalltalk.collection.Dictionary;
+import smalltalk.collection.OrderedCollection;
+
+/**
+ * Ports the STIC benchmarks of smalltalk.example.SticBenchmark to JMH.
+ * Each benchmark performs one pass through the body of the corresponding STIC loop,
+ * sending its messages through send sites, just as the compiled Bistro code does.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SticBenchmarks {
+
+    static final PrimitiveFactory primitive = BistroRuntime.primitive();
+
+    static final SendSite atPut = BistroRuntime.site("at_put", 2);
+    static final SendSite plus = BistroRuntime.site("$plus", 1);
+    static final SendSite times = BistroRuntime.site("$times", 1);
+    static final SendSite addLast = BistroRuntime.site("addLast", 1);
+    static final SendSite doing = BistroRuntime.site("do", 1);
+    static final SendSite equal = BistroRuntime.site("$equal", 1);
+
+    static final String LongText = "this is a test of a string compare of two long strings";
+
+    Object junk;
+    Object ten;
+    Object twenty;
+    Object[] keys;
+    Object array;
+    Object collection;
+    Object leftText;
+    Object rightText;
+    OneArgumentBlock emptyBlock;
+
+    Object floatA, floatB, floatC, floatD, floatE;
+    Object integerA, integerB, integerC, integerD, integerE;
+
+    @Setup
+    public void prepare() {
+        junk = primitive.IntegerFrom(0);
+        ten = primitive.IntegerFrom(10);
+        twenty = primitive.IntegerFrom(20);
+        keys = new Object[10];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = primitive.IntegerFrom(index + 1);
+        }
+
+        array = ((Behavior) Array.$class).$new(ten);
+        collection = ((Behavior) OrderedCollection.$class).$new(twenty);
+        for (int index = 0; index < 10; index++) {
+            addLast.perform_with(collection, junk);
+        }
+
+        leftText = primitive.StringFrom(LongText);
+        rightText = primitive.StringFrom(new String(LongText.toCharArray()));
+        emptyBlock = new OneArgumentBlock() {
+            @Override public Object value(final Object element) {
+                return primitive.literalNil();
+            }
+        };
+
+        floatA = primitive.FloatFrom(87.0f);
+        floatB = primitive.FloatFrom(53.0f);
+        floatC = primitive.FloatFrom(-87.0f);
+        floatD = primitive.FloatFrom(42461.0f);
+        floatE = primitive.FloatFrom(5.0f);
+
+        integerA = primitive.IntegerFrom(87);
+        integerB = primitive.IntegerFrom(53);
+        integerC = primitive.IntegerFrom(-87);
+        integerD = primitive.IntegerFrom(42461);
+        integerE = primitive.IntegerFrom(5);
+    }
+
+    @Benchmark
+    public void arrayAllocations(Blackhole hole) {
+        for (int count = 0; count < 10; count++) {
+            hole.consume(((Behavior) Array.$class).$new(ten));
+        }
+    }
+
+    @Benchmark
+    public Object arrayWrites() {
+        for (Object key : keys) {
+            atPut.perform_with_with(array, key, junk);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public Object dictionaryWrites() {
+        Object dictionary = ((Behavior) Dictionary.$class).$new(twenty);
+        for (Object key : keys) {
+            atPut.perform_with_with(dictionary, key, junk);
+        }
+        return dictionary;
+    }
+
+    @Benchmark
+    public Object floatOperations() {
+        Object e = floatE;
+        for (int count = 0; count < 10; count++) {
+            e = plus.perform_with(times.perform_with(
+                    plus.perform_with(times.perform_with(e, floatA), floatB), floatC), floatD);
+        }
+        return e;
+    }
+
+    @Benchmark
+    public Object integerOperations() {
+        Object e = integerE;
+        for (int count = 0; count < 10; count++) {
+            e = plus.perform_with(times.perform_with(
+                    plus.perform_with(times.perform_with(e, integerA), integerB), integerC), integerD);
+        }
+        return e;
+    }
+
+    @Benchmark
+    public void orderedCollectionIterations() {
+        for (int count = 0; count < 10; count++) {
+            doing.perform_with(collection, emptyBlock);
+        }
+    }
+
+    @Benchmark
+    public Object orderedCollectionWrites() {
+        Object result = ((Behavior) OrderedCollection.$class).$new(twenty);
+        for (int count = 0; count < 10; count++) {
+            addLast.perform_with(result, junk);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void stringComparisons(Blackhole hole) {
+        for (int count = 0; count < 10; count++) {
+            hole.consume(equal.perform_with(leftText, rightText));
+        }
+    }
+}
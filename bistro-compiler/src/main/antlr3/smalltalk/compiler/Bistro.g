@@ -47,13 +47,13 @@ protected classMembership :
 
 protected metaclassToken
 @after {// descend into a metaclass scope
-Scope.current = Scope.asFace().addMetaface();}
+Scope.current(Scope.asFace().addMetaface());}
 : Metaclass
 ;
 
 protected metaclassBlock
 @after {// ascend into a face scope
-Scope.current = Scope.asFace().containerScope();}
+Scope.current(Scope.asFace().containerScope());}
 : metaclassToken classMembership
 ;
 
@@ -68,7 +68,7 @@ protected handlerClass : innerFace Inner innerMembership ;
 
 protected innerFace
 @after {// create an inner class scope
-Scope.current = new Face(Scope.asBlock());
+Scope.current(new Face(Scope.asBlock()));
 Scope.asFace().baseName($innerFace.text);}
 : faceName
 ;
@@ -77,9 +77,9 @@ protected innerMembership
 @after {// build a nested class
 Innard innard = new Innard(Scope.asFace());
 // ascend 1 level from an inner class scope to a block scope
-Scope.current = Scope.asFace().containerScope();
+Scope.current(Scope.asFace().containerScope());
 // push the inner class on the operand stack
-Scope.current.operands().push(innard);}
+Scope.current().operands().push(innard);}
 : NewBlock classMembers EndBlock
 ;
 
@@ -98,13 +98,13 @@ protected typeMembership :
 
 protected metatypeToken
 @after {// descend into a metatype scope
-Scope.current = Scope.asFace().addMetaface();}
+Scope.current(Scope.asFace().addMetaface());}
 : Metatype
 ;
 
 protected metatypeBlock
 @after {// ascend into a face scope
-Scope.current = Scope.asFace().containerScope();}
+Scope.current(Scope.asFace().containerScope());}
 : metatypeToken typeMembership
 ;
 
@@ -125,7 +125,7 @@ protected variableInitialization : variableAssign initialization ;
 
 protected memberVariableName
 @after {// consume optional modifiers and a name for a variable
-Scope.asFace().currentLocal().modifiers(Scope.current.consumeOptions());
+Scope.asFace().currentLocal().modifiers(Scope.current().consumeOptions());
 Scope.asFace().currentLocal().name($memberVariableName.text);
 Scope.asFace().currentLocal().setLine($start.getLine());}
 : variableName
@@ -145,14 +145,14 @@ Scope.asFace().addLocal();}
 
 protected variableAssign
 @after {// create a method scope for parsing initial value
-Scope.current = new Method(Scope.asFace());}
+Scope.current(new Method(Scope.asFace()));}
 : Assign
 ;
 
 protected initialization
 @after {// consume an initial value for a variable
-Operand value = Scope.current.operands().pop();
-Scope.current = Scope.asMethod().containerScope();
+Operand value = Scope.current().operands().pop();
+Scope.current(Scope.asMethod().containerScope());
 Scope.asFace().currentLocal().value(value);}
 : evaluation
 ;
@@ -178,22 +178,22 @@ Scope.asBlock().throwsException($exceptionClass.text);}
 protected methodPreparation
 @after {// consume optional modifiers for a method
 Method method = Scope.asFace().currentMethod();
-method.modifiers(Scope.current.consumeOptions());
+method.modifiers(Scope.current().consumeOptions());
 // descend 1 level from a face scope into a method scope
-Scope.current = method;}
+Scope.current(method);}
 : methodOptions
 ;
 
 protected methodCompletion
 @after {// ascend 1 level from a method scope into a class scope
-Scope.current = Scope.asMethod().containerScope();
+Scope.current(Scope.asMethod().containerScope());
 Scope.asFace().addMethod();}
 : method
 ;
 
 protected methodAbstraction
 @after {// ascend 1 level from a method scope into a type scope
-Scope.current = Scope.asMethod().containerScope();
+Scope.current(Scope.asMethod().containerScope());
 Scope.asFace().addMethod();}
 : EmptyBlock
 ;
@@ -250,7 +250,7 @@ protected nestedBlock : newBlock nestedContents EndBlock | emptyBlock ;
 protected newBlock
 @after {// descend 1 level from a block scope into another block scope
 Block block = new Block(Scope.asBlock());
-Scope.current = block;}
+Scope.current(block);}
 : NewBlock
 ;
 
@@ -258,9 +258,9 @@ protected nestedContents
 @after {// build a nested block
 Nest nest = new Nest(Scope.asBlock());
 // ascend 1 level from a block scope into another block scope
-Scope.current = Scope.asBlock().containerScope();
+Scope.current(Scope.asBlock().containerScope());
 // push the inner scope on the operand stack
-Scope.current.operands().push(nest);}
+Scope.current().operands().push(nest);}
 : ( blockPattern )? blockContents
 ;
 
@@ -271,7 +271,7 @@ Message.endingBlock(block);
 // build a nested block
 Nest nest = new Nest(block);
 // push the inner scope on the operand stack
-Scope.current.operands().push(nest);}
+Scope.current().operands().push(nest);}
 : EmptyBlock
 ;
 
@@ -309,7 +309,7 @@ if (false) throw new RecognitionException();}
 
 protected statementEnd
 @after {// add the recent statement to the current block
-Scope.asBlock().addStatement(Scope.current.operands().pop());}
+Scope.asBlock().addStatement(Scope.current().operands().pop());}
 : Period
 ;
 
@@ -336,14 +336,14 @@ Message.assignments(Scope.asBlock());}
 
 protected assignment
 @after {// push an assignment onto a selector stack
-Scope.current.selectors().push(Selector.forAssignment);}
+Scope.current().selectors().push(Selector.forAssignment);}
 : ( ( identifier variableType ) => initializedVariable | assignedVariable ) Assign
 ;
 
 protected assignedVariable
 @after {// force early resolution of the reference
-Reference r = Reference.named($assignedVariable.text, Scope.current);
-Scope.current.operands().push(r);
+Reference r = Reference.named($assignedVariable.text, Scope.current());
+Scope.current().operands().push(r);
 //if (r.needsLocalResolution()) r.resolveUndefined();
 }
 : scopedName
@@ -353,16 +353,16 @@ protected initializedVariable : assignedVariableName assignedVariableType ;
 
 protected assignedVariableName
 @after {// push an assigned variable reference onto an operand stack
-Reference r = Reference.named($assignedVariableName.text, Scope.current);
-Scope.current.operands().push(r);}
+Reference r = Reference.named($assignedVariableName.text, Scope.current());
+Scope.current().operands().push(r);}
 : identifier
 ;
 
 protected assignedVariableType
 @after {// consume a type for an assigned variable and
 // define a local for an assigned variable in the current block
-Reference r = (Reference) Scope.current.operands().peek();
-Variable v = Variable.named(r.name(), $assignedVariableType.text, Scope.current);
+Reference r = (Reference) Scope.current().operands().peek();
+Variable v = Variable.named(r.name(), $assignedVariableType.text, Scope.current());
 Scope.asBlock().addLocal(v);}
 : variableType
 ;
@@ -389,60 +389,60 @@ protected messages :
 
 protected firstCascade
 @after {// consume a message and convert it to a message cascade
-Operand top = Scope.current.operands().pop();
+Operand top = Scope.current().operands().pop();
 Cascade cascade = new Cascade(Scope.asBlock(), top);
-Scope.current.operands().push(cascade);}
+Scope.current().operands().push(cascade);}
 : Cascade
 ;
 
 protected unaryMessage
 @after {// consume a unary message and push it onto an operand stack
 Selector selector = Selector.from($unaryMessage.text.trim());
-Scope.current.operands().push(Message.from(selector, 1, Scope.asBlock()));}
+Scope.current().operands().push(Message.from(selector, 1, Scope.asBlock()));}
 : unarySelector
 ;
 
 protected binaryMessage
 @after {// consume a binary message and push it onto an operand stack
-Selector selector = Scope.current.selectors().pop();
-Scope.current.operands().push(Message.from(selector, 2, Scope.asBlock()));}
+Selector selector = Scope.current().selectors().pop();
+Scope.current().operands().push(Message.from(selector, 2, Scope.asBlock()));}
 : binaryMessageSelector binaryOperand
 ;
 
 protected keywordMessage
 @after {// consume a keyword message and push it onto an operand stack
-Selector selector = Scope.current.selectors().pop();
-Scope.current.operands().push(Message.from(selector, Scope.asBlock()));}
+Selector selector = Scope.current().selectors().pop();
+Scope.current().operands().push(Message.from(selector, Scope.asBlock()));}
 : keywordPhrase ( keywordPhrases | extraPhrases )?
 ;
 
 protected binaryMessageSelector
 @after {// push a binary selector onto a selector stack
 Selector selector = Selector.from($binaryMessageSelector.text);
-Scope.current.selectors().push(selector);}
+Scope.current().selectors().push(selector);}
 : binarySelector
 ;
 
 protected headKeywordSelector
 @after {// push a keyword selector onto a selector stack
 Selector selector = Selector.from($headKeywordSelector.text);
-Scope.current.selectors().push(selector);}
+Scope.current().selectors().push(selector);}
 : keyword
 ;
 
 protected tailKeywordSelector
 @after {// append a keyword selector for a keyword message
-Selector selector = Scope.current.selectors().pop();
+Selector selector = Scope.current().selectors().pop();
 selector.append($tailKeywordSelector.text);
-Scope.current.selectors().push(selector);}
+Scope.current().selectors().push(selector);}
 : keyword
 ;
 
 protected extraPhrase
 @after {// append an argument separator (anonymous keyword) for a keyword message
-Selector selector = Scope.current.selectors().pop();
+Selector selector = Scope.current().selectors().pop();
 selector.append(Selector.Colon);
-Scope.current.selectors().push(selector);}
+Scope.current().selectors().push(selector);}
 : Colon formula
 ;
 
@@ -457,11 +457,11 @@ protected primaryVariable
 @after {// push a variableName onto an operand stack
 String variableName = $primaryVariable.text.trim();
 if (variableName.equals("nil"))
-    Scope.current.operands().push(LiteralNil.from($start, Scope.current));
+    Scope.current().operands().push(LiteralNil.from($start, Scope.current()));
 else if (variableName.equals("true") || variableName.equals("false"))
-    Scope.current.operands().push(LiteralBoolean.from($start, Scope.current));
+    Scope.current().operands().push(LiteralBoolean.from($start, Scope.current()));
 else
-    Scope.current.operands().push(Reference.named($primaryVariable.text, Scope.current));
+    Scope.current().operands().push(Reference.named($primaryVariable.text, Scope.current()));
 }
 : ( variableName ) => variableName | namedPart
 ;
@@ -479,83 +479,83 @@ protected literalNumber :
 
 protected newArray
 @after {// push a new literal array onto an operand stack
-Scope.current.operands().push(new ObjectArray(Scope.current));}
+Scope.current().operands().push(new ObjectArray(Scope.current()));}
 : NewTerm
 ;
 
 protected endArray
 @after {// optimize a literal array on top of an operand stack (if possible)
-ObjectArray array = (ObjectArray) Scope.current.operands().pop();
-Scope.current.operands().push(array.optimized());}
+ObjectArray array = (ObjectArray) Scope.current().operands().pop();
+Scope.current().operands().push(array.optimized());}
 : EndTerm
 ;
 
 protected arrayLiteral
 @after {// pop an array literal from an operand stack and
-Constant literal = (Constant) Scope.current.operands().pop();
+Constant literal = (Constant) Scope.current().operands().pop();
 // add it to a literal array on top of an operand stack
-ObjectArray array = (ObjectArray) Scope.current.operands().peek();
+ObjectArray array = (ObjectArray) Scope.current().operands().peek();
 array.add(literal);}
 : literal
 ;
 
 protected literalCharacter
 @after {// push a literal character onto an operand stack
-Scope.current.operands().push(LiteralCharacter.from($start, Scope.current));}
+Scope.current().operands().push(LiteralCharacter.from($start, Scope.current()));}
 : ConstantCharacter
 ;
 
 protected negativeNumber
 @after {// negate the top operand onto an operand stack
-((LiteralNumber)Scope.current.operands().peek()).negate();}
+((LiteralNumber)Scope.current().operands().peek()).negate();}
 : Minus literalNumber
 ;
 
 protected literalInteger
 @after {// push a literal integer onto an operand stack
-Scope.current.operands().push(LiteralInteger.from($start, Scope.current));}
+Scope.current().operands().push(LiteralInteger.from($start, Scope.current()));}
 : ConstantInteger
 ;
 
 protected radixedInteger
 @after {// push a literal integer onto an operand stack
-Scope.current.operands().push(LiteralInteger.from($start, Scope.current));}
+Scope.current().operands().push(LiteralInteger.from($start, Scope.current()));}
 : RadixedInteger
 ;
 
 protected literalFloat
 @after {// push a literal float onto an operand stack
-Scope.current.operands().push(LiteralFloat.from($start, Scope.current));}
+Scope.current().operands().push(LiteralFloat.from($start, Scope.current()));}
 : ConstantFloat
 ;
 
 protected scaledFloat
 @after {// push a literal float onto an operand stack
-Scope.current.operands().push(LiteralFloat.from($start, Scope.current));}
+Scope.current().operands().push(LiteralFloat.from($start, Scope.current()));}
 : ScaledFloat
 ;
 
 protected scaledDecimal
 @after {// push a literal fixed point decimal onto an operand stack
-Scope.current.operands().push(LiteralDecimal.from($start, Scope.current));}
+Scope.current().operands().push(LiteralDecimal.from($start, Scope.current()));}
 : ScaledDecimal
 ;
 
 protected scaledInteger
 @after {// push a literal fixed point decimal onto an operand stack
-Scope.current.operands().push(LiteralDecimal.from($start, Scope.current));}
+Scope.current().operands().push(LiteralDecimal.from($start, Scope.current()));}
 : ScaledInteger
 ;
 
 protected literalSymbol
 @after {// push a literal symbol onto an operand stack
-Scope.current.operands().push(LiteralSymbol.from($start, Scope.current));}
+Scope.current().operands().push(LiteralSymbol.from($start, Scope.current()));}
 : Symbol
 ;
 
 protected literalString
 @after {// push a literal string onto an operand stack
-Scope.current.operands().push(LiteralString.from($start, Scope.current));}
+Scope.current().operands().push(LiteralString.from($start, Scope.current()));}
 : ConstantString
 ;
 
@@ -610,14 +610,14 @@ Scope.asFile().nameSuper($superType.text.trim());}
 protected typeName
 @after {// consume the name of a type
 Scope.asFile().nameSubtype($typeName.text.trim());
-Scope.current = Scope.asFile().faceScope();}
+Scope.current(Scope.asFile().faceScope());}
 : Identifier
 ;
 
 protected className
 @after {// consume the name of a class
 Scope.asFile().nameSubclass($className.text.trim());
-Scope.current = Scope.asFile().faceScope();}
+Scope.current(Scope.asFile().faceScope());}
 : Identifier
 ;
 
@@ -678,49 +678,49 @@ protected concreteOptions :
 
 protected faceOptions
 @after {// consume optional modifiers for a face (class or interface)
-Scope.asFile().faceScope().modifiers(Scope.current.consumeOptions());}
+Scope.asFile().faceScope().modifiers(Scope.current().consumeOptions());}
 : ( accessOption )? ( extendOption )?
 ;
 
 protected accessOption
 @after {// preserve an optional access modifier
-Scope.current.addOption($accessOption.text.trim());}
+Scope.current().addOption($accessOption.text.trim());}
 : ( Public | Protected | Private )
 ;
 
 protected staticOption
 @after {// preserve an optional static modifier
-Scope.current.addOption($staticOption.text.trim());}
+Scope.current().addOption($staticOption.text.trim());}
 : Static
 ;
 
 protected abstractOption
 @after {// preserve an optional abstract modifier
-Scope.current.addOption($abstractOption.text.trim());}
+Scope.current().addOption($abstractOption.text.trim());}
 : Abstract
 ;
 
 protected finalOption
 @after {// preserve an optional final modifier
-Scope.current.addOption($finalOption.text.trim());}
+Scope.current().addOption($finalOption.text.trim());}
 : Final
 ;
 
 protected nativeOption
 @after {// preserve an optional native modifier
-Scope.current.addOption($nativeOption.text.trim());}
+Scope.current().addOption($nativeOption.text.trim());}
 : Native
 ;
 
 protected synchronizedOption
 @after {// preserve an optional synchronized modifier
-Scope.current.addOption($synchronizedOption.text.trim());}
+Scope.current().addOption($synchronizedOption.text.trim());}
 : Synchronized
 ;
 
 protected wrappedOption
 @after {// preserve an optional wrapped modifier
-Scope.current.addOption($wrappedOption.text.trim());}
+Scope.current().addOption($wrappedOption.text.trim());}
 : Wrapped
 ;
 
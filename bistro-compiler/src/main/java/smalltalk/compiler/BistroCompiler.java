@@ -3,14 +3,18 @@
 //====================================================================
 package smalltalk.compiler;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 import javax.tools.*;
 import javax.tools.JavaCompiler.CompilationTask;
 
+import smalltalk.Name;
 import smalltalk.compiler.scope.File;
 import smalltalk.compiler.scope.Package;
+import smalltalk.compiler.scope.Library;
 import smalltalk.compiler.scope.ClassPath;
 
 /**
@@ -25,6 +29,29 @@ public class BistroCompiler {
      */
     public static final int StandardArgumentCount = 3;
 
+    /**
+     * Selects incremental compilation, which only compiles the faces whose sources changed,
+     * together with the faces that depend upon them.
+     */
+    public static final String IncrementalOption = "-incremental";
+
+    /**
+     * Selects parallel compilation, which parses and writes independent faces on all cores.
+     */
+    public static final String ParallelOption = "-parallel";
+
+    /**
+     * Selects in memory compilation, which keeps the generated Java code and compiled classes in memory,
+     * and writes only the classes into the class folder.
+     */
+    public static final String MemoryOption = "-memory";
+
+    /**
+     * Selects lambda blocks, which emits blocks as lambdas wrapped by the block classes,
+     * and caches those blocks that capture nothing from their enclosing scopes.
+     */
+    public static final String LambdaOption = "-lambdas";
+
     JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
     String workFolder = System.getProperty(WorkFolder);
 
@@ -32,13 +59,43 @@ public class BistroCompiler {
     java.io.File targetBase;
     java.io.File classBase;
 
+    /**
+     * Contains the faces known to this compilation.
+     */
+    Library library = new Library();
+
     /**
      * Contains the parsed source file scopes indexed by filename.
      */
     HashMap<String, File> parsedFiles = new HashMap();
-    HashSet<String> writtenFiles = new HashSet();
     Package parsedPackage;
 
+    /**
+     * Contains the written source files indexed by filename, each completed once written.
+     */
+    ConcurrentHashMap<String, CompletableFuture<File>> writtenFiles = new ConcurrentHashMap();
+
+    /**
+     * Contains the dependencies of the parsed faces indexed by filename.
+     */
+    HashMap<String, List<String>> parsedDependencies = new HashMap();
+
+    /**
+     * Contains the packages of the faces named for an incremental compilation, indexed by face name.
+     */
+    HashMap<String, Package> candidateFaces = new HashMap();
+    BuildManifest manifest;
+    boolean incremental = false;
+    boolean parallel = false;
+    ForkJoinPool pool;
+
+    /**
+     * Contains the classes compiled in memory (if any).
+     */
+    MemoryFileManager compiledClasses;
+    boolean inMemory = false;
+    boolean writesClasses = true;
+
     /**
      * Constructs a new BistroCompiler.
      */
@@ -66,10 +123,35 @@ public class BistroCompiler {
             return false;
         }
 
-        ClassPath.current.loadPaths(sourceBase, targetBase, classBase);
+        library.path().loadPaths(sourceBase, targetBase, classBase);
+        manifest = BuildManifest.loadFrom(classBase);
         return true;
     }
 
+    /**
+     * Removes the options from the command line arguments, and notes those selected.
+     *
+     * @param args the command line arguments.
+     * @return the remaining arguments.
+     */
+    protected String[] readOptions(String args[]) {
+        List<String> results = new ArrayList();
+        for (String arg : args) {
+            if (IncrementalOption.equals(arg)) {
+                incremental = true;
+            } else if (ParallelOption.equals(arg)) {
+                parallel = true;
+            } else if (MemoryOption.equals(arg)) {
+                inMemory = true;
+            } else if (LambdaOption.equals(arg)) {
+                library.emitsLambdas(true);
+            } else {
+                results.add(arg);
+            }
+        }
+        return results.toArray(new String[results.size()]);
+    }
+
     /**
      * Validates a base folder path.
      * @param folderPath a base folder path
@@ -131,28 +213,60 @@ public class BistroCompiler {
      * @throws Exception if raised
      */
     public void compileFileNamed(String fileName) throws Exception {
-        if (writtenFiles.contains(fileName)) return;
+        CompletableFuture<File> writing = new CompletableFuture();
+        CompletableFuture<File> written = writtenFiles.putIfAbsent(fileName, writing);
+        if (written != null) {
+            // another thread writes this file, so wait for it
+            written.join();
+            return;
+        }
 
         File fileScope = parsedFiles.get(fileName);
         if (fileScope == null) {
             System.out.println("No parsed file found " + fileName);
+            writing.complete(null);
             return;
         }
 
+        try {
+            for (String prerequisite : prerequisitesOf(fileScope)) {
+                compileFileNamed(prerequisite);
+            }
+
+            if (inMemory) {
+                System.out.println("Generating " + fileName);
+                fileScope.generate();
+            } else {
+                System.out.println("Writing " + fileName);
+                fileScope.compile();
+            }
+            writing.complete(fileScope);
+        }
+        catch (Exception ex) {
+            writing.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the names of the parsed files that must be written before a file:
+     * its base class, and its interfaces. Writing a face consults the methods
+     * of all its ancestors (e.g., to note overrides), so they get written first.
+     *
+     * @param fileScope a parsed file.
+     * @return the names of the parsed files that must be written before a file.
+     */
+    protected List<String> prerequisitesOf(File fileScope) {
+        List<String> results = new ArrayList();
         String baseName = fileScope.faceScope().fullBaseName();
         if (parsedFiles.containsKey(baseName)) {
-            compileFileNamed(baseName);
+            results.add(baseName);
         }
 
         List<String> interfaces = fileScope.faceScope().interfaceNames();
         interfaces.retainAll(parsedFiles.keySet());
-        if (!interfaces.isEmpty()) {
-            compileFileNamed((String) interfaces.get(0));
-        }
-
-        System.out.println("Writing " + fileName);
-        writtenFiles.add(fileName);
-        fileScope.compile();
+        results.addAll(interfaces);
+        return results;
     }
 
     /**
@@ -161,21 +275,82 @@ public class BistroCompiler {
      */
     public void compileParsedFiles(String args[]) throws Exception {
         System.out.println();
+        List<String> fileNames = new ArrayList();
         for (int n = StandardArgumentCount; n < args.length; n++) {
             String faceName = args[n];
             parsedPackage = Package.named(Package.nameFrom(faceName));
             String packageName = parsedPackage.name();
             if ("smalltalk".equals(packageName)) break;
 
-            List<String> fileNames =
+            fileNames.addAll(
                 parsedFiles.keySet().stream()
                     .filter(f -> f.startsWith(packageName))
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
+        }
 
-            for (String fileName : fileNames) {
-                compileFileNamed(fileName);
+        List<Callable<String>> writers = fileNames.stream()
+                .map(fileName -> (Callable<String>) () -> {
+                    compileFileNamed(fileName);
+                    return fileName;
+                })
+                .collect(Collectors.toList());
+
+        runAll(writers);
+    }
+
+    /**
+     * Runs some (tasks) in order, or concurrently when compiling in parallel.
+     *
+     * @param tasks some compilation tasks.
+     * @return the task results, in order.
+     * @throws Exception if raised by any task
+     */
+    protected <T> List<T> runAll(List<Callable<T>> tasks) throws Exception {
+        List<T> results = new ArrayList();
+        if (!parallel) {
+            for (Callable<T> task : tasks) {
+                results.add(task.call());
             }
+            return results;
         }
+
+        List<ForkJoinTask<T>> forkedTasks = tasks.stream()
+                .map(task -> pool().submit(bound(task)))
+                .collect(Collectors.toList());
+
+        for (ForkJoinTask<T> task : forkedTasks) {
+            try {
+                results.add(task.get());
+            }
+            catch (ExecutionException ex) {
+                if (ex.getCause() instanceof Exception) throw (Exception) ex.getCause();
+                throw ex;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns a task that runs with the library of this compilation bound to its thread.
+     *
+     * @param task a compilation task.
+     * @return a task bound to the library of this compilation.
+     */
+    private <T> Callable<T> bound(Callable<T> task) {
+        return () -> {
+            Library prior = Library.bind(library);
+            try {
+                return task.call();
+            }
+            finally {
+                Library.bind(prior);
+            }
+        };
+    }
+
+    private ForkJoinPool pool() {
+        if (pool == null) pool = new ForkJoinPool();
+        return pool;
     }
 
     public void compileJavaFiles() throws Exception {
@@ -184,12 +359,83 @@ public class BistroCompiler {
             return;
         }
 
+        List<File> targetFiles = getTargetFiles();
+        if (targetFiles.isEmpty()) {
+            System.out.println("All classes are current");
+            recordParsedFiles();
+            return;
+        }
+
         try (StandardJavaFileManager fileManager = createFileManager()) {
-            createCompilation(fileManager).call();
+            JavaFileManager outputManager = fileManager;
+            if (inMemory) {
+                compiledClasses = new MemoryFileManager(fileManager);
+                outputManager = compiledClasses;
+            }
+
+            List<JavaFileObject> sources = getTargetSources(fileManager, targetFiles);
+            if (!createCompilation(outputManager, sources).call()) return;
+        }
+
+        if (inMemory && writesClasses) {
+            compiledClasses.writeClasses(classBase);
         }
+        recordParsedFiles();
     }
 
-    private CompilationTask createCompilation(StandardJavaFileManager fileManager) {
+    /**
+     * Returns the Java sources of some target files: those generated in memory,
+     * or else those written into the target folder.
+     */
+    private List<JavaFileObject> getTargetSources(
+            StandardJavaFileManager fileManager, List<File> targetFiles) {
+        List<JavaFileObject> results = new ArrayList();
+        for (File fileScope : targetFiles) {
+            if (fileScope.generatedCode() != null) {
+                results.add(new MemoryFileManager.SourceFile(fileScope.fullName(), fileScope.generatedCode()));
+            } else {
+                fileManager.getJavaFileObjects(fileScope.targetFile()).forEach(results::add);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns a class loader for the classes compiled in memory.
+     *
+     * @param parent a class loader that locates the libraries used by the compiled classes.
+     * @return a class loader for the classes compiled in memory, or null if none were compiled.
+     */
+    public ClassLoader classLoader(ClassLoader parent) {
+        return (compiledClasses == null ? null : compiledClasses.classLoader(parent));
+    }
+
+    /**
+     * Compiles Bistro source files into Java classes kept only in memory.
+     *
+     * @param args the command line arguments.
+     * @return a class loader for the compiled classes, or null if none were compiled.
+     */
+    public ClassLoader compileInMemory(String args[]) {
+        inMemory = true;
+        writesClasses = false;
+        compileFiles(args);
+        return classLoader(getClass().getClassLoader());
+    }
+
+    /**
+     * Records the parsed files in the build manifest, after they were compiled successfully.
+     */
+    protected void recordParsedFiles() {
+        parsedDependencies.forEach((fileName, dependencies) -> {
+            File fileScope = parsedFiles.get(fileName);
+            manifest.record(fileName, fileScope.sourceFile(), targetHash(fileScope), dependencies);
+        });
+        manifest.save();
+    }
+
+    private CompilationTask createCompilation(
+            JavaFileManager fileManager, List<JavaFileObject> sources) {
         String classPath = classBase.getAbsolutePath();
         String servletPath = workFolder + ServletAPI;
         String completePath = ClassPath.buildPath(classPath, servletPath);
@@ -197,50 +443,231 @@ public class BistroCompiler {
             "-nowarn", "-d", classPath, "-cp", completePath,
         };
 
-        return compiler.getTask(null, fileManager, null, Arrays.asList(options), null,
-                        fileManager.getJavaFileObjectsFromStrings(getTargetFilePaths()));
+        return compiler.getTask(null, fileManager, null, Arrays.asList(options), null, sources);
     }
 
     private StandardJavaFileManager createFileManager() {
-        return compiler.getStandardFileManager(null, null, null);
+        return compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
     }
 
-    public List<String> getTargetFilePaths() {
+    /**
+     * Returns the parsed files whose Java code needs compilation.
+     * An incremental compilation includes those whose code changed, and those parsed files that depend on them,
+     * as javac must check them against the changed classes.
+     *
+     * @return the parsed files whose Java code needs compilation.
+     */
+    public List<File> getTargetFiles() {
+        if (!incremental) return new ArrayList(parsedFiles.values());
+
+        Set<String> changed = parsedFiles.values().stream()
+                .filter(f -> targetChanged(f))
+                .map(f -> f.fullName())
+                .collect(Collectors.toSet());
+
+        boolean growing = !changed.isEmpty();
+        while (growing) {
+            growing = false;
+            for (String fileName : parsedDependencies.keySet()) {
+                if (!changed.contains(fileName)
+                        && parsedDependencies.get(fileName).stream().anyMatch(changed::contains)) {
+                    changed.add(fileName);
+                    growing = true;
+                }
+            }
+        }
+
         return parsedFiles.values().stream()
-                .map(f -> f.targetFile().getAbsolutePath())
+                .filter(f -> changed.contains(f.fullName()))
                 .collect(Collectors.toList());
     }
 
+    private boolean targetChanged(File fileScope) {
+        String typeName = Name.typeName(fileScope.faceName());
+        return !classFile(fileScope.facePackage(), typeName).exists()
+            || manifest.targetChanged(fileScope.fullName(), targetHash(fileScope));
+    }
+
+    private String targetHash(File fileScope) {
+        String code = fileScope.generatedCode();
+        return (code != null ? BuildManifest.hashOf(code) : BuildManifest.hashOf(fileScope.targetFile()));
+    }
+
+    private java.io.File classFile(Package aPackage, String typeName) {
+        String className = aPackage.pathname()
+                + Package.directorySeparator + typeName + File.classExtension;
+        return new java.io.File(classBase, className);
+    }
+
     /**
      * Displays a message indicating how to use the Bistro compiler.
      */
     public static void displayUsage() {
         System.out.println(
                 "Usage: java " + ClassName + "  sourceBasepath  targetBasepath  classBasepath  className\n"
-                + "or     java " + ClassName + "  sourceBasepath  targetBasepath  classBasepath  packageName.*"
+                + "or     java " + ClassName + "  sourceBasepath  targetBasepath  classBasepath  packageName.*\n"
+                + "add " + IncrementalOption + " to compile only changed faces and their dependents\n"
+                + "add " + ParallelOption + " to parse and write independent faces on all cores\n"
+                + "add " + MemoryOption + " to compile in memory, writing only the classes\n"
+                + "add " + LambdaOption + " to emit blocks as lambdas, caching those that capture nothing"
         );
     }
 
     public void parseFiles(String args[]) throws Exception {
+        List<Callable<HashMap<String, File>>> parsers =
+                (incremental ? staleParsers(args) : sourceParsers(args));
+
+        while (!parsers.isEmpty()) {
+            for (HashMap<String, File> results : runAll(parsers)) {
+                parsedFiles.putAll(results);
+            }
+            parsers = (incremental ? ancestorParsers() : new ArrayList());
+        }
+
+        parsedFiles.forEach((fileName, fileScope) -> {
+            if (fileScope.sourceFile().exists()) {
+                parsedDependencies.put(fileName, fileScope.faceDependencies());
+            }
+        });
+    }
+
+    /**
+     * Returns the parsers for the source files named on the command line.
+     *
+     * @param args the command line arguments.
+     * @return the parsers for the source files named on the command line.
+     */
+    protected List<Callable<HashMap<String, File>>> sourceParsers(String args[]) {
+        List<Callable<HashMap<String, File>>> parsers = new ArrayList();
         for (int n = StandardArgumentCount; n < args.length; n++) {
             String faceName = args[n];
-            parsedPackage = Package.named(Package.nameFrom(faceName));
-
-            if (Package.namesAllFaces(faceName)) {
-                parsedFiles.putAll(parsedPackage.parseSources());
+            Package aPackage = Package.named(Package.nameFrom(faceName));
+            parsedPackage = aPackage;
+
+            if (!Package.namesAllFaces(faceName)) {
+                parsers.add(() -> aPackage.parseSource(faceName));
+            } else if (parallel && !Package.Smalltalk.equals(aPackage.name())
+                    && aPackage.sourceFolder().exists()) {
+                addParsers(parsers, aPackage, aPackage.sourceFaces());
             } else {
-                parsedFiles.putAll(parsedPackage.parseSource(faceName));
+                parsers.add(() -> aPackage.parseSources());
+            }
+        }
+        return parsers;
+    }
+
+    /**
+     * Adds parsers for the named faces of a package: one per face when compiling in parallel,
+     * otherwise one for them all.
+     */
+    private void addParsers(List<Callable<HashMap<String, File>>> parsers,
+            Package aPackage, Collection<String> faceNames) {
+        if (parallel) {
+            for (String faceName : faceNames) {
+                parsers.add(() -> aPackage.parseSources(Collections.singleton(faceName)));
             }
+        } else {
+            parsers.add(() -> aPackage.parseSources(faceNames));
         }
     }
 
+    /**
+     * Returns parsers for only the stale source files named on the command line: those whose sources
+     * changed since last recorded, those whose outputs are missing, and those that depend on them.
+     *
+     * @param args the command line arguments.
+     * @return parsers for the stale source files.
+     */
+    protected List<Callable<HashMap<String, File>>> staleParsers(String args[]) {
+        List<Callable<HashMap<String, File>>> parsers = new ArrayList();
+        HashMap<String, Package> candidates = candidateFaces;
+        for (int n = StandardArgumentCount; n < args.length; n++) {
+            String faceName = args[n];
+            Package aPackage = Package.named(Package.nameFrom(faceName));
+            parsedPackage = aPackage;
+
+            if (Package.Smalltalk.equals(parsedPackage.name())) {
+                parsers.add(() -> aPackage.parseSources());
+                continue;
+            }
+
+            List<String> faceNames = Package.namesAllFaces(faceName) ?
+                    parsedPackage.sourceFaces() :
+                    Arrays.asList(Name.typeName(faceName));
+
+            for (String name : faceNames) {
+                candidates.put(parsedPackage.qualify(name), parsedPackage);
+            }
+        }
+
+        List<String> changed = candidates.keySet().stream()
+                .filter(faceName -> needsCompilation(faceName, candidates.get(faceName)))
+                .collect(Collectors.toList());
+
+        Set<String> stale = manifest.withDependents(changed);
+        for (String faceName : stale) {
+            if (!candidates.containsKey(faceName)) {
+                // a dependent outside these packages gets rebuilt when next named
+                manifest.forget(faceName);
+            }
+        }
+
+        HashMap<Package, List<String>> staleFaces = new HashMap();
+        stale.stream().filter(candidates::containsKey).forEach(faceName -> {
+            staleFaces.computeIfAbsent(candidates.get(faceName), p -> new ArrayList())
+                    .add(Name.typeName(faceName));
+        });
+
+        System.out.println("Found " + stale.size() + " stale faces of " + candidates.size());
+        staleFaces.forEach((aPackage, faceNames) -> addParsers(parsers, aPackage, faceNames));
+        return parsers;
+    }
+
+    /**
+     * Returns parsers for the unparsed ancestors of the parsed faces, so long as they were named
+     * on the command line. Writing a face consults the methods of its ancestors (e.g., to note overrides),
+     * so an incremental compilation writes the same code as a full compilation.
+     *
+     * @return parsers for the unparsed ancestors of the parsed faces.
+     */
+    protected List<Callable<HashMap<String, File>>> ancestorParsers() {
+        Set<String> ancestors = new TreeSet();
+        for (File fileScope : parsedFiles.values()) {
+            ancestors.add(fileScope.faceScope().fullBaseName());
+            ancestors.addAll(fileScope.faceScope().interfaceNames());
+        }
+
+        HashMap<Package, List<String>> ancestorFaces = new HashMap();
+        ancestors.stream()
+                .filter(candidateFaces::containsKey)
+                .filter(faceName -> !parsedFiles.containsKey(faceName))
+                .forEach(faceName -> {
+                    ancestorFaces.computeIfAbsent(candidateFaces.get(faceName), p -> new ArrayList())
+                            .add(Name.typeName(faceName));
+                });
+
+        List<Callable<HashMap<String, File>>> parsers = new ArrayList();
+        ancestorFaces.forEach((aPackage, faceNames) -> addParsers(parsers, aPackage, faceNames));
+        return parsers;
+    }
+
+    private boolean needsCompilation(String faceName, Package aPackage) {
+        String typeName = Name.typeName(faceName);
+        java.io.File sourceFile = new java.io.File(aPackage.sourceFolder(), typeName + File.sourceExtension);
+        java.io.File targetFile = new java.io.File(aPackage.targetFolder(), typeName + File.targetExtension);
+        return (!inMemory && !targetFile.exists()) || !classFile(aPackage, typeName).exists()
+            || manifest.sourceChanged(faceName, sourceFile);
+    }
+
     /**
      * Compiles Bistro source files into a Java class files.
      *
      * @param args the command line arguments.
      */
     public void compileFiles(String args[]) {
+        Library prior = Library.bind(library);
         try {
+            args = readOptions(args);
             if (!validate(args)) return;
             parseFiles(args);
             compileParsedFiles(args);
@@ -248,6 +675,9 @@ public class BistroCompiler {
             System.out.println("Done");
         } catch (Exception e) {
             e.printStackTrace();
+        } finally {
+            if (pool != null) pool.shutdown();
+            Library.bind(prior);
         }
     }
 
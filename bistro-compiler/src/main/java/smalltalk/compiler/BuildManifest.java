@@ -0,0 +1,249 @@
+//====================================================================
+// BuildManifest.java
+//====================================================================
+package smalltalk.compiler;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+
+/**
+ * Records the content hashes and dependencies of the faces compiled into a class folder.
+ * Each entry holds the hash of a face source, the hash of its generated Java target,
+ * and the names of the faces it depends upon (superclass, interfaces, and imports).
+ * An incremental compilation uses these to find the faces whose sources changed,
+ * and the faces that depend upon them, which together need to be compiled again.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+public class BuildManifest {
+
+    /**
+     * Names the manifest file kept in a class folder.
+     */
+    public static final String ManifestFilename = "bistro.manifest";
+
+    private static final String Absent = "";
+    private static final String Separator = " ";
+    private static final String DependencySeparator = ",";
+    private static final String HashAlgorithm = "SHA-256";
+
+    /**
+     * Records the compilation of a single face.
+     */
+    public static class Entry {
+
+        String sourceHash;
+        String targetHash;
+        List<String> dependencies;
+
+        public Entry(String sourceHash, String targetHash, List<String> dependencies) {
+            this.sourceHash = sourceHash;
+            this.targetHash = targetHash;
+            this.dependencies = new ArrayList(dependencies);
+        }
+
+        public static Entry from(String value) {
+            String[] parts = value.split(Separator, -1);
+            List<String> dependencies = new ArrayList();
+            if (parts.length > 2 && !parts[2].isEmpty()) {
+                dependencies.addAll(Arrays.asList(parts[2].split(DependencySeparator)));
+            }
+            return new Entry(parts[0], (parts.length > 1 ? parts[1] : Absent), dependencies);
+        }
+
+        public String sourceHash() {
+            return sourceHash;
+        }
+
+        public String targetHash() {
+            return targetHash;
+        }
+
+        public List<String> dependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public String toString() {
+            return sourceHash + Separator + targetHash + Separator
+                    + String.join(DependencySeparator, dependencies);
+        }
+    }
+
+    java.io.File manifestFile;
+    Map<String, Entry> entries = new HashMap();
+
+    /**
+     * Constructs a new BuildManifest.
+     *
+     * @param classBase the class folder that contains the manifest.
+     */
+    public BuildManifest(java.io.File classBase) {
+        manifestFile = new java.io.File(classBase, ManifestFilename);
+    }
+
+    /**
+     * Returns the manifest recorded in a class folder, or an empty one if none was recorded.
+     *
+     * @param classBase the class folder that contains the manifest.
+     * @return the manifest recorded in a class folder.
+     */
+    public static BuildManifest loadFrom(java.io.File classBase) {
+        BuildManifest result = new BuildManifest(classBase);
+        result.load();
+        return result;
+    }
+
+    /**
+     * Loads the entries from the manifest file (if it exists).
+     */
+    public void load() {
+        entries.clear();
+        if (!manifestFile.exists()) return;
+
+        Properties values = new Properties();
+        try (InputStream iStream = new FileInputStream(manifestFile)) {
+            values.load(iStream);
+        }
+        catch (IOException ex) {
+            System.out.println("Can't read " + manifestFile.getAbsolutePath());
+            return;
+        }
+
+        for (String faceName : values.stringPropertyNames()) {
+            entries.put(faceName, Entry.from(values.getProperty(faceName)));
+        }
+    }
+
+    /**
+     * Saves the entries into the manifest file.
+     */
+    public void save() {
+        Properties values = new Properties();
+        entries.forEach((faceName, entry) -> values.setProperty(faceName, entry.toString()));
+        try (OutputStream oStream = new FileOutputStream(manifestFile)) {
+            values.store(oStream, "Bistro build manifest");
+        }
+        catch (IOException ex) {
+            System.out.println("Can't write " + manifestFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Records the compilation of a face whose Java code was generated in memory.
+     *
+     * @param faceName a fully qualified face name.
+     * @param sourceFile the face source file.
+     * @param targetHash the content hash of the generated Java code.
+     * @param dependencies the names of the faces upon which the face depends.
+     */
+    public void record(String faceName,
+            java.io.File sourceFile, String targetHash, List<String> dependencies) {
+        entries.put(faceName, new Entry(hashOf(sourceFile), targetHash, dependencies));
+    }
+
+    /**
+     * Forgets a face, which causes its next incremental compilation to rebuild it.
+     *
+     * @param faceName a fully qualified face name.
+     */
+    public void forget(String faceName) {
+        entries.remove(faceName);
+    }
+
+    /**
+     * Returns whether a face source differs from the one recorded.
+     *
+     * @param faceName a fully qualified face name.
+     * @param sourceFile the face source file.
+     * @return whether a face source differs from the one recorded.
+     */
+    public boolean sourceChanged(String faceName, java.io.File sourceFile) {
+        Entry entry = entries.get(faceName);
+        return entry == null || !entry.sourceHash().equals(hashOf(sourceFile));
+    }
+
+    /**
+     * Returns whether some generated Java code differs from the code recorded.
+     *
+     * @param faceName a fully qualified face name.
+     * @param targetHash the content hash of the generated Java code.
+     * @return whether some generated Java code differs from the code recorded.
+     */
+    public boolean targetChanged(String faceName, String targetHash) {
+        Entry entry = entries.get(faceName);
+        return entry == null || !entry.targetHash().equals(targetHash);
+    }
+
+    /**
+     * Returns the supplied faces together with all the faces that depend upon them (transitively).
+     *
+     * @param faceNames some fully qualified face names.
+     * @return the supplied faces together with all their dependents.
+     */
+    public Set<String> withDependents(Collection<String> faceNames) {
+        Map<String, List<String>> dependents = new HashMap();
+        entries.forEach((faceName, entry) -> {
+            for (String dependency : entry.dependencies()) {
+                dependents.computeIfAbsent(dependency, d -> new ArrayList()).add(faceName);
+            }
+        });
+
+        Set<String> results = new HashSet(faceNames);
+        Deque<String> pending = new ArrayDeque(faceNames);
+        while (!pending.isEmpty()) {
+            List<String> found = dependents.get(pending.pop());
+            if (found == null) continue;
+            found.stream().filter(results::add).forEach(pending::push);
+        }
+        return results;
+    }
+
+    /**
+     * Returns the content hash of a file, or an empty string if the file can't be read.
+     *
+     * @param aFile a file.
+     * @return the content hash of a file.
+     */
+    public static String hashOf(java.io.File aFile) {
+        if (aFile == null || !aFile.exists()) return Absent;
+        try (InputStream iStream = new FileInputStream(aFile)) {
+            MessageDigest digest = MessageDigest.getInstance(HashAlgorithm);
+            byte[] buffer = new byte[8192];
+            for (int count = iStream.read(buffer); count > 0; count = iStream.read(buffer)) {
+                digest.update(buffer, 0, count);
+            }
+            return hexFrom(digest.digest());
+        }
+        catch (Exception ex) {
+            return Absent;
+        }
+    }
+
+    /**
+     * Returns the content hash of some generated code, as if it were written to a file.
+     *
+     * @param code some generated code.
+     * @return the content hash of some generated code.
+     */
+    public static String hashOf(String code) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HashAlgorithm);
+            return hexFrom(digest.digest(code.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (Exception ex) {
+            return Absent;
+        }
+    }
+
+    private static String hexFrom(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
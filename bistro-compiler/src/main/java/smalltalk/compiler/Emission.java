@@ -30,6 +30,11 @@ public class Emission {
     private static final String CodeFile = "CodeTemplates.stg";
     private static final STGroupFile CodeGroup = new STGroupFile(CodeFile);
 
+    // load the templates eagerly, so that concurrent emitters only read them
+    static {
+        CodeGroup.load();
+    }
+
     private ST builder;
 
     private Logger getLogger() {
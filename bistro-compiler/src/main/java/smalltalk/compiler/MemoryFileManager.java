@@ -0,0 +1,146 @@
+//====================================================================
+// MemoryFileManager.java
+//====================================================================
+package smalltalk.compiler;
+
+import java.io.*;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.tools.*;
+import javax.tools.JavaFileObject.Kind;
+
+/**
+ * Collects the classes compiled by javac in memory, rather than writing them into a class folder.
+ * The collected classes can be written into a class folder, or loaded with a class loader, on request.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private static final String SourceScheme = "string:///";
+    private static final String ClassScheme = "bytes:///";
+
+    /**
+     * Holds the Java source code generated for a face.
+     */
+    public static class SourceFile extends SimpleJavaFileObject {
+
+        String code;
+
+        public SourceFile(String className, String code) {
+            super(URI.create(SourceScheme + pathFrom(className, Kind.SOURCE)), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    /**
+     * Holds the bytes of a class compiled by javac.
+     */
+    public static class ClassFile extends SimpleJavaFileObject {
+
+        String className;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        public ClassFile(String className) {
+            super(URI.create(ClassScheme + pathFrom(className, Kind.CLASS)), Kind.CLASS);
+            this.className = className;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            bytes.reset();
+            return bytes;
+        }
+
+        public String className() {
+            return className;
+        }
+
+        public byte[] bytes() {
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * Contains the compiled classes indexed by binary class name.
+     */
+    Map<String, ClassFile> classFiles = new ConcurrentHashMap();
+
+    /**
+     * Constructs a new MemoryFileManager.
+     *
+     * @param fileManager a file manager that locates the libraries used by compiled classes.
+     */
+    public MemoryFileManager(StandardJavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    /**
+     * Returns the relative path of a class file or source file.
+     *
+     * @param className a binary class name.
+     * @param kind the kind of file.
+     * @return the relative path of a class file or source file.
+     */
+    public static String pathFrom(String className, Kind kind) {
+        return className.replace('.', '/') + kind.extension;
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+            Location location, String className, Kind kind, FileObject sibling) throws IOException {
+        if (kind != Kind.CLASS) {
+            return super.getJavaFileForOutput(location, className, kind, sibling);
+        }
+
+        ClassFile result = new ClassFile(className);
+        classFiles.put(className, result);
+        return result;
+    }
+
+    /**
+     * Writes the compiled classes into a class folder.
+     *
+     * @param classBase a class folder.
+     * @throws IOException if raised
+     */
+    public void writeClasses(java.io.File classBase) throws IOException {
+        for (ClassFile classFile : classFiles.values()) {
+            java.io.File file = new java.io.File(classBase, pathFrom(classFile.className(), Kind.CLASS));
+            java.io.File folder = file.getParentFile();
+            if (!folder.exists() && !folder.mkdirs()) {
+                throw new IOException("Can't create " + folder.getAbsolutePath());
+            }
+
+            try (OutputStream oStream = new FileOutputStream(file)) {
+                oStream.write(classFile.bytes());
+            }
+        }
+    }
+
+    /**
+     * Returns a class loader that defines the compiled classes.
+     * The (parent) should not already locate the same classes, as it gets consulted first.
+     *
+     * @param parent a class loader that locates the libraries used by the compiled classes.
+     * @return a class loader that defines the compiled classes.
+     */
+    public ClassLoader classLoader(ClassLoader parent) {
+        return new ClassLoader(parent) {
+            @Override
+            protected Class<?> findClass(String className) throws ClassNotFoundException {
+                ClassFile classFile = classFiles.get(className);
+                if (classFile == null) return super.findClass(className);
+                byte[] bytes = classFile.bytes();
+                return defineClass(className, bytes, 0, bytes.length);
+            }
+        };
+    }
+}
@@ -66,6 +66,30 @@ public class LiteralInteger extends LiteralNumber {
         return "SmallInteger";
     }
 
+    /**
+     * Returns whether this literal fits in a primitive int, as a SmallInteger.
+     *
+     * @return whether this literal fits in a primitive int.
+     */
+    @Override
+    public boolean yieldsPrimitiveInteger() {
+        return SmallIntegerType.equals(resolvedTypeName()) && fitsInteger();
+    }
+
+    /**
+     * Returns whether the value of this literal fits in a primitive int.
+     *
+     * @return whether the value of this literal fits in a primitive int.
+     */
+    public boolean fitsInteger() {
+        try {
+            Integer.parseInt(encodedValue());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     /**
      * Returns the type name of this constant reference.
      *
@@ -78,6 +78,11 @@ public class Base {
     public static final String ArrayClass = "java.lang.reflect.Array";
     protected static final String BooleanType = "smalltalk.behavior.Boolean";
 
+    /**
+     * Names the class whose instances may be operated upon as primitive ints.
+     */
+    protected static final String SmallIntegerType = "smalltalk.magnitude.SmallInteger";
+
     /**
      * Contains the primitive types.
      */
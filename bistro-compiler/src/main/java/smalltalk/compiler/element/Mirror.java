@@ -4,6 +4,7 @@
 package smalltalk.compiler.element;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.lang.reflect.*;
 
 /**
@@ -16,7 +17,7 @@ public class Mirror {
     /**
      * Contains the registered Java class mirrors.
      */
-    protected static Map<Class, Mirror> Registry = new HashMap();
+    protected static final Map<Class, Mirror> Registry = new ConcurrentHashMap();
 
     /**
      * Refers to an empty mirror (for null).
@@ -34,11 +35,7 @@ public class Mirror {
             return EmptyMirror;
         }
 
-        if (!Registry.containsKey(aClass)) {
-            Registry.put(aClass, new Mirror(aClass));
-        }
-
-        return Registry.get(aClass);
+        return Registry.computeIfAbsent(aClass, reflectedClass -> new Mirror(reflectedClass));
     }
 
     /**
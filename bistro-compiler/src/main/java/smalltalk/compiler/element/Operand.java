@@ -4,6 +4,7 @@
 package smalltalk.compiler.element;
 
 import smalltalk.compiler.Emission;
+import static smalltalk.compiler.Emission.emit;
 import smalltalk.compiler.scope.*;
 
 /**
@@ -97,6 +98,25 @@ public class Operand extends Container {
         return (Reference)this;
     }
 
+    /**
+     * Returns whether this refers to a local held as a primitive int.
+     *
+     * @return whether this refers to a local held as a primitive int.
+     */
+    public boolean holdsPrimitiveInteger() {
+        return false;
+    }
+
+    /**
+     * Returns whether this yields a primitive int: a literal int, a local held as a primitive int,
+     * or an integer operation upon them.
+     *
+     * @return whether this yields a primitive int.
+     */
+    public boolean yieldsPrimitiveInteger() {
+        return holdsPrimitiveInteger();
+    }
+
     public boolean refersToMetaclass() {
         return false;
     }
@@ -194,6 +214,16 @@ public class Operand extends Container {
         return emitStatement(emitOperand());
     }
 
+    /**
+     * Returns a SmallInteger whose value is a primitive int (value).
+     *
+     * @param value a primitive int value.
+     * @return a SmallInteger whose value is a primitive int (value).
+     */
+    public Emission emitBoxedInteger(Emission value) {
+        return emitCast(SmallIntegerType, emit("Scalar").value(value).with("factory", "Integer"));
+    }
+
     public Emission emitBooleanTerm() {
         return emitCast(BooleanType, emitOperand());
     }
@@ -9,6 +9,7 @@ import org.antlr.runtime.Token;
 import smalltalk.Name;
 import smalltalk.compiler.Emission;
 import static smalltalk.compiler.Emission.emit;
+import smalltalk.compiler.scope.Block;
 
 /**
  * Represents and encodes a symbolic reference to a variable.
@@ -256,12 +257,36 @@ public class Reference extends Operand {
     }
 
     public boolean isTransient() {
+        Variable v = localVariable();
+        return v != null && v.isTransient();
+    }
+
+    @Override
+    public boolean holdsPrimitiveInteger() {
+        if (!this.isLocal()) return false;
+        Variable v = localVariable();
+        return v != null && v.holdsPrimitiveInteger();
+    }
+
+    /**
+     * Returns the block local to which this reference resolves (if any).
+     *
+     * @return the block local to which this reference resolves, or null.
+     */
+    public Variable localVariable() {
         Scope s = containerScope().scopeResolving(this);
-        if (s == null || !s.isBlock()) return false;
+        if (s == null || !s.isBlock()) return null;
+        return s.localNamed(name());
+    }
 
-        Variable v = s.localNamed(name());
-        if (v == null) return false;
-        return v.isTransient();
+    /**
+     * Notes that a statement assigns (aValue) to the local to which this reference resolves.
+     *
+     * @param aValue an assigned value.
+     */
+    public void makeAssigned(Operand aValue) {
+        Variable v = localVariable();
+        if (v != null) v.makeAssigned(aValue);
     }
 
     public boolean isLocal() {
@@ -319,7 +344,7 @@ public class Reference extends Operand {
     }
 
     public void resolveUndefined() {
-        container().resolveUndefined(this).makeTransient();
+        container().resolveUndefined(this);
     }
 
     /**
@@ -341,6 +366,41 @@ public class Reference extends Operand {
         if (this.needsLocalResolution()) {
             resolveUndefined();
         }
+        noteCapture();
+        noteClosure();
+    }
+
+    /**
+     * Notes whether a nested block captures the local to which this reference resolves.
+     */
+    public void noteCapture() {
+        Scope s = containerScope().scopeResolving(this);
+        if (s == null || !s.isBlock() || !this.isNestedDeeper(s)) return;
+
+        Variable v = s.localNamed(name());
+        if (v != null) v.makeCaptured();
+    }
+
+    /**
+     * Notes whether the blocks that enclose this reference capture what it refers to:
+     * self, a member, or a local or argument defined outside them.
+     */
+    public void noteClosure() {
+        if (!containerScope().isBlock()) return;
+
+        Block block = containerScope().asScope(Block.class);
+        if (this.isSelfish() || this.isMember()) {
+            block.capturesFrom(null);
+            return;
+        }
+
+        Block owner = block.blockResolving(name());
+        if (owner != null) {
+            block.capturesFrom(owner);
+        }
+        else if (this.isSimple() && this.isHeritage()) {
+            block.capturesFrom(null);
+        }
     }
 
     /**
@@ -578,6 +638,7 @@ public class Reference extends Operand {
 
     @Override
     public Emission emitOperand() {
+        if (this.holdsPrimitiveInteger()) return emitBoxedInteger(emitItem(encodedName()));
         return emitItem(encodedName());
     }
 
@@ -17,9 +17,27 @@ import smalltalk.compiler.scope.*;
 public class Scope extends Container {
 
     /**
-     * Refers to the active compiler scope.
+     * Refers to the active compiler scope of each parsing thread.
      */
-    public static Scope current = null;
+    private static final ThreadLocal<Scope> Current = new ThreadLocal();
+
+    /**
+     * Returns the active compiler scope of the current thread.
+     *
+     * @return the active compiler scope of the current thread.
+     */
+    public static final Scope current() {
+        return Current.get();
+    }
+
+    /**
+     * Establishes the active compiler scope of the current thread.
+     *
+     * @param scope the active compiler scope.
+     */
+    public static final void current(Scope scope) {
+        Current.set(scope);
+    }
 
     /**
      * Returns the current scope as a File scope.
@@ -27,7 +45,7 @@ public class Scope extends Container {
      * @return the current scope as a File scope.
      */
     public static final File asFile() {
-        return (File) current;
+        return (File) current();
     }
 
     /**
@@ -36,7 +54,7 @@ public class Scope extends Container {
      * @return the current scope as a Face scope.
      */
     public static final Face asFace() {
-        return (Face) current;
+        return (Face) current();
     }
 
     /**
@@ -45,7 +63,7 @@ public class Scope extends Container {
      * @return the current scope as a Method scope.
      */
     public static final Method asMethod() {
-        return (Method) current;
+        return (Method) current();
     }
 
     /**
@@ -54,7 +72,7 @@ public class Scope extends Container {
      * @return the current scope as a Block scope.
      */
     public static final Block asBlock() {
-        return (Block) current;
+        return (Block) current();
     }
 
     /**
@@ -55,6 +55,26 @@ public class Variable extends Reference {
      */
     Operand value;
 
+    /**
+     * Indicates whether a nested block refers to a local variable.
+     */
+    boolean captured = false;
+
+    /**
+     * Indicates whether some statement assigns a local variable.
+     */
+    boolean assigned = false;
+
+    /**
+     * Contains the values that statements assign a local variable.
+     */
+    List<Operand> assignedValues = new ArrayList();
+
+    /**
+     * Indicates whether a local variable gets held as a primitive int, once resolved.
+     */
+    Boolean primitiveInteger = null;
+
     /**
      * Constructs a new Reference.
      * @param container a container
@@ -99,9 +119,70 @@ public class Variable extends Reference {
         }
     }
 
+    public void makeCaptured() {
+        captured = true;
+    }
+
+    public void makeAssigned(Operand aValue) {
+        assigned = true;
+        assignedValues.add(aValue);
+    }
+
+    /**
+     * Returns whether a local variable needs a heap box. Java requires the locals captured by a closure
+     * to be effectively final, so only a Java local that a nested block captures and some statement assigns
+     * needs one. The locals of most blocks are closure members, which nested blocks can assign directly.
+     *
+     * @return whether a local variable needs a heap box.
+     */
     @Override
     public boolean isTransient() {
-        return modifiers.stream().anyMatch(m -> Transient.equals(m));
+        if (modifiers.stream().anyMatch(m -> Transient.equals(m))) return true;
+        return captured && assigned && holdsStackLocal();
+    }
+
+    /**
+     * Returns whether a local SmallInteger gets held as a primitive int, unboxed across the method body.
+     * Only a method local that no nested block captures qualifies, as the method then emits all its references,
+     * and boxes it again wherever it gets used as an object. Its assigned values must all be primitive ints,
+     * so that holding it unboxed never adds an unboxing.
+     *
+     * @return whether a local gets held as a primitive int.
+     */
+    @Override
+    public boolean holdsPrimitiveInteger() {
+        if (primitiveInteger == null) {
+            primitiveInteger = true; // assumed while resolving, as a local may be assigned from itself
+            primitiveInteger = canHoldPrimitiveInteger();
+        }
+        return primitiveInteger;
+    }
+
+    private boolean canHoldPrimitiveInteger() {
+        if (captured || !assigned || hasValue() || isTransient()) return false;
+        if (!containerScope().isMethod() || !holdsStackLocal()) return false;
+
+        Face typeFace = typeFace();
+        if (typeFace == null || !SmallIntegerType.equals(typeFace.fullName())) return false;
+        return assignedValues.stream().allMatch(v -> v.yieldsPrimitiveInteger());
+    }
+
+    public boolean holdsStackLocal() {
+        Scope s = containerScope();
+        return s.isBlock() && ((Block) s).hasStackLocals();
+    }
+
+    /**
+     * Returns whether a local needs an explicit initial value, as Java requires of a captured local.
+     * The locals of a lambda block always get one, like the closure members they replace.
+     *
+     * @return whether a local needs an explicit initial value.
+     */
+    public boolean needsDefaultValue() {
+        if (hasValue()) return false;
+        Scope s = containerScope();
+        if (s.isBlock() && ((Block) s).emitsLambda()) return true;
+        return captured && holdsStackLocal();
     }
 
     /**
@@ -215,7 +296,7 @@ public class Variable extends Reference {
         if (typeName.startsWith(RootJava)) {
             return typeNamed(typeName);
         }
-        Face typeFace = Library.current.faceNamed(typeName);
+        Face typeFace = Library.current().faceNamed(typeName);
         return (typeFace == null ? rootType() : typeFace.typeClass());
     }
 
@@ -300,25 +381,24 @@ public class Variable extends Reference {
         return emit("Variable")
                 .comment(comment())
                 .with("notes", emitModifiers())
-                .with("type", emitTypeName(type()))
+                .with("type", emitTypeName(holdsPrimitiveInteger() ? "int" : type()))
                 .name(name())
                 .with("cast", valueNeedsCast() ? emitTerm(type()) : emitEmpty())
-                .value(hasValue() ? emitOperand(value()) : null);
+                .value(hasValue() ? emitOperand(value()) :
+                        needsDefaultValue() ? emitItem(valueDefault()) : null);
     }
 
     public Emission emitTransientLocal() {
-        String valueDefault = "null";
-        if (PrimitiveTypes.containsKey(type())) {
-            valueDefault = "0";
-            if ("boolean".equals(type())) {
-                valueDefault = "false";
-            }
-        }
         return emit("TransientLocal")
                 .with("type", emitTypeName(type()))
                 .name(name())
                 .with("cast", valueNeedsCast() ? emitTerm(type()) : emitEmpty())
-                .value(hasValue() ? emitOperand(value()) : emitItem(valueDefault));
+                .value(hasValue() ? emitOperand(value()) : emitItem(valueDefault()));
+    }
+
+    public String valueDefault() {
+        if (!PrimitiveTypes.containsKey(type())) return "null";
+        return "boolean".equals(type()) ? "false" : "0";
     }
 
     public Emission emitErasedArgument(boolean useFinal) {
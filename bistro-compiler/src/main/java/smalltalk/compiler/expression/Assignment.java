@@ -5,6 +5,8 @@ package smalltalk.compiler.expression;
 
 import smalltalk.compiler.Emission;
 import static smalltalk.compiler.Emission.emit;
+import smalltalk.compiler.element.Operand;
+import smalltalk.compiler.element.Reference;
 import smalltalk.compiler.scope.Block;
 
 /**
@@ -23,6 +25,18 @@ public class Assignment extends Message {
         super(blockScope);
     }
 
+    /**
+     * Cleans out any residue left from the parsing process and prepares the receiver for code generation.
+     * Notes which local gets assigned, for the capture analysis of its blocks.
+     */
+    @Override
+    public void clean() {
+        super.clean();
+        if (receiver().isReference()) {
+            ((Reference) receiver()).makeAssigned(firstArgument());
+        }
+    }
+
     /**
      * Returns whether the operand needs to be a term when used as a message receiver.
      *
@@ -37,13 +51,25 @@ public class Assignment extends Message {
         return (!receiver().resolvedTypeName().equals(firstArgument().resolvedTypeName()));
     }
 
+    /**
+     * Returns the assignment as a value, boxing the value assigned to a local held as a primitive int.
+     *
+     * @return the assignment as a value.
+     */
     @Override
     public Emission emitOperand() {
-        return emitOptimized();
+        if (!receiver().holdsPrimitiveInteger()) return emitOptimized();
+        return emitBoxedInteger(emitTerm(emitOptimized()));
+    }
+
+    @Override
+    public Emission emitStatement() {
+        return emitStatement(emitOptimized());
     }
 
     @Override
     public Emission emitPrimitive() {
+        if (receiver().holdsPrimitiveInteger()) return emitOptimized();
         return emit("Assignment")
                 .name(receiver().emitItem())
                 .value(firstArgument().emitPrimitive());
@@ -57,9 +83,19 @@ public class Assignment extends Message {
     }
 
     public Emission emitOptimizedValue() {
+        if (receiver().holdsPrimitiveInteger()) return emitIntegerValue();
         boolean casting = valueNeedsCast();
         if (!casting) return firstArgument().emitOperand();
         return emitCast(receiver().resolvedTypeName(), firstArgument().emitOperand());
     }
 
+    /**
+     * Returns the primitive int value assigned to a local held as a primitive int.
+     *
+     * @return the primitive int value assigned to a local.
+     */
+    public Emission emitIntegerValue() {
+        return emitExactInteger(firstArgument());
+    }
+
 }
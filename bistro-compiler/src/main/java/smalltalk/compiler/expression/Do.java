@@ -0,0 +1,42 @@
+//====================================================================
+// Do.java
+//====================================================================
+package smalltalk.compiler.expression;
+
+import smalltalk.compiler.Emission;
+import static smalltalk.compiler.Emission.emit;
+
+import smalltalk.compiler.scope.Block;
+
+/**
+ * Optimizes the translation of a collection enumeration into Java.
+ * An Array or an OrderedCollection gets enumerated by indexing its primitive contents directly.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+public class Do extends Iteration {
+
+    /**
+     * Constructs a new Do control message.
+     *
+     * @param blockScope the scope that contains the message.
+     */
+    public Do(Block blockScope) {
+        super(blockScope);
+    }
+
+    @Override
+    public int blockArgumentCount() {
+        return 1;
+    }
+
+    @Override
+    public Emission emitLoop(boolean answers) {
+        return emit("IndexedLoop")
+                .with("id", loopId())
+                .with("block", emitBlock())
+                .with("collection", receiver().emitOperand())
+                .with("fallback", emitFallback("$collection"))
+                .with("result", answers ? emitResult(emitLoopItem("$collection")) : null);
+    }
+}
@@ -49,12 +49,16 @@ public class Exit extends Message {
                 return emitResult(emitNull());
             }
 
-            return (method.exits()) ? emitMethodExit() : emitBlockExit();
+            // an exit from the method body itself needs no MethodExit, even when its blocks exit
+            return emitBlockExit();
         }
 
         return emitMethodExit();
     }
 
+    /**
+     * Returns an exit from a block to the activation of its enclosing method.
+     */
     public Emission emitMethodExit() {
         return emit("MethodExit")
                 .with("scope", blockScope().currentMethod().scopeID())
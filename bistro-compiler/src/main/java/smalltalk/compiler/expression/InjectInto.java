@@ -0,0 +1,43 @@
+//====================================================================
+// InjectInto.java
+//====================================================================
+package smalltalk.compiler.expression;
+
+import smalltalk.compiler.Emission;
+import static smalltalk.compiler.Emission.emit;
+
+import smalltalk.compiler.scope.Block;
+
+/**
+ * Optimizes the translation of a collection injection into Java.
+ * An Array or an OrderedCollection gets enumerated by indexing its primitive contents directly.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+public class InjectInto extends Iteration {
+
+    /**
+     * Constructs a new InjectInto control message.
+     *
+     * @param blockScope the scope that contains the message.
+     */
+    public InjectInto(Block blockScope) {
+        super(blockScope);
+    }
+
+    @Override
+    public int blockArgumentCount() {
+        return 2;
+    }
+
+    @Override
+    public Emission emitLoop(boolean answers) {
+        return emit("InjectedLoop")
+                .with("id", loopId())
+                .with("block", emitBlock())
+                .with("collection", receiver().emitOperand())
+                .with("value", firstArgument().emitOperand())
+                .with("fallback", emitFallback("$collection", emitLoopItem("$result")))
+                .with("result", answers ? emitResult(emitLoopItem("$result")) : null);
+    }
+}
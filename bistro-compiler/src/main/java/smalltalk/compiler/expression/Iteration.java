@@ -0,0 +1,115 @@
+//====================================================================
+// Iteration.java
+//====================================================================
+package smalltalk.compiler.expression;
+
+import java.util.*;
+import smalltalk.compiler.Emission;
+
+import smalltalk.compiler.element.*;
+import smalltalk.compiler.scope.Block;
+import smalltalk.compiler.scope.Nest;
+
+/**
+ * Optimizes the translation of an iteration message into a Java loop.
+ * The literal block gets allocated once, and the loop evaluates it directly when the receiver
+ * has a known primitive form. Any other receiver gets sent the original message.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+public abstract class Iteration extends Message {
+
+    /**
+     * Constructs a new Iteration control message.
+     *
+     * @param blockScope the scope that contains the message.
+     */
+    public Iteration(Block blockScope) {
+        super(blockScope);
+    }
+
+    /**
+     * Returns the number of arguments taken by the iterated block.
+     *
+     * @return the number of arguments taken by the iterated block.
+     */
+    public abstract int blockArgumentCount();
+
+    /**
+     * Returns the loop that evaluates the iterated block.
+     *
+     * @param answers whether the loop answers the message result.
+     * @return the loop that evaluates the iterated block.
+     */
+    public abstract Emission emitLoop(boolean answers);
+
+    /**
+     * Returns whether this message can be translated into a Java loop.
+     * The iterated block must be literal, and the other operands must be Bistro objects.
+     *
+     * @return whether this message can be translated into a Java loop.
+     */
+    public boolean canInline() {
+        if (receiver().isSelfish()) return false;
+        if (!finalOperand().isNest()) return false;
+
+        Block block = ((Nest) finalOperand()).nestedBlock();
+        if (block.argumentCount() != blockArgumentCount()) return false;
+        return operands().stream()
+                .filter(operand -> operand != finalOperand())
+                .noneMatch(operand -> isElementary(operand));
+    }
+
+    @Override
+    public Emission emitStatement() {
+        return canInline() ? emitLoop(false) : super.emitStatement();
+    }
+
+    @Override
+    public Emission emitResult() {
+        return canInline() ? emitLoop(true) : super.emitResult();
+    }
+
+    /**
+     * Returns the suffix that distinguishes the Java locals of this loop from those of any loop
+     * that encloses it, as when a block gets emitted as a lambda.
+     *
+     * @return the suffix that distinguishes the Java locals of this loop.
+     */
+    public String loopId() {
+        return String.valueOf(nestLevel());
+    }
+
+    /**
+     * Returns a reference to the named Java local of this loop.
+     *
+     * @param name the name of a loop local.
+     * @return a reference to the named Java local of this loop.
+     */
+    public Emission emitLoopItem(String name) {
+        return emitItem(name + loopId());
+    }
+
+    /**
+     * Returns the iterated block.
+     *
+     * @return the iterated block.
+     */
+    public Emission emitBlock() {
+        return finalOperand().emitOptimized();
+    }
+
+    /**
+     * Returns a dynamic send of this message to the local named (receiverName),
+     * with the supplied (arguments) followed by the iterated block held in $block.
+     *
+     * @param receiverName the name of the local that holds the receiver.
+     * @param arguments the other message arguments.
+     * @return a dynamic send of this message.
+     */
+    public Emission emitFallback(String receiverName, Emission... arguments) {
+        List<Emission> results = new ArrayList(Arrays.asList(arguments));
+        results.add(emitLoopItem("$block"));
+        return emitPerform(emitLoopItem(receiverName), results);
+    }
+}
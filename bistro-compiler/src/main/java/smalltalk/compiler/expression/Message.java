@@ -15,6 +15,7 @@ import smalltalk.compiler.scope.Face;
 import smalltalk.compiler.scope.Block;
 import smalltalk.compiler.scope.Method;
 import smalltalk.compiler.constant.LiteralNil;
+import smalltalk.compiler.constant.LiteralInteger;
 
 /**
  * Represents a Bistro message (method invocation) and translates it into Java.
@@ -50,6 +51,16 @@ public class Message extends Expression {
         ".perform_withArguments"
     };
 
+    /**
+     * Maps integer operators to the SmallInteger methods that compute them exactly.
+     */
+    static final Map<String, String> IntegerOperations = new HashMap();
+
+    /**
+     * Maps integer operators to the Math methods that compute them on primitive ints.
+     */
+    static final Map<String, String> ExactOperations = new HashMap();
+
     /**
      * Used to resolve a message constructor.
      */
@@ -65,6 +76,12 @@ public class Message extends Expression {
      */
     static {
         initializeOptimizers();
+        IntegerOperations.put("+", "sum");
+        IntegerOperations.put("-", "difference");
+        IntegerOperations.put("*", "product");
+        ExactOperations.put("+", "addExact");
+        ExactOperations.put("-", "subtractExact");
+        ExactOperations.put("*", "multiplyExact");
         Method.wrapperFactory = new Method.WrapperFactory() {
             @Override public Expression createWrapper(Method method, Method wrapper) {
                 return Message.wrapping(method, wrapper);
@@ -88,6 +105,11 @@ public class Message extends Expression {
         optimalClasses.put("ifFalse:", IfFalse.class);
         optimalClasses.put("whileTrue:", WhileTrue.class);
         optimalClasses.put("whileFalse:", WhileFalse.class);
+        optimalClasses.put("to:do:", ToDo.class);
+        optimalClasses.put("to:by:do:", ToDo.class);
+        optimalClasses.put("timesRepeat:", TimesRepeat.class);
+        optimalClasses.put("do:", Do.class);
+        optimalClasses.put("inject:into:", InjectInto.class);
         optimalClasses.put("ifTrue:ifFalse:", IfTrueIfFalse.class);
         optimalClasses.put("ifFalse:ifTrue:", IfFalseIfTrue.class);
         optimalClasses.put(ensurePhrase, TryCatch.class);
@@ -316,6 +338,10 @@ public class Message extends Expression {
     public void clean() {
         super.clean();
         cleanOperands();
+        for (Operand argument : arguments()) {
+            if (argument.isNest()) argument.asNest().nestedBlock().makeArgument();
+        }
+
         String faceName = this.facialScope().name();
         if (!"Object".equals(faceName) && !selector.isEmpty()) {
             resolveType();
@@ -601,10 +627,19 @@ public class Message extends Expression {
      * @return whether the receiver has elementary type.
      */
     public boolean elementaryReceiver() {
-        Operand receiver = receiver();
-        if (receiver.resolvesToPrimitive()) return true;
+        return isElementary(receiver());
+    }
 
-        Face typeFace = Face.named(receiver.resolvedTypeName());
+    /**
+     * Returns whether an (operand) has elementary type.
+     *
+     * @param operand a message operand.
+     * @return whether an (operand) has elementary type.
+     */
+    static boolean isElementary(Operand operand) {
+        if (operand.resolvesToPrimitive()) return true;
+
+        Face typeFace = Face.named(operand.resolvedTypeName());
         return (typeFace != null && typeFace.isElementary());
     }
 
@@ -623,12 +658,143 @@ public class Message extends Expression {
         return receiver().resolvesToPrimitive();
     }
 
+    /**
+     * Returns whether the message combines two SmallIntegers with an integer operator,
+     * which can then be computed with primitive ints rather than sent as a message.
+     *
+     * @return whether the message is an integer operation.
+     */
+    public boolean isIntegerOperation() {
+        if (operandCount() != 2) {
+            return false;
+        }
+        if (!IntegerOperations.containsKey(selector().contents())) {
+            return false;
+        }
+        return resolvesToSmallInteger(receiver()) && resolvesToSmallInteger(firstArgument());
+    }
+
+    /**
+     * Returns whether the message combines SmallIntegers or nested integer operations with an integer operator,
+     * which can then be computed entirely with primitive ints when a local holds its result as a primitive int.
+     *
+     * @return whether the message is an exact integer operation.
+     */
+    public boolean isExactOperation() {
+        if (operandCount() != 2) {
+            return false;
+        }
+        if (!ExactOperations.containsKey(selector().contents())) {
+            return false;
+        }
+        return resolvesToInteger(receiver()) && resolvesToInteger(firstArgument());
+    }
+
+    static boolean resolvesToInteger(Operand operand) {
+        return resolvesToSmallInteger(operand) || operand.yieldsPrimitiveInteger();
+    }
+
+    /**
+     * Returns whether the message yields a primitive int, as an exact integer operation.
+     *
+     * @return whether the message yields a primitive int.
+     */
+    @Override
+    public boolean yieldsPrimitiveInteger() {
+        return isExactOperation();
+    }
+
+    /**
+     * Returns whether an (operand) is known to be a SmallInteger.
+     *
+     * @param operand a message operand.
+     * @return whether an (operand) is known to be a SmallInteger.
+     */
+    static boolean resolvesToSmallInteger(Operand operand) {
+        if (operand.holdsPrimitiveInteger()) {
+            return true;
+        }
+
+        if (operand instanceof LiteralInteger) {
+            return operand.yieldsPrimitiveInteger();
+        }
+
+        Class type = operand.resolvedType();
+        return (type != null && SmallIntegerType.equals(type.getName()));
+    }
 
     @Override
     public Emission emitOperand() {
+        if (isIntegerOperation()) return emitIntegerOperation();
         return elementaryReceiver() ? emitElementary() : emitInvocation();
     }
 
+    /**
+     * Returns an integer operation computed with primitive ints,
+     * which promotes a result that overflows an int to a LongInteger.
+     *
+     * @return an integer operation.
+     */
+    public Emission emitIntegerOperation() {
+        return emit("IntegerOperation")
+                .with("className", SmallIntegerType)
+                .with("methodName", IntegerOperations.get(selector().contents()))
+                .with("left", emitInteger(receiver()))
+                .with("right", emitInteger(firstArgument()));
+    }
+
+    /**
+     * Returns an integer operation computed on primitive ints, for a local held as a primitive int.
+     * As such a local cannot hold a LongInteger, a result that overflows an int raises an ArithmeticException.
+     *
+     * @return an integer operation.
+     */
+    public Emission emitExactOperation() {
+        return emit("ExactOperation")
+                .with("methodName", ExactOperations.get(selector().contents()))
+                .with("left", emitExactInteger(receiver()))
+                .with("right", emitExactInteger(firstArgument()));
+    }
+
+    /**
+     * Returns the primitive int value of an (operand), computing a nested integer operation exactly.
+     *
+     * @param operand a SmallInteger operand or integer operation.
+     * @return the primitive int value of an (operand).
+     */
+    public Emission emitExactInteger(Operand operand) {
+        if (operand.isMessage() && operand.yieldsPrimitiveInteger()) {
+            return ((Message) operand).emitExactOperation();
+        }
+
+        return emitInteger(operand);
+    }
+
+    /**
+     * Returns the primitive int value of an (operand).
+     *
+     * @param operand a SmallInteger operand.
+     * @return the primitive int value of an (operand).
+     */
+    public Emission emitInteger(Operand operand) {
+        if (operand instanceof LiteralInteger && operand.yieldsPrimitiveInteger()) {
+            return operand.emitPrimitive();
+        }
+
+        if (operand.holdsPrimitiveInteger()) {
+            return operand.emitItem();
+        }
+
+        Emission value = operand.emitOperand();
+        if (!resolvesToSmallInteger(operand)) {
+            value = emitCast(SmallIntegerType, value);
+        }
+
+        return emit("Expression")
+                .with("operand", value)
+                .with("messages", emit("MethodCall").with("methodName", "primitiveInteger"));
+    }
+
     public Emission emitElementary() {
         return selector().isPrimitive() ? emitPrimitive() : emitOptimized();
     }
@@ -642,11 +808,32 @@ public class Message extends Expression {
             return receiver().emitOperand();
         }
 
+        return emitPerform(receiver().emitOperand(), emitArguments());
+    }
+
+    /**
+     * Returns a dynamic send of this message to an (operand) with some (arguments).
+     *
+     * @param operand the message receiver.
+     * @param arguments the message arguments.
+     * @return a dynamic send of this message.
+     */
+    public Emission emitPerform(Emission operand, List<Emission> arguments) {
+        Face siteFace = facialScope().siteFace();
+        int argumentCount = operands.size() - 1;
+        if (siteFace != null && argumentCount < performs.length - 1) {
+            return emit("SitePerform")
+                    .with("site", siteFace.addSendSite(selector().methodName(), argumentCount))
+                    .with("name", performString())
+                    .with("operand", operand)
+                    .with("arguments", arguments);
+        }
+
         return emit("Perform")
-                .with("operand", receiver().emitOperand())
+                .with("operand", operand)
                 .with("name", performString())
                 .with("methodName", performedMethodName())
-                .with("arguments", emitArguments());
+                .with("arguments", arguments);
     }
 
     public List<Emission> emitArguments() {
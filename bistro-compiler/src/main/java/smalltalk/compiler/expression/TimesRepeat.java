@@ -0,0 +1,42 @@
+//====================================================================
+// TimesRepeat.java
+//====================================================================
+package smalltalk.compiler.expression;
+
+import smalltalk.compiler.Emission;
+import static smalltalk.compiler.Emission.emit;
+
+import smalltalk.compiler.scope.Block;
+
+/**
+ * Optimizes the translation of a repeated loop into Java.
+ * A SmallInteger count gets counted down with a primitive index.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+public class TimesRepeat extends Iteration {
+
+    /**
+     * Constructs a new TimesRepeat control message.
+     *
+     * @param blockScope the scope that contains the message.
+     */
+    public TimesRepeat(Block blockScope) {
+        super(blockScope);
+    }
+
+    @Override
+    public int blockArgumentCount() {
+        return 0;
+    }
+
+    @Override
+    public Emission emitLoop(boolean answers) {
+        return emit("RepeatedLoop")
+                .with("id", loopId())
+                .with("block", emitBlock())
+                .with("count", receiver().emitOperand())
+                .with("fallback", emitFallback("$count"))
+                .with("result", answers ? emitResult(emitLoopItem("$count")) : null);
+    }
+}
@@ -0,0 +1,88 @@
+//====================================================================
+// ToDo.java
+//====================================================================
+package smalltalk.compiler.expression;
+
+import java.util.*;
+import smalltalk.compiler.Emission;
+import static smalltalk.compiler.Emission.emit;
+
+import smalltalk.compiler.element.*;
+import smalltalk.compiler.scope.Block;
+import smalltalk.compiler.constant.LiteralInteger;
+
+/**
+ * Optimizes the translation of a counted loop into Java.
+ * SmallInteger bounds get counted with a primitive index, and the step must be a literal integer.
+ *
+ * @author Copyright 1999,2017 Nikolas S. Boyd. All rights reserved.
+ */
+public class ToDo extends Iteration {
+
+    /**
+     * Constructs a new ToDo control message.
+     *
+     * @param blockScope the scope that contains the message.
+     */
+    public ToDo(Block blockScope) {
+        super(blockScope);
+    }
+
+    @Override
+    public int blockArgumentCount() {
+        return 1;
+    }
+
+    /**
+     * Returns whether the loop has an explicit step.
+     *
+     * @return whether the loop has an explicit step.
+     */
+    public boolean hasStep() {
+        return operandCount() > 3;
+    }
+
+    /**
+     * Returns the loop step, which must be a literal integer.
+     *
+     * @return the loop step, or null.
+     */
+    public Operand step() {
+        return (this.hasStep() ? arguments().get(1) : null);
+    }
+
+    /**
+     * Returns the value of the literal loop step, or zero if unknown.
+     *
+     * @return the value of the literal loop step.
+     */
+    public int stepValue() {
+        if (!this.hasStep()) return 1;
+        if (!(step() instanceof LiteralInteger)) return 0;
+
+        LiteralInteger value = (LiteralInteger) step();
+        return value.fitsInteger() ? Integer.parseInt(value.encodedValue()) : 0;
+    }
+
+    @Override
+    public boolean canInline() {
+        return stepValue() != 0 && super.canInline();
+    }
+
+    @Override
+    public Emission emitLoop(boolean answers) {
+        List<Emission> fallbackArguments = new ArrayList();
+        fallbackArguments.add(emitLoopItem("$stop"));
+        if (this.hasStep()) fallbackArguments.add(step().emitOperand());
+
+        return emit("CountedLoop")
+                .with("id", loopId())
+                .with("block", emitBlock())
+                .with("start", receiver().emitOperand())
+                .with("stop", firstArgument().emitOperand())
+                .with("step", String.valueOf(stepValue()))
+                .with("comparison", stepValue() > 0 ? "<=" : ">=")
+                .with("fallback", emitFallback("$start", fallbackArguments.toArray(new Emission[0])))
+                .with("result", answers ? emitResult(emitLoopItem("$start")) : null);
+    }
+}
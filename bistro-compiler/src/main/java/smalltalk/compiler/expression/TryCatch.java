@@ -61,6 +61,11 @@ public class TryCatch extends Message {
     @Override
     public void clean() {
         super.clean();
+        for (Operand operand : operands()) {
+            if (operand.isNest()) {
+                ((Nest) operand).nestedBlock().makeStackLocals();
+            }
+        }
         if (this.hasFinalBlock()) {
             Block finalBlock = this.finalBlock().nestedBlock();
             if (!finalBlock.returnsVoid()) {
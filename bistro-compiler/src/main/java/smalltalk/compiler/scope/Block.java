@@ -62,6 +62,22 @@ public class Block extends Code {
      */
     boolean containsExit;
 
+    /**
+     * Indicates whether the locals get emitted as Java locals, rather than as closure members.
+     */
+    boolean stackLocals;
+
+    /**
+     * Indicates whether the block refers to its enclosing scopes: to self, a member,
+     * an outer local or argument, or the enclosing method activation (with an exit).
+     */
+    boolean captures;
+
+    /**
+     * Indicates whether the block gets passed as a message argument.
+     */
+    boolean argument;
+
     /**
      * Constructs a new Block.
      * @param aScope a block container
@@ -71,6 +87,9 @@ public class Block extends Code {
         selector = new Selector();
         arguments = new Table(this);
         containsExit = false;
+        stackLocals = false;
+        captures = false;
+        argument = false;
     }
 
     @Override
@@ -109,6 +128,116 @@ public class Block extends Code {
         return containsExit;
     }
 
+    /**
+     * Notes that the locals get emitted as Java locals, as when the block body gets inlined.
+     */
+    public void makeStackLocals() {
+        stackLocals = true;
+    }
+
+    /**
+     * Returns whether the locals get emitted as Java locals. Otherwise, they become members of the
+     * block closure, which any nested block can assign directly.
+     *
+     * @return whether the locals get emitted as Java locals.
+     */
+    public boolean hasStackLocals() {
+        return stackLocals || emitsLambda();
+    }
+
+    /**
+     * Notes that this block and those that enclose it, up to the (owner) scope, capture something
+     * from their enclosing scopes. A null (owner) indicates the enclosing method.
+     *
+     * @param owner the scope that owns the captured variable.
+     */
+    public void capturesFrom(Scope owner) {
+        Scope s = this;
+        while (s != owner && s.isBlock() && !s.isMethod()) {
+            ((Block) s).captures = true;
+            s = s.containerScope();
+        }
+    }
+
+    /**
+     * Returns whether this block refers to anything from its enclosing scopes.
+     *
+     * @return whether this block captures anything from its enclosing scopes.
+     */
+    public boolean captures() {
+        return captures;
+    }
+
+    /**
+     * Notes that this block gets passed as a message argument.
+     */
+    public void makeArgument() {
+        argument = true;
+    }
+
+    /**
+     * Returns the block scope that defines a local or an argument named (symbol), starting with this block.
+     *
+     * @param symbol a variable name.
+     * @return the block scope that defines the named variable, or null.
+     */
+    public Block blockResolving(String symbol) {
+        Scope s = this;
+        while (s != null && s.isBlock()) {
+            Block b = (Block) s;
+            if (b.definesName(symbol)) return b;
+            if (b.isMethod()) return null;
+            s = s.containerScope();
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether this block gets emitted as a lambda. The lambda must implement one of the block functions
+     * with untyped arguments, and it must not redefine the name of any variable from its enclosing blocks,
+     * as Java requires.
+     *
+     * @return whether this block gets emitted as a lambda.
+     */
+    public boolean emitsLambda() {
+        if (this.isMethod()) return false;
+        if (!Library.current().emitsLambdas()) return false;
+        if (argumentCount() > 2 || needsErasure()) return false;
+        if (arguments.hasTypedNames()) return false;
+
+        Scope s = containerScope();
+        while (s != null && s.isBlock()) {
+            Block outer = (Block) s;
+            if (arguments().stream().anyMatch(arg -> outer.definesName(arg.name()))) return false;
+            if (locals().symbols().stream().anyMatch(v -> outer.definesName(v.name()))) return false;
+            if (outer.isMethod()) break;
+            s = s.containerScope();
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether this block defines a local or an argument named (symbol).
+     *
+     * @param symbol a variable name.
+     * @return whether this block defines the named variable.
+     */
+    public boolean definesName(String symbol) {
+        return hasLocal(symbol) || hasArgument(symbol);
+    }
+
+    /**
+     * Returns whether this block gets cached in a static field of its face, rather than created
+     * with each evaluation. Only those lambdas passed as message arguments that capture nothing
+     * get cached. Blocks without arguments never get cached, because forking one records its
+     * thread in the block.
+     *
+     * @return whether this block gets cached.
+     */
+    public boolean isCached() {
+        return argument && !captures && argumentCount() > 0 && emitsLambda() && siteFace() != null;
+    }
+
     public boolean needsErasure() {
         return needsErasure(argumentCount());
     }
@@ -288,6 +417,7 @@ public class Block extends Code {
     protected void containsExit(boolean aBoolean) {
         containsExit = aBoolean;
         currentMethod().containsExit(aBoolean);
+        if (aBoolean) capturesFrom(null);
     }
 
     /**
@@ -332,7 +462,7 @@ public class Block extends Code {
 
         if (this.hasLocal(symbol)) {
             Variable v = localNamed(symbol);
-            if (reference.isNestedDeeper(this)) v.makeTransient();
+            if (reference.isNestedDeeper(this)) v.makeCaptured();
             return v.resolvedType();
         }
 
@@ -358,7 +488,7 @@ public class Block extends Code {
 
         if (this.hasLocal(symbol)) {
             Variable v = localNamed(symbol);
-            if (reference.isNestedDeeper(this)) v.makeTransient();
+            if (reference.isNestedDeeper(this)) v.makeCaptured();
             return v.type();
         }
 
@@ -431,6 +561,10 @@ public class Block extends Code {
 
     @Override
     public Emission emitOptimized() {
+        if (this.emitsLambda()) {
+            return emitLambda();
+        }
+
         return emit("OptimizedBlock")
                 .with("closureType", closureType())
                 .with("locals", emitLocals())
@@ -438,6 +572,33 @@ public class Block extends Code {
                 .with("content", emitContents());
     }
 
+    /**
+     * Returns the face that declares the static fields used by this block.
+     *
+     * @return the face that declares static fields, or null if none can.
+     */
+    public Face siteFace() {
+        return facialScope().asScope(Face.class).siteFace();
+    }
+
+    /**
+     * Returns this block as a lambda wrapped by its block class, cached if possible.
+     *
+     * @return this block as a lambda.
+     */
+    public Emission emitLambda() {
+        Emission result = emit("LambdaBlock")
+                .with("closureType", closureType())
+                .with("arguments", emitList(emitArguments()))
+                .with("locals", emitLocals())
+                .with("content", emitContents());
+
+        if (!this.isCached()) return result;
+        return emit("CachedBlock")
+                .name(siteFace().addCachedBlock(closureType()))
+                .with("block", result);
+    }
+
     public List<Emission> emitCastedArguments() {
         return arguments().stream()
                 .map(arg -> arg.emitCast()).collect(Collectors.toList());
@@ -504,16 +665,18 @@ public class Block extends Code {
     }
 
     public List<Emission> emitStatements() {
-        List<Emission> contents = statements.stream()
-            .map(s -> s.emitStatement())
-            .collect(Collectors.toList());
-
         if (returnsVoid() || this.isConstructor()) {
-            return contents; // context requires all statements;
+            // context requires all statements
+            return statements.stream()
+                .map(s -> s.emitStatement())
+                .collect(Collectors.toList());
         }
 
-        // context requires returned result
-        contents.remove(contents.size() - 1);
+        // context requires returned result,
+        // and the final statement gets emitted only once, as it may bind send sites and cached blocks
+        List<Emission> contents = statements.subList(0, statements.size() - 1).stream()
+            .map(s -> s.emitStatement())
+            .collect(Collectors.toList());
         contents.add(finalStatement().emitResult());
         return contents;
     }
@@ -15,11 +15,6 @@ import smalltalk.Name;
  */
 public class ClassPath {
 
-    /**
-     * Refers to the single instance of this class.
-     */
-    public static final ClassPath current = new ClassPath();
-
     /**
      * Separates the components of a class path.
      */
@@ -30,10 +25,19 @@ public class ClassPath {
      */
     List<PathMap> contents = new ArrayList();
 
+    /**
+     * Refers to the library that maps this class path.
+     */
+    Library library;
+
     /**
      * Constructs a new ClassPath.
+     *
+     * @param library the library that maps this class path.
      */
-    protected ClassPath() { }
+    protected ClassPath(Library library) {
+        this.library = library;
+    }
 
     void clear() {
         contents.clear();
@@ -86,7 +90,7 @@ public class ClassPath {
     public void loadPaths(java.io.File... basePaths) {
         System.out.print("Mapping CLASSPATH");
         clear();
-        Library.current.loadBasePackages(basePaths[0], basePaths[1], basePaths[2]);
+        library.loadBasePackages(basePaths[0], basePaths[1], basePaths[2]);
         parsePath(System.getProperty("sun.boot.class.path"));
         parsePath(System.getProperty("java.ext.dirs"));
         parsePath(System.getProperty("java.class.path"));
@@ -82,7 +82,7 @@ public class Face extends Code {
         if (faceName.startsWith(rootPackage)) {
             return false;
         }
-        Face aFace = Library.current.faceNamed(faceName);
+        Face aFace = Library.current().faceNamed(faceName);
         if (aFace == null) {
             return true; // assumed by default
         }
@@ -120,7 +120,7 @@ public class Face extends Code {
      * @return the face named (faceName).
      */
     public static Face named(String faceName) {
-        return Library.current.faceNamed(faceName);
+        return Library.current().faceNamed(faceName);
     }
 
     /**
@@ -154,6 +154,22 @@ public class Face extends Code {
     List<Method> methods = new ArrayList();
     HashMap<String, Method> methodMap = new HashMap();
 
+    /**
+     * Contains the message send sites bound by the methods of this face.
+     */
+    List<Emission> sendSites = new ArrayList();
+
+    /**
+     * Maps the selectors performed by the methods of this face to their interned id constants.
+     */
+    Map<String, String> selectorNames = new HashMap();
+    List<Emission> selectorIds = new ArrayList();
+
+    /**
+     * Contains the cached blocks created by the methods of this face.
+     */
+    List<Emission> cachedBlocks = new ArrayList();
+
     /**
      * Constructs a new Face.
      *
@@ -454,6 +470,72 @@ public class Face extends Code {
         return (container instanceof Block);
     }
 
+    /**
+     * Returns whether this face can declare the static send sites used by its methods.
+     *
+     * @return whether this face can declare static send sites.
+     */
+    public boolean hostsSendSites() {
+        return !this.isInterface() && !this.isInnard();
+    }
+
+    /**
+     * Returns the face that declares the send sites used by the methods of this face.
+     *
+     * @return the face that declares send sites, or null if none can.
+     */
+    public Face siteFace() {
+        if (this.isInnard()) return container().facialScope().asScope(Face.class).siteFace();
+        return (this.hostsSendSites() ? this : null);
+    }
+
+    /**
+     * Adds a new send site for a message performed by a method of this face.
+     *
+     * @param methodName the name of the performed method.
+     * @param argumentCount the number of message arguments.
+     * @return the name of the new send site.
+     */
+    public String addSendSite(String methodName, int argumentCount) {
+        String siteName = "$send" + sendSites.size();
+        sendSites.add(emit("SendSite").name(siteName)
+                .with("selector", selectorId(methodName, argumentCount)));
+        return siteName;
+    }
+
+    /**
+     * Adds a new static field that caches a block created by a method of this face.
+     *
+     * @param closureType the block class.
+     * @return the name of the new field.
+     */
+    public String addCachedBlock(String closureType) {
+        String fieldName = "$closure" + cachedBlocks.size();
+        cachedBlocks.add(emit("CachedField").name(fieldName).with("closureType", closureType));
+        return fieldName;
+    }
+
+    /**
+     * Returns the name of the constant that holds the interned id of a performed selector.
+     *
+     * @param methodName the name of the performed method.
+     * @param argumentCount the number of message arguments.
+     * @return the name of a selector id constant.
+     */
+    public String selectorId(String methodName, int argumentCount) {
+        String key = methodName + "/" + argumentCount;
+        if (selectorNames.containsKey(key)) {
+            return selectorNames.get(key);
+        }
+
+        String constantName = "$selector" + selectorIds.size();
+        selectorNames.put(key, constantName);
+        selectorIds.add(emit("SelectorId").name(constantName)
+                .with("methodName", emit("Quoted").value(methodName))
+                .with("count", String.valueOf(argumentCount)));
+        return constantName;
+    }
+
     /**
      * Returns whether this face is abstract.
      *
@@ -634,7 +716,7 @@ public class Face extends Code {
      */
     public Face baseFace() {
         String faceName = typeFace().baseName();
-        return Library.current.faceNamed(faceName);
+        return Library.current().faceNamed(faceName);
     }
 
     public boolean hasHeritage() {
@@ -662,7 +744,7 @@ public class Face extends Code {
     public List<Face> typeInheritance() {
         ArrayList<Face> results = new ArrayList();
         for (String typeName : interfaces()) {
-            Face faceType = Library.current.faceNamed(typeName);
+            Face faceType = Library.current().faceNamed(typeName);
             if (faceType != null) {
                 results.add(faceType);
                 results.addAll(faceType.fullInheritance());
@@ -871,7 +953,7 @@ public class Face extends Code {
         List<String> results = new ArrayList();
         for (String interfaceName : interfaces) {
             if (Name.packageName(interfaceName).isEmpty()) {
-                Face face = Library.current.faceNamed(interfaceName);
+                Face face = Library.current().faceNamed(interfaceName);
                 if (face != null) {
                     results.add(face.fullName());
                 }
@@ -1094,13 +1176,24 @@ public class Face extends Code {
     }
 
     public Emission emitScope(Emission libs) {
+        // send sites get bound while emitting the locals and methods
+        sendSites.clear();
+        selectorIds.clear();
+        selectorNames.clear();
+        cachedBlocks.clear();
+        Emission locals = emitLocals();
+        Emission methods = emitLines(emitMethods());
+        List<Emission> sites = new ArrayList(selectorIds);
+        sites.addAll(sendSites);
+        sites.addAll(cachedBlocks);
         return emit("LibraryType")
                 .with("libs", libs)
                 .with("signature", emitSignature())
                 .with("metaFace", emitMetaFace())
+                .with("sites", sites.isEmpty() ? null : emitLines(sites))
                 .with("metaInstance", emitMetaInstance())
-                .with("locals", emitLocals())
-                .with("methods", emitLines(emitMethods()));
+                .with("locals", locals)
+                .with("methods", methods);
     }
 
     public Emission emitSignature() {
@@ -5,6 +5,8 @@ package smalltalk.compiler.scope;
 
 import java.io.*;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.antlr.runtime.*;
@@ -51,6 +53,11 @@ public class File extends Scope {
         "Array", "String", "Symbol"
     };
 
+    /**
+     * Matches the (possibly qualified) names that might reference faces in a source file.
+     */
+    protected static final Pattern ReferencePattern = Pattern.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*");
+
     /**
      * A filter for selecting Bistro source files.
      */
@@ -93,12 +100,17 @@ public class File extends Scope {
      */
     List<String> peerFaces = new ArrayList();
 
+    /**
+     * Contains the Java code generated in memory (if any).
+     */
+    String generatedCode;
+
     /**
      * Constructs a new File scope.
      */
     public File() {
         super(null);
-        faceLibrary = Library.current;
+        faceLibrary = Library.current();
         facePackage = null;
         faceScope = new Face(this);
     }
@@ -342,6 +354,90 @@ public class File extends Scope {
         return new ArrayList(imports);
     }
 
+    /**
+     * Returns the names of the faces upon which this file depends:
+     * its superclass, its interfaces, the faces it imports by name,
+     * and the Bistro faces its source references.
+     *
+     * @return the names of the faces upon which this file depends.
+     */
+    public List<String> faceDependencies() {
+        List<String> results = new ArrayList();
+        String baseName = faceScope.fullBaseName();
+        if (!baseName.isEmpty()) results.add(baseName);
+        results.addAll(faceScope.interfaceNames());
+        imports.stream()
+                .filter(imp -> !Package.namesAllFaces(imp))
+                .filter(imp -> !results.contains(imp))
+                .forEach(imp -> results.add(imp));
+        referencedFaces().stream()
+                .filter(name -> !name.equals(fullName()))
+                .filter(name -> !results.contains(name))
+                .forEach(name -> results.add(name));
+        return results;
+    }
+
+    /**
+     * Returns the names of the Bistro faces referenced by the source of this file:
+     * those named from its own package or a wildcard import, and those named in full.
+     * This includes references from the Java bodies of methods, which the compiler copies without resolving.
+     *
+     * @return the names of the Bistro faces referenced by this file.
+     */
+    public Set<String> referencedFaces() {
+        Set<String> results = new TreeSet();
+        String source = sourceText();
+        if (source == null) return results;
+
+        Map<String, Set<String>> sourceFaces = new HashMap();
+        List<String> visiblePackages = new ArrayList();
+        visiblePackages.add(facePackage.name());
+        imports.stream()
+                .filter(imp -> Package.namesAllFaces(imp))
+                .map(imp -> Name.packageName(imp))
+                .filter(name -> !visiblePackages.contains(name))
+                .forEach(name -> visiblePackages.add(name));
+
+        Matcher matcher = ReferencePattern.matcher(source);
+        while (matcher.find()) {
+            String[] parts = matcher.group().split("\\.");
+            for (String packageName : visiblePackages) {
+                if (sourceFacesIn(packageName, sourceFaces).contains(parts[0])) {
+                    results.add(packageName + Package.nameSeparator + parts[0]);
+                    break;
+                }
+            }
+
+            String packageName = parts[0];
+            for (int index = 1; index < parts.length; index++) {
+                if (faceLibrary.packages.containsKey(packageName)
+                        && sourceFacesIn(packageName, sourceFaces).contains(parts[index])) {
+                    results.add(packageName + Package.nameSeparator + parts[index]);
+                }
+                packageName += Package.nameSeparator + parts[index];
+            }
+        }
+        return results;
+    }
+
+    private Set<String> sourceFacesIn(String packageName, Map<String, Set<String>> sourceFaces) {
+        return sourceFaces.computeIfAbsent(packageName, name -> {
+            Package aPackage = faceLibrary.packageNamed(name);
+            if (!aPackage.sourceFolder().exists()) return Collections.emptySet();
+            return new HashSet(aPackage.sourceFaces());
+        });
+    }
+
+    private String sourceText() {
+        java.io.File sourceFile = sourceFile();
+        if (!sourceFile.exists()) return null;
+        try {
+            return new String(java.nio.file.Files.readAllBytes(sourceFile.toPath()), "UTF-8");
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     /**
      * Returns the number of imports.
      * @return the number of imports
@@ -400,6 +496,25 @@ public class File extends Scope {
         return tokenCompiler.compile();
     }
 
+    /**
+     * Compiles this file into Java code kept in memory, rather than a target file.
+     *
+     * @return whether code generation succeeded
+     */
+    public boolean generate() {
+        generatedCode = tokenCompiler.generate();
+        return generatedCode != null;
+    }
+
+    /**
+     * Returns the Java code generated in memory for this file (if any).
+     *
+     * @return the Java code generated in memory for this file, or null.
+     */
+    public String generatedCode() {
+        return generatedCode;
+    }
+
     /**
      * Parses the Bistro file indicated by this.
      * @throws Exception if raised
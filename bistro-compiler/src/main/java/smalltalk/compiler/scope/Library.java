@@ -4,6 +4,7 @@
 package smalltalk.compiler.scope;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import smalltalk.Name;
 import smalltalk.compiler.element.*;
 
@@ -16,34 +17,97 @@ import smalltalk.compiler.element.*;
 public class Library extends Base {
 
     /**
-     * The singleton instance of this class.
+     * The library used by threads not bound to a compilation.
      */
-    public static final Library current = new Library();
+    private static final Library Shared = new Library();
+
+    /**
+     * Refers to the library bound to each compiling thread.
+     */
+    private static final ThreadLocal<Library> Bound = new ThreadLocal();
+
+    /**
+     * Returns the library of the compilation running on the current thread.
+     *
+     * @return the library of the compilation running on the current thread.
+     */
+    public static Library current() {
+        Library result = Bound.get();
+        return (result != null ? result : Shared);
+    }
+
+    /**
+     * Binds a library to the current thread, or unbinds it (if null).
+     *
+     * @param library the library of a compilation.
+     * @return the library previously bound to the current thread (if any).
+     */
+    public static Library bind(Library library) {
+        Library result = Bound.get();
+        if (library == null) {
+            Bound.remove();
+        } else {
+            Bound.set(library);
+        }
+        return result;
+    }
 
     /**
      * Contains the base paths from the class path.
      */
-    ClassPath path = ClassPath.current;
+    ClassPath path = new ClassPath(this);
 
     /**
      * Maps face names to faces.
      * A face name always maps to the last face loaded from the class path.
      */
-    Map<String, Face> faces = new HashMap();
+    Map<String, Face> faces = new ConcurrentHashMap();
 
     /**
      * Maps package names to packages.
      */
-    Map<String, Package> packages = new HashMap();
+    Map<String, Package> packages = new ConcurrentHashMap();
 
     java.io.File sourceBase;
     java.io.File targetBase;
     java.io.File classBase;
 
+    /**
+     * Indicates whether blocks get emitted as lambdas, rather than as anonymous classes.
+     */
+    boolean lambdas = false;
+
     /**
      * Constructs a new Library.
      */
-    protected Library() { }
+    public Library() { }
+
+    /**
+     * Returns whether blocks get emitted as lambdas, rather than as anonymous classes.
+     *
+     * @return whether blocks get emitted as lambdas.
+     */
+    public boolean emitsLambdas() {
+        return lambdas;
+    }
+
+    /**
+     * Establishes whether blocks get emitted as lambdas, rather than as anonymous classes.
+     *
+     * @param aBoolean whether blocks get emitted as lambdas.
+     */
+    public void emitsLambdas(boolean aBoolean) {
+        lambdas = aBoolean;
+    }
+
+    /**
+     * Returns the class path mapped by this library.
+     *
+     * @return the class path mapped by this library.
+     */
+    public ClassPath path() {
+        return path;
+    }
 
     void clear() {
         faces.clear();
@@ -126,13 +190,7 @@ public class Library extends Base {
      * @param packageName the name of a package.
      */
     public Package packageNamed(String packageName) {
-        if (packages.containsKey(packageName)) {
-            return packages.get(packageName);
-        }
-
-        Package result = new Package(packageName);
-        packages.put(packageName, result);
-        return result;
+        return packages.computeIfAbsent(packageName, name -> new Package(name));
     }
 
     public Face faceFrom(Reference reference) {
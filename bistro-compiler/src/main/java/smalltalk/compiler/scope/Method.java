@@ -56,11 +56,17 @@ public class Method extends Block {
     }
 
     /**
-     * Returns a unique scope identifier for the receiver.
+     * Names the local that identifies each activation of a method whose blocks exit it.
+     */
+    public static final String ExitScope = "$exitScope";
+
+    /**
+     * Returns the name of the local that identifies each activation of the receiver.
+     * A block exit carries this identity, so it returns from the very activation that created its block.
      * @return a scope ID
      */
     public String scopeID() {
-        return quoted(currentFace().typeName() + Dot + name());
+        return ExitScope;
     }
 
     /**
@@ -156,6 +162,17 @@ public class Method extends Block {
         return true;
     }
 
+    /**
+     * Returns whether the locals get emitted as Java locals.
+     * The contents of a void method with locals get wrapped in a closure that holds them.
+     *
+     * @return whether the locals get emitted as Java locals.
+     */
+    @Override
+    public boolean hasStackLocals() {
+        return !(this.hasLocals() && this.returnsVoid());
+    }
+
     /**
      * Indicates whether this method is a wrapper method.
      *
@@ -4,6 +4,7 @@
 package smalltalk.compiler.scope;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.io.FilenameFilter;
 
@@ -50,7 +51,7 @@ public class Package extends Container {
      * @return the package named (packageName), or null.
      */
     public static Package named(String packageName) {
-        return Library.current.packageNamed(nameFrom(packageName));
+        return Library.current().packageNamed(nameFrom(packageName));
     }
 
     public static String nameFrom(String packageName) {
@@ -97,7 +98,7 @@ public class Package extends Container {
     /**
      * Contains the classes imported from the package.
      */
-    Map<String, Face> faces = new HashMap();
+    Map<String, Face> faces = new ConcurrentHashMap();
 
     /**
      * Constructs a new Package.
@@ -237,8 +238,21 @@ public class Package extends Container {
             return results;
         }
 
+        return parseSources(sourceFaces());
+    }
+
+    /**
+     * Parses the named sources from this package, each of which may refer to its peers.
+     *
+     * @param selectedFaces the names of the faces to parse.
+     * @return the parsed file scopes indexed by full face name.
+     * @throws Exception if raised
+     */
+    public HashMap<String, File> parseSources(Collection<String> selectedFaces) throws Exception {
+        HashMap<String, File> results = new HashMap();
         List<String> faceNames = sourceFaces();
         for (String faceName : faceNames) {
+            if (!selectedFaces.contains(faceName)) continue;
             File fileScope = parseSource(faceName, faceNames);
             results.put(fileScope.fullName(), fileScope);
         }
@@ -290,7 +304,7 @@ public class Package extends Container {
     }
 
     public java.io.File sourceFolder() {
-        return new java.io.File(Library.current.sourcePath(), pathname());
+        return new java.io.File(Library.current().sourcePath(), pathname());
     }
 
     public java.io.File createTarget() {
@@ -305,7 +319,7 @@ public class Package extends Container {
     }
 
     public java.io.File targetFolder() {
-        return new java.io.File(Library.current.targetPath(), pathname());
+        return new java.io.File(Library.current().targetPath(), pathname());
     }
 
     /**
@@ -317,14 +331,14 @@ public class Package extends Container {
         if (!baseFolder.isEmpty()) {
             return new java.io.File(baseFolder + pathname());
         }
-        return ClassPath.current.locate(pathname());
+        return Library.current().path().locate(pathname());
     }
 
     /**
      * Loads all face definitions from the Java package.
      */
     public void loadFaces() {
-        for (String faceName : ClassPath.current.classesInPackage(this)) {
+        for (String faceName : Library.current().path().classesInPackage(this)) {
             loadFace(faceName);
         }
     }
@@ -344,7 +358,7 @@ public class Package extends Container {
      *
      * @param faceName the name of a class or interface.
      */
-    public void loadFace(String faceName) {
+    public synchronized void loadFace(String faceName) {
         if (faces.get(faceName) != null) return;
         Face face = new Face(this);
         face.name(faceName);
@@ -356,9 +370,9 @@ public class Package extends Container {
      *
      * @param face a class or interface.
      */
-    public void addFace(Face face) {
+    public synchronized void addFace(Face face) {
         faces.put(Name.typeName(face.name()), face);
-        Library.current.addFace(face.name(), this);
+        Library.current().addFace(face);
     }
 
     /**
@@ -1,6 +1,7 @@
 package smalltalk.compiler.scope;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import org.antlr.runtime.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,6 +61,21 @@ public class TokenCompiler {
         }
     }
 
+    /**
+     * Parses the associated tokens and generates code from the resulting AST, but keeps it in memory.
+     * @return the generated code, or null if it could not be generated
+     */
+    public String generate() {
+        java.io.File sourceFile = tokenFile.sourceFile();
+        if (sourceFile == null || !sourceFile.exists()) {
+            reportMissingSource();
+            return null;
+        }
+
+        parseTokens();
+        return (wasParsed() ? generateCode() : null);
+    }
+
     /**
      * Parses the associated tokens if needed.
      */
@@ -67,7 +83,7 @@ public class TokenCompiler {
         if (notParsed()) {
             try {
                 parser = new Bistro(createTokenStream());
-                Scope.current = tokenFile;
+                Scope.current(tokenFile);
                 result = parser.compilationUnit();
             }
             catch (Exception ex) {
@@ -98,15 +114,30 @@ public class TokenCompiler {
         if (targetFolder == null) return; // failure already reported
 
         java.io.File targetFile = new java.io.File(targetFolder, tokenFile.targetFilename());
-        try (PrintWriter oStream = new PrintWriter(new FileWriter(targetFile))) {
-            Emission scope = tokenFile.emitScope();
-            scope.write(new AutoIndentWriter(oStream));
+        try (PrintWriter oStream = new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(targetFile), StandardCharsets.UTF_8))) {
+            writeCode(oStream);
         }
         catch (Exception ex) {
             getLogger().error(ex.getMessage(), ex);
         }
     }
 
+    private String generateCode() {
+        tokenFile.clean();
+
+        StringWriter result = new StringWriter();
+        try (PrintWriter oStream = new PrintWriter(result)) {
+            writeCode(oStream);
+        }
+        return result.toString();
+    }
+
+    private void writeCode(PrintWriter oStream) {
+        Emission scope = tokenFile.emitScope();
+        scope.write(new AutoIndentWriter(oStream));
+    }
+
     private void reportMissingSource() {
         String message = "Can't find source file for " + tokenFile.faceName();
         System.out.println(message);
@@ -1,57 +1,304 @@
-package smalltalk.compiler;
-
-import org.junit.Test;
-
-/**
- * Compiles the Bistro class library.
- * @author nik
- */
-public class CompilerTest {
-
-    private static final String SourceFolder = "src/main/bistro";
-    private static final String TargetFolder = "../libs-smalltalk/src/main/java";
-    private static final String ClassFolder  = "../libs-smalltalk/target/classes";
-
-    static {
-        System.setProperty("java.awt.headless", "true");
-    }
-
-    @Test
-    public void compileCode() throws Exception {
-        String[] runtimeArgs = {
-            SourceFolder,
-            TargetFolder,
-            ClassFolder,
-
-            "smalltalk.*",
-        };
-
-        BistroCompiler.main(runtimeArgs);
-
-        String[] smalltalkArgs = {
-            SourceFolder,
-            TargetFolder,
-            ClassFolder,
-
-            "org.ansi.smalltalk.*",
-        };
-
-        BistroCompiler.main(smalltalkArgs);
-
-        String[] bistroArgs = {
-            SourceFolder,
-            TargetFolder,
-            ClassFolder,
-
-            "smalltalk.behavior.*",
-            "smalltalk.magnitude.*",
-            "smalltalk.collection.*",
-            "smalltalk.stream.*",
-            "smalltalk.geometry.*",
-            "smalltalk.example.*",
-        };
-
-        BistroCompiler.main(bistroArgs);
-    }
-
-}
+package smalltalk.compiler;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Compiles the Bistro class library.
+ * @author nik
+ */
+public class CompilerTest {
+
+    private static final String SourceFolder = "src/main/bistro";
+    private static final String TargetFolder = "../libs-smalltalk/src/main/java";
+    private static final String ClassFolder  = "../libs-smalltalk/target/classes";
+
+    private static final String[] BistroPackages = {
+        "smalltalk.behavior.*",
+        "smalltalk.magnitude.*",
+        "smalltalk.collection.*",
+        "smalltalk.stream.*",
+        "smalltalk.geometry.*",
+        "smalltalk.example.*",
+    };
+
+    private static boolean compiled = false;
+
+    static {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @Test
+    public void compileCode() throws Exception {
+        compileLibrary();
+    }
+
+    @Test
+    public void compileIncrementally() throws Exception {
+        compileLibrary();
+
+        // edits a copy of the library, so that an interrupted test leaves the library sources intact
+        Path library = Files.createTempDirectory("bistro");
+        try {
+            Path sourceFolder = copyFolder(Paths.get(SourceFolder), library.resolve("source"));
+            Path targetFolder = copyFolder(Paths.get(TargetFolder), library.resolve("target"));
+            Path classFolder = copyFolder(Paths.get(ClassFolder), library.resolve("classes"));
+            String[] incrementalArgs = bistroArgs(sourceFolder, targetFolder, classFolder, "-incremental");
+
+            BistroCompiler compiler = new BistroCompiler();
+            compiler.compileFiles(incrementalArgs);
+            assertTrue("an unchanged library has no stale faces", compiler.parsedFiles.isEmpty());
+
+            // Pipeline refers to Collection from its own package, without importing or extending it
+            Path source = sourceFolder.resolve("smalltalk/collection/Collection.bist");
+            Path userClass = classFolder.resolve("smalltalk/collection/Pipeline.class");
+            Path heirTarget = targetFolder.resolve("smalltalk/collection/Bag.java");
+            byte[] heirCode = Files.readAllBytes(heirTarget);
+            String original = new String(Files.readAllBytes(source), "UTF-8");
+            long userCompiled = Files.getLastModifiedTime(userClass).toMillis();
+
+            int end = original.lastIndexOf("]");
+            String edited = original.substring(0, end)
+                    + "\r\n\t\"Returns the receiver.\"\r\n\tyourCollection\r\n\t[\t^self\r\n\t]\r\n]";
+            Files.write(source, edited.getBytes("UTF-8"));
+
+            compiler = new BistroCompiler();
+            compiler.compileFiles(incrementalArgs);
+            assertTrue(compiler.parsedFiles.containsKey("smalltalk.collection.Collection"));
+            assertTrue(compiler.parsedFiles.containsKey("smalltalk.collection.Pipeline"));
+            assertTrue("the user of a changed face gets recompiled",
+                    Files.getLastModifiedTime(userClass).toMillis() > userCompiled);
+
+            Files.write(source, original.getBytes("UTF-8"));
+            compiler = new BistroCompiler();
+            compiler.compileFiles(incrementalArgs);
+            assertTrue(compiler.parsedFiles.containsKey("smalltalk.collection.Pipeline"));
+            assertArrayEquals("an incremental compilation writes the same code as a full one",
+                    heirCode, Files.readAllBytes(heirTarget));
+        }
+        finally {
+            deleteFolder(library);
+        }
+    }
+
+    @Test
+    public void compileInParallel() throws Exception {
+        compileLibrary();
+
+        Map<Path, byte[]> sequentialCode = new HashMap();
+        for (Path target : targetFiles()) {
+            sequentialCode.put(target, Files.readAllBytes(target));
+        }
+
+        BistroCompiler.main(bistroArgs("-parallel"));
+        List<Path> parallelTargets = targetFiles();
+        assertEquals(sequentialCode.keySet(), new HashSet(parallelTargets));
+        for (Path target : parallelTargets) {
+            assertArrayEquals("parallel compilation wrote " + target,
+                    sequentialCode.get(target), Files.readAllBytes(target));
+        }
+    }
+
+    @Test
+    public void compileInMemory() throws Exception {
+        compileLibrary();
+
+        BistroCompiler compiler = new BistroCompiler();
+        assertNotNull(compiler.compileInMemory(probeArgs("MemoryProbe", MemoryProbe)));
+        assertFalse(Files.exists(Paths.get(TargetFolder, "smalltalk/example/MemoryProbe.java")));
+        assertFalse(Files.exists(Paths.get(ClassFolder, "smalltalk/example/MemoryProbe.class")));
+
+        try (URLClassLoader library = libraryLoader()) {
+            Class<?> probe = compiler.classLoader(library).loadClass("smalltalk.example.MemoryProbe");
+            assertEquals("smalltalk.example.MemoryProbe", probe.getName());
+            assertEquals(42, probe.getMethod("answer").invoke(null));
+        }
+    }
+
+    @Test
+    public void compileLambdas() throws Exception {
+        compileLibrary();
+
+        BistroCompiler compiler = new BistroCompiler();
+        compiler.compileInMemory(probeArgs("LambdaProbe", LambdaProbe, "-lambdas"));
+        String code = compiler.parsedFiles.get("smalltalk.example.LambdaProbe").generatedCode();
+        assertFalse("blocks become lambdas", code.contains("new OneArgumentBlock()"));
+        assertEquals("only the blocks that capture nothing get cached", 2, occurrences(code, "private static OneArgumentBlock"));
+        assertEquals("blocks without arguments never get cached", 0, occurrences(code, "private static ZeroArgumentBlock"));
+
+        try (URLClassLoader library = libraryLoader()) {
+            Class<?> probe = compiler.classLoader(library).loadClass("smalltalk.example.LambdaProbe");
+            assertEquals(30, integerFrom(probe.getMethod("doubled").invoke(null)));
+            assertEquals(30, integerFrom(probe.getMethod("doubled").invoke(null)));
+            assertEquals(45, integerFrom(probe.getMethod("tripled").invoke(null)));
+            assertEquals(4, integerFrom(probe.getMethod("firstAboveThree").invoke(null)));
+            assertEquals(0, integerFrom(probe.getMethod("noneAboveFive").invoke(null)));
+        }
+    }
+
+    @Test
+    public void compileIntegerLocals() throws Exception {
+        compileLibrary();
+
+        BistroCompiler compiler = new BistroCompiler();
+        compiler.compileInMemory(probeArgs("IntegerProbe", IntegerProbe));
+        String code = compiler.parsedFiles.get("smalltalk.example.IntegerProbe").generatedCode();
+        assertTrue("locals stay unboxed", code.contains("int x;") && code.contains("int square;"));
+        assertFalse("a local a block captures stays boxed", code.contains("int n;"));
+        assertFalse("a local assigned an object stays boxed", code.contains("int y;"));
+        assertTrue("nested operations stay unboxed", code.contains("Math.subtractExact(Math.addExact(Math.multiplyExact("));
+
+        try (URLClassLoader library = libraryLoader()) {
+            Class<?> probe = compiler.classLoader(library).loadClass("smalltalk.example.IntegerProbe");
+            assertEquals(153, integerFrom(probe.getMethod("polynomial").invoke(null)));
+            assertEquals(24, integerFrom(probe.getMethod("counted").invoke(null)));
+            assertEquals(8, integerFrom(probe.getMethod("halved").invoke(null)));
+        }
+    }
+
+    private static final String MemoryProbe =
+        "package: smalltalk.example;\r\n" +
+        "Object subclass: MemoryProbe\r\n" +
+        "class: [\r\n" +
+        "\tstatic (int) answer { return 42; }\r\n" +
+        "]";
+
+    private static final String LambdaProbe =
+        "package: smalltalk.example;\r\n" +
+        "Object subclass: LambdaProbe\r\n" +
+        "class: [\r\n" +
+        "\tstatic doubled [ ^((1 to: 5) collect: [ :each | each * 2 ]) inject: 0 into: [ :sum :each | sum + each ] ]\r\n" +
+        "\tstatic tripled [ factor := 3. ^((1 to: 5) collect: [ :each | each * factor ]) inject: 0 into: [ :sum :each | sum + each ] ]\r\n" +
+        "\tstatic firstAboveThree [ (1 to: 5) collect: [ :each | each > 3 ifTrue: [ ^each ]. each ]. ^nil ]\r\n" +
+        "\tstatic noneAboveFive [ ^(1 to: 5) detect: [ :each | each > 5 ] ifNone: [ 0 ] ]\r\n" +
+        "]";
+
+    private static final String IntegerProbe =
+        "package: smalltalk.example;\r\n" +
+        "Object subclass: IntegerProbe\r\n" +
+        "class: [\r\n" +
+        "\tstatic polynomial [ x (SmallInteger) := 7. square (SmallInteger) := x * x * 3 + x - 1. ^square ]\r\n" +
+        "\tstatic counted [ n (SmallInteger) := 7 + 1. ^(1 to: 3) inject: 0 into: [ :sum :each | sum + n ] ]\r\n" +
+        "\tstatic halved [ y (SmallInteger) := 15 // 2. ^y + 1 ]\r\n" +
+        "]";
+
+    /**
+     * Writes a probe face into a temporary source folder, and returns the arguments that compile it.
+     */
+    private static String[] probeArgs(String faceName, String source, String... options) throws Exception {
+        Path sourceFolder = Files.createTempDirectory("bistro");
+        Path sourceFile = sourceFolder.resolve("smalltalk/example/" + faceName + ".bist");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes("UTF-8"));
+        for (Path path = sourceFolder; !path.equals(sourceFile);
+                path = path.resolve(sourceFile.getName(path.getNameCount()))) {
+            path.toFile().deleteOnExit(); // folders get deleted after their contents
+        }
+        sourceFile.toFile().deleteOnExit();
+
+        List<String> results = new ArrayList(Arrays.asList(options));
+        results.add(sourceFolder.toString());
+        results.add(TargetFolder);
+        results.add(ClassFolder);
+        results.add("smalltalk.example.*");
+        return results.toArray(new String[results.size()]);
+    }
+
+    private static URLClassLoader libraryLoader() throws Exception {
+        URL[] libraryPath = { Paths.get(ClassFolder).toUri().toURL() };
+        return new URLClassLoader(libraryPath, CompilerTest.class.getClassLoader());
+    }
+
+    private static int integerFrom(Object result) throws Exception {
+        return (Integer) result.getClass().getMethod("primitiveInteger").invoke(result);
+    }
+
+    private static int occurrences(String code, String text) {
+        int count = 0;
+        for (int index = code.indexOf(text); index >= 0; index = code.indexOf(text, index + 1)) count++;
+        return count;
+    }
+
+    private static List<Path> targetFiles() throws Exception {
+        List<Path> results = new ArrayList();
+        for (String packageName : BistroPackages) {
+            String packagePath = packageName.substring(0, packageName.length() - 2).replace('.', '/');
+            try (Stream<Path> targets = Files.list(Paths.get(TargetFolder, packagePath))) {
+                targets.filter(target -> target.toString().endsWith(".java")).forEach(results::add);
+            }
+        }
+        return results;
+    }
+
+    private static String[] bistroArgs(String... options) {
+        return bistroArgs(Paths.get(SourceFolder), Paths.get(TargetFolder), Paths.get(ClassFolder), options);
+    }
+
+    private static String[] bistroArgs(Path sourceFolder, Path targetFolder, Path classFolder, String... options) {
+        String[] results = new String[options.length + 3 + BistroPackages.length];
+        System.arraycopy(options, 0, results, 0, options.length);
+        results[options.length + 0] = sourceFolder.toString();
+        results[options.length + 1] = targetFolder.toString();
+        results[options.length + 2] = classFolder.toString();
+        System.arraycopy(BistroPackages, 0, results, options.length + 3, BistroPackages.length);
+        return results;
+    }
+
+    private static Path copyFolder(Path folder, Path copy) throws Exception {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path target = copy.resolve(folder.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(path, target);
+                }
+            }
+        }
+        return copy;
+    }
+
+    private static void deleteFolder(Path folder) throws Exception {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            List<Path> contents = new ArrayList();
+            paths.forEach(contents::add);
+            Collections.reverse(contents); // folders get deleted after their contents
+            for (Path path : contents) Files.delete(path);
+        }
+    }
+
+    private static synchronized void compileLibrary() throws Exception {
+        if (compiled) return;
+
+        String[] runtimeArgs = {
+            SourceFolder,
+            TargetFolder,
+            ClassFolder,
+
+            "smalltalk.*",
+        };
+
+        BistroCompiler.main(runtimeArgs);
+
+        String[] smalltalkArgs = {
+            SourceFolder,
+            TargetFolder,
+            ClassFolder,
+
+            "org.ansi.smalltalk.*",
+        };
+
+        BistroCompiler.main(smalltalkArgs);
+        BistroCompiler.main(bistroArgs());
+        compiled = true;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Dictionary. */
+public  interface AbstractDictionary extends org.ansi.smalltalk.Collection 
+{
+  /** Metatype for AbstractDictionary. */
+  public static  interface mClass extends Collection.mClass 
+  {
+
+
+    /**
+    * @return AbstractDictionary
+    */
+    public  AbstractDictionary withAll(final AbstractDictionary newElements);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object keyAtValue(final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object keyAtValue_ifAbsent(final Object element, final NiladicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object at(final Object index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object at_ifAbsent(final Object index, final NiladicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object at_ifAbsentPut(final Object index, final NiladicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object at_put(final Object index, final Object element);
+
+
+  /**
+  * @return Collection
+  */
+  public  Collection keys();
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection values();
+
+
+  /**
+  * @return Dictionary
+  */
+  public  Dictionary keysAndValuesDo(final DyadicValuable aBlock);
+
+
+  /**
+  * @return Dictionary
+  */
+  public  Dictionary keysDo(final MonadicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeKey(final Object key);
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeKey_ifAbsent(final Object key, final NiladicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeAllKeys(final Collection keys);
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeAllKeys_ifAbsent(final Collection keys, final NiladicValuable aBlock);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean includesKey(final Object key);
+}
\ No newline at end of file
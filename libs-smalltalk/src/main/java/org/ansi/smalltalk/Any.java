@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the signature for the ANSI Smalltalk type that accepts Any other. */
+public  interface Any
+{
+  /** Metatype for Any. */
+  public static  interface mClass
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
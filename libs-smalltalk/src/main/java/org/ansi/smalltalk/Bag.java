@@ -0,0 +1,19 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Bag. */
+public  interface Bag extends org.ansi.smalltalk.InitializableCollection 
+{
+  /** Metatype for Bag. */
+  public static  interface mClass extends InitializableCollection.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object add_withOccurrences(final Object element, final Integer count);
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Boolean. */
+public  interface Boolean extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for Boolean. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean eqv(final Boolean operand);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $and(final Boolean operand);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $or(final Boolean operand);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean and(final NiladicBlock aBlock);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean not();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean or(final NiladicBlock aBlock);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean xor(final Boolean operand);
+
+
+  /**
+  * @return Any
+  */
+  public  Any ifTrue(final NiladicBlock operand);
+
+
+  /**
+  * @return Any
+  */
+  public  Any ifTrue_ifFalse(final NiladicBlock trueOperand, final NiladicBlock falseOperand);
+
+
+  /**
+  * @return Any
+  */
+  public  Any ifFalse(final NiladicBlock operand);
+
+
+  /**
+  * @return Any
+  */
+  public  Any ifFalse_ifTrue(final NiladicBlock falseBlock, final NiladicBlock trueOperand);
+}
\ No newline at end of file
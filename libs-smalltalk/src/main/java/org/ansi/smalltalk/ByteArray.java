@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ByteArray. */
+public  interface ByteArray extends org.ansi.smalltalk.InitializableCollection 
+{
+  /** Metatype for ByteArray. */
+  public static  interface mClass extends InitializableCollection.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
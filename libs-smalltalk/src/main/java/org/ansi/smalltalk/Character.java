@@ -0,0 +1,96 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signatures for ANSI Smalltalk Character and Character factory. */
+public  interface Character extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for Character. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+
+    /**
+    * @return Character
+    */
+    public  Character codePoint(final Integer integer);
+
+
+    /**
+    * @return Character
+    */
+    public  Character cr();
+
+
+    /**
+    * @return Character
+    */
+    public  Character lf();
+
+
+    /**
+    * @return Character
+    */
+    public  Character space();
+
+
+    /**
+    * @return Character
+    */
+    public  Character tab();
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Character
+  */
+  public  Character asLowercase();
+
+
+  /**
+  * @return String
+  */
+  public  String asString();
+
+
+  /**
+  * @return Character
+  */
+  public  Character asUppercase();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer codePoint();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isAlphaNumeric();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isDigit();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isLetter();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isLowercase();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isUppercase();
+}
\ No newline at end of file
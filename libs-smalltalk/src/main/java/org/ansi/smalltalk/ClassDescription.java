@@ -0,0 +1,43 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ClassDescription. */
+public  interface ClassDescription extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for ClassDescription. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Collection
+  */
+  public  Collection allSubclasses();
+
+
+  /**
+  * @return Collection
+  */
+  public  Collection allSuperclasses();
+
+
+  /**
+  * @return Collection
+  */
+  public  Collection subclasses();
+
+
+  /**
+  * @return Object
+  */
+  public  Object superclass();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString name();
+}
\ No newline at end of file
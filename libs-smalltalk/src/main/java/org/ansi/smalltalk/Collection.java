@@ -0,0 +1,150 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Collection. */
+public  interface Collection extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for Collection. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection $new(final Integer count);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Integer
+  */
+  public  Integer occurrencesOf(final Object anObject);
+
+
+  /**
+  * @return Object
+  */
+  public  Object rehash();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer size();
+
+
+  /**
+  * @return Array
+  */
+  public  Array asArray();
+
+
+  /**
+  * @return Bag
+  */
+  public  Bag asBag();
+
+
+  /**
+  * @return OrderedCollection
+  */
+  public  OrderedCollection asOrderedCollection();
+
+
+  /**
+  * @return Set
+  */
+  public  Set asSet();
+
+
+  /**
+  * @return SortedCollection
+  */
+  public  SortedCollection asSortedCollection();
+
+
+  /**
+  * @return SortedCollection
+  */
+  public  SortedCollection asSortedCollection(final DyadicValuable sortBlock);
+
+
+  /**
+  * @return Collection
+  */
+  public  Collection collect(final MonadicValuable filterBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect(final MonadicValuable testBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect_ifNone(final MonadicValuable testBlock, final NiladicValuable exceptionBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $do(final MonadicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object do_separatedBy(final MonadicValuable aBlock, final NiladicValuable separateBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object inject_into(final Object value, final DyadicValuable binaryBlock);
+
+
+  /**
+  * @return Collection
+  */
+  public  Collection reject(final MonadicValuable testBlock);
+
+
+  /**
+  * @return Collection
+  */
+  public  Collection select(final MonadicValuable testBlock);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean allSatisfy(final MonadicBlock testBlock);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean anySatisfy(final MonadicBlock testBlock);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean includes(final Object anObject);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isEmpty();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean notEmpty();
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk DateAndTime. */
+public  interface DateAndTime extends org.ansi.smalltalk.Magnitude 
+{
+  /** Metatype for DateAndTime. */
+  public static  interface mClass extends Magnitude.mClass 
+  {
+
+
+    /**
+    * @return Duration
+    */
+    public  Duration clockPrecision();
+
+
+    /**
+    * @return DateAndTime
+    */
+    public  DateAndTime year_month_day_hour_minute_second(final Integer year, final Integer month, final Integer dayOfMonth, final Integer hour, final Integer minute, final Number second);
+
+
+    /**
+    * @return DateAndTime
+    */
+    public  DateAndTime year_month_day_hour_minute_second_offset(final Integer year, final Integer month, final Integer dayOfMonth, final Integer hour, final Integer minute, final Number second, final Duration offset);
+
+
+    /**
+    * @return DateAndTime
+    */
+    public  DateAndTime year_day_hour_minute_second(final Integer year, final Integer dayOfYear, final Integer hour, final Integer minute, final Number second);
+
+
+    /**
+    * @return DateAndTime
+    */
+    public  DateAndTime year_day_hour_minute_second_offset(final Integer year, final Integer dayOfYear, final Integer hour, final Integer minute, final Number second, final Duration offset);
+
+
+    /**
+    * @return DateAndTime
+    */
+    public  DateAndTime now();
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return DateAndTime
+  */
+  public  DateAndTime asLocal();
+
+
+  /**
+  * @return DateAndTime
+  */
+  public  DateAndTime asUTC();
+
+
+  /**
+  * @return DateAndTime
+  */
+  public  DateAndTime $plus(final Duration duration);
+
+
+  /**
+  * @return DateAndTime
+  */
+  public  DateAndTime $minus(final Duration duration);
+
+
+  /**
+  * @return Duration
+  */
+  public  Duration $minus(final DateAndTime time);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer dayOfMonth();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer dayOfWeek();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString dayOfWeekAbbreviation();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString dayOfWeekName();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer dayOfYear();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isLeapYear();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer month();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString monthAbbreviation();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString monthName();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer year();
+
+
+  /**
+  * @return Duration
+  */
+  public  Duration offset();
+
+
+  /**
+  * @return DateAndTime
+  */
+  public  DateAndTime offset(final Duration offset);
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString timeZoneAbbreviation();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString timeZoneName();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer hour();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer hour12();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer hour24();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString meridianAbbreviation();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer minute();
+
+
+  /**
+  * @return Number
+  */
+  public  Number second();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString printString();
+}
\ No newline at end of file
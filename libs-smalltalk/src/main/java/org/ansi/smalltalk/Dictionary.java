@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Dictionary. */
+public  interface Dictionary extends org.ansi.smalltalk.AbstractDictionary 
+{
+  /** Metatype for Dictionary. */
+  public static  interface mClass extends AbstractDictionary.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Duration. */
+public  interface Duration extends org.ansi.smalltalk.Magnitude 
+{
+  /** Metatype for Duration. */
+  public static  interface mClass extends Magnitude.mClass 
+  {
+
+
+    /**
+    * @return Duration
+    */
+    public  Duration days_hours_minutes_seconds(final Integer days, final Integer hours, final Integer minutes, final Number seconds);
+
+
+    /**
+    * @return Duration
+    */
+    public  Duration seconds(final Number seconds);
+
+
+    /**
+    * @return Duration
+    */
+    public  Duration zero();
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Integer
+  */
+  public  Integer days();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer hours();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer minutes();
+
+
+  /**
+  * @return Number
+  */
+  public  Number seconds();
+
+
+  /**
+  * @return Number
+  */
+  public  Number asSeconds();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString printString();
+
+
+  /**
+  * @return Duration
+  */
+  public  Duration $plus(final Duration aDuration);
+
+
+  /**
+  * @return Duration
+  */
+  public  Duration $minus(final Duration aDuration);
+
+
+  /**
+  * @return Duration
+  */
+  public  Duration $times(final Duration aDuration);
+
+
+  /**
+  * @return Duration
+  */
+  public  Duration $dividedBy(final Duration aDuration);
+
+
+  /**
+  * @return Duration
+  */
+  public  Duration abs();
+
+
+  /**
+  * @return Duration
+  */
+  public  Duration negated();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean negative();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean positive();
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk DyadicBlock. */
+public  interface DyadicBlock extends org.ansi.smalltalk.DyadicValuable 
+{
+  /** Metatype for DyadicBlock. */
+  public static  interface mClass extends DyadicValuable.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk DyadicValuable. */
+public  interface DyadicValuable extends org.ansi.smalltalk.Valuable 
+{
+  /** Metatype for DyadicValuable. */
+  public static  interface mClass extends Valuable.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Any
+  */
+  public  Any value_value(final Any firstArgument, final Any secondsArgument);
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Error. */
+public  interface Error extends org.ansi.smalltalk.Exception 
+{
+  /** Metatype for Error. */
+  public static  interface mClass extends Exception.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Exception. */
+public  interface Exception extends org.ansi.smalltalk.SignaledException 
+{
+  /** Metatype for Exception. */
+  public static  interface mClass extends SignaledException.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ExceptionBuilder. */
+public  interface ExceptionBuilder extends org.ansi.smalltalk.ExceptionDescription 
+{
+  /** Metatype for ExceptionBuilder. */
+  public static  interface mClass extends ExceptionDescription.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return ExceptionBuilder
+  */
+  public  ExceptionBuilder messageText(final ReadableString aMessage);
+}
\ No newline at end of file
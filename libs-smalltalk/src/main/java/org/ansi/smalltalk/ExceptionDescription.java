@@ -0,0 +1,43 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ExceptionDescription. */
+public  interface ExceptionDescription extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for ExceptionDescription. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString description();
+
+
+  /**
+  * @return Object
+  */
+  public  Object messageText();
+
+
+  /**
+  * @return Object
+  */
+  public  Object tag();
+
+
+  /**
+  * @return Object
+  */
+  public  Object defaultAction();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isResumable();
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ExceptionSelector. */
+public  interface ExceptionSelector extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for ExceptionSelector. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
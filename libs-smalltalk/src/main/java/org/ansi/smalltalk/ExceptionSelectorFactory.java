@@ -0,0 +1,25 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ExceptionSelector factory. */
+public  interface ExceptionSelectorFactory extends org.ansi.smalltalk.ExceptionSelector 
+{
+  /** Metatype for ExceptionSelectorFactory. */
+  public static  interface mClass extends ExceptionSelector.mClass 
+  {
+
+
+    /**
+    * @return ExceptionSet
+    */
+    public  ExceptionSet $append(final ExceptionSelector anException);
+
+
+    /**
+    * @return Boolean
+    */
+    public  Boolean handles(final ExceptionDescription exception);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
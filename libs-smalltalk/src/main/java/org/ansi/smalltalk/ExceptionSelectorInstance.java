@@ -0,0 +1,25 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ExceptionSelector instance. */
+public  interface ExceptionSelectorInstance extends org.ansi.smalltalk.ExceptionSelector 
+{
+  /** Metatype for ExceptionSelectorInstance. */
+  public static  interface mClass extends ExceptionSelector.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return ExceptionSet
+  */
+  public  ExceptionSet $append(final ExceptionSelector anException);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean handles(final ExceptionDescription exception);
+}
\ No newline at end of file
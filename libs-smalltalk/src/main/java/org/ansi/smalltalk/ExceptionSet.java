@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ExceptionSet. */
+public  interface ExceptionSet extends org.ansi.smalltalk.ExceptionSelectorInstance 
+{
+  /** Metatype for ExceptionSet. */
+  public static  interface mClass extends ExceptionSelectorInstance.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ExceptionSignaler. */
+public  interface ExceptionSignaler extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for ExceptionSignaler. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object signal();
+
+
+    /**
+    * @return Object
+    */
+    public  Object signal(final ReadableString message);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object signal();
+
+
+  /**
+  * @return Object
+  */
+  public  Object signal(final ReadableString message);
+}
\ No newline at end of file
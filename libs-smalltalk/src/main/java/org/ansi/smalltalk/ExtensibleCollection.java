@@ -0,0 +1,43 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ExtensibleCollection. */
+public  interface ExtensibleCollection extends org.ansi.smalltalk.Collection 
+{
+  /** Metatype for ExtensibleCollection. */
+  public static  interface mClass extends Collection.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object add(final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll(final Collection elements);
+
+
+  /**
+  * @return Object
+  */
+  public  Object remove(final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object remove_ifAbsent(final Object element, final NiladicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeAll(final Collection elements);
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk FailedMessage. */
+public  interface FailedMessage extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for FailedMessage. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection arguments();
+
+
+  /**
+  * @return Selector
+  */
+  public  Selector selector();
+}
\ No newline at end of file
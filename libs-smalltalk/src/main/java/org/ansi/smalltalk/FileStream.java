@@ -0,0 +1,60 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk FileStream. */
+public  interface FileStream extends org.ansi.smalltalk.SequencedStream 
+{
+  /** Metatype for FileStream. */
+  public static  interface mClass extends SequencedStream.mClass 
+  {
+
+
+    /**
+    * @return ReadFileStream
+    */
+    public  ReadFileStream read(final ReadableString fileName);
+
+
+    /**
+    * @return ReadFileStream
+    */
+    public  ReadFileStream read_type(final ReadableString fileName, final Symbol fileType);
+
+
+    /**
+    * @return WriteFileStream
+    */
+    public  WriteFileStream write(final ReadableString fileName);
+
+
+    /**
+    * @return WriteFileStream
+    */
+    public  WriteFileStream write_type(final ReadableString fileName, final Symbol fileType);
+
+
+    /**
+    * @return WriteFileStream
+    */
+    public  WriteFileStream write_mode_check_fileType(final ReadableString fileName, final Symbol mode, final Boolean check, final Symbol fileType);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Symbol
+  */
+  public  Symbol externalType();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isBinary();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isText();
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Float. */
+public  interface Float extends org.ansi.smalltalk.Number 
+{
+  /** Metatype for Float. */
+  public static  interface mClass extends Number.mClass 
+  {
+
+
+    /**
+    * @return Float
+    */
+    public  Float e();
+
+
+    /**
+    * @return Float
+    */
+    public  Float pi();
+
+
+    /**
+    * @return Boolean
+    */
+    public  Boolean denormalized();
+
+
+    /**
+    * @return Integer
+    */
+    public  Integer emax();
+
+
+    /**
+    * @return Integer
+    */
+    public  Integer emin();
+
+
+    /**
+    * @return Float
+    */
+    public  Float epsilon();
+
+
+    /**
+    * @return Float
+    */
+    public  Float fmax();
+
+
+    /**
+    * @return Float
+    */
+    public  Float fmin();
+
+
+    /**
+    * @return Float
+    */
+    public  Float fminDenormalized();
+
+
+    /**
+    * @return Float
+    */
+    public  Float fminNormalized();
+
+
+    /**
+    * @return Integer
+    */
+    public  Integer precision();
+
+
+    /**
+    * @return Integer
+    */
+    public  Integer radix();
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Float
+  */
+  public  Float arcCos();
+
+
+  /**
+  * @return Float
+  */
+  public  Float arcSin();
+
+
+  /**
+  * @return Float
+  */
+  public  Float arcTan();
+
+
+  /**
+  * @return Float
+  */
+  public  Float cos();
+
+
+  /**
+  * @return Float
+  */
+  public  Float degreesToRadians();
+
+
+  /**
+  * @return Float
+  */
+  public  Float exp();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer floorLog(final Number radix);
+
+
+  /**
+  * @return Float
+  */
+  public  Float ln();
+
+
+  /**
+  * @return Float
+  */
+  public  Float log(final Number radix);
+
+
+  /**
+  * @return Float
+  */
+  public  Float radiansToDegrees();
+
+
+  /**
+  * @return Float
+  */
+  public  Float sin();
+
+
+  /**
+  * @return Float
+  */
+  public  Float tan();
+}
\ No newline at end of file
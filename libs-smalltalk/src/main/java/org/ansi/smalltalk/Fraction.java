@@ -0,0 +1,19 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Fraction. */
+public  interface Fraction extends org.ansi.smalltalk.Rational 
+{
+  /** Metatype for Fraction. */
+  public static  interface mClass extends Rational.mClass 
+  {
+
+
+    /**
+    * @return Rational
+    */
+    public  Rational numerator_denominator(final Integer numerator, final Integer denominator);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk GettableStream. */
+public  interface GettableStream extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for GettableStream. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object next();
+
+
+  /**
+  * @return Object
+  */
+  public  Object peek();
+
+
+  /**
+  * @return Object
+  */
+  public  Object $do(final MonadicValuable aBlock);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection next(final Integer count);
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString nextLine();
+
+
+  /**
+  * @return Object
+  */
+  public  Object skip(final Integer count);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection upTo(final Object anObject);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean atEnd();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean nextMatchFor(final Object anObject);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean peekFor(final Object anObject);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean skipTo(final Object anObject);
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an InitializableCollection. */
+public  interface InitializableCollection extends org.ansi.smalltalk.Collection 
+{
+  /** Metatype for InitializableCollection. */
+  public static  interface mClass extends Collection.mClass 
+  {
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection with(final Object anObject);
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection with_with(final Object object1st, final Object object2nd);
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection with_with_with(final Object object1st, final Object object2nd, final Object object3rd);
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection with_with_with_with(final Object object1st, final Object object2nd, final Object object3rd, final Object object4th);
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection withAll(final Collection aCollection);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Integer. */
+public  interface Integer extends org.ansi.smalltalk.Rational 
+{
+  /** Metatype for Integer. */
+  public static  interface mClass extends Rational.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Integer
+  */
+  public  Integer bitAnd(final Integer anInteger);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer bitOr(final Integer anInteger);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer bitXor(final Integer anInteger);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer bitInvert();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer bitAt(final Integer index);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer bitAt_put(final Integer index, final Integer bitValue);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer highBit();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer bitShift(final Integer count);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean allMask(final Integer mask);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean anyMask(final Integer mask);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean noMask(final Integer mask);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer factorial();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer gcd(final Integer aNumber);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer lcm(final Integer aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public  Object printOn_base_showRadix(final PuttableStream aStream, final Integer base, final Boolean showRadix);
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString printStringRadix(final Integer radix);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean even();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean odd();
+}
\ No newline at end of file
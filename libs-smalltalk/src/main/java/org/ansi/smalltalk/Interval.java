@@ -0,0 +1,25 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Interval. */
+public  interface Interval extends org.ansi.smalltalk.SequencedReadableCollection 
+{
+  /** Metatype for Interval. */
+  public static  interface mClass extends SequencedReadableCollection.mClass 
+  {
+
+
+    /**
+    * @return Interval
+    */
+    public  Interval from_to(final Integer start, final Integer stop);
+
+
+    /**
+    * @return Interval
+    */
+    public  Interval from_to_by(final Integer start, final Integer stop, final Integer step);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
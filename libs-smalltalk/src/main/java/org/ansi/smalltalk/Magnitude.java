@@ -0,0 +1,49 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Magnitude. */
+public  interface Magnitude extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for Magnitude. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $lessEqual(final Magnitude aMagnitude);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $moreThan(final Magnitude aMagnitude);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $moreEqual(final Magnitude aMagnitude);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean between_and(final Magnitude minimum, final Magnitude maximum);
+
+
+  /**
+  * @return Magnitude
+  */
+  public  Magnitude max(final Magnitude aMagnitude);
+
+
+  /**
+  * @return Magnitude
+  */
+  public  Magnitude min(final Magnitude aMagnitude);
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk MessageNotUnderstood. */
+public  interface MessageNotUnderstood extends org.ansi.smalltalk.Error 
+{
+  /** Metatype for MessageNotUnderstood. */
+  public static  interface mClass extends Error.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return FailedMessage
+  */
+  public  FailedMessage message();
+
+
+  /**
+  * @return Object
+  */
+  public  Object receiver();
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk MonadicBlock. */
+public  interface MonadicBlock extends org.ansi.smalltalk.MonadicValuable 
+{
+  /** Metatype for MonadicBlock. */
+  public static  interface mClass extends MonadicValuable.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
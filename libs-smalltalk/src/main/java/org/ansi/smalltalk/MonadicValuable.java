@@ -0,0 +1,19 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk MonadicValuable. */
+public  interface MonadicValuable extends org.ansi.smalltalk.Valuable 
+{
+  /** Metatype for MonadicValuable. */
+  public static  interface mClass extends Valuable.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Any
+  */
+  public  Any value(final Any argument);
+}
\ No newline at end of file
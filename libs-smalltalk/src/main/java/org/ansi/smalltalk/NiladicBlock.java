@@ -0,0 +1,31 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk NiladicBlock. */
+public  interface NiladicBlock extends org.ansi.smalltalk.NiladicValuable 
+{
+  /** Metatype for NiladicBlock. */
+  public static  interface mClass extends NiladicValuable.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Any
+  */
+  public  Any ensure(final NiladicBlock terminationBlock);
+
+
+  /**
+  * @return Any
+  */
+  public  Any ifCurtailed(final NiladicBlock terminationBlock);
+
+
+  /**
+  * @return Any
+  */
+  public  Any on_do(final ExceptionSelector exception, final MonadicBlock aBlock);
+}
\ No newline at end of file
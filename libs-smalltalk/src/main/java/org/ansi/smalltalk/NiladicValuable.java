@@ -0,0 +1,43 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk NiladicValuable. */
+public  interface NiladicValuable extends org.ansi.smalltalk.Valuable 
+{
+  /** Metatype for NiladicValuable. */
+  public static  interface mClass extends Valuable.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Any
+  */
+  public  Any value();
+
+
+  /**
+  * @return Object
+  */
+  public  Object whileFalse();
+
+
+  /**
+  * @return Object
+  */
+  public  Object whileFalse(final NiladicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object whileTrue();
+
+
+  /**
+  * @return Object
+  */
+  public  Object whileTrue(final NiladicValuable aBlock);
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Number. */
+public  interface Number extends org.ansi.smalltalk.Magnitude 
+{
+  /** Metatype for Number. */
+  public static  interface mClass extends Magnitude.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $equal(final Number aNumber);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $lessThan(final Number aNumber);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $moreThan(final Number aNumber);
+
+
+  /**
+  * @return Rational
+  */
+  public  Rational asFraction();
+
+
+  /**
+  * @return Float
+  */
+  public  Float asFloat();
+
+
+  /**
+  * @return Float
+  */
+  public  Float asFloatE();
+
+
+  /**
+  * @return Float
+  */
+  public  Float asFloatD();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer asInteger();
+
+
+  /**
+  * @return ScaledDecimal
+  */
+  public  ScaledDecimal asScaledDecimal(final Integer scale);
+
+
+  /**
+  * @return Number
+  */
+  public  Number $plus(final Number aNumber);
+
+
+  /**
+  * @return Number
+  */
+  public  Number $minus(final Number aNumber);
+
+
+  /**
+  * @return Number
+  */
+  public  Number $times(final Number aNumber);
+
+
+  /**
+  * @return Number
+  */
+  public  Number $dividedBy(final Number aNumber);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer $idiv(final Number aNumber);
+
+
+  /**
+  * @return Number
+  */
+  public  Number $imod(final Number aNumber);
+
+
+  /**
+  * @return Number
+  */
+  public  Number abs();
+
+
+  /**
+  * @return Number
+  */
+  public  Number fractionPart();
+
+
+  /**
+  * @return Number
+  */
+  public  Number integerPart();
+
+
+  /**
+  * @return Number
+  */
+  public  Number negated();
+
+
+  /**
+  * @return Number
+  */
+  public  Number reciprocal();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer quo(final Number aNumber);
+
+
+  /**
+  * @return Number
+  */
+  public  Number rem(final Number aNumber);
+
+
+  /**
+  * @return Number
+  */
+  public  Number raisedTo(final Number aNumber);
+
+
+  /**
+  * @return Number
+  */
+  public  Number raisedToInteger(final Integer anInteger);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer sign();
+
+
+  /**
+  * @return Number
+  */
+  public  Number sqrt();
+
+
+  /**
+  * @return Number
+  */
+  public  Number squared();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer ceiling();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer floor();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer truncated();
+
+
+  /**
+  * @return Number
+  */
+  public  Number truncatedTo(final Number aNumber);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer rounded();
+
+
+  /**
+  * @return Number
+  */
+  public  Number roundTo(final Number aNumber);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean negative();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean positive();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean strictlyPositive();
+
+
+  /**
+  * @return Interval
+  */
+  public  Interval to(final Number aNumber);
+
+
+  /**
+  * @return Interval
+  */
+  public  Interval to_by(final Number aNumber, final Number delta);
+
+
+  /**
+  * @return Object
+  */
+  public  Object to_by_do(final Number aNumber, final Number delta, final MonadicBlock aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object to_do(final Number aNumber, final MonadicBlock aBlock);
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Object. */
+public  interface Object extends org.ansi.smalltalk.Any 
+{
+  /** Metatype for Object. */
+  public static  interface mClass extends Any.mClass 
+  {
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection allSubclasses();
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection allSuperclasses();
+
+
+    /**
+    * @return Collection
+    */
+    public  Collection subclasses();
+
+
+    /**
+    * @return Object
+    */
+    public  Object superclass();
+
+
+    /**
+    * @return Object
+    */
+    public  Object $new();
+
+
+    /**
+    * @return ReadableString
+    */
+    public  ReadableString name();
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return ClassDescription
+  */
+  public  ClassDescription $class();
+
+
+  /**
+  * @return Object
+  */
+  public  Object yourself();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $equal(final Object comparand);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $is(final Object comparand);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $notEqual(final Object comparand);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $isnt(final Object comparand);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer hash();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer identityHash();
+
+
+  /**
+  * @return Object
+  */
+  public  Object copy();
+
+
+  /**
+  * @return Any
+  */
+  public  Any perform_withArguments(final Selector selector, final Array arguments);
+
+
+  /**
+  * @return Any
+  */
+  public  Any perform_with_with_with(final Selector selector, final Any firstArgument, final Any secondArgument, final Any thirdArgument);
+
+
+  /**
+  * @return Any
+  */
+  public  Any perform_with_with(final Selector selector, final Any firstArgument, final Any secondArgument);
+
+
+  /**
+  * @return Any
+  */
+  public  Any perform_with(final Selector selector, final Any argument);
+
+
+  /**
+  * @return Any
+  */
+  public  Any perform(final Selector selector);
+
+
+  /**
+  * @return Object
+  */
+  public  Object printOn(final PuttableStream target);
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString printString();
+
+
+  /**
+  * @return Object
+  */
+  public  Object doesNotUnderstand(final FailedMessage message);
+
+
+  /**
+  * @return Object
+  */
+  public  Object error(final ReadableString signalerText);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isKindOf(final Object candidateClass);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isMemberOf(final Object candidateClass);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isNil();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean notNil();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean respondsTo(final Selector selector);
+}
\ No newline at end of file
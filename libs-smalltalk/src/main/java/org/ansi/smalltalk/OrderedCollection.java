@@ -0,0 +1,85 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk OrderedCollection. */
+public  interface OrderedCollection extends org.ansi.smalltalk.InitializableCollection 
+{
+  /** Metatype for OrderedCollection. */
+  public static  interface mClass extends InitializableCollection.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object add_after(final Object element, final Object target);
+
+
+  /**
+  * @return Object
+  */
+  public  Object add_afterIndex(final Object element, final Integer index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object add_before(final Object element, final Object target);
+
+
+  /**
+  * @return Object
+  */
+  public  Object add_beforeIndex(final Object element, final Integer index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll_after(final Collection elements, final Object target);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll_afterIndex(final Collection elements, final Integer index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll_before(final Collection elements, final Object target);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll_beforeIndex(final Collection elements, final Integer index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAllFirst(final Collection elements);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAllLast(final Collection elements);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addFirst(final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object addLast(final Object element);
+}
\ No newline at end of file
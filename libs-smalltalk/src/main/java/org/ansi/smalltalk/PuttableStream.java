@@ -0,0 +1,49 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk PuttableStream. */
+public  interface PuttableStream extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for PuttableStream. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object cr();
+
+
+  /**
+  * @return Object
+  */
+  public  Object space();
+
+
+  /**
+  * @return Object
+  */
+  public  Object tab();
+
+
+  /**
+  * @return Object
+  */
+  public  Object flush();
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPut(final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPutAll(final Collection elements);
+}
\ No newline at end of file
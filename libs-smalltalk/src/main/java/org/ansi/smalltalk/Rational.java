@@ -0,0 +1,25 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Rational. */
+public  interface Rational extends org.ansi.smalltalk.Number 
+{
+  /** Metatype for Rational. */
+  public static  interface mClass extends Number.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Integer
+  */
+  public  Integer numerator();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer denominator();
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ReadFileStream. */
+public  interface ReadFileStream extends org.ansi.smalltalk.FileStream 
+{
+  /** Metatype for ReadFileStream. */
+  public static  interface mClass extends FileStream.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
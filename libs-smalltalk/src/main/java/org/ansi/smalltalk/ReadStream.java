@@ -0,0 +1,19 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ReadStream. */
+public  interface ReadStream extends org.ansi.smalltalk.GettableStream 
+{
+  /** Metatype for ReadStream. */
+  public static  interface mClass extends GettableStream.mClass 
+  {
+
+
+    /**
+    * @return ReadStream
+    */
+    public  ReadStream on(final SequencedReadableCollection aCollection);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
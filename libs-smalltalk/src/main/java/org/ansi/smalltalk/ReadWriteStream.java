@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ReadWriteStream. */
+public  interface ReadWriteStream extends org.ansi.smalltalk.ReadStream 
+{
+  /** Metatype for ReadWriteStream. */
+  public static  interface mClass extends ReadStream.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
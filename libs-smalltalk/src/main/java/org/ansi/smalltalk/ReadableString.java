@@ -0,0 +1,49 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ReadableString. */
+public  interface ReadableString extends org.ansi.smalltalk.Magnitude 
+{
+  /** Metatype for ReadableString. */
+  public static  interface mClass extends Magnitude.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString asLowercase();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString asString();
+
+
+  /**
+  * @return Symbol
+  */
+  public  Symbol asSymbol();
+
+
+  /**
+  * @return ReadableString
+  */
+  public  ReadableString asUppercase();
+
+
+  /**
+  * @return Array
+  */
+  public  Array subStrings(final SequencedReadableCollection separators);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean sameAs(final ReadableString aString);
+}
\ No newline at end of file
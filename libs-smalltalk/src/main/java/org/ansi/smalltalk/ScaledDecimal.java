@@ -0,0 +1,19 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ScaledDecimal. */
+public  interface ScaledDecimal extends org.ansi.smalltalk.Number 
+{
+  /** Metatype for ScaledDecimal. */
+  public static  interface mClass extends Number.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Integer
+  */
+  public  Integer scale();
+}
\ No newline at end of file
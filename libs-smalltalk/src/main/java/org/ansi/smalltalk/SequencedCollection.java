@@ -0,0 +1,49 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk SequencedCollection. */
+public  interface SequencedCollection extends org.ansi.smalltalk.SequencedReadableCollection 
+{
+  /** Metatype for SequencedCollection. */
+  public static  interface mClass extends SequencedReadableCollection.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object at_put(final Integer index, final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object atAll_put(final Collection indices, final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object atAllPut(final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object replaceFrom_to_with(final Integer start, final Integer stop, final SequencedReadableCollection replacements);
+
+
+  /**
+  * @return Object
+  */
+  public  Object replaceFrom_to_with_startingAt(final Integer start, final Integer stop, final SequencedReadableCollection replacements, final Integer origin);
+
+
+  /**
+  * @return Object
+  */
+  public  Object replaceFrom_to_withObject(final Integer start, final Integer stop, final Object anElement);
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk SequencedContractibleCollection. */
+public  interface SequencedContractibleCollection extends org.ansi.smalltalk.Collection 
+{
+  /** Metatype for SequencedContractibleCollection. */
+  public static  interface mClass extends Collection.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object removeAtIndex(final Integer index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeFirst();
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeLast();
+}
\ No newline at end of file
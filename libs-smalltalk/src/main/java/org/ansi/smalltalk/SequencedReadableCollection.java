@@ -0,0 +1,169 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk SequencedReadableCollection. */
+public  interface SequencedReadableCollection extends org.ansi.smalltalk.InitializableCollection 
+{
+  /** Metatype for SequencedReadableCollection. */
+  public static  interface mClass extends InitializableCollection.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object at(final Integer index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object at_ifAbsent(final Integer index, final NiladicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object first();
+
+
+  /**
+  * @return Object
+  */
+  public  Object last();
+
+
+  /**
+  * @return Object
+  */
+  public  Object after(final Object leadingElement);
+
+
+  /**
+  * @return Object
+  */
+  public  Object before(final Object trailingElement);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer indexOf(final Object element);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer indexOf_ifAbsent(final Object element, final NiladicValuable aBlock);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer indexOfSubCollection_startingAt(final SequencedReadableCollection subCollection, final Integer anIndex);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer indexOfSubCollection_startingAt_ifAbsent(final SequencedReadableCollection subCollection, final Integer anIndex, final NiladicValuable exceptionBlock);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection $append(final SequencedReadableCollection aCollection);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection copyFrom_to(final Integer start, final Integer stop);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection copyReplaceAll_with(final SequencedReadableCollection oldElements, final SequencedReadableCollection newElements);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection copyReplaceFrom_to_with(final Integer start, final Integer stop, final SequencedReadableCollection replacements);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection copyReplaceFrom_to_withObject(final Integer start, final Integer stop, final Object replacement);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection copyReplacing_withObject(final Object oldElement, final Object newElement);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection copyWith(final Object newElement);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection copyWithout(final Object oldElement);
+
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection reverse();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer findFirst(final MonadicValuable testBlock);
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer findLast(final MonadicValuable testBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object from_to_do(final Integer start, final Integer stop, final MonadicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object from_to_keysAndValuesDo(final Integer start, final Integer stop, final DyadicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object keysAndValuesDo(final DyadicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object reverseDo(final MonadicValuable aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object with_do(final SequencedReadableCollection aCollection, final DyadicValuable aBlock);
+}
\ No newline at end of file
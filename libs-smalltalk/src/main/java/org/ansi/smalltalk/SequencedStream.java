@@ -0,0 +1,55 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk SequencedStream. */
+public  interface SequencedStream extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for SequencedStream. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return SequencedReadableCollection
+  */
+  public  SequencedReadableCollection contents();
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isEmpty();
+
+
+  /**
+  * @return Object
+  */
+  public  Object close();
+
+
+  /**
+  * @return Integer
+  */
+  public  Integer position();
+
+
+  /**
+  * @return Object
+  */
+  public  Object position(final Integer aPosition);
+
+
+  /**
+  * @return Object
+  */
+  public  Object reset();
+
+
+  /**
+  * @return Object
+  */
+  public  Object setToEnd();
+}
\ No newline at end of file
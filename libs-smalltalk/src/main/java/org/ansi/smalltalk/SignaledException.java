@@ -0,0 +1,73 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk SignaledException. */
+public  interface SignaledException extends org.ansi.smalltalk.ExceptionDescription 
+{
+  /** Metatype for SignaledException. */
+  public static  interface mClass extends ExceptionDescription.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return void
+  */
+  public  void resume();
+
+
+  /**
+  * @return void
+  */
+  public  void resume(final Object value);
+
+
+  /**
+  * @return void
+  */
+  public  void $return();
+
+
+  /**
+  * @return void
+  */
+  public  void $return(final Object value);
+
+
+  /**
+  * @return Object
+  */
+  public  Object outer();
+
+
+  /**
+  * @return void
+  */
+  public  void pass();
+
+
+  /**
+  * @return void
+  */
+  public  void resignalAs(final ExceptionDescription anException);
+
+
+  /**
+  * @return void
+  */
+  public  void retry();
+
+
+  /**
+  * @return void
+  */
+  public  void retryUsing(final NiladicBlock aBlock);
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean isNested();
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk SortedCollection. */
+public  interface SortedCollection extends org.ansi.smalltalk.InitializableCollection 
+{
+  /** Metatype for SortedCollection. */
+  public static  interface mClass extends InitializableCollection.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return DyadicValuable
+  */
+  public  DyadicValuable sortBlock();
+
+
+  /**
+  * @return SortedCollection
+  */
+  public  SortedCollection sortBlock(final DyadicValuable aBlock);
+}
\ No newline at end of file
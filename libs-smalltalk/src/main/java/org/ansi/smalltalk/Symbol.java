@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Symbol. */
+public  interface Symbol extends org.ansi.smalltalk.ReadableString 
+{
+  /** Metatype for Symbol. */
+  public static  interface mClass extends ReadableString.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
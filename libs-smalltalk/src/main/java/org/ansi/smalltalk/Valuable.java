@@ -0,0 +1,25 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Valuable. */
+public  interface Valuable extends org.ansi.smalltalk.Object 
+{
+  /** Metatype for Valuable. */
+  public static  interface mClass extends Object.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Integer
+  */
+  public  Integer argumentCount();
+
+
+  /**
+  * @return Any
+  */
+  public  Any valueWithArguments(final SequencedReadableCollection arguments);
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk Warning. */
+public  interface Warning extends org.ansi.smalltalk.Notification 
+{
+  /** Metatype for Warning. */
+  public static  interface mClass extends Notification.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk WriteStream. */
+public  interface WriteStream extends org.ansi.smalltalk.PuttableStream 
+{
+  /** Metatype for WriteStream. */
+  public static  interface mClass extends PuttableStream.mClass 
+  {
+
+
+    /**
+    * @return WriteStream
+    */
+    public  WriteStream with(final SequencedCollection aCollection);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
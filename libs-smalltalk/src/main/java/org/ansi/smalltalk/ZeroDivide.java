@@ -0,0 +1,24 @@
+package org.ansi.smalltalk;
+
+/** Defines the type signature for an ANSI Smalltalk ZeroDivide. */
+public  interface ZeroDivide extends org.ansi.smalltalk.Error 
+{
+  /** Metatype for ZeroDivide. */
+  public static  interface mClass extends Error.mClass 
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object dividend(final Number aDividend);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Number
+  */
+  public  Number dividend();
+}
\ No newline at end of file
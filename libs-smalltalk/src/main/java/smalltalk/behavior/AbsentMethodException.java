@@ -0,0 +1,27 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Indicates that the VM was unable to locate a method dynamically.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class AbsentMethodException extends RuntimeException 
+{
+
+
+  /**
+  * @return 
+  */
+  public   AbsentMethodException()
+  {
+  		super();
+  	}
+
+
+  /**
+  * @return 
+  */
+  public   AbsentMethodException(final java.lang.String message)
+  {
+  		super( message );
+  	}
+}
\ No newline at end of file
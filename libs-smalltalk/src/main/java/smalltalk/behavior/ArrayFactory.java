@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior for converting between primitive arrays and Arrays.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface ArrayFactory
+{
+  /** Metatype for ArrayFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object ArrayFrom(final Object[] primitiveArray);
+
+
+    /**
+    * @return Object[]
+    */
+    public  Object[] arrayFrom(final Object anArray);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+package smalltalk.behavior;
+import smalltalk.Smalltalk;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Metaclass for Behavior. */
+public abstract  class Behavior extends smalltalk.behavior.Object 
+{
+  /** Metaclass for Behavior. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("addFirst", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("allSubclassesDo", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("superclass", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("value", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("resolvedToClass", 0);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("asSet", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector6);
+  /** class instance for Behavior. **/
+  public static final mClass $class = new mClass(Behavior.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  MethodCache methodDictionary;
+
+  private 
+  java.util.List subclasses;
+
+  /**
+  * @return 
+  */
+  protected   Behavior()
+  {	super();
+  		subclasses = new java.util.ArrayList();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object name();
+
+
+  /**
+  * @return Object
+  */
+  public  Object allSubclasses() {
+    Object[] result = { null };
+    result[0] = primitive.emptyOrderedCollection();
+    Behavior.this.allSubclassesDo(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send0.perform_with(result[0], each);
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allSuperclasses() {
+    Object[] result = { null };
+    result[0] = primitive.emptyOrderedCollection();
+    Behavior.this.allSuperclassesDo(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send1.perform_with(result[0], each);
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return java.lang.Class
+  */
+  public abstract  java.lang.Class primitiveClass();
+
+
+  /**
+  * @return Object
+  */
+  public  Object subclasses()
+  {
+  		Object result = primitive.emptyOrderedCollection();
+  		synchronized( subclasses ) {
+  			for( int i = 0; i < subclasses.size(); i++ ) {
+  				Object each = (Object) subclasses.get( i );
+  				result.perform_with( "add:", each );
+  			}
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return Behavior
+  */
+  public abstract  Behavior superclass();
+
+
+  /**
+  * @return Object
+  */
+  public  Object withAllSubclasses() {
+    return (new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send2.perform_with(local3_0 = Behavior.this.allSubclasses(), Behavior.this);
+        return local3_0.yourself();
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object withAllSuperclasses() {
+    return (new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send3.perform_with(local3_0 = Behavior.this.allSuperclasses(), Behavior.this);
+        return local3_0.yourself();
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allSubclassesDo(final Object aBlock) {
+    this.subclassesDo(aBlock);
+    this.subclassesDo(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send4.perform_with(each, aBlock);
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allSuperclassesDo(final Object aBlock) {
+    Object[] aClass = { null };
+
+    Object[] current = { null };
+    aClass[0] = ((smalltalk.behavior.Object)Behavior.this);
+    current[0] = ((smalltalk.behavior.Object)Object.primitive.literalNil());
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        current[0] = $send5.perform(aClass[0]);
+        aClass[0] = current[0];
+        return current[0].isNil();
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          $send6.perform_with(aBlock, current[0]);
+          return Object.primitive.literalNil();
+        }
+      }).value()).value();
+    }
+    return (Behavior.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object subclassesDo(final Object aBlock) {
+    this.subclasses().$do(((OneArgumentBlock)aBlock));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object withAllSubclassesDo(final Object aBlock) {
+    $send7.perform_with(aBlock, this);
+    this.allSubclassesDo(aBlock);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object withAllSuperclassesDo(final Object aBlock) {
+    $send8.perform_with(aBlock, this);
+    this.allSuperclassesDo(aBlock);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object initialize()
+  {
+  		if (!Smalltalk.running) return this;
+  		if (primitive == null || !primitive.initialized) return this;
+  		Object superclass = this.superclass();
+  		if (superclass != null) {
+  			if (superclass instanceof Behavior) {
+  				Behavior superior = (Behavior) superclass;
+  				synchronized( superior.subclasses ) {
+  					if (!superior.subclasses.contains( this )) {
+  						superior.initialize();
+  						superior.subclasses.add( this );
+  					}
+  				}
+  			}
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $new()
+  {
+  		return newWith( new Object[]{} );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object newWith(final Object[] arguments)
+  {
+  		return new MessageSend( this, "new:", arguments ).construct();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $new(final Object anObject)
+  {
+  		return newWith( new Object[]{ anObject } );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object emptyString() {
+    return (((Behavior)$send9.perform(primitive.StringFrom("smalltalk.collection.String"))).$new());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allSelectors() {
+    return ($send10.perform(methodDictionary.allSelectors()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object selectors() {
+    return ($send11.perform(methodDictionary.selectors()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object inheritsFrom(final Object aClass)
+  {
+  		Behavior aBehavior = (Behavior) aClass;
+  		return(
+  			primitive.BooleanFrom(
+  				aBehavior.primitiveClass()
+  					.isAssignableFrom( this.primitiveClass() )
+  			)
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isBehavior() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Defines the services supported by all blocks.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public abstract  class BlockClosure extends smalltalk.behavior.Object 
+{
+  /** Metaclass for BlockClosure. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("count", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("at", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  /** class instance for BlockClosure. **/
+  public static final mClass $class = new mClass(BlockClosure.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.lang.Thread thread;
+
+  /**
+  * @return Object
+  */
+  public abstract  Object argumentCount();
+
+
+  /**
+  * @return Object
+  */
+  public  Object valueWithArguments(final Object arguments) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+     
+    Object count;
+    try {
+      count = ((Object)$send0.perform(arguments));
+      if (Boolean.primitiveValue(count.$equal(((SmallInteger)primitive.IntegerFrom(0))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ((ZeroArgumentBlock)BlockClosure.this).value());
+          }
+        }).value();
+      }
+      if (Boolean.primitiveValue(count.$equal(((SmallInteger)primitive.IntegerFrom(1))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ((OneArgumentBlock)BlockClosure.this).value($send1.perform_with(arguments, ((SmallInteger)primitive.IntegerFrom(1)))));
+          }
+        }).value();
+      }
+      if (Boolean.primitiveValue(count.$equal(((SmallInteger)primitive.IntegerFrom(2))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ((TwoArgumentBlock)BlockClosure.this).value_value($send2.perform_with(arguments, ((SmallInteger)primitive.IntegerFrom(1))), $send3.perform_with(arguments, ((SmallInteger)primitive.IntegerFrom(2)))));
+          }
+        }).value();
+      }
+      BlockClosure.this.error(primitive.StringFrom("Blocks only two or less arguments"));
+      return (BlockClosure.this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return java.lang.Thread
+  */
+  public  java.lang.Thread primitiveThread() {
+    return (thread);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object threadName() {
+    java.lang.Thread[] sample = { null };
+    sample[0] = ((java.lang.Thread)BlockClosure.this.primitiveThread());
+    return ((Boolean.primitiveValue(Object.$class.isNull(sample[0])) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return primitive.StringFrom("a Thread");
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return primitive.StringFrom(sample[0].getName());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+    return (this.threadName());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports abstract behavior common to both True and False.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public abstract  class Boolean extends smalltalk.behavior.Object 
+  implements BooleanFactory
+{
+  /** Metaclass for Boolean. */
+  public static  class mClass extends Object.mClass 
+    implements BooleanFactory.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Boolean
+    */
+    @Override
+    public  Boolean BooleanFrom(final boolean aBoolean)
+    {	return( aBoolean ? True.$class.literal : False.$class.literal );
+    	    }
+
+
+    /**
+    * @return boolean
+    */
+    @Override
+    public  boolean booleanFrom(final Object aBoolean)
+    {	Boolean b = (Boolean) aBoolean;
+    	        return b.primitiveBoolean();
+    	    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("not", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for Boolean. **/
+  public static final mClass $class = new mClass(Boolean.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return boolean
+  */
+  public abstract  boolean primitiveBoolean();
+
+
+  /**
+  * @return boolean
+  */
+  public  boolean asPrimitive() {
+    return (this.primitiveBoolean());
+  }
+
+
+  /**
+  * @return boolean
+  */
+  public static  boolean primitiveValue(final Object aBoolean)
+  {	Boolean b = (Boolean) aBoolean;
+          return b.primitiveBoolean();
+      }
+
+
+  /**
+  * @return java.lang.Boolean
+  */
+  public  java.lang.Boolean elementaryBoolean()
+  {	return primitiveBoolean();
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return elementaryBoolean().hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object eqv(final Boolean aBoolean) {
+    return (this.$is(aBoolean));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object $and(final Object aBoolean);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object $or(final Object aBoolean);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object and(final ZeroArgumentBlock aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object or(final ZeroArgumentBlock aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object not();
+
+
+  /**
+  * @return Object
+  */
+  public  Object xor(final Object aBoolean) {
+    return ($send0.perform(this.$is(aBoolean)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object ifTrue(final ZeroArgumentBlock trueBlock);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object ifTrue_ifFalse(final ZeroArgumentBlock trueBlock, final ZeroArgumentBlock falseBlock);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object ifFalse(final ZeroArgumentBlock falseBlock);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object ifFalse_ifTrue(final ZeroArgumentBlock falseBlock, final ZeroArgumentBlock trueBlock);
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isBoolean() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
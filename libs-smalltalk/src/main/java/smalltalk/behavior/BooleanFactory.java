@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior converting between primitive booleans and Booleans.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface BooleanFactory
+{
+  /** Metatype for BooleanFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Boolean
+    */
+    public  Boolean BooleanFrom(final boolean primitiveBoolean);
+
+
+    /**
+    * @return boolean
+    */
+    public  boolean booleanFrom(final Object aBoolean);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
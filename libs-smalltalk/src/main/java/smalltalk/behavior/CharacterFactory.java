@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior for converting between primitive characters and Characters.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface CharacterFactory
+{
+  /** Metatype for CharacterFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object CharacterFrom(final char primitiveCharacter);
+
+
+    /**
+    * @return char
+    */
+    public  char charFrom(final Object aCharacter);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
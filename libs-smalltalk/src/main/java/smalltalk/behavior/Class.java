@@ -0,0 +1,96 @@
+package smalltalk.behavior;
+import smalltalk.Smalltalk;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports basic classification of the behavior of objects.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Class extends smalltalk.behavior.ClassDescription 
+{
+  /** Metaclass for Class. */
+  public static  class mClass extends ClassDescription.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new()
+    {	return new Class();
+    		}
+  }
+
+  /** class instance for Class. **/
+  public static final mClass $class = new mClass(Class.class);
+  @Override public Behavior $class() { return metaclass; }
+  protected 
+  java.lang.Class primitiveClass;
+
+  protected 
+  Metaclass metaclass;
+
+  /**
+  * @return 
+  */
+  public   Class(final java.lang.Class aClass)
+  {	super();
+  		primitiveClass = aClass;
+  		if (aClass != null) {
+  			methodDictionary = new MethodCache( aClass );
+  			Smalltalk.registerClass( aClass, this );
+  			metaclass = new Metaclass( this );
+  			metaclass.initialize();
+  			this.initialize();
+  		}
+  	}
+
+
+  /**
+  * @return 
+  */
+  public   Class()
+  {	this( null ); // keep the compiler happy
+  	}
+
+
+  /**
+  * @return java.lang.Class
+  */
+  @Override
+  public  java.lang.Class primitiveClass()
+  {	return primitiveClass;
+  	}
+
+
+  /**
+  * @return Behavior
+  */
+  @Override
+  public  Behavior superclass()
+  {
+  		java.lang.Class aClass = primitiveClass.getSuperclass();
+  		return (Behavior) Smalltalk.classRegistry.get( aClass );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object name()
+  {
+  		return primitive.StringFrom( primitiveClass.getName() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isClass() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Metaclass for ClassDescription. */
+public abstract  class ClassDescription extends smalltalk.behavior.Behavior 
+{
+  /** Metaclass for ClassDescription. */
+  public static  class mClass extends Behavior.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for ClassDescription. **/
+  public static final mClass $class = new mClass(ClassDescription.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   ClassDescription()
+  {	super();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public abstract  Object name();
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents a control error raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ControlError extends smalltalk.behavior.Error 
+{
+  /** Metaclass for ControlError. */
+  public static  class mClass extends Error.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for ControlError. **/
+  public static final mClass $class = new mClass(ControlError.class);
+  @Override public Behavior $class() { return $class; }
+}
\ No newline at end of file
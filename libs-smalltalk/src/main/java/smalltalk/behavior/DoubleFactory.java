@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior for converting between primitive doubles and Doubles.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface DoubleFactory
+{
+  /** Metatype for DoubleFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object DoubleFrom(final double primitiveDouble);
+
+
+    /**
+    * @return double
+    */
+    public  double doubleFrom(final Object aDouble);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents an error raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Error extends smalltalk.behavior.Exception 
+{
+  /** Metaclass for Error. */
+  public static  class mClass extends Exception.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for Error. **/
+  public static final mClass $class = new mClass(Error.class);
+  @Override public Behavior $class() { return $class; }
+}
\ No newline at end of file
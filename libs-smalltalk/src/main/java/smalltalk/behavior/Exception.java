@@ -0,0 +1,546 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents an exception raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Exception extends smalltalk.behavior.Object 
+{
+  /** Metaclass for Exception. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$append", 1);
+    private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("isKindOf", 1);
+    private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("messageText", 1);
+    private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("signal", 0);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+    private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+    private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object $append(final Object argument) {
+      return ($send0.perform_with(ExceptionSet.$class.with(this), argument));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object handles(final Object anException) {
+      return ($send1.perform_with(anException, this));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object signal() {
+      return (((Exception)((Exception)this.$new())).signal());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object signal(final Object message) {
+      return (new ZeroArgumentBlock()
+      {
+         
+        Object local4_0;
+        @Override public Object value()  {
+          $send2.perform_with(local4_0 = ((smalltalk.behavior.Object)((Exception)((Exception)Exception.mClass.this.$new()))), message);
+          return $send3.perform(local4_0);
+        }
+      }.value());
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("resume", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$return", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("name", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("findHandler", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("signal", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("passFrom", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("retry", 0);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("retry", 1);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("handlerFor", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector8);
+  /** class instance for Exception. **/
+  public static final mClass $class = new mClass(Exception.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Object currentHandler = (smalltalk.behavior.Object)Object.primitive.literalNil();
+
+  protected 
+  Object messageText = (smalltalk.behavior.Object)Object.primitive.literalNil();
+
+  protected 
+  Object tag = (smalltalk.behavior.Object)Object.primitive.literalNil();
+
+  protected 
+  Object resignalException = (smalltalk.behavior.Object)Object.primitive.literalNil();
+
+  protected 
+  Object resignalBlock = (smalltalk.behavior.Object)Object.primitive.literalNil();
+
+  protected 
+  Object signalEnvironment = (smalltalk.behavior.Object)Object.primitive.literalNil();
+
+  /**
+  * @return Object
+  */
+  public  Object environment() {
+    return (ExceptionHandler.$class.environmentForCurrentThread());
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object activeHandler() {
+    return (currentHandler);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object activeHandler(final Object handler) {
+    currentHandler = handler;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object exit(final Object value) {
+    if (Boolean.primitiveValue(this.isResumable())) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return Exception.this.resume(value);
+        }
+      }).value();
+    }
+    else {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return Exception.this.$return(value);
+        }
+      }).value();
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object resume() {
+    this.resume(Object.primitive.literalNil());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object resume(final Object value) {
+    if (!Boolean.primitiveValue(this.isResumable())) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return ControlError.$class.signal(primitive.StringFrom("Attempt to resume from a non-resumable exception"));
+        }
+      }).value();
+    }
+    $send0.perform_with(this.activeHandler(), value);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $return() {
+    this.$return(Object.primitive.literalNil());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $return(final Object value) {
+    $send1.perform_with(this.activeHandler(), value);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object defaultDescriptionString() {
+    return ($send2.perform(this.$class()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object description() {
+    Object[] text = { null };
+    text[0] = Exception.this.messageText();
+    return ((Boolean.primitiveValue(text[0].$is(Object.primitive.literalNil())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Exception.this.defaultDescriptionString();
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return text[0];
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object messageText() {
+    return (messageText);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object messageText(final Object aMessage) {
+    messageText = aMessage;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object tag() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (!Boolean.primitiveValue(tag.isNil())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            tag);
+          }
+        }).value();
+      }
+      if (!Boolean.primitiveValue(messageText.isNil())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            messageText);
+          }
+        }).value();
+      }
+      return (Object.primitive.literalNil());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object tag(final Object aTag) {
+    tag = aTag;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object activateHandler(final Object environment) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.resignalContinuation().$is(Object.primitive.literalNil()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return Exception.this.resignalContinuation(new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                throw new MethodExit($exitScope,
+                Exception.this.resignalContinuation());
+              }
+            });
+          }
+        }).value();
+      }
+      return ((Boolean.primitiveValue(environment.$is(Object.primitive.literalNil())) ? (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return Exception.this.defaultAction();
+        }
+      }).value() : (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send3.perform_with(environment, Exception.this);
+        }
+      }).value()));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object defaultAction() {
+    UnhandledException.$class.raise(this);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object abandonAction() {
+    UnhandledException.$class.raise(new UnresumableException());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object handle() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+     
+    Object result;
+    try {
+      result = Exception.this.activateHandler(Exception.this.environment());
+      if (Boolean.primitiveValue(result.$is(Exception.this.resignalContinuation()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            $send4.perform(Exception.this.replacementException()));
+          }
+        }).value();
+      }
+      if (!Boolean.primitiveValue(Exception.this.isResumable())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return Exception.this.abandonAction();
+          }
+        }).value();
+      }
+      return (result);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object outer() {
+    return ($send5.perform_with(this.activeHandler(), this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object pass() {
+    return (this.exit($send6.perform_with(this.activeHandler(), this)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object replacementException() {
+    return (resignalException);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object replacementException(final Object anException) {
+    resignalException = anException;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object resignalAs(final Object anException) {
+    this.replacementException(anException);
+    this.resignalContinuation().value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object resignalContinuation() {
+    return (resignalBlock);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object resignalContinuation(final Object aBlock) {
+    resignalBlock = aBlock;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object retry() {
+    $send7.perform(this.activeHandler());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object retryUsing(final Object aBlock) {
+    $send8.perform_with(this.activeHandler(), aBlock);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object signal() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.isActive())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ControlError.$class.signal(primitive.StringFrom("Signaling an already signaled exception")));
+          }
+        }).value();
+      }
+      this.signalEnvironment(this.environment());
+      return (this.handle());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object signal(final Object message) {
+    return (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        Exception.this.messageText(message);
+        return Exception.this.signal();
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object signalEnvironment() {
+    return (signalEnvironment);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object signalEnvironment(final Object exceptionEnvironment) {
+    signalEnvironment = exceptionEnvironment;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object isActive() {
+    return (this.activeHandler().$isnt(Object.primitive.literalNil()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isResumable() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isNested() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+     
+    Object handler;
+    try {
+      handler = Exception.this.activeHandler();
+      if (Boolean.primitiveValue(handler.isNil())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }).value();
+      }
+      return ($send9.perform_with(handler, Exception.this).notNil());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,569 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Handles an exception raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ExceptionHandler extends smalltalk.behavior.Object 
+{
+  /** Metaclass for ExceptionHandler. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+    private 
+    ThreadLocal handlerRegistry;
+
+    /**
+    * @return Object
+    */
+    public  Object handle_with_during(final Object exceptionClass, final Object handlerBlock, final Object aBlock) {
+      ExceptionHandler[] result = { null };
+      result[0] = ((ExceptionHandler)new ExceptionHandler());
+      return (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          result[0].exception(exceptionClass);
+          result[0].response(handlerBlock);
+          return result[0].activateDuring(aBlock);
+        }
+      }.value());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object initialize() {
+      this.initializeRegistry();
+      return (this);
+    }
+
+
+    /**
+    * @return Object
+    */
+    private  Object initializeRegistry()
+    {
+    			handlerRegistry = new ThreadLocal();
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object environmentForCurrentThread()
+    {
+    			Object result = (Object) handlerRegistry.get();
+    			if (result == null) {
+    				return primitive.literalNil();
+    			} else {
+    				return result;
+    			}
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object environment(final Object exceptionHandler)
+    {
+    			if (exceptionHandler == null || exceptionHandler == primitive.literalNil()) {
+    				handlerRegistry.remove();
+    			} else {
+    				handlerRegistry.set( exceptionHandler );
+    			}
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object retryToken() {
+      return (this);
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("environmentForCurrentThread", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("environment", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("retryToken", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("argumentCount", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("exception", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("handles", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("previous", 0);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("handle", 1);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("signalEnvironment", 0);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("defaultAction", 0);
+  private static final int $selector10 = smalltalk.behavior.SelectorTable.idOf("activeHandler", 1);
+  private static final int $selector11 = smalltalk.behavior.SelectorTable.idOf("isResumable", 0);
+  private static final int $selector12 = smalltalk.behavior.SelectorTable.idOf("value", 1);
+  private static final int $selector13 = smalltalk.behavior.SelectorTable.idOf("handle", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector12);
+  /** class instance for ExceptionHandler. **/
+  public static final mClass $class = new mClass(ExceptionHandler.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Object exception;
+
+  protected 
+  Object previous;
+
+  protected 
+  Object responseBlock;
+
+  protected 
+  ZeroArgumentBlock retryBlock;
+
+  protected 
+  Object continuation;
+
+  protected 
+  OneArgumentBlock resultContinuation;
+
+  /**
+  * @return Object
+  */
+  public  Object exception() {
+    return (exception);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object exception(final Object exceptionClass) {
+    exception = exceptionClass;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object environment() {
+    return ($send0.perform(this.$class()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object environment(final Object exceptionHandler) {
+    $send1.perform_with(this.$class(), exceptionHandler);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object previous() {
+    return (previous);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object previous(final Object aValue) {
+    previous = aValue;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object response() {
+    return (responseBlock);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object response(final Object aBlock) {
+    responseBlock = aBlock;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object activateDuring(final ZeroArgumentBlock aBlock) {
+    Object[] result = { null };
+
+    Object[] environment = { null };
+    result[0] = ((smalltalk.behavior.Object)Object.primitive.literalNil());
+    environment[0] = ExceptionHandler.this.environment();
+    ExceptionHandler.this.previous(environment[0]);
+    ExceptionHandler.this.retryBlock(aBlock);
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          ExceptionHandler.this.environment(ExceptionHandler.this);
+          while(Boolean.primitiveValue((new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              result[0] = ExceptionHandler.this.evaluateProtectedBlock(ExceptionHandler.this.retryBlock());
+              return result[0].$is($send2.perform(ExceptionHandler.this.$class()));
+            }
+          }).value())) {
+            ((new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                return Object.primitive.literalNil();
+              }
+            }).value()).value();
+          }
+          return Object.primitive.literalNil();
+        }
+        finally {
+          ExceptionHandler.this.environment(environment[0]);
+        }
+      }
+    }).value();
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object activateDuring(final Object aBlock) {
+    return (this.activateDuring(((ZeroArgumentBlock)aBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object evaluateProtectedBlock(final ZeroArgumentBlock aBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.continuation(new OneArgumentBlock()
+      {
+        @Override public Object value(final Object result)  {
+          throw new MethodExit($exitScope,
+          result);
+        }
+      });
+      return (aBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object evaluateProtectedBlock(final Object aBlock) {
+    return (this.evaluateProtectedBlock(((ZeroArgumentBlock)aBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object evaluateResponseBlock_with(final OneArgumentBlock aBlock, final Object anException) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.resultContinuation(new OneArgumentBlock()
+      {
+        @Override public Object value(final Object result)  {
+          throw new MethodExit($exitScope,
+          result);
+        }
+      });
+      return (aBlock.value(anException));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object evaluateResponseBlock_for(final Object aBlock, final Object anException) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue($send3.perform(aBlock).$equal(((SmallInteger)primitive.IntegerFrom(0))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            aBlock.value());
+          }
+        }).value();
+      }
+      else {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ExceptionHandler.this.evaluateResponseBlock_with(((OneArgumentBlock)aBlock), anException));
+          }
+        }).value();
+      }
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object handlerFor(final Object anException) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] handler = { null };
+
+    Object[] environment = { null };
+    try {
+      handler[0] = ((smalltalk.behavior.Object)ExceptionHandler.this);
+      environment[0] = ExceptionHandler.this.environment();
+      ExceptionHandler.this.environment(Object.primitive.literalNil());
+      while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return handler[0].isNil();
+        }
+      }).value())) {
+        ((new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            if (Boolean.primitiveValue($send5.perform_with($send4.perform(handler[0]), anException))) {
+              (new ZeroArgumentBlock()
+              {
+                @Override public Object value()  {
+                  ExceptionHandler.this.environment(environment[0]);
+                  throw new MethodExit($exitScope,
+                  handler[0]);
+                }
+              }).value();
+            }
+            handler[0] = $send6.perform(handler[0]);
+            return Object.primitive.literalNil();
+          }
+        }).value()).value();
+      }
+      return (Object.primitive.literalNil());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object findHandler(final Object anException) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+     
+    Object environment;
+
+    Object[] handler = { null };
+
+     
+    Object result;
+    try {
+      environment = ExceptionHandler.this.environment();
+      handler[0] = ExceptionHandler.this.handlerFor(anException);
+      if (!Boolean.primitiveValue(handler[0].isNil())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            $send7.perform_with(handler[0], anException));
+          }
+        }).value();
+      }
+      ExceptionHandler.this.environment($send8.perform(anException));
+      result = $send9.perform(anException);
+      ExceptionHandler.this.environment(environment);
+      return (result);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object handle(final Object anException) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] result = { null };
+
+    Object[] environment = { null };
+    try {
+      result[0] = ((smalltalk.behavior.Object)Object.primitive.literalNil());
+      environment[0] = ExceptionHandler.this.environment();
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            ExceptionHandler.this.environment(ExceptionHandler.this.previous());
+            $send10.perform_with(anException, ExceptionHandler.this);
+            result[0] = ExceptionHandler.this.evaluateResponseBlock_for(ExceptionHandler.this.response(), anException);
+            return Object.primitive.literalNil();
+          }
+          finally {
+            $send11.perform_with(anException, Object.primitive.literalNil());
+            ExceptionHandler.this.environment(environment[0]);
+          }
+        }
+      }).value();
+      if (Boolean.primitiveValue($send12.perform(anException))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            result[0]);
+          }
+        }).value();
+      }
+      $send13.perform_with(ExceptionHandler.this.continuation(), result[0]);
+      return (ExceptionHandler.this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object passFrom(final Object anException) {
+     
+    Object currentResultContinuation;
+
+     
+    Object result;
+    currentResultContinuation = ExceptionHandler.this.resultContinuation();
+    result = $send14.perform(anException);
+    $send15.perform_with(anException, ExceptionHandler.this);
+    ExceptionHandler.this.resultContinuation(currentResultContinuation);
+    return (result);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object retry() {
+    $send17.perform_with(this.continuation(), $send16.perform(this.$class()));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object retry(final Object aBlock) {
+    this.retryBlock(aBlock);
+    this.retry();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object retryBlock() {
+    return (retryBlock);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object retryBlock(final Object aBlock) {
+    retryBlock = ((ZeroArgumentBlock)aBlock);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object continuation() {
+    return (continuation);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object continuation(final Object aValue) {
+    continuation = aValue;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $return(final Object result) {
+    $send18.perform_with(this.continuation(), result);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object resultContinuation() {
+    return (resultContinuation);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object resultContinuation(final Object aBlock) {
+    resultContinuation = ((OneArgumentBlock)aBlock);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object resume(final Object result) {
+    $send19.perform_with(this.resultContinuation(), result);
+    return (this);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents a set of possible exceptions that can be raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ExceptionSet extends smalltalk.behavior.Object 
+{
+  /** Metaclass for ExceptionSet. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("exceptions", 0);
+    private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object with(final Object anException) {
+       
+      Object result;
+      result = ((smalltalk.behavior.Object)((ExceptionSet)ExceptionSet.mClass.this.$new()));
+      $send1.perform_with($send0.perform(result), anException);
+      return (result);
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("resolvedToClass", 0);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("handles", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("detect_ifNone", 2);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  /** class instance for ExceptionSet. **/
+  public static final mClass $class = new mClass(ExceptionSet.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Object exceptions = (smalltalk.behavior.Object)Object.primitive.literalNil();
+
+  /**
+  * @return Object
+  */
+  public  Object $append(final Object exceptionClass) {
+    $send0.perform_with(this.exceptions(), exceptionClass);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object setClass() {
+    return ($send1.perform(primitive.StringFrom("smalltalk.collection.Set")));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object exceptions() {
+    if (Boolean.primitiveValue(exceptions.$is(Object.primitive.literalNil()))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return exceptions = ((Behavior)ExceptionSet.this.setClass()).$new();
+        }
+      }).value();
+    }
+    return (exceptions);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object handles(final Object anException) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      $send3.perform_with_with(this.exceptions(), new OneArgumentBlock()
+      {
+        @Override public Object value(final Object exceptionClass)  {
+          return $send2.perform_with(exceptionClass, anException);
+        }
+      }, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          Object.primitive.literalFalse());
+        }
+      });
+      return (Object.primitive.literalTrue());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+}
\ No newline at end of file
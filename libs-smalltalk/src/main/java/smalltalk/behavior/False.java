@@ -0,0 +1,138 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Indicates falsity.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class False extends smalltalk.behavior.Boolean 
+{
+  /** Metaclass for False. */
+  public static  class mClass extends Boolean.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+    public 
+    Boolean literal;
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize()
+    {	literal = new False();
+    			return this;
+    		}
+  }
+
+  /** class instance for False. **/
+  public static final mClass $class = new mClass(False.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return boolean
+  */
+  @Override
+  public  boolean primitiveBoolean()
+  {	return false;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ifTrue(final ZeroArgumentBlock trueBlock) {
+    return (Object.primitive.literalNil());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ifTrue_ifFalse(final ZeroArgumentBlock trueBlock, final ZeroArgumentBlock falseBlock) {
+    return (Object.primitive.literalNil());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ifFalse(final ZeroArgumentBlock falseBlock) {
+    return (falseBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ifFalse_ifTrue(final ZeroArgumentBlock falseBlock, final ZeroArgumentBlock trueBlock) {
+    return (falseBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $and(final Object aBoolean) {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $or(final Object aBoolean) {
+    return (aBoolean);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object and(final ZeroArgumentBlock aBlock) {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object or(final ZeroArgumentBlock aBlock) {
+    return (aBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object not() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+    return (primitive.StringFrom("false"));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isLiteral() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
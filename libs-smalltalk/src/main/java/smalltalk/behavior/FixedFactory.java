@@ -0,0 +1,22 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior for creating fixed point decimal numbers.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface FixedFactory
+{
+  /** Metatype for FixedFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object FixedFrom(final java.lang.String fixedString);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
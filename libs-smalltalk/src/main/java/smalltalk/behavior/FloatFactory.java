@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior for converting between primitive floats and Floats.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface FloatFactory
+{
+  /** Metatype for FloatFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object FloatFrom(final float primitiveFloat);
+
+
+    /**
+    * @return float
+    */
+    public  float floatFrom(final Object aFloat);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
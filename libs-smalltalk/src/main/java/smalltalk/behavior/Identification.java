@@ -0,0 +1,52 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports basic identity and similarity comparisons between objects.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface Identification
+{
+  /** Metatype for Identification. */
+  public static  interface mClass
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Object anObject);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $is(final Object anObject);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $notEqual(final Object anObject);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $isnt(final Object anObject);
+
+
+  /**
+  * @return Object
+  */
+  public  Object hash();
+
+
+  /**
+  * @return Object
+  */
+  public  Object identityHash();
+}
\ No newline at end of file
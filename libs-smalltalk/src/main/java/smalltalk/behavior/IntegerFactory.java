@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior for converting between primitive integers and SmallIntegers.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface IntegerFactory
+{
+  /** Metatype for IntegerFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object IntegerFrom(final int primitiveInteger);
+
+
+    /**
+    * @return int
+    */
+    public  int intFrom(final Object anInteger);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
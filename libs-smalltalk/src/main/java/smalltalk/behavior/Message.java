@@ -0,0 +1,49 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents a Smalltalk message, including the selector and message arguments.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Message extends smalltalk.behavior.Object 
+{
+  /** Metaclass for Message. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for Message. **/
+  public static final mClass $class = new mClass(Message.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.lang.String selector;
+
+  protected 
+  Object[] arguments;
+
+  /**
+  * @return 
+  */
+  public   Message(final java.lang.String methodSelector, final Object[] methodArguments) {
+    selector = methodSelector;
+    arguments = methodArguments;
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object selector() {
+    return (primitive.SymbolFrom(selector));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object arguments() {
+    return (primitive.ArrayFrom(arguments));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents an unresolved message raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class MessageNotUnderstood extends smalltalk.behavior.ControlError 
+{
+  /** Metaclass for MessageNotUnderstood. */
+  public static  class mClass extends ControlError.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for MessageNotUnderstood. **/
+  public static final mClass $class = new mClass(MessageNotUnderstood.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  MessageSend message;
+
+  /**
+  * @return 
+  */
+  public   MessageNotUnderstood(final Object messageSend) {
+    message = ((MessageSend)messageSend);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object message() {
+    return (message);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object receiver() {
+    return (message.receiver());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isResumable() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
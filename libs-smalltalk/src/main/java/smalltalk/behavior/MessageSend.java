@@ -0,0 +1,114 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents a Smalltalk message, including the selector and message arguments.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class MessageSend extends smalltalk.behavior.Message 
+{
+  /** Metaclass for MessageSend. */
+  public static  class mClass extends Message.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for MessageSend. **/
+  public static final mClass $class = new mClass(MessageSend.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Object receiver;
+
+  /**
+  * @return 
+  */
+  public   MessageSend(final Object aReceiver, final java.lang.String methodSelector, final Object[] methodArguments) {
+    super(methodSelector, methodArguments);
+    receiver = aReceiver;
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object receiver() {
+    return (receiver);
+  }
+
+
+  /**
+  * @return java.lang.reflect.Constructor
+  */
+  protected  java.lang.reflect.Constructor receiverConstructor()
+  {
+  		return ((Behavior) receiver).methodDictionary
+  			.constructorFor( arguments.length );
+  	}
+
+
+  /**
+  * @return java.lang.reflect.Method
+  */
+  protected  java.lang.reflect.Method receiverMethod()
+  {
+  		return receiver.$class().methodDictionary
+  			.methodNamed( selector, arguments.length );
+  	}
+
+
+  /**
+  * @return java.lang.RuntimeException
+  */
+  protected static  java.lang.RuntimeException appropriated(final java.lang.Throwable exception)
+  {
+  		if (exception instanceof MethodExit) {
+  			return (MethodExit) exception;
+  		}
+  		if (exception instanceof UnhandledJavaException) {
+  			return (UnhandledJavaException) exception;
+  		}
+  		return new UnhandledJavaException( exception );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform()
+  {
+  		try {
+  			java.lang.reflect.Method m = receiverMethod();
+  			if (m == null) return receiver.doesNotUnderstand( this );
+  			return (Object) m.invoke( receiver, (java.lang.Object[]) arguments );
+  		} catch( IllegalAccessException e ) {
+  			throw appropriated( e );
+  		} catch( java.lang.reflect.InvocationTargetException e ) {
+  			throw appropriated( e.getTargetException() );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object construct()
+  {
+  		int count = arguments.length;
+  		try {
+  			if (arguments.length == 0) {
+  				return (Object)((Behavior) receiver)
+  					.primitiveClass().newInstance();
+  			}
+  			java.lang.reflect.Constructor c = receiverConstructor();
+  			if (c == null) return receiver.doesNotUnderstand( this );
+  			return (Object) c.newInstance( (java.lang.Object[]) arguments );
+  		} catch( InstantiationException e ) {
+  			throw appropriated( e );
+  		} catch( IllegalAccessException e ) {
+  			throw appropriated( e );
+  		} catch( java.lang.reflect.InvocationTargetException e ) {
+  			throw appropriated( e.getTargetException() );
+  		}
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package smalltalk.behavior;
+import smalltalk.Smalltalk;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports metabehavior for classes.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Metaclass extends smalltalk.behavior.ClassDescription 
+{
+  /** Metaclass for Metaclass. */
+  public static  class mClass extends ClassDescription.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new()
+    {	return new Metaclass();
+    		}
+  }
+
+  /** class instance for Metaclass. **/
+  public static final mClass $class = new mClass(Metaclass.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Class instanceClass;
+
+  /**
+  * @return 
+  */
+  public   Metaclass(final Class aClass)
+  {	super();
+  		instanceClass = aClass;
+  		if (aClass != null) {
+  			methodDictionary = new MethodCache( instanceClass.getClass() );
+  		}
+  	}
+
+
+  /**
+  * @return 
+  */
+  public   Metaclass()
+  {	this( null ); // keep the compiler happy
+  	}
+
+
+  /**
+  * @return java.lang.Class
+  */
+  @Override
+  public  java.lang.Class primitiveClass()
+  {	return instanceClass.primitiveClass();
+  	}
+
+
+  /**
+  * @return Behavior
+  */
+  @Override
+  public  Behavior superclass()
+  {
+  		java.lang.Class aClass = primitiveClass().getSuperclass();
+  		if (aClass == java.lang.Object.class) {
+  			return Class.$class;
+  		}
+  		Behavior aBehavior = (Behavior) Smalltalk.classRegistry.get( aClass );
+  		return( aBehavior == null ? null : aBehavior.$class() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object name()
+  {
+  		return primitive.StringFrom( primitiveClass().getName() + " class " );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object instanceClass() {
+    return (instanceClass);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isMetaclass() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Indicates that the VM was unable to access a method dynamically.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class MethodAccessException extends RuntimeException 
+{
+
+
+  /**
+  * @return 
+  */
+  public   MethodAccessException()
+  {
+  		super();
+  	}
+
+
+  /**
+  * @return 
+  */
+  public   MethodAccessException(final java.lang.String message)
+  {
+  		super( message );
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,375 @@
+package smalltalk.behavior;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.lang.Class;
+import java.lang.reflect.Method;
+import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import smalltalk.behavior.Object;
+import smalltalk.Name;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Maintains a cache of references to compiled Java methods, and
+provides access to methods by name (and argument types).
+The cached methods reside in an open-addressed table keyed by interned selector ids.
+Lookups read the published table without locking, and misses publish a revised copy.
+Misses resolve methods with stateless helpers, so they need no locks either.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class MethodCache
+{
+
+  protected static 
+  java.lang.String ifAbsent = ":ifAbsent:";
+
+  protected static 
+  int initialCapacity = 16;
+
+  protected 
+  AtomicReference table;
+
+  protected 
+  Class cacheClass;
+
+  /**
+  * @return Class
+  */
+  protected static  Class blockClass(final int blockArgumentCount)
+  {
+  		switch( blockArgumentCount ) {
+  			case 0: return ZeroArgumentBlock.class;
+  			case 1: return OneArgumentBlock.class;
+  			default: return TwoArgumentBlock.class;
+  		}
+  	}
+
+
+  /**
+  * @return Class[]
+  */
+  protected static  Class[] classesWithBlock(final int methodArgumentCount, final int blockArgumentCount)
+  {
+  		Class result[] = objectClasses( methodArgumentCount );
+  		result[ methodArgumentCount - 1 ] = blockClass( blockArgumentCount );
+  		return result;
+  	}
+
+
+  /**
+  * @return Class[]
+  */
+  protected static  Class[] objectClasses(final int argumentCount)
+  {
+  		Class result[] = new Class[ argumentCount ];
+  		for( int i = 0; i < argumentCount; i++ ) result[i] = Object.class;
+  		return result;
+  	}
+
+
+  /**
+  * @return Class[]
+  */
+  protected static  Class[] specialSelector(final java.lang.String methodName)
+  {
+  		switch( methodName ) {
+  			case "do:":
+  			case "detect:":
+  			case "select:":
+  			case "reject:":
+  			case "collect:":
+  				return classesWithBlock( 1, 1 );
+
+  			case "to:do:":
+  				return classesWithBlock( 2, 1 );
+
+  			case "from:to:do:":
+  			case "to:by:do:":
+  				return classesWithBlock( 3, 1 );
+
+  			case "inject:into:":
+  				return classesWithBlock( 2, 2 );
+
+  			case "or:":
+  			case "and:":
+  			case "whileTrue:":
+  			case "whileFalse:":
+  			case "ensure:":
+  			case "ifCurtailed:":
+  				return classesWithBlock( 1, 0 );
+
+  			default:
+  				return null;
+  		}
+  	}
+
+
+  /**
+  * @return int
+  */
+  protected static  int probe(final int selectorId, final int mask)
+  {
+  		int hash = selectorId * 0x9E3779B9;
+  		return (hash ^ (hash >>> 16)) & mask;
+  	}
+
+
+  /**
+  * @return MethodEntry
+  */
+  protected static  MethodEntry entryAt(final int selectorId, final MethodEntry[] entries)
+  {
+  		int mask = entries.length - 1;
+  		for( int i = probe( selectorId, mask ); ; i = (i + 1) & mask ) {
+  			MethodEntry entry = entries[i];
+  			if (entry == null || entry.selectorId == selectorId) return entry;
+  		}
+  	}
+
+
+  /**
+  * @return 
+  */
+  public   MethodCache(final Class aClass)
+  {
+  		table = new AtomicReference( new MethodEntry[ initialCapacity ] );
+  		cacheClass = aClass;
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void flush()
+  {
+  		table.set( new MethodEntry[ initialCapacity ] );
+  		SendSite.invalidateAll();
+  	}
+
+
+  /**
+  * @return MethodEntry
+  */
+  public final  MethodEntry entryAt(final int selectorId)
+  {
+  		MethodEntry entry = entryAt( selectorId, (MethodEntry[]) table.get() );
+  		if (entry != null) return entry;
+  		return publish( new MethodEntry( selectorId, resolve( selectorId ) ) );
+  	}
+
+
+  /**
+  * @return MethodEntry
+  */
+  protected  MethodEntry publish(final MethodEntry entry)
+  {
+  		while (true) {
+  			MethodEntry[] entries = (MethodEntry[]) table.get();
+  			MethodEntry found = entryAt( entry.selectorId, entries );
+  			if (found != null) return found;
+
+  			int count = 1;
+  			for( int i = 0; i < entries.length; i++ ) {
+  				if (entries[i] != null) count++;
+  			}
+
+  			// keep the table at most half full
+  			int capacity = entries.length;
+  			while (count * 2 > capacity) capacity *= 2;
+
+  			MethodEntry[] revision = new MethodEntry[ capacity ];
+  			int mask = capacity - 1;
+  			for( int i = 0; i < entries.length; i++ ) {
+  				if (entries[i] != null) insert( entries[i], revision, mask );
+  			}
+  			insert( entry, revision, mask );
+  			if (table.compareAndSet( entries, revision )) return entry;
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  protected static  void insert(final MethodEntry entry, final MethodEntry[] entries, final int mask)
+  {
+  		int i = probe( entry.selectorId, mask );
+  		while (entries[i] != null) i = (i + 1) & mask;
+  		entries[i] = entry;
+  	}
+
+
+  /**
+  * @return Method
+  */
+  protected  Method resolve(final int selectorId)
+  {
+  		java.lang.String selector = SelectorTable.selectorAt( selectorId );
+  		java.lang.String methodName = SelectorTable.methodNameAt( selectorId );
+  		int argumentCount = SelectorTable.arityAt( selectorId );
+
+  		// check special selectors for argument classes
+  		Class arguments[] = specialSelector( selector );
+
+  		// determine method argument classes
+  		if (arguments == null) {
+  			if (selector.endsWith( ifAbsent )) {
+  				arguments = classesWithBlock( argumentCount, 1 );
+  			} else {
+  				arguments = objectClasses( argumentCount );
+  			}
+  		}
+
+  		// find the method
+  		try {
+  			return cacheClass.getMethod( methodName, arguments );
+  		} catch( NoSuchMethodException e ) {
+  			System.err.println(
+  				cacheClass.getName() + " does not understand " + selector +
+  				" with " + argumentCount + " argument(s)"
+  			);
+  			return null;
+  		}
+  	}
+
+
+  /**
+  * @return Method
+  */
+  public final  Method methodNamed(final java.lang.String selector, final int argumentCount)
+  {
+  		return entryAt( SelectorTable.idOf( selector, argumentCount ) ).method();
+  	}
+
+
+  /**
+  * @return MethodHandle
+  */
+  public final  MethodHandle handleAt(final int selectorId)
+  {
+  		return entryAt( selectorId ).handle();
+  	}
+
+
+  /**
+  * @return Constructor
+  */
+  public final  Constructor constructorFor(final int argumentCount)
+  {
+  		Class arguments[] = objectClasses( argumentCount );
+  		try {
+  			return cacheClass.getConstructor( arguments );
+  		} catch( NoSuchMethodException e ) {
+  			System.err.println(
+  				cacheClass.getName() + " does not construct with " +
+  				argumentCount + " argument(s)"
+  			);
+  			return null;
+  		}
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  protected  boolean qualifiesAsSpecial(final java.lang.String methodName, final Class[] types)
+  {
+  		Class[] arguments = specialSelector( methodName );
+  		if (arguments == null) return false;
+  		if (types.length != arguments.length) return false;
+  		for( int t = 0; t < types.length; t++ ) {
+  			if (types[t] != arguments[t]) return false;
+  		}
+  		return true;
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  protected  boolean qualifiesAsAbsentia(final java.lang.String methodName, final Class[] types)
+  {
+  		if (!methodName.endsWith( ifAbsent )) return false;
+  		Class[] arguments = classesWithBlock( types.length, 1 );
+  		for( int i = 0; i < types.length; i++ ) {
+  			if (types[i] != arguments[i]) return false;
+  		}
+  		return true;
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  protected  boolean qualifiesAsNormal(final java.lang.String methodName, final Class[] types)
+  {
+  		for( int t = 0; t < types.length; t++ ) {
+  			if (types[t] != Object.class) return false;
+  		}
+  		return true;
+  	}
+
+
+  /**
+  * @return HashSet
+  */
+  protected  HashSet collect_into(final Method[] methods, final HashSet result)
+  {
+  		for( int m = 0; m < methods.length; m++ ) {
+  			Method method = methods[m];
+  			Class[] types = method.getParameterTypes();
+  			java.lang.String methodName = Name.from( method.getName(), types.length );
+  			if (qualifiesAsSpecial( methodName, types )
+  			||  qualifiesAsAbsentia( methodName, types )
+  			||  qualifiesAsNormal( methodName, types )) {
+  				result.add( methodName );
+  			}
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return HashSet
+  */
+  protected  HashSet loadAllMethods()
+  {
+  		return collect_into( cacheClass.getMethods(), new HashSet() );
+  	}
+
+
+  /**
+  * @return HashSet
+  */
+  protected  HashSet loadMethods()
+  {
+  		return collect_into( cacheClass.getDeclaredMethods(), new HashSet() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object allSelectors()
+  {
+  		java.lang.String[] selectors = (java.lang.String[])loadAllMethods().toArray( new java.lang.String[0] );
+  		Object[] result = new Object[ selectors.length ];
+  		for( int i = 0; i < selectors.length; i++ ) {
+  			result[i] = Object.primitive.SymbolFrom( selectors[i] );
+  		}
+  		return Object.primitive.ArrayFrom( result );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object selectors()
+  {
+  		java.lang.String[] selectors = (java.lang.String[])loadMethods().toArray( new java.lang.String[0] );
+  		Object[] result = new Object[ selectors.length ];
+  		for( int i = 0; i < selectors.length; i++ ) {
+  			result[i] = Object.primitive.SymbolFrom( selectors[i] );
+  		}
+  		return Object.primitive.ArrayFrom( result );
+  	}
+}
\ No newline at end of file
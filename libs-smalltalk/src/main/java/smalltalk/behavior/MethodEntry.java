@@ -0,0 +1,53 @@
+package smalltalk.behavior;
+import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Holds a method resolved by a MethodCache for an interned selector. An entry without a method
+records a selector not understood by the cached class.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class MethodEntry
+{
+
+  protected final 
+  int selectorId;
+
+  protected final 
+  Method method;
+
+  protected 
+  MethodHandle handle;
+
+  /**
+  * @return 
+  */
+  public   MethodEntry(final int id, final Method aMethod)
+  {
+  		selectorId = id;
+  		method = aMethod;
+  	}
+
+
+  /**
+  * @return Method
+  */
+  public  Method method()
+  {
+  		return method;
+  	}
+
+
+  /**
+  * @return MethodHandle
+  */
+  public  MethodHandle handle()
+  {
+  		if (method == null) return null;
+  		if (handle == null) {
+  			// racing threads build equivalent handles
+  			handle = SendSite.handleOn( method, SelectorTable.arityAt( selectorId ) );
+  		}
+  		return handle;
+  	}
+}
\ No newline at end of file
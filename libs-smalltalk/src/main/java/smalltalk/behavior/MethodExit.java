@@ -0,0 +1,53 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Passes an object value directly out of a method scope. Each exit identifies the activation
+it exits, rather than the method name, so that a recursive method returns from the right one.
+An exit records no stack trace, which makes it cost little more than an ordinary return.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class MethodExit extends RuntimeException 
+{
+
+  protected 
+  java.lang.Object scope;
+
+  protected 
+  Object value;
+
+  /**
+  * @return 
+  */
+  public   MethodExit(final java.lang.Object scopeID, final Object exitValue)
+  {
+  		super( null, null, false, false );
+  		scope = scopeID;
+  		value = exitValue;
+  	}
+
+
+  /**
+  * @return java.lang.Object
+  */
+  public  java.lang.Object scopeID() {
+    return (scope);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object exitValue() {
+    return (value);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object exitOn(final java.lang.Object scopeID)
+  {
+  		if (scope == scopeID) return value;
+  		throw this;
+  	}
+}
\ No newline at end of file
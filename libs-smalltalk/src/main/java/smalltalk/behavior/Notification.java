@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents a notification raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Notification extends smalltalk.behavior.Exception 
+{
+  /** Metaclass for Notification. */
+  public static  class mClass extends Exception.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for Notification. **/
+  public static final mClass $class = new mClass(Notification.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isResumable() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,698 @@
+package smalltalk.behavior;
+import java.lang.reflect.*;
+import java.io.*;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Object is the base of the Smalltalk class hierarchy. It defines many basic
+object operations. The Object metaclass provides facilities for accessing and
+creating the various primitive object types, including nil (UndefinedObject),
+true and false (Boolean), and instances of Character, SmallInteger, Float,
+and String.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Object
+  implements java.lang.Cloneable, java.io.Serializable
+{
+  /** Metaclass for Object. */
+  public static  class mClass extends smalltalk.behavior.Class 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object isNull(final java.lang.Object elementaryObject)
+    {
+    			return primitive.BooleanFrom( elementaryObject == null );
+    		}
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("resolvedToClass", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("key_value", 2);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("name", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("first", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("isVowel", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("nextPutAll", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("$append", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("inheritsFrom", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector7);
+  /** class instance for Object. **/
+  public static final mClass $class = new mClass(Object.class);
+  public Behavior $class() { return $class; }
+  public static 
+  PrimitiveFactory primitive = (PrimitiveFactory)PrimitiveFactory.$class.initialize();
+
+  /**
+  * @return 
+  */
+  public   Object() {
+  }
+
+
+  /**
+  * @return Object
+  */
+  public synchronized  Object acquireMonitorDuring(final ZeroArgumentBlock aBlock)
+  {
+  		return aBlock.value();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public synchronized  Object awakenAllWaitingThreads()
+  {
+  		notifyAll();
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public synchronized  Object awakenWaitingThread()
+  {
+  		notify();
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public synchronized  Object waitForChange_ifInterrupted(final Object duration, final ZeroArgumentBlock aBlock)
+  {
+  		try {
+  			// SmallInteger is not yet defined
+  			// Use hashCode to get the primitive duration
+  			wait( duration.hashCode() );
+  		} catch( InterruptedException e ) {
+  			aBlock.value();
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public synchronized  Object waitForChangeIfInterrupted(final ZeroArgumentBlock aBlock)
+  {
+  		try {
+  			wait();
+  		} catch( InterruptedException e ) {
+  			aBlock.value();
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object acquireMonitorDuring(final Object aBlock) {
+    this.acquireMonitorDuring(((ZeroArgumentBlock)aBlock));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object waitForChange_ifInterrupted(final Object duration, final Object aBlock) {
+    this.waitForChange_ifInterrupted(duration, ((ZeroArgumentBlock)aBlock));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object waitForChangeIfInterrupted(final Object aBlock) {
+    this.waitForChangeIfInterrupted(((ZeroArgumentBlock)aBlock));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object value() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object yourself() {
+    return (this);
+  }
+
+
+  /**
+  * @return smalltalk.behavior.Behavior
+  */
+  public  smalltalk.behavior.Behavior species() {
+    return (this.$class());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $associateWith(final Object anObject) {
+    return ($send1.perform_with_with($send0.perform(primitive.StringFrom("smalltalk.magnitude.Association")), this, anObject));
+  }
+
+
+  /**
+  * @return boolean
+  */
+  @Override
+  public  boolean equals(final java.lang.Object anObject)
+  {	try {
+  			Object o = (Object) anObject;
+  			return primitive.booleanFrom( o.$equal( this ) );
+  		} catch( java.lang.ClassCastException e ) {
+  			return false;
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Object anObject) {
+    return (this.$is(anObject));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $is(final Object anObject)
+  {	return primitive.BooleanFrom( this == anObject );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $notEqual(final Object anObject) {
+    return (this.$equal(anObject).$is(Object.primitive.literalFalse()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $isnt(final Object anObject) {
+    return (this.$is(anObject).$is(Object.primitive.literalFalse()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object hash()
+  {	return primitive.IntegerFrom( hashCode() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object identityHash()
+  {	// primitive hashCode provides identity hash contract
+  		// see java.lang.Object hashCode()
+  		return primitive.IntegerFrom( hashCode() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object copy() {
+    return (this.shallowCopy());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object deepCopy()
+  {
+  		// use java streams to copy an object graph.
+  		int BUFFER_SIZE = 1024;
+  		ByteArrayOutputStream bStream = null;
+  		ObjectOutputStream oStream = null;
+  		try {
+  			bStream = new ByteArrayOutputStream( BUFFER_SIZE );
+  			oStream = new ObjectOutputStream( bStream );
+  			oStream.writeObject( this );
+  			oStream.close();
+  		} catch( java.lang.Exception e ) {
+  			UnhandledJavaException.$class.raise( e );
+  		}
+  		byte[] bytes = bStream.toByteArray();
+  		Object result = null;
+  		ObjectInputStream iStream = null;
+  		try {
+  			ByteArrayInputStream aStream = new ByteArrayInputStream( bytes );
+  			iStream = new ObjectInputStream( aStream );
+  			result = (Object) iStream.readObject();
+  			iStream.close();
+  		} catch( java.lang.Exception e ) {
+  			UnhandledJavaException.$class.raise( e );
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object shallowCopy()
+  {	try {
+  			return (Object) this.clone();
+  		} catch( CloneNotSupportedException e ) {
+  			e.printStackTrace(); // should never happen
+  			return null;
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $do(final OneArgumentBlock aBlock) {
+    return (aBlock.value(this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_withArguments(final java.lang.String selector, final Object[] arguments) {
+    return (new MessageSend(this, selector, arguments).perform());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_withArguments(final Object selector, final Object[] arguments) {
+    return (this.perform_withArguments(primitive.symbolFrom(selector), arguments));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with_with_with(final java.lang.String selector, final Object firstArgument, final Object secondArgument, final Object thirdArgument, final Object fourthArgument)
+  {	return SendSite.send_to_with_with_with_with( SelectorTable.idOf( selector, 4 ),
+  			this, firstArgument, secondArgument, thirdArgument, fourthArgument );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with_with_with(final Object selector, final Object firstArgument, final Object secondArgument, final Object thirdArgument, final Object fourthArgument)
+  {	return perform_with_with_with_with( primitive.symbolFrom( selector ),
+  			firstArgument, secondArgument, thirdArgument, fourthArgument );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with_with(final java.lang.String selector, final Object firstArgument, final Object secondArgument, final Object thirdArgument)
+  {	return SendSite.send_to_with_with_with( SelectorTable.idOf( selector, 3 ),
+  			this, firstArgument, secondArgument, thirdArgument );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with_with(final Object selector, final Object firstArgument, final Object secondArgument, final Object thirdArgument)
+  {	return perform_with_with_with( primitive.symbolFrom( selector ),
+  			firstArgument, secondArgument, thirdArgument );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with(final java.lang.String selector, final Object firstArgument, final Object secondArgument)
+  {	return SendSite.send_to_with_with( SelectorTable.idOf( selector, 2 ),
+  			this, firstArgument, secondArgument );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with(final Object selector, final Object firstArgument, final Object secondArgument)
+  {	return perform_with_with( primitive.symbolFrom( selector ), firstArgument, secondArgument );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with(final java.lang.String selector, final Object argument)
+  {	return SendSite.send_to_with( SelectorTable.idOf( selector, 1 ), this, argument );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with(final Object selector, final Object argument)
+  {	return perform_with( primitive.symbolFrom( selector ), argument );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform(final java.lang.String selector)
+  {	return SendSite.send_to( SelectorTable.idOf( selector, 0 ), this );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform(final Object selector)
+  {	return perform( primitive.symbolFrom( selector ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object printOn(final Object aStream) {
+     
+    Object title;
+
+     
+    Object prefix;
+    title = $send2.perform(Object.this.$class());
+    prefix = (Boolean.primitiveValue($send4.perform($send3.perform(title))) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return primitive.StringFrom("an ");
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return primitive.StringFrom("a ");
+      }
+    }).value());
+    $send5.perform_with(aStream, prefix);
+    $send6.perform_with(aStream, title);;
+    return (Object.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object printString() {
+     
+    Object title;
+
+     
+    Object prefix;
+    title = $send7.perform(Object.this.$class());
+    prefix = (Boolean.primitiveValue($send9.perform($send8.perform(title))) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return primitive.StringFrom("an ");
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return primitive.StringFrom("a ");
+      }
+    }).value());
+    return ($send10.perform_with(prefix, title));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object printTerm() {
+    return ($send12.perform_with($send11.perform_with(primitive.StringFrom("( "), this.printString()), primitive.StringFrom(" )")));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object doesNotUnderstand(final Object message) {
+    return (new MessageNotUnderstood(message).signal());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object error(final Object aString)
+  {	System.err.println( primitive.stringFrom( aString ) );
+  		if (true) throw new IllegalStateException( primitive.stringFrom( aString ) );
+  		return this; // keep the compiler happy
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object invalidMessage() {
+    this.error(primitive.StringFrom("An unsupported message was sent to this object"));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifNil(final ZeroArgumentBlock nilBlock) {
+    return (Object.primitive.literalNil());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifNil_ifExtant(final ZeroArgumentBlock nilBlock, final ZeroArgumentBlock extantBlock) {
+    return (extantBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifExtant(final ZeroArgumentBlock extantBlock) {
+    return (extantBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifExtant_ifNil(final ZeroArgumentBlock extantBlock, final ZeroArgumentBlock nilBlock) {
+    return (extantBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifNil(final Object nilBlock) {
+    return (this.ifNil(((ZeroArgumentBlock)nilBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifNil_ifExtant(final Object nilBlock, final Object extantBlock) {
+    return (this.ifNil_ifExtant(((ZeroArgumentBlock)nilBlock), ((ZeroArgumentBlock)extantBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifExtant(final Object extantBlock) {
+    return (this.ifExtant(((ZeroArgumentBlock)extantBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifExtant_ifNil(final Object extantBlock, final Object nilBlock) {
+    return (this.ifExtant_ifNil(((ZeroArgumentBlock)extantBlock), ((ZeroArgumentBlock)nilBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isArray() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isBehavior() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isBoolean() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isCharacter() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isClass() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isCollection() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isFloat() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isInteger() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isLiteral() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isKindOf(final Object candidateClass) {
+    return ($send13.perform_with(this.$class(), candidateClass));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isMemberOf(final Object candidateClass) {
+    return (this.$class().$is(candidateClass));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isMetaclass() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isNil() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isSmallInteger() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isString() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object notNil() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object respondsTo(final Object selector)
+  {	return primitive.BooleanFrom(
+  			primitive.methodNamed( selector, $class(), 0 ) != null
+  		);
+  	}
+}
\ No newline at end of file
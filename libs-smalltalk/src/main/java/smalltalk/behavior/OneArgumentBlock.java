@@ -0,0 +1,56 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports the instantiation and evaluation of blocks with one argument.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class OneArgumentBlock extends smalltalk.behavior.BlockClosure 
+{
+  /** Metaclass for OneArgumentBlock. */
+  public static  class mClass extends BlockClosure.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for OneArgumentBlock. **/
+  public static final mClass $class = new mClass(OneArgumentBlock.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object argumentCount() {
+    return (((SmallInteger)primitive.IntegerFrom(1)));
+  }
+
+
+  /**
+  * @return OneArgumentBlock
+  */
+  public static  OneArgumentBlock from(final OneArgumentFunction function)
+  {	return new OneArgumentBlock() {
+  			@Override public Object value(final Object anObject) {
+  				return function.value( anObject );
+  			}
+  		};
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object value(final Object anObject) {
+    return (Object.primitive.literalNil());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object value(final java.lang.Throwable exception) {
+    return (Object.primitive.literalNil());
+  }
+}
\ No newline at end of file
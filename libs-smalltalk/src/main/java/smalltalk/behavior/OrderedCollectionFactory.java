@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior for converting between primitive arrays and OrderedCollections.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface OrderedCollectionFactory
+{
+  /** Metatype for OrderedCollectionFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object OrderedCollectionFrom(final Object[] primitiveArray);
+
+
+    /**
+    * @return Object[]
+    */
+    public  Object[] arrayedCollectionFrom(final Object anOrderedCollection);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
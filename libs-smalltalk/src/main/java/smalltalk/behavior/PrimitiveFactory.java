@@ -0,0 +1,542 @@
+package smalltalk.behavior;
+import smalltalk.Smalltalk;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Boolean;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Provides utilities for instantiating new objects, accessing primitive
+singletons (e.g., nil), and dynamic method resolution.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class PrimitiveFactory
+  implements BooleanFactory.mClass, CharacterFactory.mClass, IntegerFactory.mClass, FixedFactory.mClass, FloatFactory.mClass, DoubleFactory.mClass, StringFactory.mClass, SymbolFactory.mClass, ArrayFactory.mClass, OrderedCollectionFactory.mClass
+{
+
+  public static 
+  boolean initialized = false;
+
+  public static final 
+  PrimitiveFactory $class = (PrimitiveFactory)new PrimitiveFactory();
+
+  private 
+  UndefinedObject literalNil;
+
+  private 
+  Boolean literalTrue;
+
+  private 
+  Boolean literalFalse;
+
+  private 
+  BooleanFactory.mClass factoryForBoolean;
+
+  private 
+  CharacterFactory.mClass factoryForCharacter;
+
+  private 
+  IntegerFactory.mClass factoryForInteger;
+
+  private 
+  FixedFactory.mClass factoryForFixed;
+
+  private 
+  FloatFactory.mClass factoryForFloat;
+
+  private 
+  DoubleFactory.mClass factoryForDouble;
+
+  private 
+  StringFactory.mClass factoryForString;
+
+  private 
+  SymbolFactory.mClass factoryForSymbol;
+
+  private 
+  ArrayFactory.mClass factoryForArray;
+
+  private 
+  OrderedCollectionFactory.mClass factoryForOrderedCollection;
+
+  /**
+  * @return 
+  */
+  protected   PrimitiveFactory()
+  {
+  		Object.primitive = this;
+  	}
+
+
+  /**
+  * @return PrimitiveFactory
+  */
+  public  PrimitiveFactory initialize()
+  {
+  		if (Smalltalk.running) {
+  			literalNil();
+  			literalTrue();
+  			literalFalse();
+  			factoryForBoolean();
+  			factoryForCharacter();
+  			factoryForInteger();
+  			factoryForFixed();
+  			factoryForFloat();
+  			factoryForDouble();
+  			factoryForString();
+  			factoryForSymbol();
+  			factoryForArray();
+  			factoryForOrderedCollection();
+  			initialized = true;
+  			Metaclass.$class.$class().initialize();
+  			Metaclass.$class.initialize();
+  			Class.$class.$class().initialize();
+  			Class.$class.initialize();
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return BooleanFactory.mClass
+  */
+  private  BooleanFactory.mClass factoryForBoolean()
+  {
+  		if (factoryForBoolean == null) {
+  			factoryForBoolean = (BooleanFactory.mClass)
+  				classFrom( "smalltalk.behavior.Boolean" );
+  		}
+  		return factoryForBoolean;
+  	}
+
+
+  /**
+  * @return CharacterFactory.mClass
+  */
+  private  CharacterFactory.mClass factoryForCharacter()
+  {
+  		if (factoryForCharacter == null) {
+  			factoryForCharacter = (CharacterFactory.mClass)
+  				classFrom( "smalltalk.magnitude.Character" );
+  		}
+  		return factoryForCharacter;
+  	}
+
+
+  /**
+  * @return IntegerFactory.mClass
+  */
+  private  IntegerFactory.mClass factoryForInteger()
+  {
+  		if (factoryForInteger == null) {
+  			factoryForInteger = (IntegerFactory.mClass)
+  				classFrom( "smalltalk.magnitude.SmallInteger" );
+  		}
+  		return factoryForInteger;
+  	}
+
+
+  /**
+  * @return FixedFactory.mClass
+  */
+  private  FixedFactory.mClass factoryForFixed()
+  {
+  		if (factoryForFixed == null) {
+  			factoryForFixed = (FixedFactory.mClass)
+  				classFrom( "smalltalk.magnitude.Fixed" );
+  		}
+  		return factoryForFixed;
+  	}
+
+
+  /**
+  * @return FloatFactory.mClass
+  */
+  private  FloatFactory.mClass factoryForFloat()
+  {
+  		if (factoryForFloat == null) {
+  			factoryForFloat = (FloatFactory.mClass)
+  				classFrom( "smalltalk.magnitude.Float" );
+  		}
+  		return factoryForFloat;
+  	}
+
+
+  /**
+  * @return DoubleFactory.mClass
+  */
+  private  DoubleFactory.mClass factoryForDouble()
+  {
+  		if (factoryForDouble == null) {
+  			factoryForDouble = (DoubleFactory.mClass)
+  				classFrom( "smalltalk.magnitude.Double" );
+  		}
+  		return factoryForDouble;
+  	}
+
+
+  /**
+  * @return StringFactory.mClass
+  */
+  private  StringFactory.mClass factoryForString()
+  {
+  		if (factoryForString == null) {
+  			factoryForString = (StringFactory.mClass) 
+  				classFrom( "smalltalk.collection.String" );
+  		}
+  		return factoryForString;
+  	}
+
+
+  /**
+  * @return SymbolFactory.mClass
+  */
+  private  SymbolFactory.mClass factoryForSymbol()
+  {
+  		if (factoryForSymbol == null) {
+  			factoryForSymbol = (SymbolFactory.mClass)
+  				classFrom( "smalltalk.collection.Symbol" );
+  		}
+  		return factoryForSymbol;
+  	}
+
+
+  /**
+  * @return ArrayFactory.mClass
+  */
+  private  ArrayFactory.mClass factoryForArray()
+  {
+  		if (factoryForArray == null) {
+  			factoryForArray = (ArrayFactory.mClass)
+  				classFrom( "smalltalk.collection.Array" );
+  		}
+  		return factoryForArray;
+  	}
+
+
+  /**
+  * @return OrderedCollectionFactory.mClass
+  */
+  private  OrderedCollectionFactory.mClass factoryForOrderedCollection()
+  {
+  		if (factoryForOrderedCollection == null) {
+  			factoryForOrderedCollection = (OrderedCollectionFactory.mClass)
+  				classFrom( "smalltalk.collection.OrderedCollection" );
+  		}
+  		return factoryForOrderedCollection;
+  	}
+
+
+  /**
+  * @return Behavior
+  */
+  public static  Behavior classFrom(final java.lang.Class aClass)
+  {
+  		try {
+  			java.lang.reflect.Field classField = aClass.getField( "$class" );
+  			Behavior result = (Behavior) classField.get( null );
+  			return result;
+  		} catch( NoSuchFieldException e ) {
+  			e.printStackTrace();
+  			System.err.println(
+  				aClass.getName() + " cannot locate $class field" );
+  		} catch( IllegalAccessException e ) {
+  			e.printStackTrace();
+  			System.err.println(
+  				aClass.getName() + " cannot access $class field" );
+  		}
+  		return null;
+  	}
+
+
+  /**
+  * @return Behavior
+  */
+  public static  Behavior classFrom(final java.lang.String className)
+  {
+  		try {
+  			return classFrom( java.lang.Class.forName( className ) );
+  		} catch( ClassNotFoundException e ) {
+  			e.printStackTrace();
+  			System.err.println(
+  				"Object cannot find a class named " + className );
+  		}
+  		return null;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object literalFrom(final java.lang.String className)
+  {
+  		try {
+  			java.lang.Object metaClass = classFrom( className );
+  			java.lang.Class aClass = metaClass.getClass();
+  			java.lang.reflect.Field instanceField = aClass.getField( "literal" );
+  			return (Object) instanceField.get( metaClass );
+  		} catch( NoSuchFieldException e ) {
+  			e.printStackTrace();
+  			System.err.println(
+  				className + " cannot locate literal." );
+  		} catch( IllegalAccessException e ) {
+  			e.printStackTrace();
+  			System.err.println(
+  				className + " cannot access literal." );
+  		}
+  		return null;
+  	}
+
+
+  /**
+  * @return java.lang.reflect.Method
+  */
+  public final  java.lang.reflect.Method methodNamed(final java.lang.String methodName, final Behavior behavior, final int argumentCount)
+  {
+  		return behavior.methodDictionary.methodNamed( methodName, argumentCount );
+  	}
+
+
+  /**
+  * @return java.lang.reflect.Method
+  */
+  public final  java.lang.reflect.Method methodNamed(final Object methodName, final Behavior behavior, final int argumentCount)
+  {
+  		return methodNamed( symbolFrom( methodName ), behavior, argumentCount );
+  	}
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean BooleanFrom(final boolean primitiveBoolean)
+  {
+  		return factoryForBoolean().BooleanFrom( primitiveBoolean );
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  public  boolean booleanFrom(final Object aBoolean)
+  {
+  		return factoryForBoolean().booleanFrom( aBoolean );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object CharacterFrom(final char primitiveCharacter)
+  {
+  		return factoryForCharacter().CharacterFrom( primitiveCharacter );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object CharacterFrom(final int primitiveInteger)
+  {
+  		return factoryForCharacter().CharacterFrom( (char) primitiveInteger );
+  	}
+
+
+  /**
+  * @return char
+  */
+  public  char charFrom(final Object aCharacter)
+  {
+  		return factoryForCharacter().charFrom( aCharacter );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object IntegerFrom(final int primitiveInteger)
+  {
+  		return factoryForInteger().IntegerFrom( primitiveInteger );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object IntegerFrom(final long primitiveLong)
+  {
+  		return factoryForInteger().IntegerFrom( (int) primitiveLong );
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int intFrom(final Object anInteger)
+  {
+  		return factoryForInteger().intFrom( anInteger );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object FixedFrom(final java.lang.String fixedString)
+  {
+  		return factoryForFixed().FixedFrom( fixedString );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object FloatFrom(final float primitiveFloat)
+  {
+  		return factoryForFloat().FloatFrom( primitiveFloat );
+  	}
+
+
+  /**
+  * @return float
+  */
+  public  float floatFrom(final Object aFloat)
+  {
+  		return factoryForFloat().floatFrom( aFloat );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object DoubleFrom(final double primitiveDouble)
+  {
+  		return factoryForDouble().DoubleFrom( primitiveDouble );
+  	}
+
+
+  /**
+  * @return double
+  */
+  public  double doubleFrom(final Object aDouble)
+  {
+  		return factoryForDouble().doubleFrom( aDouble );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object StringFrom(final java.lang.String primitiveString)
+  {
+  		return factoryForString().StringFrom( primitiveString );
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  public  java.lang.String stringFrom(final Object aString)
+  {
+  		return factoryForString().stringFrom( aString );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object SymbolFrom(final java.lang.String primitiveString)
+  {
+  		return factoryForSymbol().SymbolFrom( primitiveString );
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  public  java.lang.String symbolFrom(final Object aSymbol)
+  {
+  		return factoryForSymbol().symbolFrom( aSymbol );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object ArrayFrom(final Object[] primitiveArray)
+  {
+  		return factoryForArray().ArrayFrom( primitiveArray );
+  	}
+
+
+  /**
+  * @return Object[]
+  */
+  public  Object[] arrayFrom(final Object anArray)
+  {
+  		return factoryForArray().arrayFrom( anArray );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object OrderedCollectionFrom(final Object[] primitiveArray)
+  {
+  		return factoryForOrderedCollection().OrderedCollectionFrom( primitiveArray );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object emptyOrderedCollection()
+  {
+  		return factoryForOrderedCollection().OrderedCollectionFrom( new Object[0] );
+  	}
+
+
+  /**
+  * @return Object[]
+  */
+  public  Object[] arrayedCollectionFrom(final Object anOrderedCollection)
+  {
+  		return factoryForOrderedCollection().arrayedCollectionFrom( anOrderedCollection );
+  	}
+
+
+  /**
+  * @return UndefinedObject
+  */
+  public  UndefinedObject literalNil()
+  {
+  		if (literalNil == null) {
+  			literalNil = (UndefinedObject)
+  			literalFrom( "smalltalk.behavior.UndefinedObject" );
+  		}
+  		return literalNil;
+  	}
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean literalTrue()
+  {
+  		if (literalTrue == null) {
+  			literalTrue = (Boolean)
+  			literalFrom( "smalltalk.behavior.True" );
+  		}
+  		return literalTrue;
+  	}
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean literalFalse()
+  {
+  		if (literalFalse == null) {
+  			literalFalse = (Boolean)
+  			literalFrom( "smalltalk.behavior.False" );
+  		}
+  		return literalFalse;
+  	}
+}
\ No newline at end of file
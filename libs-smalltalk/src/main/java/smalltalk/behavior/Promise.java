@@ -0,0 +1,155 @@
+package smalltalk.behavior;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Holds the eventual result of a block scheduled for evaluation by the Scheduler.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Promise extends smalltalk.behavior.Object 
+{
+  /** Metaclass for Promise. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Promise
+    */
+    public  Promise on(final CompletableFuture future)
+    {	Promise result = new Promise();
+    			result.future = future;
+    			return result;
+    		}
+
+
+    /**
+    * @return Promise
+    */
+    public  Promise evaluating_on(final ZeroArgumentBlock aBlock, final java.util.concurrent.Executor executor)
+    {	Promise result = new Promise();
+    			result.future = new CompletableFuture();
+    			result.ended = new CompletableFuture();
+    			executor.execute( () -> result.evaluate( aBlock ) );
+    			return result;
+    		}
+  }
+
+  /** class instance for Promise. **/
+  public static final mClass $class = new mClass(Promise.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  CompletableFuture future;
+
+  protected 
+  CompletableFuture ended;
+
+  /**
+  * @return CompletableFuture
+  */
+  public  CompletableFuture primitiveFuture() {
+    return (future);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isReady()
+  {	return primitive.BooleanFrom( future.isDone() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object isFailed()
+  {	return primitive.BooleanFrom( future.isCompletedExceptionally() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object value()
+  {	try {
+  			return (Object) future.join();
+  		} catch( CompletionException e ) {
+  			throw MessageSend.appropriated( e.getCause() );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object waitUntilReady()
+  {	try {
+  			(ended == null ? future : ended).get();
+  		} catch( InterruptedException e ) {
+  			Thread.currentThread().interrupt();
+  		} catch( ExecutionException | CancellationException e ) {
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object wait(final Object duration)
+  {	try {
+  			future.get( primitive.intFrom( duration ), TimeUnit.MILLISECONDS );
+  		} catch( InterruptedException e ) {
+  			Thread.currentThread().interrupt();
+  		} catch( ExecutionException | TimeoutException | CancellationException e ) {
+  		}
+  		return primitive.BooleanFrom( future.isDone() );
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void evaluate(final ZeroArgumentBlock aBlock)
+  {	try {
+  			if (!future.isDone()) future.complete( aBlock.value() );
+  		} catch( Throwable e ) {
+  			future.completeExceptionally( e );
+  		} finally {
+  			ended.complete( null );
+  		}
+  	}
+
+
+  /**
+  * @return Promise
+  */
+  public  Promise whenReady(final OneArgumentBlock aBlock)
+  {	return Promise.$class.on( future.thenApply( result -> aBlock.value( (Object) result ) ) );
+  	}
+
+
+  /**
+  * @return Promise
+  */
+  public  Promise whenReady(final Object aBlock) {
+    return (this.whenReady(((OneArgumentBlock)aBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object cancel()
+  {	future.cancel( false );
+  		return this;
+  	}
+}
\ No newline at end of file
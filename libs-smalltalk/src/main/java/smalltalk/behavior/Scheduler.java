@@ -0,0 +1,127 @@
+package smalltalk.behavior;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Schedules threads for processing.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Scheduler extends smalltalk.behavior.Object 
+{
+  /** Metaclass for Scheduler. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+    private 
+    ExecutorService executor;
+
+    /**
+    * @return Object
+    */
+    public  Object wait(final Object duration)
+    {	try {
+    				Thread.sleep( primitive.intFrom( duration ) );
+    			} catch( InterruptedException e ) {
+    				Thread.currentThread().interrupt();
+    			}
+    			return this;
+    		}
+
+
+    /**
+    * @return Thread
+    */
+    public  Thread fork_at(final ZeroArgumentBlock aBlock, final int priority)
+    {	Thread thread = new Thread(
+    				new Runnable() {
+    					public void run( ) {
+    						aBlock.value();
+    					}
+    				}
+    			);
+    			thread.setPriority( priority );
+    			thread.start();
+    			return thread;
+    		}
+
+
+    /**
+    * @return ExecutorService
+    */
+    protected  ExecutorService executor()
+    {	synchronized( this ) {
+    				if (executor == null) {
+    					executor = createExecutor();
+    				}
+    				return executor;
+    			}
+    		}
+
+
+    /**
+    * @return ExecutorService
+    */
+    private  ExecutorService createExecutor()
+    {	java.lang.String parallelism = System.getProperty( "smalltalk.scheduler.parallelism" );
+    			if (parallelism != null) {
+    				return new ForkJoinPool( Integer.parseInt( parallelism ) );
+    			}
+    	
+    			try {
+    				return (ExecutorService)
+    					Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+    			} catch( ReflectiveOperationException e ) {
+    				// virtual threads need a newer Java runtime
+    				return new ForkJoinPool();
+    			}
+    		}
+
+
+    /**
+    * @return Promise
+    */
+    public  Promise schedule(final ZeroArgumentBlock aBlock)
+    {	return Promise.$class.evaluating_on( aBlock, executor() );
+    		}
+
+
+    /**
+    * @return Promise
+    */
+    public  Promise schedule(final Object aBlock) {
+      return (this.schedule(((ZeroArgumentBlock)aBlock)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object minimumPriority()
+    {	return primitive.IntegerFrom( Thread.MIN_PRIORITY );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object normalPriority()
+    {	return primitive.IntegerFrom( Thread.NORM_PRIORITY );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object maximumPriority()
+    {	return primitive.IntegerFrom( Thread.MAX_PRIORITY );
+    		}
+  }
+
+  /** class instance for Scheduler. **/
+  public static final mClass $class = new mClass(Scheduler.class);
+  @Override public Behavior $class() { return $class; }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package smalltalk.behavior;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import smalltalk.Name;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Interns the selectors of performed methods as small integer ids shared by all the method caches.
+Each distinct selector and argument count gets interned once, and keeps its id thereafter.
+An id carries the arity, the Java method name, and the Smalltalk selector, each derived once
+when first interned. A selector and its Java method name (e.g., at:put: and at_put) share an id.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class SelectorTable
+{
+
+  protected static 
+  AtomicReferenceArray idTables = (AtomicReferenceArray)new AtomicReferenceArray(256);
+
+  protected static 
+  CopyOnWriteArrayList methodNames = (CopyOnWriteArrayList)new CopyOnWriteArrayList();
+
+  protected static 
+  CopyOnWriteArrayList selectors = (CopyOnWriteArrayList)new CopyOnWriteArrayList();
+
+  protected static 
+  CopyOnWriteArrayList arities = (CopyOnWriteArrayList)new CopyOnWriteArrayList();
+
+  /**
+  * @return ConcurrentHashMap
+  */
+  protected static  ConcurrentHashMap idsFor(final int argumentCount)
+  {
+  		ConcurrentHashMap result = (ConcurrentHashMap) idTables.get( argumentCount );
+  		if (result == null) {
+  			idTables.compareAndSet( argumentCount, null, new ConcurrentHashMap() );
+  			result = (ConcurrentHashMap) idTables.get( argumentCount );
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  protected static  java.lang.String methodNameFrom(final java.lang.String selector)
+  {
+  		// method names for operators and reserved words already have a $ prefix
+  		return (selector.startsWith( "$" ) ? selector : Name.from( selector ));
+  	}
+
+
+  /**
+  * @return int
+  */
+  public static  int idOf(final java.lang.String selector, final int argumentCount)
+  {
+  		ConcurrentHashMap ids = idsFor( argumentCount );
+  		java.lang.Integer id = (java.lang.Integer) ids.get( selector );
+  		if (id != null) return id.intValue();
+
+  		java.lang.String methodName = methodNameFrom( selector );
+  		synchronized( SelectorTable.class ) {
+  			id = (java.lang.Integer) ids.get( methodName );
+  			if (id == null) {
+  				id = methodNames.size();
+  				methodNames.add( methodName );
+  				selectors.add( Name.from( methodName, argumentCount ) );
+  				arities.add( argumentCount );
+  				ids.put( methodName, id );
+  			}
+  			ids.put( selector, id );
+  			return id.intValue();
+  		}
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  public static  java.lang.String methodNameAt(final int selectorId)
+  {
+  		return (java.lang.String) methodNames.get( selectorId );
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  public static  java.lang.String selectorAt(final int selectorId)
+  {
+  		return (java.lang.String) selectors.get( selectorId );
+  	}
+
+
+  /**
+  * @return int
+  */
+  public static  int arityAt(final int selectorId)
+  {
+  		return ((java.lang.Integer) arities.get( selectorId )).intValue();
+  	}
+
+
+  /**
+  * @return int
+  */
+  public static  int size()
+  {
+  		return methodNames.size();
+  	}
+}
\ No newline at end of file
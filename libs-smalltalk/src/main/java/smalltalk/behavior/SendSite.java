@@ -0,0 +1,435 @@
+package smalltalk.behavior;
+import java.util.Arrays;
+import java.lang.Class;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.SwitchPoint;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Binds a message sent from compiled code to the methods it performs. Each site links method handles
+for the receiver classes it encounters, guarded by the receiver class. After (polymorphicLimit)
+classes, a site looks up its method in the receiver method dictionary instead. All the sites get
+relinked after any method cache gets flushed.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class SendSite
+{
+
+  protected static 
+  int polymorphicLimit = 4;
+
+  protected static 
+  SwitchPoint linkage;
+
+  protected static 
+  MethodHandle classTest;
+
+  protected static 
+  MethodHandle rethrowHandle;
+
+  protected static 
+  MethodHandle absentHandle;
+
+  protected static 
+  MethodHandle relinkHandle;
+
+  protected static 
+  MethodHandle lookupHandle;
+
+  protected 
+  java.lang.String selector;
+
+  protected 
+  int selectorId;
+
+  protected 
+  int argumentCount;
+
+  protected 
+  MutableCallSite callSite;
+
+  protected 
+  MethodHandle invoker;
+
+  protected 
+  MethodHandle relinker;
+
+  protected 
+  MethodHandle megamorphic;
+
+  protected 
+  MethodHandle notUnderstood;
+
+  protected 
+  MethodHandle chain;
+
+  protected 
+  int linkedClasses;
+
+  protected 
+  SwitchPoint chainLinkage;
+
+  /**
+  * @return void
+  */
+  protected static  void initializeHandles()
+  {
+  		synchronized( SendSite.class ) {
+  			if (relinkHandle != null) return;
+  			MethodHandles.Lookup lookup = MethodHandles.lookup();
+  			try {
+  				classTest = lookup.findStatic( SendSite.class, "classOf_matches",
+  					MethodType.methodType( boolean.class, Class.class, Object.class ) );
+  				rethrowHandle = lookup.findStatic( SendSite.class, "rethrow",
+  					MethodType.methodType( Object.class, Throwable.class ) );
+  				absentHandle = lookup.findStatic( SendSite.class, "notUnderstood",
+  					MethodType.methodType( Object.class,
+  						Object.class, java.lang.String.class, Object[].class ) );
+  				lookupHandle = lookup.findVirtual( SendSite.class, "targetFor",
+  					MethodType.methodType( MethodHandle.class, Object.class ) );
+  				relinkHandle = lookup.findVirtual( SendSite.class, "relink",
+  					MethodType.methodType( MethodHandle.class, Object.class ) );
+  			} catch( ReflectiveOperationException e ) {
+  				throw MessageSend.appropriated( e );
+  			}
+  		}
+  	}
+
+
+  /**
+  * @return SwitchPoint
+  */
+  protected static  SwitchPoint currentLinkage()
+  {
+  		synchronized( SendSite.class ) {
+  			if (linkage == null) linkage = new SwitchPoint();
+  			return linkage;
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  public static  void invalidateAll()
+  {
+  		synchronized( SendSite.class ) {
+  			if (linkage == null) return;
+  			SwitchPoint[] invalid = { linkage };
+  			linkage = new SwitchPoint();
+  			SwitchPoint.invalidateAll( invalid );
+  		}
+  	}
+
+
+  /**
+  * @return MethodType
+  */
+  public static  MethodType siteType(final int argumentCount)
+  {
+  		Class[] types = new Class[ argumentCount + 1 ];
+  		Arrays.fill( types, Object.class );
+  		return MethodType.methodType( Object.class, types );
+  	}
+
+
+  /**
+  * @return MethodHandle
+  */
+  public static  MethodHandle handleOn(final Method aMethod, final int argumentCount)
+  {
+  		MethodType type = siteType( argumentCount );
+  		try {
+  			MethodHandle result = MethodHandles.lookup().unreflect( aMethod );
+  			if (Modifier.isStatic( aMethod.getModifiers() )) {
+  				result = MethodHandles.dropArguments( result, 0, Object.class );
+  			}
+  			result = MethodHandles.explicitCastArguments( result, type );
+  			return MethodHandles.catchException( result, Throwable.class,
+  				MethodHandles.dropArguments( rethrowHandle, 1, type.parameterList() ) );
+  		} catch( IllegalAccessException e ) {
+  			throw MessageSend.appropriated( e );
+  		}
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  protected static  boolean classOf_matches(final Class aClass, final Object receiver)
+  {
+  		return receiver.getClass() == aClass;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected static  Object rethrow(final Throwable exception)
+  {
+  		throw MessageSend.appropriated( exception );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected static  Object notUnderstood(final Object receiver, final java.lang.String selector, final Object[] arguments)
+  {
+  		return receiver.doesNotUnderstand( new MessageSend( receiver, selector, arguments ) );
+  	}
+
+
+  /**
+  * @return RuntimeException
+  */
+  protected static  RuntimeException failed(final Throwable exception)
+  {
+  		if (exception instanceof java.lang.Error) throw (java.lang.Error) exception;
+  		if (exception instanceof RuntimeException) return (RuntimeException) exception;
+  		return MessageSend.appropriated( exception );
+  	}
+
+
+  /**
+  * @return MethodHandle
+  */
+  protected static  MethodHandle handleFor(final Object receiver, final int selectorId)
+  {
+  		return receiver.$class().methodDictionary.handleAt( selectorId );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object send_to(final int selectorId, final Object receiver)
+  {
+  		MethodHandle handle = handleFor( receiver, selectorId );
+  		if (handle == null) {
+  			return notUnderstood( receiver, SelectorTable.methodNameAt( selectorId ), new Object[0] );
+  		}
+  		try {
+  			return (Object) handle.invokeExact( receiver );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object send_to_with(final int selectorId, final Object receiver, final Object argument)
+  {
+  		MethodHandle handle = handleFor( receiver, selectorId );
+  		if (handle == null) {
+  			return notUnderstood( receiver, SelectorTable.methodNameAt( selectorId ),
+  				new Object[] { argument } );
+  		}
+  		try {
+  			return (Object) handle.invokeExact( receiver, argument );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object send_to_with_with(final int selectorId, final Object receiver, final Object firstArgument, final Object secondArgument)
+  {
+  		MethodHandle handle = handleFor( receiver, selectorId );
+  		if (handle == null) {
+  			return notUnderstood( receiver, SelectorTable.methodNameAt( selectorId ),
+  				new Object[] { firstArgument, secondArgument } );
+  		}
+  		try {
+  			return (Object) handle.invokeExact( receiver, firstArgument, secondArgument );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object send_to_with_with_with(final int selectorId, final Object receiver, final Object firstArgument, final Object secondArgument, final Object thirdArgument)
+  {
+  		MethodHandle handle = handleFor( receiver, selectorId );
+  		if (handle == null) {
+  			return notUnderstood( receiver, SelectorTable.methodNameAt( selectorId ),
+  				new Object[] { firstArgument, secondArgument, thirdArgument } );
+  		}
+  		try {
+  			return (Object) handle.invokeExact( receiver, firstArgument, secondArgument, thirdArgument );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object send_to_with_with_with_with(final int selectorId, final Object receiver, final Object firstArgument, final Object secondArgument, final Object thirdArgument, final Object fourthArgument)
+  {
+  		MethodHandle handle = handleFor( receiver, selectorId );
+  		if (handle == null) {
+  			return notUnderstood( receiver, SelectorTable.methodNameAt( selectorId ),
+  				new Object[] { firstArgument, secondArgument, thirdArgument, fourthArgument } );
+  		}
+  		try {
+  			return (Object) handle.invokeExact(
+  				receiver, firstArgument, secondArgument, thirdArgument, fourthArgument );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return 
+  */
+  public   SendSite(final int id)
+  {
+  		initializeHandles();
+  		selectorId = id;
+  		selector = SelectorTable.methodNameAt( id );
+  		argumentCount = SelectorTable.arityAt( id );
+  		MethodType type = siteType( argumentCount );
+  		callSite = new MutableCallSite( type );
+  		invoker = callSite.dynamicInvoker();
+  		relinker = MethodHandles.foldArguments(
+  			MethodHandles.exactInvoker( type ), relinkHandle.bindTo( this ) );
+  		chain = relinker;
+  		callSite.setTarget( relinker );
+  	}
+
+
+  /**
+  * @return MethodHandle
+  */
+  protected  MethodHandle targetFor(final Object receiver)
+  {
+  		MethodHandle result = handleFor( receiver, selectorId );
+  		return (result != null ? result : notUnderstood());
+  	}
+
+
+  /**
+  * @return MethodHandle
+  */
+  protected  MethodHandle notUnderstood()
+  {
+  		if (notUnderstood == null) {
+  			notUnderstood = MethodHandles.insertArguments( absentHandle, 1, selector )
+  				.asCollector( Object[].class, argumentCount );
+  		}
+  		return notUnderstood;
+  	}
+
+
+  /**
+  * @return MethodHandle
+  */
+  protected  MethodHandle relink(final Object receiver)
+  {
+  		MethodHandle target = targetFor( receiver );
+  		SwitchPoint current = currentLinkage();
+  		synchronized( this ) {
+  			if (chainLinkage != current) {
+  				chainLinkage = current;
+  				linkedClasses = 0;
+  				chain = relinker;
+  			}
+
+  			if (linkedClasses < polymorphicLimit) {
+  				linkedClasses++;
+  				chain = MethodHandles.guardWithTest(
+  					classTest.bindTo( receiver.getClass() ), target, chain );
+  			} else {
+  				if (megamorphic == null) {
+  					megamorphic = MethodHandles.foldArguments(
+  						MethodHandles.exactInvoker( callSite.type() ), lookupHandle.bindTo( this ) );
+  				}
+  				chain = megamorphic;
+  			}
+
+  			callSite.setTarget( current.guardWithTest( chain, relinker ) );
+  		}
+  		return target;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform(final Object receiver)
+  {
+  		try {
+  			return (Object) invoker.invokeExact( receiver );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with(final Object receiver, final Object argument)
+  {
+  		try {
+  			return (Object) invoker.invokeExact( receiver, argument );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with(final Object receiver, final Object firstArgument, final Object secondArgument)
+  {
+  		try {
+  			return (Object) invoker.invokeExact( receiver, firstArgument, secondArgument );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with_with(final Object receiver, final Object firstArgument, final Object secondArgument, final Object thirdArgument)
+  {
+  		try {
+  			return (Object) invoker.invokeExact( receiver, firstArgument, secondArgument, thirdArgument );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object perform_with_with_with_with(final Object receiver, final Object firstArgument, final Object secondArgument, final Object thirdArgument, final Object fourthArgument)
+  {
+  		try {
+  			return (Object) invoker.invokeExact(
+  				receiver, firstArgument, secondArgument, thirdArgument, fourthArgument );
+  		} catch( Throwable e ) {
+  			throw failed( e );
+  		}
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports behavior for converting between primitive strings and Symbols.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface SymbolFactory
+{
+  /** Metatype for SymbolFactory. */
+  public static  interface mClass
+  {
+
+
+    /**
+    * @return Object
+    */
+    public  Object SymbolFrom(final java.lang.String primitiveString);
+
+
+    /**
+    * @return java.lang.String
+    */
+    public  java.lang.String symbolFrom(final Object aSymbol);
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+}
\ No newline at end of file
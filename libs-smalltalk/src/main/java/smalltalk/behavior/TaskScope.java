@@ -0,0 +1,112 @@
+package smalltalk.behavior;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Confines the blocks forked inside it to its extent. The scope waits for all of its tasks to finish
+before it returns, and cancels those not yet started if any task fails.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TaskScope extends smalltalk.behavior.Object 
+{
+  /** Metaclass for TaskScope. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object during(final OneArgumentBlock aBlock)
+    {	TaskScope scope = new TaskScope();
+    			scope.tasks = new ConcurrentLinkedQueue();
+    			Object result;
+    			try {
+    				result = aBlock.value( scope );
+    			} catch( Throwable e ) {
+    				scope.cancel();
+    				scope.await();
+    				throw e;
+    			}
+    			scope.join();
+    			return result;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object during(final Object aBlock) {
+      return (this.during(((OneArgumentBlock)aBlock)));
+    }
+  }
+
+  /** class instance for TaskScope. **/
+  public static final mClass $class = new mClass(TaskScope.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Queue tasks;
+
+  /**
+  * @return Promise
+  */
+  public  Promise fork(final ZeroArgumentBlock aBlock)
+  {	Promise result = Scheduler.$class.schedule( aBlock );
+  		tasks.add( result );
+  		return result;
+  	}
+
+
+  /**
+  * @return Promise
+  */
+  public  Promise fork(final Object aBlock) {
+    return (this.fork(((ZeroArgumentBlock)aBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object join()
+  {	for (java.lang.Object task : tasks) {
+  			try {
+  				((Promise) task).primitiveFuture().join();
+  			} catch( CancellationException e ) {
+  				// a cancelled task has no result, but may still be running
+  			} catch( CompletionException e ) {
+  				cancel();
+  				await();
+  				throw MessageSend.appropriated( e.getCause() );
+  			}
+  		}
+  		return await();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected  Object await()
+  {	for (java.lang.Object task : tasks) {
+  			((Promise) task).waitUntilReady();
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object cancel()
+  {	for (java.lang.Object task : tasks) {
+  			((Promise) task).cancel();
+  		}
+  		return this;
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports the instantiation and evaluation of blocks with two arguments.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TwoArgumentBlock extends smalltalk.behavior.BlockClosure 
+{
+  /** Metaclass for TwoArgumentBlock. */
+  public static  class mClass extends BlockClosure.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for TwoArgumentBlock. **/
+  public static final mClass $class = new mClass(TwoArgumentBlock.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object argumentCount() {
+    return (((SmallInteger)primitive.IntegerFrom(2)));
+  }
+
+
+  /**
+  * @return TwoArgumentBlock
+  */
+  public static  TwoArgumentBlock from(final TwoArgumentFunction function)
+  {	return new TwoArgumentBlock() {
+  			@Override public Object value_value(final Object firstObject, final Object secondObject) {
+  				return function.value_value( firstObject, secondObject );
+  			}
+  		};
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object value_value(final Object firstObject, final Object secondObject) {
+    return (Object.primitive.literalNil());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Indicates no value - i.e., an undefined object.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class UndefinedObject extends smalltalk.behavior.Object 
+{
+  /** Metaclass for UndefinedObject. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+    public 
+    UndefinedObject literal;
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize()
+    {	literal = new UndefinedObject();
+    			return this;
+    		}
+
+
+    /**
+    * @return java.lang.Object
+    */
+    public  java.lang.Object nullValue()
+    {	return null;
+    		}
+  }
+
+  /** class instance for UndefinedObject. **/
+  public static final mClass $class = new mClass(UndefinedObject.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  public  Object primitiveValue()
+  {	return null;
+  	}
+
+
+  /**
+  * @return java.lang.Object
+  */
+  public  java.lang.Object asPrimitive()
+  {
+  		return null;
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return 0;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object deepCopy() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object shallowCopy() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isNil() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object notNil() {
+    return (Object.primitive.literalFalse());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ifNil(final ZeroArgumentBlock nilBlock) {
+    return (nilBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ifNil_ifExtant(final ZeroArgumentBlock nilBlock, final ZeroArgumentBlock extantBlock) {
+    return (nilBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ifExtant(final ZeroArgumentBlock extantBlock) {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ifExtant_ifNil(final ZeroArgumentBlock extantBlock, final ZeroArgumentBlock nilBlock) {
+    return (nilBlock.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+    return (primitive.StringFrom("nil"));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isLiteral() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
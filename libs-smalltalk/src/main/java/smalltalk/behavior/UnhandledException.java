@@ -0,0 +1,55 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Wraps an exception with a runtime exception.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class UnhandledException extends java.lang.RuntimeException 
+{
+  /** Metaclass for UnhandledException. */
+  public static  class mClass extends smalltalk.behavior.Class 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object raise(final Exception exception) {
+      new UnhandledException(exception).raise();
+      return (this);
+    }
+  }
+
+  /** class instance for UnhandledException. **/
+  public static final mClass $class = new mClass(UnhandledException.class);
+  public Behavior $class() { return $class; }
+  protected 
+  Exception exception;
+
+  /**
+  * @return 
+  */
+  public   UnhandledException(final Exception anException)
+  {	super( anException.description().toString() );
+  		exception = anException;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object raise()
+  {	throw this;
+  	}
+
+
+  /**
+  * @return Exception
+  */
+  public  Exception unhandledException() {
+    return (exception);
+  }
+}
\ No newline at end of file
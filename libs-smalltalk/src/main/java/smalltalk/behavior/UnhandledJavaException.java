@@ -0,0 +1,86 @@
+package smalltalk.behavior;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Softens a hard Java exception into a runtime exception.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class UnhandledJavaException extends java.lang.RuntimeException 
+{
+  /** Metaclass for UnhandledJavaException. */
+  public static  class mClass extends smalltalk.behavior.Class 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object raise(final java.lang.Throwable aThrowable) {
+      new UnhandledJavaException(aThrowable).raise();
+      return (this);
+    }
+  }
+
+  /** class instance for UnhandledJavaException. **/
+  public static final mClass $class = new mClass(UnhandledJavaException.class);
+  public Behavior $class() { return $class; }
+  protected 
+  Throwable throwable;
+
+  /**
+  * @return 
+  */
+  public   UnhandledJavaException(final Throwable aThrowable)
+  {	super( aThrowable.getMessage() );
+  		throwable = aThrowable;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object raise()
+  {	throw this;
+  	}
+
+
+  /**
+  * @return Throwable
+  */
+  public  Throwable unhandledException() {
+    return (throwable);
+  }
+
+
+  /**
+  * @return void
+  */
+  @Override
+  public  void printStackTrace(final PrintWriter s) {
+    throwable.printStackTrace(s);
+    super.printStackTrace(s);
+  }
+
+
+  /**
+  * @return void
+  */
+  @Override
+  public  void printStackTrace(final PrintStream s) {
+    throwable.printStackTrace(s);
+    super.printStackTrace(s);
+  }
+
+
+  /**
+  * @return void
+  */
+  @Override
+  public  void printStackTrace() {
+    throwable.printStackTrace();
+    super.printStackTrace();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Represents a warning raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Warning extends smalltalk.behavior.Notification 
+{
+  /** Metaclass for Warning. */
+  public static  class mClass extends Notification.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for Warning. **/
+  public static final mClass $class = new mClass(Warning.class);
+  @Override public Behavior $class() { return $class; }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Supports the instantiation and evaluation of blocks with no arguments.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ZeroArgumentBlock extends smalltalk.behavior.BlockClosure 
+{
+  /** Metaclass for ZeroArgumentBlock. */
+  public static  class mClass extends BlockClosure.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for ZeroArgumentBlock. **/
+  public static final mClass $class = new mClass(ZeroArgumentBlock.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object argumentCount() {
+    return (((SmallInteger)primitive.IntegerFrom(0)));
+  }
+
+
+  /**
+  * @return ZeroArgumentBlock
+  */
+  public static  ZeroArgumentBlock from(final ZeroArgumentFunction function)
+  {	return new ZeroArgumentBlock() {
+  			@Override public Object value() {
+  				return function.value();
+  			}
+  		};
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object value() {
+    return (Object.primitive.literalNil());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ensure(final ZeroArgumentBlock terminationBlock)
+  {	Object result = primitive.literalNil();
+  		try {
+  			result = this.value();
+  		} finally {
+  			terminationBlock.value();
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object ifCurtailed(final ZeroArgumentBlock exceptionBlock)
+  {	Object result = primitive.literalNil();
+  		try {
+  			if (false) throw new java.lang.Throwable();
+  			result = this.value();
+  		} catch( java.lang.Throwable e ) {
+  			exceptionBlock.value();
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object on_do(final Object exception, final Object handlerBlock) {
+    return (ExceptionHandler.$class.handle_with_during(exception, handlerBlock, this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object whileTrue(final ZeroArgumentBlock aBlock)
+  {	Object result = null;
+  		while( primitive.booleanFrom( this.value() ) ) result = aBlock.value();
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object whileFalse(final ZeroArgumentBlock aBlock)
+  {	Object result = null;
+  		while( !primitive.booleanFrom( this.value() ) ) result = aBlock.value();
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object whileTrue()
+  {	while( primitive.booleanFrom( this.value() ) ) {}
+  		return primitive.literalNil();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object whileFalse()
+  {	while( !primitive.booleanFrom( this.value() ) ) {}
+  		return primitive.literalNil();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object forkAt(final Object priority) {
+    thread = ((java.lang.Thread)Scheduler.$class.fork_at(this, priority.hashCode()));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object fork() {
+    thread = ((java.lang.Thread)Scheduler.$class.fork_at(this, Scheduler.$class.normalPriority().hashCode()));
+    return (this);
+  }
+
+
+  /**
+  * @return Promise
+  */
+  public  Promise schedule() {
+    return (Scheduler.$class.schedule(this));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package smalltalk.behavior;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+/** Defines the function evaluated by a block with no arguments, which a compiled lambda implements.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface ZeroArgumentFunction
+{
+  /** Metatype for ZeroArgumentFunction. */
+  public static  interface mClass
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object value();
+}
\ No newline at end of file
@@ -0,0 +1,468 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a literal array.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Array extends smalltalk.collection.ArrayedCollection 
+  implements ArrayFactory
+{
+  /** Metaclass for Array. */
+  public static  class mClass extends ArrayedCollection.mClass 
+    implements ArrayFactory.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+    private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("at_put", 2);
+    private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+    private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object ArrayFrom(final Object[] primitiveArray) {
+      return (this.withAll(primitiveArray));
+    }
+
+
+    /**
+    * @return Object[]
+    */
+    @Override
+    public  Object[] arrayFrom(final Object anArray) {
+      return (((Array)anArray).primitiveContents());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((Array)this.$new(((SmallInteger)primitive.IntegerFrom(0)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity) {
+      return (new Array(((Number)capacity)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object withAll(final Object[] elements) {
+      return (new Array(elements));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object withStrings(final java.lang.String[] primitiveStrings) {
+       
+      Object size;
+
+      Object[] result = { null };
+      size = Array.mClass.this.lengthOf(primitiveStrings);
+      result[0] = ((smalltalk.behavior.Object)((Array)Array.mClass.this.$new(size)));
+      {
+        final OneArgumentBlock $block4 = new OneArgumentBlock()
+      {
+         
+        java.lang.String aString;
+        @Override public Object value(final Object i)  {
+          aString = ((java.lang.String)Array.mClass.this.elementAt_from($send0.perform_with(i, ((SmallInteger)primitive.IntegerFrom(1))), primitiveStrings));
+          $send1.perform_with_with(result[0], i, primitive.StringFrom(aString));
+          return Object.primitive.literalNil();
+        }
+      };
+        final smalltalk.behavior.Object $start4 = ((SmallInteger)primitive.IntegerFrom(1));
+        final smalltalk.behavior.Object $stop4 = size;
+        if ($start4 instanceof smalltalk.magnitude.SmallInteger && $stop4 instanceof smalltalk.magnitude.SmallInteger) {
+          final long $limit4 = ((smalltalk.magnitude.SmallInteger)$stop4).primitiveInteger();
+          for (long $index4 = ((smalltalk.magnitude.SmallInteger)$start4).primitiveInteger(); $index4 <= $limit4; $index4 += 1) {
+            $block4.value(primitive.IntegerFrom((int)$index4));
+          }
+        }
+        else {
+          $send2.perform_with_with($start4, $stop4, $block4);
+        }
+      }
+      return (result[0]);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lengthOf(final java.lang.Object[] primitiveArray)
+    {	return primitive.IntegerFrom( primitiveArray.length );
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lengthOf(final byte[] primitiveArray)
+    {	return primitive.IntegerFrom( primitiveArray.length );
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lengthOf(final char[] primitiveArray)
+    {	return primitive.IntegerFrom( primitiveArray.length );
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lengthOf(final int[] primitiveArray)
+    {	return primitive.IntegerFrom( primitiveArray.length );
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lengthOf(final long[] primitiveArray)
+    {	return primitive.IntegerFrom( primitiveArray.length );
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lengthOf(final float[] primitiveArray)
+    {	return primitive.IntegerFrom( primitiveArray.length );
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lengthOf(final double[] primitiveArray)
+    {	return primitive.IntegerFrom( primitiveArray.length );
+    	    }
+
+
+    /**
+    * @return java.lang.Object
+    */
+    public  java.lang.Object elementAt_from(final Object index, final java.lang.Object[] primitiveArray)
+    {	return primitiveArray[((SmallInteger)index).primitiveInteger()];
+    	    }
+
+
+    /**
+    * @return void
+    */
+    public  void put_at_in(final java.lang.Object anObject, final Object index, final java.lang.Object[] primitiveArray)
+    {	primitiveArray[((SmallInteger)index).primitiveInteger()] = anObject;
+    	    }
+
+
+    /**
+    * @return byte
+    */
+    public  byte elementAt_from(final Object index, final byte[] primitiveArray)
+    {	return primitiveArray[((SmallInteger)index).primitiveInteger()];
+    	    }
+
+
+    /**
+    * @return void
+    */
+    public  void put_at_in(final byte aByte, final Object index, final byte[] primitiveArray)
+    {	primitiveArray[((SmallInteger)index).primitiveInteger()] = aByte;
+    	    }
+
+
+    /**
+    * @return char
+    */
+    public  char elementAt_from(final Object index, final char[] primitiveArray)
+    {	return primitiveArray[((SmallInteger)index).primitiveInteger()];
+    	    }
+
+
+    /**
+    * @return void
+    */
+    public  void put_at_in(final char aCharacter, final Object index, final char[] primitiveArray)
+    {	primitiveArray[((SmallInteger)index).primitiveInteger()] = aCharacter;
+    	    }
+
+
+    /**
+    * @return int
+    */
+    public  int elementAt_from(final Object index, final int[] primitiveArray)
+    {	return primitiveArray[((SmallInteger)index).primitiveInteger()];
+    	    }
+
+
+    /**
+    * @return void
+    */
+    public  void put_at_in(final int anInteger, final Object index, final int[] primitiveArray)
+    {	primitiveArray[((SmallInteger)index).primitiveInteger()] = anInteger;
+    	    }
+
+
+    /**
+    * @return long
+    */
+    public  long elementAt_from(final Object index, final long[] primitiveArray)
+    {	return primitiveArray[((SmallInteger)index).primitiveInteger()];
+    	    }
+
+
+    /**
+    * @return void
+    */
+    public  void put_at_in(final long aLong, final Object index, final long[] primitiveArray)
+    {	primitiveArray[((SmallInteger)index).primitiveInteger()] = aLong;
+    	    }
+
+
+    /**
+    * @return float
+    */
+    public  float elementAt_from(final Object index, final float[] primitiveArray)
+    {	return primitiveArray[((SmallInteger)index).primitiveInteger()];
+    	    }
+
+
+    /**
+    * @return void
+    */
+    public  void put_at_in(final float aFloat, final Object index, final float[] primitiveArray)
+    {	primitiveArray[((SmallInteger)index).primitiveInteger()] = aFloat;
+    	    }
+
+
+    /**
+    * @return double
+    */
+    public  double elementAt_from(final Object index, final double[] primitiveArray)
+    {	return primitiveArray[((SmallInteger)index).primitiveInteger()];
+    	    }
+
+
+    /**
+    * @return void
+    */
+    public  void put_at_in(final double aDouble, final Object index, final double[] primitiveArray)
+    {	primitiveArray[((SmallInteger)index).primitiveInteger()] = aDouble;
+    	    }
+
+
+    /**
+    * @return byte[]
+    */
+    public  byte[] ofBytes(final SmallInteger size)
+    {	return new byte[ size.primitiveInteger() ];
+    	    }
+
+
+    /**
+    * @return char[]
+    */
+    public  char[] ofCharacters(final SmallInteger size)
+    {	return new char[ size.primitiveInteger() ];
+    	    }
+
+
+    /**
+    * @return int[]
+    */
+    public  int[] ofIntegers(final SmallInteger size)
+    {	return new int[ size.primitiveInteger() ];
+    	    }
+
+
+    /**
+    * @return long[]
+    */
+    public  long[] ofLongs(final SmallInteger size)
+    {	return new long[ size.primitiveInteger() ];
+    	    }
+  }
+
+  /** class instance for Array. **/
+  public static final mClass $class = new mClass(Array.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Object[] contents;
+
+  /**
+  * @return 
+  */
+  protected   Array()
+  {	contents = new Object[0];
+      }
+
+
+  /**
+  * @return 
+  */
+  protected   Array(final Number capacity)
+  {	contents = new Object[ capacity.primitiveInteger() ];
+      }
+
+
+  /**
+  * @return 
+  */
+  protected   Array(final Object[] elements) {
+    contents = elements;
+  }
+
+
+  /**
+  * @return Array
+  */
+  public static  Array withAll(final Object[] elements) {
+    return (new Array(elements));
+  }
+
+
+  /**
+  * @return Object[]
+  */
+  public  Object[] primitiveContents() {
+    return (contents);
+  }
+
+
+  /**
+  * @return java.util.List
+  */
+  @Override
+  protected  java.util.List parallelElements()
+  {	return java.util.Arrays.asList( contents );
+      }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size()
+  {	return primitive.IntegerFrom( contents.length );
+      }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock)
+  {	int i = this.checkIndex_ifAbsent( index, aBlock );
+          return contents[i];
+      }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_put(final Object index, final Object element)
+  {	int i = this.checkIndex( index );
+          contents[i] = element;
+          return element;
+      }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Array aCollection) {
+    return (primitive.BooleanFrom(contents.equals(aCollection.primitiveContents())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            Array.this.$equal(((Array)aCollection)));
+          }
+          catch (java.lang.ClassCastException e) {
+            return Object.primitive.literalNil();
+          }
+        }
+      }).value();
+      return (super.$equal(aCollection));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return primitiveContents().hashCode();
+      }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock)
+  {	for( int i = 0; i < contents.length; i++ ) {
+              aBlock.value( contents[i] );
+          }
+          return this;
+      }
+
+
+  /**
+  * @return boolean
+  */
+  @Override
+  protected  boolean doWhile(final java.util.function.Predicate sink)
+  {	for( int i = 0; i < contents.length; i++ ) {
+              if (!sink.test( contents[i] )) return false;
+          }
+          return true;
+      }
+}
\ No newline at end of file
@@ -0,0 +1,366 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Metaclass for ArrayedCollection. */
+public abstract  class ArrayedCollection extends smalltalk.collection.SequenceableCollection 
+  implements MutableCollection
+{
+  /** Metaclass for ArrayedCollection. */
+  public static  class mClass extends SequenceableCollection.mClass 
+    implements MutableCollection.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("at_put", 2);
+    private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("size", 0);
+    private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector1);
+    private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector2);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object with(final Object anObject) {
+      return (new ZeroArgumentBlock()
+      {
+         
+        Object local4_0;
+        @Override public Object value()  {
+          $send0.perform_with_with(local4_0 = ((smalltalk.behavior.Object)((ArrayedCollection)ArrayedCollection.mClass.this.$new(((SmallInteger)primitive.IntegerFrom(1))))), ((SmallInteger)primitive.IntegerFrom(1)), anObject);
+          return local4_0.yourself();
+        }
+      }.value());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object with_with(final Object object1st, final Object object2nd) {
+      return (new ZeroArgumentBlock()
+      {
+         
+        Object local4_0;
+        @Override public Object value()  {
+          $send1.perform_with_with(local4_0 = ((smalltalk.behavior.Object)((ArrayedCollection)ArrayedCollection.mClass.this.$new(((SmallInteger)primitive.IntegerFrom(2))))), ((SmallInteger)primitive.IntegerFrom(1)), object1st);
+          $send2.perform_with_with(local4_0, ((SmallInteger)primitive.IntegerFrom(2)), object2nd);
+          return local4_0.yourself();
+        }
+      }.value());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object with_with_with(final Object object1st, final Object object2nd, final Object object3rd) {
+      return (new ZeroArgumentBlock()
+      {
+         
+        Object local4_0;
+        @Override public Object value()  {
+          $send3.perform_with_with(local4_0 = ((smalltalk.behavior.Object)((ArrayedCollection)ArrayedCollection.mClass.this.$new(((SmallInteger)primitive.IntegerFrom(3))))), ((SmallInteger)primitive.IntegerFrom(1)), object1st);
+          $send4.perform_with_with(local4_0, ((SmallInteger)primitive.IntegerFrom(2)), object2nd);
+          $send5.perform_with_with(local4_0, ((SmallInteger)primitive.IntegerFrom(3)), object3rd);
+          return local4_0.yourself();
+        }
+      }.value());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object with_with_with_with(final Object object1st, final Object object2nd, final Object object3rd, final Object object4th) {
+      return (new ZeroArgumentBlock()
+      {
+         
+        Object local4_0;
+        @Override public Object value()  {
+          $send6.perform_with_with(local4_0 = ((smalltalk.behavior.Object)((ArrayedCollection)ArrayedCollection.mClass.this.$new(((SmallInteger)primitive.IntegerFrom(3))))), ((SmallInteger)primitive.IntegerFrom(1)), object1st);
+          $send7.perform_with_with(local4_0, ((SmallInteger)primitive.IntegerFrom(2)), object2nd);
+          $send8.perform_with_with(local4_0, ((SmallInteger)primitive.IntegerFrom(3)), object3rd);
+          $send9.perform_with_with(local4_0, ((SmallInteger)primitive.IntegerFrom(4)), object4th);
+          return local4_0.yourself();
+        }
+      }.value());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object withAll(final Object elements) {
+      FastInteger[] index = { null };
+
+      Object[] result = { null };
+      result[0] = ((smalltalk.behavior.Object)((ArrayedCollection)ArrayedCollection.mClass.this.$new($send10.perform(elements))));
+      index[0] = ((FastInteger)((SmallInteger)primitive.IntegerFrom(1)).asFastInteger());
+      {
+        final OneArgumentBlock $block4 = new OneArgumentBlock()
+      {
+        @Override public Object value(final Object element)  {
+          $send11.perform_with_with(result[0], index[0], element);
+          index[0].$incremented(1);
+          return Object.primitive.literalNil();
+        }
+      };
+        final smalltalk.behavior.Object $collection4 = elements;
+        if ($collection4.getClass() == smalltalk.collection.Array.class) {
+          final smalltalk.behavior.Object[] $elements4 = ((smalltalk.collection.Array)$collection4).primitiveContents();
+          for (int $index4 = 0, $limit4 = $elements4.length; $index4 < $limit4; $index4++) {
+            $block4.value($elements4[$index4]);
+          }
+        }
+        else if ($collection4.getClass() == smalltalk.collection.OrderedCollection.class) {
+          final java.util.List $elements4 = ((smalltalk.collection.OrderedCollection)$collection4).primitiveContents();
+          for (int $index4 = 0, $limit4 = $elements4.size(); $index4 < $limit4; $index4++) {
+            $block4.value((smalltalk.behavior.Object)$elements4.get($index4));
+          }
+        }
+        else {
+          $send12.perform_with($collection4, $block4);
+        }
+      }
+      return (result[0]);
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("at", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("to_by_do", 3);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("size", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector1);
+  /** class instance for ArrayedCollection. **/
+  public static final mClass $class = new mClass(ArrayedCollection.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object atAll_put(final Object indices, final Object element) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object index)  {
+        return ArrayedCollection.this.at_put(index, element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = indices;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send0.perform_with($collection3, $block3);
+      }
+    }
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object atAllPut(final Object element) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object index)  {
+        return ArrayedCollection.this.at_put(index, element);
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = this.size();
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send1.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object replaceFrom_to_with_startingAt(final Object start, final Object stop, final Object replacements, final Object origin) {
+    Object[] offset = { null };
+    offset[0] = $send2.perform_with(origin, start);
+    if (Boolean.primitiveValue($send4.perform_with(ArrayedCollection.this.$is(replacements), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send3.perform_with(origin, start);
+      }
+    }))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          {
+            final OneArgumentBlock $block4 = new OneArgumentBlock()
+          {
+            @Override public Object value(final Object i)  {
+              return ArrayedCollection.this.at_put(i, $send6.perform_with(replacements, $send5.perform_with(offset[0], i)));
+            }
+          };
+            final smalltalk.behavior.Object $start4 = stop;
+            final smalltalk.behavior.Object $stop4 = start;
+            if ($start4 instanceof smalltalk.magnitude.SmallInteger && $stop4 instanceof smalltalk.magnitude.SmallInteger) {
+              final long $limit4 = ((smalltalk.magnitude.SmallInteger)$stop4).primitiveInteger();
+              for (long $index4 = ((smalltalk.magnitude.SmallInteger)$start4).primitiveInteger(); $index4 >= $limit4; $index4 += -1) {
+                $block4.value(primitive.IntegerFrom((int)$index4));
+              }
+            }
+            else {
+              $send7.perform_with_with_with($start4, $stop4, ((SmallInteger)primitive.IntegerFrom(-1)), $block4);
+            }
+            return $start4;
+          }
+        }
+      }).value();
+    }
+    else {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          {
+            final OneArgumentBlock $block4 = new OneArgumentBlock()
+          {
+            @Override public Object value(final Object i)  {
+              return ArrayedCollection.this.at_put(i, $send9.perform_with(replacements, $send8.perform_with(offset[0], i)));
+            }
+          };
+            final smalltalk.behavior.Object $start4 = start;
+            final smalltalk.behavior.Object $stop4 = stop;
+            if ($start4 instanceof smalltalk.magnitude.SmallInteger && $stop4 instanceof smalltalk.magnitude.SmallInteger) {
+              final long $limit4 = ((smalltalk.magnitude.SmallInteger)$stop4).primitiveInteger();
+              for (long $index4 = ((smalltalk.magnitude.SmallInteger)$start4).primitiveInteger(); $index4 <= $limit4; $index4 += 1) {
+                $block4.value(primitive.IntegerFrom((int)$index4));
+              }
+            }
+            else {
+              $send10.perform_with_with($start4, $stop4, $block4);
+            }
+            return $start4;
+          }
+        }
+      }).value();
+    }
+    return (ArrayedCollection.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object replaceFrom_to_with(final Object start, final Object stop, final Object replacements) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (!Boolean.primitiveValue($send11.perform(replacements).$is($send13.perform_with($send12.perform_with(stop, start), ((SmallInteger)primitive.IntegerFrom(1)))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ArrayedCollection.this.error(((String)primitive.StringFrom("size of replacement incorrect"))));
+          }
+        }).value();
+      }
+      return (this.replaceFrom_to_with_startingAt(start, stop, replacements, ((SmallInteger)primitive.IntegerFrom(1))));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object replaceFrom_to_withObject(final Object start, final Object stop, final Object anElement) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object index)  {
+        return ArrayedCollection.this.at_put(index, anElement);
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = this.size();
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send14.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (this);
+  }
+}
\ No newline at end of file
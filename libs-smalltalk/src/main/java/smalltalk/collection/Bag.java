@@ -0,0 +1,391 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a counted set of objects, each of which may occur multiple times. 
+This initial implementation needs further optimization - e.g., using hashes to 
+improve performance.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Bag extends smalltalk.collection.Collection 
+  implements ExtensibleCollection, ExcisableCollection
+{
+  /** Metaclass for Bag. */
+  public static  class mClass extends Collection.mClass 
+    implements ExtensibleCollection.mClass, ExcisableCollection.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((Bag)this.$new(((SmallInteger)primitive.IntegerFrom(10)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity) {
+      return (new Bag(((Number)capacity)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("value", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("timesRepeat", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector5);
+  /** class instance for Bag. **/
+  public static final mClass $class = new mClass(Bag.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Dictionary contents;
+
+  /**
+  * @return 
+  */
+  protected   Bag() {
+    contents = ((Dictionary)((Dictionary)((Behavior)Dictionary.$class).$new()));
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   Bag(final Number capacity) {
+    contents = ((Dictionary)((Dictionary)((Behavior)Dictionary.$class).$new(capacity)));
+  }
+
+
+  /**
+  * @return Dictionary
+  */
+  protected  Dictionary contents() {
+    return (contents);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size() {
+    return (contents.size());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object occurrencesOf(final Object element) {
+    return (contents.at_ifAbsent(element, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ((SmallInteger)primitive.IntegerFrom(0));
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object add(final Object element) {
+    contents.at_put(element, $send0.perform_with(this.occurrencesOf(element), ((SmallInteger)primitive.IntegerFrom(1))));
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object add_withOccurrences(final Object element, final Object count) {
+    contents.at_put(element, ((SmallInteger)count));
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object addAll(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return Bag.this.add(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send1.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Bag aCollection) {
+    return (contents.$equal(aCollection.contents()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            Bag.this.$equal(((Bag)aCollection)));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode() {
+    return (contents.hashCode());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asBag() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asSet() {
+    return (contents.keys());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object remove(final Object element) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.remove_ifAbsent(element, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          Bag.this.elementNotFound());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object remove_ifAbsent(final Object element, final ZeroArgumentBlock aBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    SmallInteger[] count = { null };
+    try {
+      count[0] = ((SmallInteger)Bag.this.occurrencesOf(element));
+      if (Boolean.primitiveValue(count[0].$equal(((SmallInteger)primitive.IntegerFrom(0))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            aBlock.value());
+          }
+        }).value();
+      }
+      if (Boolean.primitiveValue(count[0].$equal(((SmallInteger)primitive.IntegerFrom(1))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return contents.removeKey(element);
+          }
+        }).value();
+      }
+      else {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return count[0] = ((SmallInteger)count[0].$minus(((SmallInteger)primitive.IntegerFrom(1))));
+          }
+        }).value();
+      }
+      return (element);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAll(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return Bag.this.remove(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send2.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAllSuchThat(final Object criteria) {
+    Object[] result = { null };
+    result[0] = ((Behavior)Bag.this.$class()).$new(((SmallInteger)primitive.IntegerFrom(10)));
+    Bag.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return (Boolean.primitiveValue($send3.perform_with(criteria, element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            $send4.perform_with(result[0], element);
+            return Bag.this.remove(element);
+          }
+        }).value() : primitive.literalNil());
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock) {
+    contents.keysAndValuesDo(new TwoArgumentBlock()
+    {
+       
+      SmallInteger n;
+      @Override public Object value_value(final Object element, final Object count)  {
+        n = ((SmallInteger)count);
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return aBlock.value(element);
+          }
+        };
+          final smalltalk.behavior.Object $count4 = n;
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send5.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object writeStream() {
+    return ($send6.perform_with(((String)primitive.StringFrom("smalltalk.stream.WriteStream")).resolvedToClass(), this));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents an array of integers in the range 0-255.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ByteArray extends smalltalk.collection.ArrayedCollection 
+{
+  /** Metaclass for ByteArray. */
+  public static  class mClass extends ArrayedCollection.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((ByteArray)this.$new(((SmallInteger)primitive.IntegerFrom(0)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity)
+    {	return new ByteArray( (Number) capacity );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object withAll(final byte[] elements) {
+      return (new ByteArray(elements));
+    }
+  }
+
+  /** class instance for ByteArray. **/
+  public static final mClass $class = new mClass(ByteArray.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  byte[] contents;
+
+  /**
+  * @return 
+  */
+  protected   ByteArray()
+  {	contents = new byte[0];
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   ByteArray(final Number capacity)
+  {	contents = new byte[ capacity.primitiveInteger() ];
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   ByteArray(final byte[] elements) {
+    contents = elements;
+  }
+
+
+  /**
+  * @return byte[]
+  */
+  public  byte[] primitiveContents() {
+    return (contents);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size()
+  {	return primitive.IntegerFrom( contents.length );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock)
+  {	int i = this.checkIndex_ifAbsent( index, aBlock );
+  		return primitive.IntegerFrom( contents[i] );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_put(final Object index, final Object element)
+  {	int i = this.checkIndex( index );
+  		SmallInteger n = (SmallInteger) element;
+  		contents[i] = n.primitiveByte();
+  		return element;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final ByteArray aCollection) {
+    return (primitive.BooleanFrom(contents.equals(aCollection.primitiveContents())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            ByteArray.this.$equal(((ByteArray)aCollection)));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return primitiveContents().hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock)
+  {	for( int i = 0; i < contents.length; i++ ) {
+  			aBlock.value( primitive.IntegerFrom( contents[i] ) );
+  		}
+  		return this;
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,287 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Metaclass for CharacterString. */
+public abstract  class CharacterString extends smalltalk.collection.ArrayedCollection 
+{
+  /** Metaclass for CharacterString. */
+  public static  class mClass extends ArrayedCollection.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("sameAsString", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for CharacterString. **/
+  public static final mClass $class = new mClass(CharacterString.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return java.lang.String
+  */
+  public abstract  java.lang.String primitiveString();
+
+
+  /**
+  * @return java.lang.CharSequence
+  */
+  public  java.lang.CharSequence primitiveCharacters() {
+    return (this.primitiveString());
+  }
+
+
+  /**
+  * @return java.lang.String
+  */
+  public  java.lang.String asPrimitive() {
+    return (this.primitiveString());
+  }
+
+
+  /**
+  * @return java.lang.String
+  */
+  public  java.lang.String toString() {
+    return (this.primitiveString());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size()
+  {	return primitive.IntegerFrom( primitiveString().length() );
+  	}
+
+
+  /**
+  * @return Behavior
+  */
+  public  Behavior resolvedToClass()
+  {	return primitive.classFrom( this.primitiveString() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object indexOf_ifAbsent(final Object element, final ZeroArgumentBlock aBlock)
+  {	try {
+  			Character c = (Character) element;
+  			int index = this.primitiveString().indexOf( c.primitiveCharacter() );
+  			if (index < 0) return aBlock.value();
+  			return( index < 0 ? aBlock.value() : 
+  				primitive.IntegerFrom( index + 1 )
+  			);
+  		} catch( java.lang.ClassCastException e ) {
+  			return aBlock.value();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aMagnitude)
+  {	CharacterString aString = (CharacterString) aMagnitude;
+  		return primitive.BooleanFrom(
+  			this.primitiveString().contentEquals( aString.primitiveCharacters() )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $lessThan(final Object aMagnitude)
+  {	CharacterString aString = (CharacterString) aMagnitude;
+  		int result = this.primitiveString().compareTo( aString.primitiveString() );
+  		return primitive.BooleanFrom( result < 0 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $lessEqual(final Object aMagnitude)
+  {	CharacterString aString = (CharacterString) aMagnitude;
+  		int result = this.primitiveString().compareTo( aString.primitiveString() );
+  		return primitive.BooleanFrom( result < 0 || result == 0 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $moreThan(final Object aMagnitude)
+  {	CharacterString aString = (CharacterString) aMagnitude;
+  		int result = this.primitiveString().compareTo( aString.primitiveString() );
+  		return primitive.BooleanFrom( result > 0 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $moreEqual(final Object aMagnitude)
+  {	CharacterString aString = (CharacterString) aMagnitude;
+  		int result = this.primitiveString().compareTo( aString.primitiveString() );
+  		return primitive.BooleanFrom( result > 0 || result == 0 );
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return primitiveString().hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isString() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sameAs(final Object aString) {
+    return ($send0.perform_with(aString, this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected static  Object collates_with(final java.lang.String a, final java.lang.String b) {
+    return (primitive.BooleanFrom(a.equalsIgnoreCase(b)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sameAsString(final CharacterString aString) {
+    return (this.collates_with(this.primitiveString(), aString.primitiveString()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sameAsString(final Object aString)
+  {	try {
+  			return this.sameAsString( (CharacterString) aString );
+  		} catch( ClassCastException e ) {
+  			return primitive.literalFalse();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reverse()
+  {	java.lang.StringBuilder result = new java.lang.StringBuilder();
+  		java.lang.String aString = this.primitiveString();
+  		for( int i = aString.length() - 1; i >= 0; i-- ) {
+  			result.append( aString.charAt( i ) );
+  		}
+  		return primitive.StringFrom( result.toString() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asString() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asLowercase()
+  {	return new String( this.primitiveString().toLowerCase() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asUppercase()
+  {	return new String( this.primitiveString().toUpperCase() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object matches(final Object aString) {
+    return (new StringPattern(this).accepts(aString));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object subStrings(final Object separators)
+  {	String s = null;
+  		Array result = null;
+  		try {
+  			s = (String) separators;
+  			java.util.StringTokenizer t = 
+  				new java.util.StringTokenizer( 
+  					this.primitiveString(), s.primitiveString() );
+
+  			int count = t.countTokens();
+  			SmallInteger unity = (SmallInteger) primitive.IntegerFrom( 1 );
+  			FastInteger index = unity.asFastInteger();
+  			result = new Array( (Number) primitive.IntegerFrom( count ) );
+  			while( t.hasMoreTokens() ) {
+  				result.at_put( index, 
+  					primitive.StringFrom( t.nextToken() ) );
+
+  				index.$incremented( 1 );
+  			}
+  			return result;
+  		} catch( ClassCastException e ) {
+  			return this.compatibilityError();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object subStrings() {
+    return (this.subStrings(((String)primitive.StringFrom(" "))));
+  }
+}
\ No newline at end of file
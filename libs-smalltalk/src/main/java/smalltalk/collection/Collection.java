@@ -0,0 +1,1030 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Metaclass for Collection. */
+public abstract  class Collection extends smalltalk.behavior.Object 
+{
+  /** Metaclass for Collection. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+    private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("size", 0);
+    private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("addAll", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector1);
+    private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector2);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object with(final Object anObject) {
+       
+      Object result;
+      result = ((smalltalk.behavior.Object)((Collection)Collection.mClass.this.$new()));
+      $send0.perform_with(result, anObject);
+      return (result);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object with_with(final Object object1st, final Object object2nd) {
+       
+      Object result;
+      result = ((smalltalk.behavior.Object)((Collection)Collection.mClass.this.$new()));
+      $send1.perform_with(result, object1st);
+      $send2.perform_with(result, object2nd);
+      return (result);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object with_with_with(final Object object1st, final Object object2nd, final Object object3rd) {
+       
+      Object result;
+      result = ((smalltalk.behavior.Object)((Collection)Collection.mClass.this.$new()));
+      $send3.perform_with(result, object1st);
+      $send4.perform_with(result, object2nd);
+      $send5.perform_with(result, object3rd);
+      return (result);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object with_with_with_with(final Object object1st, final Object object2nd, final Object object3rd, final Object object4th) {
+       
+      Object result;
+      result = ((smalltalk.behavior.Object)((Collection)Collection.mClass.this.$new()));
+      $send6.perform_with(result, object1st);
+      $send7.perform_with(result, object2nd);
+      $send8.perform_with(result, object3rd);
+      $send9.perform_with(result, object4th);
+      return (result);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object withAll(final Object aCollection) {
+       
+      Object result;
+      result = ((smalltalk.behavior.Object)((Collection)Collection.mClass.this.$new($send10.perform(aCollection))));
+      $send11.perform_with(result, aCollection);
+      return (result);
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("at_put", 2);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("addAll", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("addLast", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("sortBlock", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector4);
+  /** class instance for Collection. **/
+  public static final mClass $class = new mClass(Collection.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  public  Object rehash() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object capacity() {
+    return (this.size());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object size() {
+    FastInteger[] tally = { null };
+    tally[0] = ((FastInteger)((SmallInteger)primitive.IntegerFrom(0)).asFastInteger());
+    Collection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        tally[0].$incremented(1);
+        return Object.primitive.literalNil();
+      }
+    });
+    return (tally[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object occurrencesOf(final Object anObject) {
+    FastInteger[] tally = { null };
+    tally[0] = ((FastInteger)((SmallInteger)primitive.IntegerFrom(0)).asFastInteger());
+    Collection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return (Boolean.primitiveValue(anObject.$equal(element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            tally[0].$incremented(1);
+            return Object.primitive.literalNil();
+          }
+        }).value() : primitive.literalNil());
+      }
+    });
+    return (tally[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asArray() {
+    FastInteger[] index = { null };
+
+    Object[] result = { null };
+    result[0] = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(Collection.this.size())));
+    index[0] = ((FastInteger)((SmallInteger)primitive.IntegerFrom(1)).asFastInteger());
+    Collection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        $send0.perform_with_with(result[0], index[0], element);
+        index[0].$incremented(1);
+        return Object.primitive.literalNil();
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asBag() {
+    return (new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send1.perform_with(local3_0 = ((smalltalk.behavior.Object)((Bag)((Behavior)Bag.$class).$new(Collection.this.size()))), Collection.this);
+        return local3_0.yourself();
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asOrderedCollection() {
+    Object[] result = { null };
+    result[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new(Collection.this.size())));
+    Collection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return $send2.perform_with(result[0], element);
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asSet() {
+    return (new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send3.perform_with(local3_0 = ((smalltalk.behavior.Object)((Set)((Behavior)Set.$class).$new(Collection.this.size()))), Collection.this);
+        return local3_0.yourself();
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asSortedCollection() {
+    return (new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send4.perform_with(local3_0 = ((smalltalk.behavior.Object)((SortedCollection)((Behavior)SortedCollection.$class).$new(Collection.this.size()))), Collection.this);
+        return local3_0.yourself();
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asSortedCollection(final TwoArgumentBlock sortBlock) {
+    return (new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send5.perform_with(local3_0 = ((smalltalk.behavior.Object)((SortedCollection)((Behavior)SortedCollection.$class).$new(Collection.this.size()))), sortBlock);
+        $send6.perform_with(local3_0, Collection.this);
+        return local3_0.yourself();
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asSortedCollection(final Object sortBlock) {
+     
+    TwoArgumentBlock sorter;
+    sorter = ((TwoArgumentBlock)sortBlock);
+    return (Collection.this.asSortedCollection(sorter));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object collect(final OneArgumentBlock filterBlock) {
+    Object[] result = { null };
+    result[0] = ((Behavior)Collection.this.species()).$new();
+    Collection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return $send7.perform_with(result[0], filterBlock.value(element));
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect(final OneArgumentBlock testBlock) {
+    return (this.detect_ifNone(testBlock, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Collection.this.elementNotFound();
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect_ifNone(final OneArgumentBlock testBlock, final ZeroArgumentBlock exceptionBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.$do(new OneArgumentBlock()
+      {
+        @Override public Object value(final Object element)  {
+          return (Boolean.primitiveValue(testBlock.value(element)) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              element);
+            }
+          }).value() : primitive.literalNil());
+        }
+      });
+      return (exceptionBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect_ifNone(final Object testBlock, final Object exceptionBlock) {
+     
+    OneArgumentBlock test;
+
+     
+    ZeroArgumentBlock none;
+    test = ((OneArgumentBlock)testBlock);
+    none = ((ZeroArgumentBlock)exceptionBlock);
+    return (Collection.this.detect_ifNone(test, none));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public abstract  Object $do(final OneArgumentBlock aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object do_separatedBy(final OneArgumentBlock aBlock, final ZeroArgumentBlock separateBlock) {
+    Object[] first = { null };
+    first[0] = ((smalltalk.behavior.Object)Object.primitive.literalTrue());
+    Collection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        if (Boolean.primitiveValue(first[0])) {
+          (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              return first[0] = ((smalltalk.behavior.Object)Object.primitive.literalFalse());
+            }
+          }).value();
+        }
+        else {
+          (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              return separateBlock.value();
+            }
+          }).value();
+        }
+        return aBlock.value(element);
+      }
+    });
+    return (Collection.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object do_separatedBy(final Object aBlock, final Object separateBlock) {
+     
+    OneArgumentBlock block;
+
+     
+    ZeroArgumentBlock tween;
+    block = ((OneArgumentBlock)aBlock);
+    tween = ((ZeroArgumentBlock)separateBlock);
+    return (Collection.this.do_separatedBy(block, tween));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object inject_into(final Object value, final TwoArgumentBlock binaryBlock) {
+    Object[] nextValue = { null };
+    nextValue[0] = value;
+    Collection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return nextValue[0] = binaryBlock.value_value(nextValue[0], element);
+      }
+    });
+    return (nextValue[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object reject(final OneArgumentBlock testBlock) {
+    return (this.select(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return testBlock.value(element).$is(Object.primitive.literalFalse());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object select(final OneArgumentBlock testBlock) {
+    Object[] result = { null };
+    result[0] = ((Behavior)Collection.this.species()).$new();
+    Collection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return (Boolean.primitiveValue(testBlock.value(element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return $send8.perform_with(result[0], element);
+          }
+        }).value() : primitive.literalNil());
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Pipeline
+  */
+  public  Pipeline lazy() {
+    return (Pipeline.$class.on(this));
+  }
+
+
+  /**
+  * @return boolean
+  */
+  protected  boolean doWhile(final java.util.function.Predicate sink)
+  {	final java.lang.Object scope = new java.lang.Object();
+  		try {
+  			this.$do( new smalltalk.behavior.OneArgumentBlock() {
+  				@Override public Object value(final Object element) {
+  					if (!sink.test( element )) throw new smalltalk.behavior.MethodExit( scope, element );
+  					return element;
+  				}
+  			} );
+  			return true;
+  		}
+  		catch (smalltalk.behavior.MethodExit exit) {
+  			exit.exitOn( scope );
+  			return false;
+  		}
+  	}
+
+
+  /**
+  * @return int
+  */
+  public static  int parallelChunkSize()
+  {	return Math.max( 1, java.lang.Integer.getInteger( "smalltalk.collection.parallelChunkSize", 1024 ) );
+  	}
+
+
+  /**
+  * @return void
+  */
+  protected static  void parallelRange_chunk_do(final int size, final int chunkSize, final java.util.function.IntConsumer action)
+  {	final int chunks = (size + chunkSize - 1) / chunkSize;
+  		java.util.stream.IntStream.range( 0, chunks ).parallel().forEach( c -> {
+  			final int stop = Math.min( size, (c + 1) * chunkSize );
+  			for (int i = c * chunkSize; i < stop; i++) {
+  				action.accept( i );
+  			}
+  		} );
+  	}
+
+
+  /**
+  * @return java.util.List
+  */
+  protected  java.util.List parallelElements()
+  {	final java.util.List results = new java.util.ArrayList();
+  		this.$do( new smalltalk.behavior.OneArgumentBlock() {
+  			@Override public Object value(final Object element) {
+  				results.add( element );
+  				return element;
+  			}
+  		} );
+  		return results;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelDo(final OneArgumentBlock aBlock)
+  {	final java.util.List elements = parallelElements();
+  		parallelRange_chunk_do( elements.size(), parallelChunkSize(),
+  			i -> aBlock.value( (Object) elements.get( i ) ) );
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelDo(final Object aBlock) {
+     
+    OneArgumentBlock block;
+    block = ((OneArgumentBlock)aBlock);
+    return (Collection.this.parallelDo(block));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelCollect(final OneArgumentBlock filterBlock)
+  {	final java.util.List elements = parallelElements();
+  		final Object[] results = new Object[ elements.size() ];
+  		parallelRange_chunk_do( elements.size(), parallelChunkSize(),
+  			i -> results[i] = filterBlock.value( (Object) elements.get( i ) ) );
+
+  		final int[] index = { 0 };
+  		return collect( new smalltalk.behavior.OneArgumentBlock() {
+  			@Override public Object value(final Object element) {
+  				return results[ index[0]++ ];
+  			}
+  		} );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelCollect(final Object filterBlock) {
+     
+    OneArgumentBlock filter;
+    filter = ((OneArgumentBlock)filterBlock);
+    return (Collection.this.parallelCollect(filter));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelSelect(final OneArgumentBlock testBlock)
+  {	final java.util.List elements = parallelElements();
+  		final Object[] results = new Object[ elements.size() ];
+  		parallelRange_chunk_do( elements.size(), parallelChunkSize(),
+  			i -> results[i] = testBlock.value( (Object) elements.get( i ) ) );
+
+  		final int[] index = { 0 };
+  		return select( new smalltalk.behavior.OneArgumentBlock() {
+  			@Override public Object value(final Object element) {
+  				return results[ index[0]++ ];
+  			}
+  		} );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelSelect(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Collection.this.parallelSelect(test));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelDetect_ifNone(final OneArgumentBlock testBlock, final ZeroArgumentBlock exceptionBlock)
+  {	final java.util.List elements = parallelElements();
+  		final java.util.concurrent.atomic.AtomicInteger found =
+  			new java.util.concurrent.atomic.AtomicInteger( elements.size() );
+  		parallelRange_chunk_do( elements.size(), parallelChunkSize(), i -> {
+  			if (i < found.get() && primitive.booleanFrom( testBlock.value( (Object) elements.get( i ) ) )) {
+  				found.accumulateAndGet( i, Math::min );
+  			}
+  		} );
+
+  		int index = found.get();
+  		return (index < elements.size() ? (Object) elements.get( index ) : exceptionBlock.value());
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelDetect(final OneArgumentBlock testBlock) {
+    return (this.parallelDetect_ifNone(testBlock, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Collection.this.elementNotFound();
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelDetect(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Collection.this.parallelDetect(test));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelDetect_ifNone(final Object testBlock, final Object exceptionBlock) {
+     
+    OneArgumentBlock test;
+
+     
+    ZeroArgumentBlock none;
+    test = ((OneArgumentBlock)testBlock);
+    none = ((ZeroArgumentBlock)exceptionBlock);
+    return (Collection.this.parallelDetect_ifNone(test, none));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelInject_into_combining(final Object value, final TwoArgumentBlock binaryBlock, final TwoArgumentBlock combiningBlock)
+  {	final java.util.List elements = parallelElements();
+  		final int chunkSize = parallelChunkSize();
+  		final int chunks = (elements.size() + chunkSize - 1) / chunkSize;
+  		final Object[] results = new Object[ chunks ];
+  		java.util.Arrays.fill( results, value );
+  		parallelRange_chunk_do( elements.size(), chunkSize, i -> {
+  			int c = i / chunkSize;
+  			results[c] = binaryBlock.value_value( results[c], (Object) elements.get( i ) );
+  		} );
+
+  		Object result = value;
+  		for (int c = 0; c < chunks; c++) {
+  			result = (c == 0 ? results[c] : combiningBlock.value_value( result, results[c] ));
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelInject_into(final Object value, final TwoArgumentBlock binaryBlock) {
+    return (this.parallelInject_into_combining(value, binaryBlock, binaryBlock));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelInject_into(final Object value, final Object binaryBlock) {
+     
+    TwoArgumentBlock block;
+    block = ((TwoArgumentBlock)binaryBlock);
+    return (Collection.this.parallelInject_into_combining(value, block, block));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object parallelInject_into_combining(final Object value, final Object binaryBlock, final Object combiningBlock) {
+     
+    TwoArgumentBlock block;
+
+     
+    TwoArgumentBlock combiner;
+    block = ((TwoArgumentBlock)binaryBlock);
+    combiner = ((TwoArgumentBlock)combiningBlock);
+    return (Collection.this.parallelInject_into_combining(value, block, combiner));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object emptyCollectionError() {
+    this.error(((String)primitive.StringFrom("This collection is empty")));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object indexError() {
+    this.error(((String)primitive.StringFrom("Improper index for this collection")));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object indexRangeError() {
+    this.error(((String)primitive.StringFrom("Supplied index is out of bounds")));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object elementNotFound() {
+    this.error(((String)primitive.StringFrom("Desired collection element not found")));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object elementClassError() {
+    this.error(((String)primitive.StringFrom("Collection does not hold supplied kind of element")));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object compatibilityError() {
+    this.error(((String)primitive.StringFrom("Collections are not comparable")));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object immutabilityError() {
+    this.error(((String)primitive.StringFrom("Collection contents cannot be changed")));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isCollection() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allSatisfy(final OneArgumentBlock testBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.$do(new OneArgumentBlock()
+      {
+        @Override public Object value(final Object element)  {
+          return (!Boolean.primitiveValue(testBlock.value(element)) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              Object.primitive.literalFalse());
+            }
+          }).value() : primitive.literalNil());
+        }
+      });
+      return (Object.primitive.literalTrue());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allSatisfy(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Collection.this.allSatisfy(test));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object anySatisfy(final OneArgumentBlock testBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.$do(new OneArgumentBlock()
+      {
+        @Override public Object value(final Object element)  {
+          return (Boolean.primitiveValue(testBlock.value(element)) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              Object.primitive.literalTrue());
+            }
+          }).value() : primitive.literalNil());
+        }
+      });
+      return (Object.primitive.literalFalse());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object anySatisfy(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Collection.this.anySatisfy(test));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object contains(final OneArgumentBlock testBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.detect_ifNone(testBlock, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          Object.primitive.literalFalse());
+        }
+      });
+      return (Object.primitive.literalTrue());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object contains(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Collection.this.contains(test));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object includes(final Object anObject) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.$do(new OneArgumentBlock()
+      {
+        @Override public Object value(final Object element)  {
+          return (Boolean.primitiveValue(element.$equal(anObject)) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              Object.primitive.literalTrue());
+            }
+          }).value() : primitive.literalNil());
+        }
+      });
+      return (Object.primitive.literalFalse());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isEmpty() {
+    return (this.size().$equal(((SmallInteger)primitive.IntegerFrom(0))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object notEmpty() {
+    return (this.isEmpty().$is(Object.primitive.literalFalse()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object emptyCheck() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.isEmpty())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Collection.this.emptyCollectionError());
+          }
+        }).value();
+      }
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  public  int checkIndex(final Object index)
+  {	try {
+  			Number aNumber = (Number) index;
+  			Number size = (Number) this.size();
+  			int i = aNumber.primitiveInteger() - 1;
+  			if (i >= 0 && i < size.primitiveInteger()) {
+  				return i;
+  			} else {
+  				this.indexRangeError();
+  			}
+  		} catch( java.lang.ClassCastException e ) {
+  			this.indexError();
+  		}
+  		return -1;
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int checkRange(final Object index)
+  {	try {
+  			Number aNumber = (Number) index;
+  			Number size = (Number) this.size();
+  			int i = aNumber.primitiveInteger() - 1;
+  			if (i >= 0 && i <= size.primitiveInteger()) {
+  				return i;
+  			} else {
+  				System.out.print( i + " " );
+  				this.indexRangeError();
+  			}
+  		} catch( java.lang.ClassCastException e ) {
+  			this.indexError();
+  		}
+  		return -1;
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int checkIndex_ifAbsent(final Object index, final ZeroArgumentBlock aBlock)
+  {	try {
+  			Number aNumber = (Number) index;
+  			Number size = (Number) this.size();
+  			int i = aNumber.primitiveInteger() - 1;
+  			if (i >= 0 && i < size.primitiveInteger()) {
+  				return i;
+  			} else {
+  				aBlock.value();
+  			}
+  		} catch( java.lang.ClassCastException e ) {
+  			this.indexError();
+  		}
+  		return -1;
+  	}
+}
\ No newline at end of file
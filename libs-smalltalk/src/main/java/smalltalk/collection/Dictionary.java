@@ -0,0 +1,647 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a mapped set of associations between key-value pairs. Supports
+instantiation with a primitive java.util.Map. Uses an (unsynchronized) OpenHashMap
+as the default primitive contents. Threads that share a Dictionary should create it
+with concurrent or synchronizedFrom:.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Dictionary extends smalltalk.collection.Collection 
+  implements IndexedCollection, MutableCollection, ExtensibleCollection
+{
+  /** Metaclass for Dictionary. */
+  public static  class mClass extends Collection.mClass 
+    implements IndexedCollection.mClass, MutableCollection.mClass, ExtensibleCollection.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((Dictionary)this.$new(((SmallInteger)primitive.IntegerFrom(10)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity)
+    {	return new Dictionary( (Number) capacity );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object from(final java.util.Map primitiveMap) {
+      return (new Dictionary(primitiveMap));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object concurrent() {
+      return (this.from(new java.util.concurrent.ConcurrentHashMap()));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object concurrent(final Object capacity) {
+       
+      Number size;
+      size = ((Number)capacity);
+      return (Dictionary.mClass.this.from(new java.util.concurrent.ConcurrentHashMap(size.primitiveInteger())));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object synchronizedFrom(final java.util.Map primitiveMap) {
+      return (this.from(java.util.Collections.synchronizedMap(primitiveMap)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("at_put", 2);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector3);
+  /** class instance for Dictionary. **/
+  public static final mClass $class = new mClass(Dictionary.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.util.Map contents;
+
+  /**
+  * @return 
+  */
+  protected   Dictionary() {
+    contents = ((java.util.Map)new OpenHashMap());
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   Dictionary(final Number capacity) {
+    contents = ((java.util.Map)new OpenHashMap(capacity.primitiveInteger()));
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   Dictionary(final java.util.Map primitiveMap) {
+    contents = primitiveMap;
+  }
+
+
+  /**
+  * @return java.util.Map
+  */
+  public  java.util.Map primitiveContents() {
+    return (contents);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size() {
+    return (primitive.IntegerFrom(contents.size()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object includesIndex(final Object index) {
+    return (primitive.BooleanFrom(contents.containsKey(index)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object includesKey(final Object key) {
+    return (this.includesIndex(key));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object indexOf(final Object element) {
+    return (this.indexOf_ifAbsent(element, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Dictionary.this.elementNotFound();
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object indexOf_ifAbsent(final Object element, final ZeroArgumentBlock aBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.keysAndValuesDo(new TwoArgumentBlock()
+      {
+        @Override public Object value_value(final Object key, final Object value)  {
+          return (Boolean.primitiveValue(value.$equal(element)) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              key);
+            }
+          }).value() : primitive.literalNil());
+        }
+      });
+      return (aBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object keyAtValue(final Object element) {
+    return (this.indexOf(element));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object keyAtValue_ifAbsent(final Object element, final ZeroArgumentBlock aBlock) {
+    return (this.indexOf_ifAbsent(element, aBlock));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at(final Object index) {
+    return (this.at_ifAbsent(index, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Dictionary.this.elementNotFound();
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock)
+  {	Object result = (Object) contents.get( index );
+  		return( result == null ? aBlock.value() : result );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object at_ifAbsentPut(final Object index, final ZeroArgumentBlock aBlock) {
+    return (this.at_ifAbsent(index, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Dictionary.this.at_put(index, aBlock.value());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_put(final Object index, final Object element) {
+    contents.put(index, element);
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object atAll_put(final Object indices, final Object element) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object key)  {
+        return Dictionary.this.at_put(key, element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = indices;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send0.perform_with($collection3, $block3);
+      }
+    }
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object atAllPut(final Object element) {
+    return (this.atAll_put(this.keys(), element));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object keys() {
+    return (Set.$class.from(contents.keySet()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object values() {
+    Object[] result = { null };
+    result[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new(Dictionary.this.size())));
+    Dictionary.this.keysAndValuesDo(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object element)  {
+        return $send1.perform_with(result[0], element);
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object add(final Object anAssociation) {
+     
+    Association pair;
+    pair = ((Association)anAssociation);
+    Dictionary.this.at_put(pair.key(), pair.value());
+    return (anAssociation);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object addAll(final Object aDictionary) {
+     
+    Dictionary d;
+    d = ((Dictionary)aDictionary);
+    d.keysAndValuesDo(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object element)  {
+        return Dictionary.this.at_put(key, element);
+      }
+    });
+    return (aDictionary);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Dictionary aCollection) {
+    return (primitive.BooleanFrom(contents.equals(aCollection.primitiveContents())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            Dictionary.this.$equal(((Dictionary)aCollection)));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode() {
+    return (contents.hashCode());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object associationsDo(final OneArgumentBlock aBlock) {
+    this.keysAndValuesDo(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object element)  {
+        return aBlock.value(Association.$class.key_value(key, element));
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object associationsDo(final Object aBlock)
+  {	return associationsDo( (OneArgumentBlock) aBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object collect(final OneArgumentBlock aBlock) {
+    Object[] result = { null };
+    result[0] = ((Behavior)Dictionary.this.species()).$new(Dictionary.this.size());
+    Dictionary.this.keysAndValuesDo(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object element)  {
+        return $send2.perform_with_with(result[0], key, aBlock.value(element));
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock) {
+    this.keysAndValuesDo(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object element)  {
+        return aBlock.value(element);
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object keysAndValuesDo(final TwoArgumentBlock aBlock)
+  {	// optimizes element enumeration, without looking up each key
+  		contents.forEach( (key, element) -> aBlock.value_value( (Object) key, (Object) element ) );
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object keysAndValuesDo(final Object aBlock)
+  {	return keysAndValuesDo( (TwoArgumentBlock) aBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object keysDo(final OneArgumentBlock aBlock) {
+    this.keysAndValuesDo(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object element)  {
+        return aBlock.value(key);
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object keysDo(final Object aBlock)
+  {	return keysDo( (OneArgumentBlock) aBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reject(final OneArgumentBlock aBlock) {
+    Object[] result = { null };
+    result[0] = ((Behavior)Dictionary.this.species()).$new(Dictionary.this.size());
+    Dictionary.this.keysAndValuesDo(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object element)  {
+        return (!Boolean.primitiveValue(aBlock.value(element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return $send3.perform_with_with(result[0], key, element);
+          }
+        }).value() : primitive.literalNil());
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object select(final OneArgumentBlock aBlock) {
+    Object[] result = { null };
+    result[0] = ((Behavior)Dictionary.this.species()).$new(Dictionary.this.size());
+    Dictionary.this.keysAndValuesDo(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object element)  {
+        return (Boolean.primitiveValue(aBlock.value(element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return $send4.perform_with_with(result[0], key, element);
+          }
+        }).value() : primitive.literalNil());
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeKey(final Object key) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.removeKey_ifAbsent(key, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          Dictionary.this.elementNotFound());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeKey_ifAbsent(final Object key, final ZeroArgumentBlock aBlock) {
+     
+    Object result;
+    result = Dictionary.this.at_ifAbsent(key, aBlock);
+    contents.remove(key);
+    return (result);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeAllKeys(final Object keys) {
+    this.removeAllKeys_ifAbsent(keys, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Dictionary.this.elementNotFound();
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeAllKeys_ifAbsent(final Object keys, final ZeroArgumentBlock aBlock) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object key)  {
+        return Dictionary.this.removeKey_ifAbsent(key, aBlock);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = keys;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send5.perform_with($collection3, $block3);
+      }
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object writeStream() {
+    return ($send6.perform_with(((String)primitive.StringFrom("smalltalk.stream.WriteStream")).resolvedToClass(), this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isEmpty() {
+    return (primitive.BooleanFrom(contents.isEmpty()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object includes(final Object element) {
+    return (primitive.BooleanFrom(contents.containsValue(element)));
+  }
+}
\ No newline at end of file
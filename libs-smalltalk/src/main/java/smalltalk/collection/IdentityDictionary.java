@@ -0,0 +1,120 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents an identity mapped set of associations between key-value pairs. Supports
+instantiation with a primitive java.util.Map. Uses a java.util.IdentityHashMap
+as the primitive contents.
+@author Copyright 2002 Nikolas S. Boyd. All rights reserved. */
+public  class IdentityDictionary extends smalltalk.collection.Dictionary 
+{
+  /** Metaclass for IdentityDictionary. */
+  public static  class mClass extends Dictionary.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity)
+    {	return new IdentityDictionary( (Number) capacity );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object from(final java.util.Map primitiveMap) {
+      return (new IdentityDictionary(primitiveMap));
+    }
+  }
+
+  /** class instance for IdentityDictionary. **/
+  public static final mClass $class = new mClass(IdentityDictionary.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   IdentityDictionary() {
+    contents = ((java.util.Map)new java.util.IdentityHashMap());
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   IdentityDictionary(final Number capacity) {
+    contents = ((java.util.Map)new java.util.IdentityHashMap(capacity.primitiveInteger()));
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   IdentityDictionary(final java.util.Map primitiveMap) {
+    contents = ((java.util.Map)new java.util.IdentityHashMap(primitiveMap.size()));
+    contents.putAll(primitiveMap);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object keys() {
+    return (IdentitySet.$class.from(contents.keySet()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final IdentityDictionary aCollection) {
+    return (primitive.BooleanFrom(contents.equals(aCollection.primitiveContents())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            IdentityDictionary.this.$equal(((IdentityDictionary)aCollection)));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Supports element access by index.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface IndexedCollection
+{
+  /** Metatype for IndexedCollection. */
+  public static  interface mClass
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object at(final Object index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object includesIndex(final Object index);
+
+
+  /**
+  * @return Object
+  */
+  public  Object indexOf(final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object indexOf_ifAbsent(final Object element, final ZeroArgumentBlock aBlock);
+}
\ No newline at end of file
@@ -0,0 +1,265 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a sequence of numbers.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Interval extends smalltalk.collection.SequenceableCollection 
+{
+  /** Metaclass for Interval. */
+  public static  class mClass extends SequenceableCollection.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (this.from_to_by(((SmallInteger)primitive.IntegerFrom(0)), ((SmallInteger)primitive.IntegerFrom(0)), ((SmallInteger)primitive.IntegerFrom(0))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object from_to(final Object start, final Object stop) {
+      return (this.from_to_by(start, stop, ((SmallInteger)primitive.IntegerFrom(1))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object from_to_by(final Object start, final Object stop, final Object step)
+    {	return new Interval( (Number) start, (Number) stop, (Number) step );
+    		}
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$imod", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$idiv", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("first", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("stop", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("step", 0);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("at_put", 2);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector7);
+  /** class instance for Interval. **/
+  public static final mClass $class = new mClass(Interval.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Number start;
+
+  protected 
+  Number stop;
+
+  protected 
+  Number step;
+
+  /**
+  * @return 
+  */
+  protected   Interval(final Number aStart, final Number aStop, final Number aStep) {
+    start = aStart;
+    stop = aStop;
+    step = aStep;
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object first() {
+    this.emptyCheck();
+    return (primitive.IntegerFrom(start.primitiveInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object last() {
+    this.emptyCheck();
+    return (stop.$minus($send0.perform_with(stop.$minus(start), step)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size() {
+    return ((Boolean.primitiveValue(this.isEmpty()) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ((SmallInteger)primitive.IntegerFrom(0));
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send2.perform_with($send1.perform_with(stop.$minus(start), step), ((SmallInteger)primitive.IntegerFrom(1)));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return smalltalk.behavior.Behavior
+  */
+  @Override
+  public  smalltalk.behavior.Behavior species() {
+    return (OrderedCollection.$class);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(aCollection.$class().$is(this.$class()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            $send7.perform_with(start.$equal($send3.perform(aCollection)), new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                return $send6.perform_with(stop.$equal($send4.perform(aCollection)), new ZeroArgumentBlock()
+                {
+                  @Override public Object value()  {
+                    return step.$equal($send5.perform(aCollection));
+                  }
+                });
+              }
+            }));
+          }
+        }).value();
+      }
+      return (super.$equal(aCollection));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	int result = start.hashCode();
+  		result <<= 2;
+  		result ^= stop.hashCode();
+  		result <<= 1;
+  		result ^= step.hashCode();
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock) {
+     
+    int i;
+    i = ((int)Interval.this.checkIndex_ifAbsent(index, aBlock));
+    i *=  step.primitiveInteger();
+    i +=  start.primitiveInteger();
+    return (primitive.IntegerFrom(i));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reverse() {
+    return (Interval.$class.from_to_by(stop, start, step.negated()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object collect(final OneArgumentBlock filterBlock) {
+    FastInteger[] index = { null };
+
+    Object[] result = { null };
+    result[0] = ((Behavior)Interval.this.species()).$new(Interval.this.size());
+    index[0] = ((FastInteger)((SmallInteger)primitive.IntegerFrom(0)).asFastInteger());
+    Interval.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object v)  {
+        index[0].$incremented(1);
+        return $send8.perform_with_with(result[0], index[0], filterBlock.value(v));
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock) {
+    start.to_by_do(stop, step, new OneArgumentBlock()
+    {
+      @Override public Object value(final Object i)  {
+        return aBlock.value(i);
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isEmpty() {
+    return ((Boolean.primitiveValue(step.$lessThan(((SmallInteger)primitive.IntegerFrom(0)))) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return start.$lessThan(stop);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return stop.$lessThan(start);
+      }
+    }).value()));
+  }
+}
\ No newline at end of file
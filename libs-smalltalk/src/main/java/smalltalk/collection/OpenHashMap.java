@@ -0,0 +1,301 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Maps keys to values in a hash table with open addressing and linear probing. Keeps its keys and
+values in primitive arrays, and matches keys with their own hashCode and equals, which Bistro
+objects derive from hash and =, without any reflection. Unlike a java.util.Hashtable, an OpenHashMap
+takes no monitor, so threads that share one must synchronize their access to it. Like a Hashtable,
+it admits no null keys or values, and its enumerations fail fast with a ConcurrentModificationException
+when it gains or loses keys other than through them.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class OpenHashMap extends java.util.AbstractMap 
+{
+
+  private static final 
+  java.lang.Object Removed = new java.lang.Object();
+
+  private static final 
+  int MinimumLength = 8;
+
+  protected 
+  java.lang.Object[] keyTable;
+
+  protected 
+  java.lang.Object[] valueTable;
+
+  protected 
+  int count;
+
+  protected 
+  int used;
+
+  protected 
+  int modCount;
+
+  /**
+  * @return 
+  */
+  public   OpenHashMap()
+  {	this( 0 );
+  	}
+
+
+  /**
+  * @return 
+  */
+  public   OpenHashMap(final int capacity)
+  {	allocate( lengthFor( capacity ) );
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int size()
+  {	return count;
+  	}
+
+
+  /**
+  * @return java.lang.Object
+  */
+  public  java.lang.Object get(final java.lang.Object key)
+  {	int slot = slotOf( key );
+  		return (slot < 0 ? null : valueTable[slot]);
+  	}
+
+
+  /**
+  * @return java.util.Set
+  */
+  public  java.util.Set entrySet()
+  {	return new java.util.AbstractSet() {
+  			@Override public int size() { return count; }
+  			@Override public void clear() { OpenHashMap.this.clear(); }
+  			@Override public java.util.Iterator iterator() {
+  				return new java.util.Iterator() {
+  					int slot = nextSlot( 0 );
+  					int last = -1;
+  					int expected = modCount;
+
+  					@Override public boolean hasNext() {
+  						return slot < keyTable.length;
+  					}
+
+  					@Override public java.lang.Object next() {
+  						if (modCount != expected) throw new java.util.ConcurrentModificationException();
+  						if (slot >= keyTable.length) throw new java.util.NoSuchElementException();
+  						final int entrySlot = last = slot;
+  						slot = nextSlot( slot + 1 );
+  						return new java.util.AbstractMap.SimpleEntry( keyTable[entrySlot], valueTable[entrySlot] ) {
+  							@Override public java.lang.Object setValue(java.lang.Object value) {
+  								if (value == null) throw new NullPointerException();
+  								valueTable[entrySlot] = value;
+  								return super.setValue( value );
+  							}
+  						};
+  					}
+
+  					@Override public void remove() {
+  						if (last < 0) throw new IllegalStateException();
+  						if (modCount != expected) throw new java.util.ConcurrentModificationException();
+  						OpenHashMap.this.remove( keyTable[last] );
+  						expected = modCount;
+  						last = -1;
+  					}
+  				};
+  			}
+  		};
+  	}
+
+
+  /**
+  * @return java.lang.Object
+  */
+  public  java.lang.Object put(final java.lang.Object key, final java.lang.Object value)
+  {	if (key == null || value == null) throw new NullPointerException();
+  		final int mask = keyTable.length - 1;
+  		int slot = spread( key.hashCode() ) & mask;
+  		int free = -1;
+  		java.lang.Object candidate;
+  		while ((candidate = keyTable[slot]) != null) {
+  			if (candidate == Removed) {
+  				if (free < 0) free = slot;
+  			}
+  			else if (candidate == key || key.equals( candidate )) {
+  				java.lang.Object result = valueTable[slot];
+  				valueTable[slot] = value;
+  				return result;
+  			}
+  			slot = (slot + 1) & mask;
+  		}
+
+  		if (free < 0) {
+  			if ((used + 1) * 3 > keyTable.length * 2) {
+  				rehash( lengthFor( count + 1 ) );
+  				return put( key, value );
+  			}
+  			free = slot;
+  			used++;
+  		}
+
+  		keyTable[free] = key;
+  		valueTable[free] = value;
+  		count++;
+  		modCount++;
+  		return null;
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void forEach(final java.util.function.BiConsumer action)
+  {	final java.lang.Object[] keys = keyTable;
+  		final java.lang.Object[] values = valueTable;
+  		final int expected = modCount;
+  		for (int slot = 0; slot < keys.length; slot++) {
+  			java.lang.Object key = keys[slot];
+  			if (key != null && key != Removed) {
+  				action.accept( key, values[slot] );
+  				if (modCount != expected) throw new java.util.ConcurrentModificationException();
+  			}
+  		}
+  	}
+
+
+  /**
+  * @return java.lang.Object
+  */
+  public  java.lang.Object remove(final java.lang.Object key)
+  {	int slot = slotOf( key );
+  		if (slot < 0) return null;
+
+  		java.lang.Object result = valueTable[slot];
+  		valueTable[slot] = null;
+  		count--;
+  		modCount++;
+  		if (keyTable[(slot + 1) & (keyTable.length - 1)] == null) {
+  			// no probe passes over the slot
+  			keyTable[slot] = null;
+  			used--;
+  		}
+  		else {
+  			keyTable[slot] = Removed;
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void clear()
+  {	java.util.Arrays.fill( keyTable, null );
+  		java.util.Arrays.fill( valueTable, null );
+  		count = 0;
+  		used = 0;
+  		modCount++;
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  public  boolean containsKey(final java.lang.Object key)
+  {	return slotOf( key ) >= 0;
+  	}
+
+
+  /**
+  * @return int
+  */
+  private static  int lengthFor(final int capacity)
+  {	int length = MinimumLength;
+  		while (length * 2 < capacity * 3) length <<= 1;
+  		return length;
+  	}
+
+
+  /**
+  * @return int
+  */
+  private static  int spread(final int hash)
+  {	int result = hash * 0x9E3779B9;
+  		return result ^ (result >>> 16);
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void allocate(final int length)
+  {	keyTable = new java.lang.Object[ length ];
+  		valueTable = new java.lang.Object[ length ];
+  		used = 0;
+  	}
+
+
+  /**
+  * @return int
+  */
+  private  int nextSlot(final int slot)
+  {	int result = slot;
+  		while (result < keyTable.length && (keyTable[result] == null || keyTable[result] == Removed)) {
+  			result++;
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void rehash(final int length)
+  {	final java.lang.Object[] keys = keyTable;
+  		final java.lang.Object[] values = valueTable;
+  		allocate( Math.max( length, keys.length ) );
+
+  		final int mask = keyTable.length - 1;
+  		for (int index = 0; index < keys.length; index++) {
+  			java.lang.Object key = keys[index];
+  			if (key == null || key == Removed) continue;
+
+  			int slot = spread( key.hashCode() ) & mask;
+  			while (keyTable[slot] != null) slot = (slot + 1) & mask;
+  			keyTable[slot] = key;
+  			valueTable[slot] = values[index];
+  			used++;
+  		}
+  	}
+
+
+  /**
+  * @return int
+  */
+  private  int slotOf(final java.lang.Object key)
+  {	if (key == null) return -1;
+  		final int mask = keyTable.length - 1;
+  		int slot = spread( key.hashCode() ) & mask;
+  		java.lang.Object candidate;
+  		while ((candidate = keyTable[slot]) != null) {
+  			if (candidate != Removed && (candidate == key || key.equals( candidate ))) return slot;
+  			slot = (slot + 1) & mask;
+  		}
+  		return -1;
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,769 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents an ordered, variable sized collection of objects.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class OrderedCollection extends smalltalk.collection.ArrayedCollection 
+  implements ExtensibleCollection, ExcisableCollection, ContractibleCollection, OrderedCollectionFactory
+{
+  /** Metaclass for OrderedCollection. */
+  public static  class mClass extends ArrayedCollection.mClass 
+    implements ExtensibleCollection.mClass, ExcisableCollection.mClass, ContractibleCollection.mClass, OrderedCollectionFactory.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("asArray", 0);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object OrderedCollectionFrom(final Object[] primitiveArray)
+    {
+    			OrderedCollection result = new OrderedCollection( 
+    				(Number) primitive.IntegerFrom( primitiveArray.length ) 
+    			);
+    			for( int i = 0; i < primitiveArray.length; i++ ) {
+    				result.add( primitiveArray[i] );
+    			}
+    			return result;
+    		}
+
+
+    /**
+    * @return Object[]
+    */
+    @Override
+    public  Object[] arrayedCollectionFrom(final Object anOrderedCollection) {
+      return (primitive.arrayFrom($send0.perform(anOrderedCollection)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((OrderedCollection)this.$new(((SmallInteger)primitive.IntegerFrom(10)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity)
+    {	return new OrderedCollection( (Number) capacity );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object from(final java.util.List primitiveList) {
+      return (new OrderedCollection(primitiveList));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object synchronizedFrom(final java.util.List primitiveList) {
+      return (new OrderedCollection(java.util.Collections.synchronizedList(primitiveList)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("inject_into", 2);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("reverseDo", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("value", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("timesRepeat", 1);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector9);
+  /** class instance for OrderedCollection. **/
+  public static final mClass $class = new mClass(OrderedCollection.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.util.List contents;
+
+  /**
+  * @return 
+  */
+  protected   OrderedCollection() {
+    contents = ((java.util.List)new java.util.ArrayList());
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   OrderedCollection(final Number capacity) {
+    contents = ((java.util.List)new java.util.ArrayList(capacity.primitiveInteger()));
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   OrderedCollection(final java.util.List primitiveList) {
+    contents = primitiveList;
+  }
+
+
+  /**
+  * @return java.util.List
+  */
+  public  java.util.List primitiveContents() {
+    return (contents);
+  }
+
+
+  /**
+  * @return boolean
+  */
+  @Override
+  protected  boolean doWhile(final java.util.function.Predicate sink)
+  {	for (java.lang.Object element : contents) {
+  			if (!sink.test( element )) return false;
+  		}
+  		return true;
+  	}
+
+
+  /**
+  * @return java.util.List
+  */
+  @Override
+  protected  java.util.List parallelElements() {
+    return (contents);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size() {
+    return (primitive.IntegerFrom(contents.size()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock) {
+     
+    int i;
+
+     
+    Object result;
+    i = ((int)OrderedCollection.this.checkIndex_ifAbsent(index, aBlock));
+    result = ((smalltalk.behavior.Object)contents.get(i));
+    return (result);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_put(final Object index, final Object element) {
+    int[] i = { 0 };
+    i[0] = ((int)OrderedCollection.this.checkRange(index));
+    if (Boolean.primitiveValue($send0.perform_with(primitive.IntegerFrom(i[0]), OrderedCollection.this.size()))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          contents.set(i[0], element);
+          return Object.primitive.literalNil();
+        }
+      }).value();
+    }
+    else {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          contents.add(element);
+          return Object.primitive.literalNil();
+        }
+      }).value();
+    }
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object add(final Object element) {
+    return (this.addLast(element));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object addAll(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return OrderedCollection.this.add(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send1.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object add_after(final Object element, final Object target) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.add_afterIndex(element, this.indexOf_ifAbsent(target, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          OrderedCollection.this.elementNotFound());
+        }
+      })));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object add_afterIndex(final Object element, final Object index) {
+     
+    int i;
+    i = ((int)OrderedCollection.this.checkRange($send2.perform_with(index, ((SmallInteger)primitive.IntegerFrom(1)))));
+    contents.add(i, element);
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object add_before(final Object element, final Object target) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.add_beforeIndex(element, this.indexOf_ifAbsent(target, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          OrderedCollection.this.elementNotFound());
+        }
+      })));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object add_beforeIndex(final Object element, final Object index) {
+     
+    int i;
+    i = ((int)OrderedCollection.this.checkRange(index));
+    contents.add(i, element);
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll_after(final Object elements, final Object target) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.addAll_afterIndex(elements, this.indexOf_ifAbsent(target, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          OrderedCollection.this.elementNotFound());
+        }
+      })));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll_afterIndex(final Object elements, final Object index) {
+    {
+      final TwoArgumentBlock $block3 = new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object i, final Object e)  {
+        OrderedCollection.this.add_afterIndex(e, i);
+        return $send3.perform_with(i, ((SmallInteger)primitive.IntegerFrom(1)));
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      smalltalk.behavior.Object $result3 = index;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $result3 = $block3.value_value($result3, $elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $result3 = $block3.value_value($result3, (smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $result3 = $send4.perform_with_with($collection3, $result3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll_before(final Object elements, final Object target) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.addAll_beforeIndex(elements, this.indexOf_ifAbsent(target, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          OrderedCollection.this.elementNotFound());
+        }
+      })));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAll_beforeIndex(final Object elements, final Object index) {
+    {
+      final TwoArgumentBlock $block3 = new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object i, final Object e)  {
+        OrderedCollection.this.add_beforeIndex(e, i);
+        return $send5.perform_with(i, ((SmallInteger)primitive.IntegerFrom(1)));
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      smalltalk.behavior.Object $result3 = index;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $result3 = $block3.value_value($result3, $elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $result3 = $block3.value_value($result3, (smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $result3 = $send6.perform_with_with($collection3, $result3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAllFirst(final Object elements) {
+    $send7.perform_with(elements, new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return OrderedCollection.this.addFirst(element);
+      }
+    });
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object addAllLast(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return OrderedCollection.this.addLast(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send8.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object addFirst(final Object element) {
+    this.add_beforeIndex(element, ((SmallInteger)primitive.IntegerFrom(1)));
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object addLast(final Object element) {
+    contents.add(element);
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final OrderedCollection aCollection) {
+    return (primitive.BooleanFrom(contents.equals(aCollection.primitiveContents())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            OrderedCollection.this.$equal(((OrderedCollection)aCollection)));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode() {
+    return (contents.hashCode());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeAtIndex_ifAbsent(final Object index, final ZeroArgumentBlock aBlock) {
+     
+    int i;
+    i = ((int)OrderedCollection.this.checkIndex_ifAbsent(index, aBlock));
+    return (((smalltalk.behavior.Object)contents.remove(i)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAtIndex(final Object index) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.removeAtIndex_ifAbsent(index, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          OrderedCollection.this.indexRangeError());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object remove(final Object element) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.remove_ifAbsent(element, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          OrderedCollection.this.elementNotFound());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object remove_ifAbsent(final Object element, final ZeroArgumentBlock aBlock) {
+    return (this.removeAtIndex(this.indexOf_ifAbsent(element, aBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAll(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return OrderedCollection.this.remove(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send9.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAllSuchThat(final Object criteria) {
+    Object[] result = { null };
+    result[0] = ((Behavior)OrderedCollection.this.$class()).$new(((SmallInteger)primitive.IntegerFrom(10)));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+       
+      Object element;
+      @Override public Object value(final Object index)  {
+        element = OrderedCollection.this.at(index);
+        return (Boolean.primitiveValue($send10.perform_with(criteria, element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            $send11.perform_with(result[0], element);
+            return OrderedCollection.this.removeAtIndex(index);
+          }
+        }).value() : primitive.literalNil());
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = OrderedCollection.this.size();
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send12.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeFirst() {
+    this.emptyCheck();
+    return (((smalltalk.behavior.Object)contents.remove(0)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeLast() {
+    this.emptyCheck();
+    return (((smalltalk.behavior.Object)contents.remove(contents.size() -  ((SmallInteger)primitive.IntegerFrom(1)).asPrimitive())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeFirst(final Object count) {
+    Object[] result = { null };
+    result[0] = ((Behavior)OrderedCollection.this.$class()).$new(count);
+    {
+      final ZeroArgumentBlock $block3 = new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send13.perform_with(result[0], OrderedCollection.this.removeFirst());
+      }
+    };
+      final smalltalk.behavior.Object $count3 = count;
+      if ($count3 instanceof smalltalk.magnitude.SmallInteger) {
+        for (int $index3 = ((smalltalk.magnitude.SmallInteger)$count3).primitiveInteger(); $index3 > 0; $index3--) {
+          $block3.value();
+        }
+      }
+      else {
+        $send14.perform_with($count3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeLast(final Object count) {
+    Object[] result = { null };
+    result[0] = ((Behavior)OrderedCollection.this.$class()).$new(count);
+    {
+      final ZeroArgumentBlock $block3 = new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send15.perform_with(result[0], OrderedCollection.this.removeLast());
+      }
+    };
+      final smalltalk.behavior.Object $count3 = count;
+      if ($count3 instanceof smalltalk.magnitude.SmallInteger) {
+        for (int $index3 = ((smalltalk.magnitude.SmallInteger)$count3).primitiveInteger(); $index3 > 0; $index3--) {
+          $block3.value();
+        }
+      }
+      else {
+        $send16.perform_with($count3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object writeStream() {
+    return ($send17.perform_with(((String)primitive.StringFrom("smalltalk.stream.WriteStream")).resolvedToClass(), this));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,347 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Passes the elements of a collection lazily through a series of stages, such as select: and collect:.
+The stages get fused, so that each element passes through all of them in a single pass over the source,
+without building any intermediate collections. A pipeline evaluates its stages only when it enumerates,
+and it stops enumerating its source as soon as the result has been decided, as with detect: and first:.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Pipeline extends smalltalk.behavior.Object 
+{
+  /** Metaclass for Pipeline. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Pipeline
+    */
+    public  Pipeline on(final Collection aCollection)
+    {	return new Pipeline( aCollection, new java.util.ArrayList() );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object on(final Object aCollection) {
+       
+      Collection source;
+      source = ((Collection)aCollection);
+      return (Pipeline.mClass.this.on(source));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("asArray", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  /** class instance for Pipeline. **/
+  public static final mClass $class = new mClass(Pipeline.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Collection source;
+
+  protected 
+  java.util.List stages;
+
+  /**
+  * @return 
+  */
+  protected   Pipeline(final Collection aCollection, final java.util.List stageList) {
+    source = aCollection;
+    stages = stageList;
+  }
+
+
+  /**
+  * @return Pipeline
+  */
+  protected  Pipeline withStage(final java.util.function.UnaryOperator stage)
+  {	java.util.List results = new java.util.ArrayList( stages );
+  		results.add( stage );
+  		return new Pipeline( source, results );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object collect(final OneArgumentBlock filterBlock)
+  {	return withStage( (java.util.function.UnaryOperator<java.util.function.Predicate>) sink ->
+  			element -> sink.test( filterBlock.value( (Object) element ) ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object collect(final Object filterBlock) {
+     
+    OneArgumentBlock filter;
+    filter = ((OneArgumentBlock)filterBlock);
+    return (Pipeline.this.collect(filter));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object first(final Object count)
+  {	final int limit = primitive.intFrom( count );
+  		return withStage( (java.util.function.UnaryOperator<java.util.function.Predicate>) sink -> {
+  			final int[] taken = { 0 };
+  			return element -> taken[0]++ < limit && sink.test( element ) && taken[0] < limit;
+  		} );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object lazy() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object reject(final OneArgumentBlock testBlock) {
+    return (this.select(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return testBlock.value(element).$is(Object.primitive.literalFalse());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object reject(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Pipeline.this.reject(test));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object select(final OneArgumentBlock testBlock)
+  {	return withStage( (java.util.function.UnaryOperator<java.util.function.Predicate>) sink ->
+  			element -> !primitive.booleanFrom( testBlock.value( (Object) element ) ) || sink.test( element ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object select(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Pipeline.this.select(test));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asArray() {
+    return ($send0.perform(this.asOrderedCollection()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asOrderedCollection() {
+    Object[] result = { null };
+    result[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new()));
+    Pipeline.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return $send1.perform_with(result[0], element);
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect(final OneArgumentBlock testBlock) {
+    return (this.detect_ifNone(testBlock, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return source.elementNotFound();
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Pipeline.this.detect(test));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect_ifNone(final OneArgumentBlock testBlock, final ZeroArgumentBlock exceptionBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.$do(new OneArgumentBlock()
+      {
+        @Override public Object value(final Object element)  {
+          return (Boolean.primitiveValue(testBlock.value(element)) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              element);
+            }
+          }).value() : primitive.literalNil());
+        }
+      });
+      return (exceptionBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object detect_ifNone(final Object testBlock, final Object exceptionBlock) {
+     
+    OneArgumentBlock test;
+
+     
+    ZeroArgumentBlock none;
+    test = ((OneArgumentBlock)testBlock);
+    none = ((ZeroArgumentBlock)exceptionBlock);
+    return (Pipeline.this.detect_ifNone(test, none));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock)
+  {	doWhile( element -> { aBlock.value( (Object) element ); return true; } );
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $do(final Object aBlock) {
+     
+    OneArgumentBlock block;
+    block = ((OneArgumentBlock)aBlock);
+    return (Pipeline.this.$do(block));
+  }
+
+
+  /**
+  * @return boolean
+  */
+  protected  boolean doWhile(final java.util.function.Predicate sink)
+  {	java.util.function.Predicate result = sink;
+  		for (int index = stages.size() - 1; index >= 0; index--) {
+  			result = (java.util.function.Predicate)
+  				((java.util.function.UnaryOperator) stages.get( index )).apply( result );
+  		}
+  		return source.doWhile( result );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object inject_into(final Object value, final TwoArgumentBlock binaryBlock) {
+    Object[] nextValue = { null };
+    nextValue[0] = value;
+    Pipeline.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return nextValue[0] = binaryBlock.value_value(nextValue[0], element);
+      }
+    });
+    return (nextValue[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object inject_into(final Object value, final Object binaryBlock) {
+     
+    TwoArgumentBlock block;
+    block = ((TwoArgumentBlock)binaryBlock);
+    return (Pipeline.this.inject_into(value, block));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object contains(final OneArgumentBlock testBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.detect_ifNone(testBlock, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          Object.primitive.literalFalse());
+        }
+      });
+      return (Object.primitive.literalTrue());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object contains(final Object testBlock) {
+     
+    OneArgumentBlock test;
+    test = ((OneArgumentBlock)testBlock);
+    return (Pipeline.this.contains(test));
+  }
+}
\ No newline at end of file
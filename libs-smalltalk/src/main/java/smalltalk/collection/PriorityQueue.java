@@ -0,0 +1,416 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a variable sized collection of objects, which removes its elements in the order
+established by its sort block, like a SortedCollection. Keeps its elements in a d-ary heap
+of four children per parent, stored in an array, so that adding an element and removing the
+first one each take a logarithmic number of comparisons, without ever sorting all the elements.
+Equal elements get removed in the order in which they were added. Enumerates its elements in the
+order of its heap, which is not the order of removal. A PriorityQueue supports no concurrent
+access, but one created with concurrent does.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class PriorityQueue extends smalltalk.collection.Collection 
+  implements ExtensibleCollection, ContractibleCollection
+{
+  /** Metaclass for PriorityQueue. */
+  public static  class mClass extends Collection.mClass 
+    implements ExtensibleCollection.mClass, ContractibleCollection.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("sortBlock", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((PriorityQueue)this.$new(((SmallInteger)primitive.IntegerFrom(16)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity) {
+      return (new PriorityQueue(((Number)capacity)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object sortBlock(final Object sortBlock) {
+      return (new ZeroArgumentBlock()
+      {
+         
+        Object local4_0;
+        @Override public Object value()  {
+          $send0.perform_with(local4_0 = ((smalltalk.behavior.Object)((PriorityQueue)PriorityQueue.mClass.this.$new())), sortBlock);
+          return local4_0.yourself();
+        }
+      }.value());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object concurrent() {
+      return (((SharedPriorityQueue)((Behavior)SharedPriorityQueue.$class).$new()));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object concurrent(final Object capacity) {
+      return (((SharedPriorityQueue)((Behavior)SharedPriorityQueue.$class).$new(capacity)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("timesRepeat", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  /** class instance for PriorityQueue. **/
+  public static final mClass $class = new mClass(PriorityQueue.class);
+  @Override public Behavior $class() { return $class; }
+  private static final 
+  int Arity = 4;
+
+  protected 
+  java.lang.Object[] heap;
+
+  protected 
+  long[] order;
+
+  protected 
+  int count;
+
+  protected 
+  long added;
+
+  protected 
+  TwoArgumentBlock sortBlock;
+
+  protected 
+  java.util.Comparator primitiveSort;
+
+  /**
+  * @return 
+  */
+  protected   PriorityQueue()
+  {	this( (Number) primitive.IntegerFrom( 16 ) );
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   PriorityQueue(final Number capacity)
+  {	int length = Math.max( 1, capacity.primitiveInteger() );
+  		heap = new java.lang.Object[ length ];
+  		order = new long[ length ];
+  		sortBlock = SortedCollection.$class.sortBlock();
+  		primitiveSort = SortedCollection.comparatorFor( sortBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object capacity()
+  {	return primitive.IntegerFrom( heap.length );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size()
+  {	return primitive.IntegerFrom( count );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object first()
+  {	if (count == 0) return emptyCheck();
+  		return (Object) heap[0];
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object peek()
+  {	return (count == 0 ? primitive.literalNil() : (Object) heap[0]);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object add(final Object element)
+  {	if (count == heap.length) {
+  			heap = java.util.Arrays.copyOf( heap, count * 2 );
+  			order = java.util.Arrays.copyOf( order, count * 2 );
+  		}
+  		heap[count] = element;
+  		order[count] = added++;
+  		siftUp( count++ );
+  		return element;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object addAll(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return PriorityQueue.this.add(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send0.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAtIndex(final Object index)
+  {	int slot = checkIndex( index );
+  		if (slot < 0) return primitive.literalNil();
+  		return removeSlot( slot );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeFirst()
+  {	if (count == 0) return emptyCheck();
+  		return removeSlot( 0 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeLast()
+  {	if (count == 0) return emptyCheck();
+  		int last = (count == 1 ? 0 : (count - 2) / Arity + 1);
+  		for (int slot = last + 1; slot < count; slot++) {
+  			if (precedes( heap[last], order[last], heap[slot], order[slot] )) last = slot;
+  		}
+  		return removeSlot( last );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeFirst(final Object removals) {
+    Object[] result = { null };
+    result[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new(removals)));
+    {
+      final ZeroArgumentBlock $block3 = new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send1.perform_with(result[0], PriorityQueue.this.removeFirst());
+      }
+    };
+      final smalltalk.behavior.Object $count3 = removals;
+      if ($count3 instanceof smalltalk.magnitude.SmallInteger) {
+        for (int $index3 = ((smalltalk.magnitude.SmallInteger)$count3).primitiveInteger(); $index3 > 0; $index3--) {
+          $block3.value();
+        }
+      }
+      else {
+        $send2.perform_with($count3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeAll()
+  {	java.util.Arrays.fill( heap, 0, count, null );
+  		count = 0;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock)
+  {	for (int slot = 0; slot < count; slot++) {
+  			aBlock.value( (Object) heap[slot] );
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return smalltalk.behavior.Behavior
+  */
+  @Override
+  public  smalltalk.behavior.Behavior species() {
+    return (OrderedCollection.$class);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sortBlock() {
+    return (sortBlock);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sortBlock(final TwoArgumentBlock aBlock)
+  {	sortBlock = aBlock;
+  		primitiveSort = SortedCollection.comparatorFor( aBlock );
+  		for (int slot = (count - 2) / Arity; slot >= 0; slot--) {
+  			siftDown( slot );
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object sortBlock(final Object aBlock)
+  {	return sortBlock( (TwoArgumentBlock) aBlock );
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  private  boolean precedes(final java.lang.Object element, final long sequence, final java.lang.Object other, final long otherSequence)
+  {	int result = primitiveSort.compare( element, other );
+  		return (result == 0 ? sequence < otherSequence : result < 0);
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void siftUp(final int start)
+  {	java.lang.Object element = heap[start];
+  		long sequence = order[start];
+  		int slot = start;
+  		while (slot > 0) {
+  			int parent = (slot - 1) / Arity;
+  			if (!precedes( element, sequence, heap[parent], order[parent] )) break;
+  			heap[slot] = heap[parent];
+  			order[slot] = order[parent];
+  			slot = parent;
+  		}
+  		heap[slot] = element;
+  		order[slot] = sequence;
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void siftDown(final int start)
+  {	java.lang.Object element = heap[start];
+  		long sequence = order[start];
+  		int slot = start;
+  		while (true) {
+  			int child = slot * Arity + 1;
+  			if (child >= count) break;
+
+  			int best = child;
+  			int last = Math.min( child + Arity, count );
+  			for (child++; child < last; child++) {
+  				if (precedes( heap[child], order[child], heap[best], order[best] )) best = child;
+  			}
+
+  			if (!precedes( heap[best], order[best], element, sequence )) break;
+  			heap[slot] = heap[best];
+  			order[slot] = order[best];
+  			slot = best;
+  		}
+  		heap[slot] = element;
+  		order[slot] = sequence;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected  Object removeSlot(final int slot)
+  {	java.lang.Object result = heap[slot];
+  		int last = --count;
+  		if (slot < last) {
+  			java.lang.Object moved = heap[last];
+  			heap[slot] = moved;
+  			order[slot] = order[last];
+  			siftDown( slot );
+  			if (heap[slot] == moved) siftUp( slot );
+  		}
+  		heap[last] = null;
+  		return (Object) result;
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,1297 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Metaclass for SequenceableCollection. */
+public abstract  class SequenceableCollection extends smalltalk.collection.Collection 
+  implements IndexedCollection
+{
+  /** Metaclass for SequenceableCollection. */
+  public static  class mClass extends Collection.mClass 
+    implements IndexedCollection.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("to_by_do", 3);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("size", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("at", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("$lessEqual", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("whileTrue", 1);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("replaceFrom_to_with_startingAt", 4);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("$moreThan", 1);
+  private static final int $selector10 = smalltalk.behavior.SelectorTable.idOf("addLast", 1);
+  private static final int $selector11 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector12 = smalltalk.behavior.SelectorTable.idOf("isEmpty", 0);
+  private static final int $selector13 = smalltalk.behavior.SelectorTable.idOf("removeFirst", 0);
+  private static final int $selector14 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector15 = smalltalk.behavior.SelectorTable.idOf("atAllPut", 1);
+  private static final int $selector16 = smalltalk.behavior.SelectorTable.idOf("at_put", 2);
+  private static final int $selector17 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+  private static final int $selector18 = smalltalk.behavior.SelectorTable.idOf("nextPut", 1);
+  private static final int $selector19 = smalltalk.behavior.SelectorTable.idOf("contents", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send26 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send27 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send28 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send29 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send30 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send31 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send32 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send33 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send34 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send35 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send36 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send37 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send38 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send39 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send40 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send41 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send42 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send43 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send44 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send45 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send46 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send47 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send48 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send49 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send50 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send51 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send52 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send53 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send54 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send55 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send56 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send57 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send58 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send59 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send60 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send61 = new smalltalk.behavior.SendSite($selector14);
+  private static final smalltalk.behavior.SendSite $send62 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send63 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send64 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send65 = new smalltalk.behavior.SendSite($selector16);
+  private static final smalltalk.behavior.SendSite $send66 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send67 = new smalltalk.behavior.SendSite($selector17);
+  private static final smalltalk.behavior.SendSite $send68 = new smalltalk.behavior.SendSite($selector18);
+  private static final smalltalk.behavior.SendSite $send69 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send70 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send71 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send72 = new smalltalk.behavior.SendSite($selector16);
+  private static final smalltalk.behavior.SendSite $send73 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send74 = new smalltalk.behavior.SendSite($selector16);
+  private static final smalltalk.behavior.SendSite $send75 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send76 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send77 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send78 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send79 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send80 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send81 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send82 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send83 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send84 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send85 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send86 = new smalltalk.behavior.SendSite($selector17);
+  private static final smalltalk.behavior.SendSite $send87 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send88 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send89 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for SequenceableCollection. **/
+  public static final mClass $class = new mClass(SequenceableCollection.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  public  Object first() {
+    this.emptyCheck();
+    return (this.at(((SmallInteger)primitive.IntegerFrom(1))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object last() {
+    this.emptyCheck();
+    return (this.at(this.size()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at(final Object index) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.at_ifAbsent(index, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          SequenceableCollection.this.indexRangeError());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextIndexOf_from_to(final Object element, final Object start, final Object stop) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.nextIndexOf_from_to_ifAbsent(element, start, stop, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          Object.primitive.literalNil());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextIndexOf_from_to_ifAbsent(final Object element, final Object start, final Object stop, final ZeroArgumentBlock exceptionBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      {
+        final OneArgumentBlock $block3 = new OneArgumentBlock()
+      {
+        @Override public Object value(final Object i)  {
+          return (Boolean.primitiveValue(SequenceableCollection.this.at(i).$equal(element)) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              i);
+            }
+          }).value() : primitive.literalNil());
+        }
+      };
+        final smalltalk.behavior.Object $start3 = start;
+        final smalltalk.behavior.Object $stop3 = stop;
+        if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+          final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+          for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+            $block3.value(primitive.IntegerFrom((int)$index3));
+          }
+        }
+        else {
+          $send0.perform_with_with($start3, $stop3, $block3);
+        }
+      }
+      return (exceptionBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object prevIndexOf_from_to(final Object element, final Object start, final Object stop) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.prevIndexOf_from_to_ifAbsent(element, start, stop, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          Object.primitive.literalNil());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object prevIndexOf_from_to_ifAbsent(final Object element, final Object start, final Object stop, final ZeroArgumentBlock exceptionBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      {
+        final OneArgumentBlock $block3 = new OneArgumentBlock()
+      {
+        @Override public Object value(final Object i)  {
+          return (Boolean.primitiveValue(SequenceableCollection.this.at(i).$equal(element)) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              i);
+            }
+          }).value() : primitive.literalNil());
+        }
+      };
+        final smalltalk.behavior.Object $start3 = start;
+        final smalltalk.behavior.Object $stop3 = stop;
+        if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+          final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+          for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 >= $limit3; $index3 += -1) {
+            $block3.value(primitive.IntegerFrom((int)$index3));
+          }
+        }
+        else {
+          $send1.perform_with_with_with($start3, $stop3, ((SmallInteger)primitive.IntegerFrom(-1)), $block3);
+        }
+      }
+      return (exceptionBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object after(final Object leadingElement) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] index = { null };
+    try {
+      index[0] = SequenceableCollection.this.nextIndexOf_from_to_ifAbsent(leadingElement, ((SmallInteger)primitive.IntegerFrom(1)), SequenceableCollection.this.size(), new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          SequenceableCollection.this.elementNotFound());
+        }
+      });
+      return ((Boolean.primitiveValue(index[0].$equal(SequenceableCollection.this.size())) ? (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return SequenceableCollection.this.elementNotFound();
+        }
+      }).value() : (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return SequenceableCollection.this.at($send2.perform_with(index[0], ((SmallInteger)primitive.IntegerFrom(1))));
+        }
+      }).value()));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object before(final Object trailingElement) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] index = { null };
+    try {
+      index[0] = SequenceableCollection.this.prevIndexOf_from_to_ifAbsent(trailingElement, SequenceableCollection.this.size(), ((SmallInteger)primitive.IntegerFrom(1)), new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          SequenceableCollection.this.elementNotFound());
+        }
+      });
+      return ((Boolean.primitiveValue(index[0].$equal(((SmallInteger)primitive.IntegerFrom(1)))) ? (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return SequenceableCollection.this.elementNotFound();
+        }
+      }).value() : (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return SequenceableCollection.this.at($send3.perform_with(index[0], ((SmallInteger)primitive.IntegerFrom(1))));
+        }
+      }).value()));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object indexOf(final Object anElement) {
+    return (this.indexOf_ifAbsent(anElement, new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ((SmallInteger)primitive.IntegerFrom(0));
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object indexOf_ifAbsent(final Object anElement, final ZeroArgumentBlock exceptionBlock) {
+    return (this.nextIndexOf_from_to_ifAbsent(anElement, ((SmallInteger)primitive.IntegerFrom(1)), this.size(), exceptionBlock));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object indexOfSubCollection_startingAt(final Object subCollection, final Object anIndex) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.indexOfSubCollection_startingAt_ifAbsent(subCollection, anIndex, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          ((SmallInteger)primitive.IntegerFrom(0)));
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object indexOfSubCollection_startingAt_ifAbsent(final Object subCollection, final Object anIndex, final ZeroArgumentBlock exceptionBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] subSize = { null };
+
+    Object[] firstElement = { null };
+
+    Object[] matchIndex = { null };
+
+    Object[] finalIndex = { null };
+    try {
+      subSize[0] = $send4.perform(subCollection);
+      if (Boolean.primitiveValue(subSize[0].$equal(((SmallInteger)primitive.IntegerFrom(0))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            exceptionBlock.value());
+          }
+        }).value();
+      }
+      firstElement[0] = $send5.perform_with(subCollection, ((SmallInteger)primitive.IntegerFrom(1)));
+      if (Boolean.primitiveValue(subSize[0].$equal(((SmallInteger)primitive.IntegerFrom(1))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            SequenceableCollection.this.nextIndexOf_from_to_ifAbsent(firstElement[0], anIndex, SequenceableCollection.this.size(), new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                throw new MethodExit($exitScope,
+                exceptionBlock.value());
+              }
+            }));
+          }
+        }).value();
+      }
+      matchIndex[0] = anIndex;
+      finalIndex[0] = $send7.perform_with($send6.perform_with(SequenceableCollection.this.size(), subSize[0]), ((SmallInteger)primitive.IntegerFrom(1)));
+      while(Boolean.primitiveValue((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send8.perform_with(matchIndex[0], finalIndex[0]);
+        }
+      }).value())) {
+        ((new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            if (Boolean.primitiveValue(SequenceableCollection.this.at(matchIndex[0]).$equal(firstElement[0]))) {
+              (new ZeroArgumentBlock()
+              {
+                 
+                Object index;
+                @Override public Object value()  {
+                  index = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(2)));
+                  return $send13.perform_with(new ZeroArgumentBlock()
+                  {
+                    @Override public Object value()  {
+                      return SequenceableCollection.this.at($send10.perform_with($send9.perform_with(matchIndex[0], index), ((SmallInteger)primitive.IntegerFrom(1)))).$equal($send11.perform_with(subCollection, index));
+                    }
+                  }, new ZeroArgumentBlock()
+                  {
+                    @Override public Object value()  {
+                      if (Boolean.primitiveValue(index.$equal(subSize[0]))) {
+                        (new ZeroArgumentBlock()
+                        {
+                          @Override public Object value()  {
+                            throw new MethodExit($exitScope,
+                            matchIndex[0]);
+                          }
+                        }).value();
+                      }
+                      return index = $send12.perform_with(index, ((SmallInteger)primitive.IntegerFrom(1)));
+                    }
+                  });
+                }
+              }).value();
+            }
+            return matchIndex[0] = $send14.perform_with(matchIndex[0], ((SmallInteger)primitive.IntegerFrom(1)));
+          }
+        }).value()).value();
+      }
+      return (exceptionBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object occurrencesOf(final Object anObject) {
+    Object[] tally = { null };
+    tally[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(0)));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+       
+      Object element;
+      @Override public Object value(final Object index)  {
+        return (Boolean.primitiveValue(anObject.$equal(SequenceableCollection.this.at(element))) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return tally[0] = $send15.perform_with(tally[0], ((SmallInteger)primitive.IntegerFrom(1)));
+          }
+        }).value() : primitive.literalNil());
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = SequenceableCollection.this.size();
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send16.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (tally[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $append(final Object aCollection) {
+    return (this.copyReplaceFrom_to_with($send17.perform_with(this.size(), ((SmallInteger)primitive.IntegerFrom(1))), this.size(), aCollection));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object copyFrom_to(final Object start, final Object stop) {
+     
+    Object newSize;
+    newSize = $send19.perform_with($send18.perform_with(stop, start), ((SmallInteger)primitive.IntegerFrom(1)));
+    return ($send20.perform_with_with_with_with(((Behavior)SequenceableCollection.this.species()).$new(newSize), ((SmallInteger)primitive.IntegerFrom(1)), newSize, SequenceableCollection.this, start));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object copyReplaceAll_with(final Object oldElements, final Object newElements) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] oldIndex = { null };
+
+    Object[] matchIndex = { null };
+
+    Object[] matchIndices = { null };
+
+    Object[] newIndex = { null };
+
+    Object[] newPlace = { null };
+
+    Object[] result = { null };
+    try {
+      oldIndex[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(1)));
+      matchIndex[0] = SequenceableCollection.this.indexOfSubCollection_startingAt(oldElements, oldIndex[0]);
+      if (!Boolean.primitiveValue($send21.perform_with(matchIndex[0], ((SmallInteger)primitive.IntegerFrom(0))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            SequenceableCollection.this.copy());
+          }
+        }).value();
+      }
+      matchIndices[0] = OrderedCollection.$class.with(matchIndex[0]);
+      while(Boolean.primitiveValue((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          matchIndex[0] = SequenceableCollection.this.indexOfSubCollection_startingAt(oldElements, $send23.perform_with(matchIndex[0], $send22.perform(oldElements)));
+          return $send24.perform_with(matchIndex[0], ((SmallInteger)primitive.IntegerFrom(0)));
+        }
+      }).value())) {
+        ((new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return $send25.perform_with(matchIndices[0], matchIndex[0]);
+          }
+        }).value()).value();
+      }
+      newIndex[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(1)));
+      newPlace[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(0)));
+      result[0] = ((Behavior)SequenceableCollection.this.species()).$new($send31.perform_with(SequenceableCollection.this.size(), $send30.perform_with($send28.perform_with($send26.perform(newElements), $send27.perform(oldElements)), $send29.perform(matchIndices[0]))));
+      while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send32.perform(matchIndices[0]);
+        }
+      }).value())) {
+        ((new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            matchIndex[0] = $send33.perform(matchIndices[0]);
+            newPlace[0] = $send35.perform_with($send34.perform_with(newIndex[0], matchIndex[0]), oldIndex[0]);
+            $send37.perform_with_with_with_with(result[0], newIndex[0], $send36.perform_with(newPlace[0], ((SmallInteger)primitive.IntegerFrom(1))), SequenceableCollection.this, oldIndex[0]);
+            oldIndex[0] = $send39.perform_with(matchIndex[0], $send38.perform(oldElements));
+            newIndex[0] = $send41.perform_with(newPlace[0], $send40.perform(newElements));
+            return $send43.perform_with_with_with_with(result[0], newPlace[0], $send42.perform_with(newIndex[0], ((SmallInteger)primitive.IntegerFrom(1))), newElements, ((SmallInteger)primitive.IntegerFrom(1)));
+          }
+        }).value()).value();
+      }
+      $send45.perform_with_with_with_with(result[0], newIndex[0], $send44.perform(result[0]), SequenceableCollection.this, oldIndex[0]);
+      return (result[0]);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object copyReplaceFrom_to_with(final Object start, final Object stop, final Object replacements) {
+    Object[] newSize = { null };
+
+    Object[] end = { null };
+    newSize[0] = $send50.perform_with($send48.perform_with(SequenceableCollection.this.size(), $send47.perform_with($send46.perform_with(stop, start), ((SmallInteger)primitive.IntegerFrom(1)))), $send49.perform(replacements));
+    end[0] = $send53.perform_with($send51.perform_with(start, ((SmallInteger)primitive.IntegerFrom(1))), $send52.perform(replacements));
+    return (new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send55.perform_with_with_with_with(local3_0 = ((Behavior)SequenceableCollection.this.species()).$new(newSize[0]), ((SmallInteger)primitive.IntegerFrom(1)), $send54.perform_with(start, ((SmallInteger)primitive.IntegerFrom(1))), SequenceableCollection.this, ((SmallInteger)primitive.IntegerFrom(1)));
+        $send56.perform_with_with_with_with(local3_0, start, end[0], replacements, ((SmallInteger)primitive.IntegerFrom(1)));
+        return $send59.perform_with_with_with_with(local3_0, $send57.perform_with(end[0], ((SmallInteger)primitive.IntegerFrom(1))), newSize[0], SequenceableCollection.this, $send58.perform_with(stop, ((SmallInteger)primitive.IntegerFrom(1))));
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object copyReplaceFrom_to_withObject(final Object start, final Object stop, final Object replacement) {
+    Object[] size = { null };
+
+     
+    Object replacements;
+    size[0] = $send60.perform_with(stop, start);
+    size[0] = (Boolean.primitiveValue($send61.perform_with(size[0], ((SmallInteger)primitive.IntegerFrom(0)))) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ((SmallInteger)primitive.IntegerFrom(1));
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send62.perform_with(size[0], ((SmallInteger)primitive.IntegerFrom(1)));
+      }
+    }).value());
+    replacements = new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send63.perform_with(local3_0 = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(size[0]))), replacement);
+        return local3_0.yourself();
+      }
+    }.value();
+    return (SequenceableCollection.this.copyReplaceFrom_to_with(start, stop, replacements));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object copyWith(final Object newElement) {
+    Object[] newSize = { null };
+    newSize[0] = $send64.perform_with(SequenceableCollection.this.size(), ((SmallInteger)primitive.IntegerFrom(1)));
+    return (new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send65.perform_with_with(local3_0 = ((Behavior)SequenceableCollection.this.species()).$new(newSize[0]), newSize[0], newElement);
+        return $send66.perform_with_with_with_with(local3_0, ((SmallInteger)primitive.IntegerFrom(1)), SequenceableCollection.this.size(), SequenceableCollection.this, ((SmallInteger)primitive.IntegerFrom(1)));
+      }
+    }.value());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object copyWithout(final Object oldElement) {
+    Object[] aStream = { null };
+    aStream[0] = $send67.perform_with(((String)primitive.StringFrom("smalltalk.stream.WriteStream")).resolvedToClass(), ((Behavior)SequenceableCollection.this.species()).$new(SequenceableCollection.this.size()));
+    SequenceableCollection.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return (!Boolean.primitiveValue(oldElement.$equal(element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return $send68.perform_with(aStream[0], element);
+          }
+        }).value() : primitive.literalNil());
+      }
+    });
+    return ($send69.perform(aStream[0]));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object copyReplacing_withObject(final Object oldElement, final Object newElement) {
+    return (this.collect(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return (Boolean.primitiveValue(each.$equal(oldElement)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return newElement;
+          }
+        }).value() : (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return each;
+          }
+        }).value());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object reverse() {
+    Object[] size = { null };
+
+    Object[] result = { null };
+    size[0] = SequenceableCollection.this.size();
+    result[0] = ((Behavior)SequenceableCollection.this.species()).$new(size[0]);
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object index)  {
+        return $send72.perform_with_with(result[0], $send71.perform_with($send70.perform_with(size[0], ((SmallInteger)primitive.IntegerFrom(1))), index), SequenceableCollection.this.at(index));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = SequenceableCollection.this.size();
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(1));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 >= $limit3; $index3 += -1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send73.perform_with_with_with($start3, $stop3, ((SmallInteger)primitive.IntegerFrom(-1)), $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object collect(final OneArgumentBlock filterBlock) {
+    Object[] result = { null };
+    result[0] = ((Behavior)SequenceableCollection.this.species()).$new(SequenceableCollection.this.size());
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object index)  {
+        return $send74.perform_with_with(result[0], index, filterBlock.value(SequenceableCollection.this.at(index)));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = SequenceableCollection.this.size();
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send75.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object findFirst(final OneArgumentBlock testBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.findFirst_ifAbsent(testBlock, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          ((SmallInteger)primitive.IntegerFrom(0)));
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object findFirst(final Object testBlock)
+  {	return findFirst( (OneArgumentBlock) testBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object findFirst_ifAbsent(final OneArgumentBlock testBlock, final ZeroArgumentBlock exceptionBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      {
+        final OneArgumentBlock $block3 = new OneArgumentBlock()
+      {
+        @Override public Object value(final Object index)  {
+          return (Boolean.primitiveValue(testBlock.value(SequenceableCollection.this.at(index))) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              index);
+            }
+          }).value() : primitive.literalNil());
+        }
+      };
+        final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+        final smalltalk.behavior.Object $stop3 = this.size();
+        if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+          final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+          for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+            $block3.value(primitive.IntegerFrom((int)$index3));
+          }
+        }
+        else {
+          $send76.perform_with_with($start3, $stop3, $block3);
+        }
+      }
+      return (exceptionBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object findFirst_ifAbsent(final Object testBlock, final ZeroArgumentBlock exceptionBlock)
+  {	return findFirst_ifAbsent( 
+  			(OneArgumentBlock) testBlock, exceptionBlock
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object findLast(final OneArgumentBlock testBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      this.findLast_ifAbsent(testBlock, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          ((SmallInteger)primitive.IntegerFrom(0)));
+        }
+      });
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object findLast(final Object testBlock)
+  {	return findLast( (OneArgumentBlock) testBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object findLast_ifAbsent(final OneArgumentBlock testBlock, final ZeroArgumentBlock exceptionBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      {
+        final OneArgumentBlock $block3 = new OneArgumentBlock()
+      {
+        @Override public Object value(final Object index)  {
+          return (Boolean.primitiveValue(testBlock.value(SequenceableCollection.this.at(index))) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              index);
+            }
+          }).value() : primitive.literalNil());
+        }
+      };
+        final smalltalk.behavior.Object $start3 = this.size();
+        final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(1));
+        if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+          final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+          for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 >= $limit3; $index3 += -1) {
+            $block3.value(primitive.IntegerFrom((int)$index3));
+          }
+        }
+        else {
+          $send77.perform_with_with_with($start3, $stop3, ((SmallInteger)primitive.IntegerFrom(-1)), $block3);
+        }
+      }
+      return (exceptionBlock.value());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object findLast_ifAbsent(final Object testBlock, final ZeroArgumentBlock exceptionBlock)
+  {	return findLast_ifAbsent( 
+  			(OneArgumentBlock) testBlock, exceptionBlock
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object from_to_do(final Object start, final Object stop, final OneArgumentBlock aBlock) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object i)  {
+        return aBlock.value(SequenceableCollection.this.at(i));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = start;
+      final smalltalk.behavior.Object $stop3 = stop;
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send78.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object from_to_do(final Object start, final Object stop, final Object aBlock)
+  {	return from_to_do( 
+  			start, stop, (OneArgumentBlock) aBlock 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object from_to_keysAndValuesDo(final Object start, final Object stop, final TwoArgumentBlock aBlock) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object i)  {
+        return aBlock.value_value(SequenceableCollection.this.at(i), i);
+      }
+    };
+      final smalltalk.behavior.Object $start3 = start;
+      final smalltalk.behavior.Object $stop3 = stop;
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send79.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object from_to_keysAndValuesDo(final Object start, final Object stop, final Object aBlock)
+  {	return from_to_keysAndValuesDo( 
+  			start, stop, (TwoArgumentBlock) aBlock 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object keysAndValuesDo(final TwoArgumentBlock aBlock) {
+    this.from_to_keysAndValuesDo(((SmallInteger)primitive.IntegerFrom(1)), this.size(), aBlock);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object keysAndValuesDo(final Object aBlock)
+  {	return keysAndValuesDo( (TwoArgumentBlock) aBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object i)  {
+        return aBlock.value(SequenceableCollection.this.at(i));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = this.size();
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send80.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object do_separatedBy(final OneArgumentBlock aBlock, final ZeroArgumentBlock separateBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.isEmpty())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            SequenceableCollection.this);
+          }
+        }).value();
+      }
+      aBlock.value(this.at(((SmallInteger)primitive.IntegerFrom(1))));
+      {
+        final OneArgumentBlock $block3 = new OneArgumentBlock()
+      {
+        @Override public Object value(final Object i)  {
+          separateBlock.value();
+          return aBlock.value(SequenceableCollection.this.at(i));
+        }
+      };
+        final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(2));
+        final smalltalk.behavior.Object $stop3 = this.size();
+        if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+          final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+          for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+            $block3.value(primitive.IntegerFrom((int)$index3));
+          }
+        }
+        else {
+          $send81.perform_with_with($start3, $stop3, $block3);
+        }
+      }
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object reverseDo(final OneArgumentBlock aBlock) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object i)  {
+        return aBlock.value(SequenceableCollection.this.at(i));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = this.size();
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(1));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 >= $limit3; $index3 += -1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send82.perform_with_with_with($start3, $stop3, ((SmallInteger)primitive.IntegerFrom(-1)), $block3);
+      }
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object reverseDo(final Object aBlock)
+  {	return reverseDo( (OneArgumentBlock) aBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object with_do(final Object aCollection, final TwoArgumentBlock aBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (!Boolean.primitiveValue(this.size().$is($send83.perform(aCollection)))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            SequenceableCollection.this.error(((String)primitive.StringFrom("Collections are of different sizes"))));
+          }
+        }).value();
+      }
+      {
+        final OneArgumentBlock $block3 = new OneArgumentBlock()
+      {
+        @Override public Object value(final Object index)  {
+          return aBlock.value_value(SequenceableCollection.this.at(index), $send84.perform_with(aCollection, index));
+        }
+      };
+        final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+        final smalltalk.behavior.Object $stop3 = this.size();
+        if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+          final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+          for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+            $block3.value(primitive.IntegerFrom((int)$index3));
+          }
+        }
+        else {
+          $send85.perform_with_with($start3, $stop3, $block3);
+        }
+      }
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object with_do(final Object aCollection, final Object aBlock)
+  {	return with_do( aCollection, (TwoArgumentBlock) aBlock );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object readStream() {
+    return ($send86.perform_with(((String)primitive.StringFrom("smalltalk.stream.ReadStream")).resolvedToClass(), this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+     
+    Object size;
+    try {
+      if (!Boolean.primitiveValue(SequenceableCollection.this.species().$is(aCollection.species()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }).value();
+      }
+      size = SequenceableCollection.this.size();
+      if (!Boolean.primitiveValue(size.$equal($send87.perform(aCollection)))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }).value();
+      }
+      {
+        final OneArgumentBlock $block3 = new OneArgumentBlock()
+      {
+        @Override public Object value(final Object index)  {
+          return (!Boolean.primitiveValue(SequenceableCollection.this.at(index).$equal($send88.perform_with(aCollection, index))) ? (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              Object.primitive.literalFalse());
+            }
+          }).value() : primitive.literalNil());
+        }
+      };
+        final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+        final smalltalk.behavior.Object $stop3 = size;
+        if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+          final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+          for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+            $block3.value(primitive.IntegerFrom((int)$index3));
+          }
+        }
+        else {
+          $send89.perform_with_with($start3, $stop3, $block3);
+        }
+      }
+      return (Object.primitive.literalTrue());
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object includesIndex(final Object index)
+  {	try {
+  			Number aNumber = (Number) index;
+  			Number size = (Number) this.size();
+  			int i = aNumber.primitiveInteger() - 1;
+  			return primitive.BooleanFrom( i >= 0 && i < size.primitiveInteger() );
+  		} catch( java.lang.ClassCastException e ) {
+  			this.indexError();
+  		}
+  		return primitive.literalFalse();
+  	}
+}
\ No newline at end of file
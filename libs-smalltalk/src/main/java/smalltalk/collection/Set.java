@@ -0,0 +1,350 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a set of objects, each of which occurs only once. Supports
+instantiation with a primitive java.util.Set. Uses a java.util.HashSet as
+the default primitive contents.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Set extends smalltalk.collection.Collection 
+  implements ExtensibleCollection, ExcisableCollection
+{
+  /** Metaclass for Set. */
+  public static  class mClass extends Collection.mClass 
+    implements ExtensibleCollection.mClass, ExcisableCollection.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((Set)this.$new(((SmallInteger)primitive.IntegerFrom(10)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity) {
+       
+      Number c;
+      c = ((Number)capacity);
+      return (new Set(c));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object from(final java.util.Set primitiveSet) {
+      return (new Set(primitiveSet));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object synchronizedFrom(final java.util.Set primitiveSet) {
+      return (new Set(java.util.Collections.synchronizedSet(primitiveSet)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("value", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector3);
+  /** class instance for Set. **/
+  public static final mClass $class = new mClass(Set.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.util.Set contents;
+
+  /**
+  * @return 
+  */
+  protected   Set() {
+    contents = ((java.util.Set)new java.util.HashSet());
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   Set(final Number capacity) {
+    contents = ((java.util.Set)new java.util.HashSet(capacity.primitiveInteger()));
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   Set(final java.util.Set primitiveSet) {
+    contents = primitiveSet;
+  }
+
+
+  /**
+  * @return java.util.Set
+  */
+  public  java.util.Set primitiveContents() {
+    return (contents);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size() {
+    return (primitive.IntegerFrom(contents.size()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object add(final Object element) {
+    contents.add(element);
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object addAll(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return Set.this.add(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send0.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Set aCollection) {
+    return (primitive.BooleanFrom(contents.equals(aCollection.primitiveContents())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            Set.this.$equal(((Set)aCollection)));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode() {
+    return (contents.hashCode());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asSet() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock)
+  {	// optimizes iteration over the elements
+  		java.util.Iterator it = contents.iterator();
+  		while( it.hasNext() ) aBlock.value( (Object) it.next() );
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object remove(final Object element) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.remove_ifAbsent(element, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          Set.this.elementNotFound());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object remove_ifAbsent(final Object element, final ZeroArgumentBlock aBlock) {
+     
+    boolean removed;
+    removed = ((boolean)contents.remove(element));
+    if (!Boolean.primitiveValue(primitive.BooleanFrom(removed))) {
+      (aBlock).value();
+    }
+    return (element);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAll(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return Set.this.remove(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send1.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAllSuchThat(final Object criteria) {
+    Object[] result = { null };
+    result[0] = ((Behavior)Set.this.$class()).$new(((SmallInteger)primitive.IntegerFrom(10)));
+    Set.this.$do(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return (Boolean.primitiveValue($send2.perform_with(criteria, element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            $send3.perform_with(result[0], element);
+            return Set.this.remove(element);
+          }
+        }).value() : primitive.literalNil());
+      }
+    });
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object writeStream() {
+    return ($send4.perform_with(((String)primitive.StringFrom("smalltalk.stream.WriteStream")).resolvedToClass(), this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isEmpty() {
+    return (primitive.BooleanFrom(contents.isEmpty()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object includes(final Object anObject) {
+    return (primitive.BooleanFrom(contents.contains(anObject)));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a PriorityQueue shared by concurrent producers and consumers. Synchronizes each access
+on the receiver, and lets consumers wait with next until a producer adds an element.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class SharedPriorityQueue extends smalltalk.collection.PriorityQueue 
+{
+  /** Metaclass for SharedPriorityQueue. */
+  public static  class mClass extends PriorityQueue.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((SharedPriorityQueue)this.$new(((SmallInteger)primitive.IntegerFrom(16)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity) {
+      return (new SharedPriorityQueue(((Number)capacity)));
+    }
+  }
+
+  /** class instance for SharedPriorityQueue. **/
+  public static final mClass $class = new mClass(SharedPriorityQueue.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   SharedPriorityQueue()
+  {	super();
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   SharedPriorityQueue(final Number capacity)
+  {	super( capacity );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size()
+  {	synchronized( this ) {
+  			return super.size();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object first()
+  {	synchronized( this ) {
+  			return super.first();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object peek()
+  {	synchronized( this ) {
+  			return super.peek();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object next()
+  {	synchronized( this ) {
+  			while (count == 0) {
+  				try {
+  					wait();
+  				} catch( InterruptedException e ) {
+  					Thread.currentThread().interrupt();
+  					return primitive.literalNil();
+  				}
+  			}
+  			return removeSlot( 0 );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPut(final Object element) {
+    return (this.add(element));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object add(final Object element)
+  {	synchronized( this ) {
+  			super.add( element );
+  			notifyAll();
+  		}
+  		return element;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAtIndex(final Object index)
+  {	synchronized( this ) {
+  			return super.removeAtIndex( index );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeFirst()
+  {	synchronized( this ) {
+  			return super.removeFirst();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeLast()
+  {	synchronized( this ) {
+  			return super.removeLast();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAll()
+  {	synchronized( this ) {
+  			return super.removeAll();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock)
+  {	java.lang.Object[] elements;
+  		synchronized( this ) {
+  			elements = java.util.Arrays.copyOf( heap, count );
+  		}
+  		for (java.lang.Object element : elements) {
+  			aBlock.value( (Object) element );
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object sortBlock(final TwoArgumentBlock aBlock)
+  {	synchronized( this ) {
+  			return super.sortBlock( aBlock );
+  		}
+  	}
+}
\ No newline at end of file
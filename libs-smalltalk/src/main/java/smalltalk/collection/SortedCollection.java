@@ -0,0 +1,602 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a sorted, variable sized collection of objects. This 
+implementation keeps its elements sorted, inserting each added element 
+after a binary search, so that accessing the elements never needs a sort.
+Equal elements keep the order in which they were added.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class SortedCollection extends smalltalk.collection.SequenceableCollection 
+  implements ExtensibleCollection, ExcisableCollection, ContractibleCollection
+{
+  /** Metaclass for SortedCollection. */
+  public static  class mClass extends SequenceableCollection.mClass 
+    implements ExtensibleCollection.mClass, ExcisableCollection.mClass, ContractibleCollection.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (((SortedCollection)this.$new(((SmallInteger)primitive.IntegerFrom(10)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity)
+    {	return new SortedCollection( (Number) capacity );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object from(final java.util.List primitiveList) {
+      return (new SortedCollection(primitiveList));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object synchronizedFrom(final java.util.List primitiveList) {
+      return (new SortedCollection(java.util.Collections.synchronizedList(primitiveList)));
+    }
+
+
+    /**
+    * @return TwoArgumentBlock
+    */
+    public  TwoArgumentBlock sortBlock() {
+      return (new TwoArgumentBlock()
+      {
+        @Override public Object value_value(final Object a, final Object b)  {
+          return $send0.perform_with(a, b);
+        }
+      });
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("size", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$moreThan", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("value", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("timesRepeat", 1);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector9);
+  /** class instance for SortedCollection. **/
+  public static final mClass $class = new mClass(SortedCollection.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.util.List contents;
+
+  protected 
+  TwoArgumentBlock sortBlock;
+
+  protected 
+  java.util.Comparator primitiveSort;
+
+  /**
+  * @return 
+  */
+  protected   SortedCollection() {
+    contents = ((java.util.List)new java.util.ArrayList());
+    this.sortBlock(SortedCollection.$class.sortBlock());
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   SortedCollection(final Number capacity) {
+    contents = ((java.util.List)new java.util.ArrayList(capacity.primitiveInteger()));
+    this.sortBlock(SortedCollection.$class.sortBlock());
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   SortedCollection(final java.util.List primitiveList) {
+    contents = primitiveList;
+    this.sortBlock(SortedCollection.$class.sortBlock());
+  }
+
+
+  /**
+  * @return java.util.List
+  */
+  public  java.util.List primitiveContents() {
+    return (contents);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size() {
+    return (primitive.IntegerFrom(contents.size()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock) {
+     
+    int i;
+    i = ((int)SortedCollection.this.checkIndex_ifAbsent(index, aBlock));
+    return (((smalltalk.behavior.Object)contents.get(i)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object add(final Object element)
+  {	synchronized( this ) {
+  			contents.add( insertionIndex( element ), element );
+  		}
+  		return element;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object addAll(final Object elements) {
+    Object[] count = { null };
+    count[0] = $send0.perform(elements);
+    if (Boolean.primitiveValue($send4.perform_with($send1.perform_with(count[0], ((SmallInteger)primitive.IntegerFrom(16))), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send3.perform_with($send2.perform_with(count[0], ((SmallInteger)primitive.IntegerFrom(4))), SortedCollection.this.size());
+      }
+    }))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return SortedCollection.this.appendAll(((Collection)elements));
+        }
+      }).value();
+    }
+    else {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          {
+            final OneArgumentBlock $block4 = new OneArgumentBlock()
+          {
+            @Override public Object value(final Object element)  {
+              return SortedCollection.this.add(element);
+            }
+          };
+            final smalltalk.behavior.Object $collection4 = elements;
+            if ($collection4.getClass() == smalltalk.collection.Array.class) {
+              final smalltalk.behavior.Object[] $elements4 = ((smalltalk.collection.Array)$collection4).primitiveContents();
+              for (int $index4 = 0, $limit4 = $elements4.length; $index4 < $limit4; $index4++) {
+                $block4.value($elements4[$index4]);
+              }
+            }
+            else if ($collection4.getClass() == smalltalk.collection.OrderedCollection.class) {
+              final java.util.List $elements4 = ((smalltalk.collection.OrderedCollection)$collection4).primitiveContents();
+              for (int $index4 = 0, $limit4 = $elements4.size(); $index4 < $limit4; $index4++) {
+                $block4.value((smalltalk.behavior.Object)$elements4.get($index4));
+              }
+            }
+            else {
+              $send5.perform_with($collection4, $block4);
+            }
+            return $collection4;
+          }
+        }
+      }).value();
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  private  Object appendAll(final Collection elements)
+  {	synchronized( this ) {
+  			elements.doWhile( element -> { contents.add( element ); return true; } );
+  			reSort();
+  		}
+  		return elements;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final SortedCollection aCollection) {
+    return (primitive.BooleanFrom(contents.equals(aCollection.primitiveContents())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+             
+            SortedCollection c;c = ((SortedCollection)aCollection);
+            throw new MethodExit($exitScope,
+            SortedCollection.this.$equal(c));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode() {
+    return (contents.hashCode());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asSortedCollection() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeAtIndex_ifAbsent(final Object index, final ZeroArgumentBlock aBlock) {
+     
+    int i;
+    i = ((int)SortedCollection.this.checkIndex_ifAbsent(index, aBlock));
+    return (((smalltalk.behavior.Object)contents.remove(i)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAtIndex(final Object index) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.removeAtIndex_ifAbsent(index, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          SortedCollection.this.indexRangeError());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object remove(final Object element) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      return (this.remove_ifAbsent(element, new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          throw new MethodExit($exitScope,
+          SortedCollection.this.elementNotFound());
+        }
+      }));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object remove_ifAbsent(final Object element, final ZeroArgumentBlock aBlock) {
+    return (this.removeAtIndex(this.indexOf_ifAbsent(element, aBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAll(final Object elements) {
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object element)  {
+        return SortedCollection.this.remove(element);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = elements;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send6.perform_with($collection3, $block3);
+      }
+    }
+    return (elements);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeAllSuchThat(final Object criteria) {
+    Object[] result = { null };
+    result[0] = ((Behavior)SortedCollection.this.$class()).$new(((SmallInteger)primitive.IntegerFrom(10)));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+       
+      Object element;
+      @Override public Object value(final Object index)  {
+        element = SortedCollection.this.at(index);
+        return (Boolean.primitiveValue($send7.perform_with(criteria, element)) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            $send8.perform_with(result[0], element);
+            return SortedCollection.this.removeAtIndex(index);
+          }
+        }).value() : primitive.literalNil());
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = SortedCollection.this.size();
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send9.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeFirst() {
+    this.emptyCheck();
+    return (((smalltalk.behavior.Object)contents.remove(0)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object removeLast() {
+    this.emptyCheck();
+    return (((smalltalk.behavior.Object)contents.remove(contents.size() -  ((SmallInteger)primitive.IntegerFrom(1)).asPrimitive())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeFirst(final Object count) {
+    Object[] result = { null };
+    result[0] = ((Behavior)SortedCollection.this.$class()).$new(count);
+    {
+      final ZeroArgumentBlock $block3 = new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send10.perform_with(result[0], SortedCollection.this.removeFirst());
+      }
+    };
+      final smalltalk.behavior.Object $count3 = count;
+      if ($count3 instanceof smalltalk.magnitude.SmallInteger) {
+        for (int $index3 = ((smalltalk.magnitude.SmallInteger)$count3).primitiveInteger(); $index3 > 0; $index3--) {
+          $block3.value();
+        }
+      }
+      else {
+        $send11.perform_with($count3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object removeLast(final Object count) {
+    Object[] result = { null };
+    result[0] = ((Behavior)SortedCollection.this.$class()).$new(count);
+    {
+      final ZeroArgumentBlock $block3 = new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send12.perform_with(result[0], SortedCollection.this.removeLast());
+      }
+    };
+      final smalltalk.behavior.Object $count3 = count;
+      if ($count3 instanceof smalltalk.magnitude.SmallInteger) {
+        for (int $index3 = ((smalltalk.magnitude.SmallInteger)$count3).primitiveInteger(); $index3 > 0; $index3--) {
+          $block3.value();
+        }
+      }
+      else {
+        $send13.perform_with($count3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sortBlock() {
+    return (sortBlock);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sortBlock(final TwoArgumentBlock aBlock) {
+    sortBlock = aBlock;
+    primitiveSort = ((java.util.Comparator)this.primitiveComparator());
+    this.reSort();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sortBlock(final Object aBlock)
+  {	return sortBlock( (TwoArgumentBlock) aBlock );
+  	}
+
+
+  /**
+  * @return java.util.Comparator
+  */
+  private  java.util.Comparator primitiveComparator()
+  {	return comparatorFor( sortBlock );
+  	}
+
+
+  /**
+  * @return java.util.Comparator
+  */
+  public static  java.util.Comparator comparatorFor(final TwoArgumentBlock block)
+  {	final Object $true = primitive.literalTrue();
+  		return (java.util.Comparator) ( o1, o2 ) -> {
+  			boolean before = block.value_value( (Object) o1, (Object) o2 ) == $true;
+  			boolean after = block.value_value( (Object) o2, (Object) o1 ) == $true;
+  			return (before == after ? 0 : before ? -1 : 1);
+  		};
+  	}
+
+
+  /**
+  * @return int
+  */
+  private  int insertionIndex(final java.lang.Object element)
+  {	int low = 0;
+  		int high = contents.size();
+  		while (low < high) {
+  			int middle = (low + high) >>> 1;
+  			if (primitiveSort.compare( element, contents.get( middle ) ) < 0) {
+  				high = middle;
+  			} else {
+  				low = middle + 1;
+  			}
+  		}
+  		return low;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected  Object reSort()
+  {	synchronized( this ) {
+  			contents.sort( primitiveSort );
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object writeStream() {
+    return ($send14.perform_with(((String)primitive.StringFrom("smalltalk.stream.WriteStream")).resolvedToClass(), this));
+  }
+}
\ No newline at end of file
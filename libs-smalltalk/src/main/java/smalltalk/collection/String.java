@@ -0,0 +1,262 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a literal string. Keeps its characters in an immutable java.lang.String, which it answers
+from primitiveString without copying. Copies them into an unsynchronized java.lang.StringBuilder only
+when first changed, and caches the java.lang.String made from the builder until the next change.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class String extends smalltalk.collection.CharacterString 
+  implements StringFactory, Comparison, ExtensibleCollection
+{
+  /** Metaclass for String. */
+  public static  class mClass extends CharacterString.mClass 
+    implements StringFactory.mClass, Comparison.mClass, ExtensibleCollection.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object StringFrom(final java.lang.String primitiveString)
+    {	return( primitiveString == null ? 
+    				new String( "" ) : new String( primitiveString )
+    			);
+    		}
+
+
+    /**
+    * @return java.lang.String
+    */
+    @Override
+    public  java.lang.String stringFrom(final Object aString)
+    {	String string = (String) aString;
+    			return string.primitiveString();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new()
+    {	return new String( "" );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new(final Object capacity)
+    {	return new String( (Number) capacity );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object writeStream(final Object capacity) {
+      return ($send0.perform_with(((String)primitive.StringFrom("smalltalk.stream.WriteStream")).resolvedToClass(), ((String)this.$new(capacity))));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for String. **/
+  public static final mClass $class = new mClass(String.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.lang.String value;
+
+  protected 
+  java.lang.StringBuilder contents;
+
+  /**
+  * @return 
+  */
+  protected   String(final java.lang.String primitiveString)
+  {	value = primitiveString;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   String(final Number capacity)
+  {	value = "";
+  		contents = new StringBuilder( capacity.primitiveInteger() );
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  @Override
+  public  java.lang.String primitiveString()
+  {	if (value == null) value = contents.toString();
+  		return value;
+  	}
+
+
+  /**
+  * @return java.lang.CharSequence
+  */
+  @Override
+  public  java.lang.CharSequence primitiveCharacters()
+  {	return (value == null ? contents : value);
+  	}
+
+
+  /**
+  * @return java.lang.StringBuilder
+  */
+  protected  java.lang.StringBuilder mutableContents()
+  {	if (contents == null) {
+  			contents = new StringBuilder( value.length() + 16 ).append( value );
+  		}
+  		value = null;
+  		return contents;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size()
+  {	return primitive.IntegerFrom( primitiveCharacters().length() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock)
+  {	int i = this.checkIndex_ifAbsent( index, aBlock );
+  		return primitive.CharacterFrom( primitiveCharacters().charAt( i ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_put(final Object index, final Object element)
+  {	Character c = null;
+  		try {
+  			c = (Character) element;
+  		} catch( java.lang.ClassCastException e ) {
+  			this.elementClassError();
+  		}
+  		int i = this.checkRange( index );
+  		StringBuilder characters = mutableContents();
+  		if (i < characters.length()) {
+  			characters.setCharAt( i, c.primitiveCharacter() );
+  		} else {
+  			characters.append( c.primitiveCharacter() );
+  		}
+  		return element;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object add(final Object element)
+  {	Character c = (Character) element;
+  		mutableContents().append( c.primitiveCharacter() );
+  		return element;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object addAll(final Object elements)
+  {	if (elements instanceof CharacterString) {
+  			mutableContents().append( ((CharacterString) elements).primitiveCharacters() );
+  			return elements;
+  		}
+  		elements.$do( new OneArgumentBlock() {
+  			@Override public Object value(final Object element) {
+  				return String.this.add( element );
+  			}
+  		} );
+  		return elements;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $append(final Object aCollection)
+  {	if (aCollection instanceof CharacterString) {
+  			return new String( primitiveString().concat( 
+  				((CharacterString) aCollection).primitiveString() ) );
+  		}
+  		return super.$append( aCollection );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection)
+  {	// optimizes equivalence testing
+  		if (this == aCollection) return primitive.literalTrue();
+  		CharacterString s = (CharacterString) aCollection;
+  		return primitive.BooleanFrom( 
+  			primitiveString().contentEquals( s.primitiveCharacters() ) 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object writeStream() {
+    return ($send0.perform_with(((String)primitive.StringFrom("smalltalk.stream.WriteStream")).resolvedToClass(), this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isLiteral() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString()
+  {	return primitive.StringFrom( "'" + primitiveString() + "'" );
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package smalltalk.collection;
+import java.util.StringTokenizer;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Matches strings against a pattern expression. Pattern expressions may
+contain any number of wild cards. The wild card may be specified
+at construction time, or the standard wild card (*) will be used.
+The wild card delimits the segments of a pattern expression. To match,
+a string must include all the pattern segments in their proper order.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class StringPattern extends smalltalk.behavior.Object 
+{
+  /** Metaclass for StringPattern. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for StringPattern. **/
+  public static final mClass $class = new mClass(StringPattern.class);
+  @Override public Behavior $class() { return $class; }
+  public static final 
+  String StandardWildcard = (String)((String)primitive.StringFrom("*"));
+
+  protected static final 
+  String EmptyString = (String)((String)primitive.StringFrom(""));
+
+  protected 
+  java.lang.String[] segments;
+
+  /**
+  * @return 
+  */
+  public   StringPattern(final Object patternExpression)
+  {
+  		this( patternExpression, StandardWildcard );
+  	}
+
+
+  /**
+  * @return 
+  */
+  public   StringPattern(final Object patternExpression, final Object aWildcard)
+  {
+  		java.lang.String expression = ((CharacterString) patternExpression).primitiveString();
+  		java.lang.String wildcard = ((String) aWildcard).primitiveString();
+
+  		// precompute the pattern segments to compare against
+  		StringTokenizer parser = new StringTokenizer( expression, wildcard );
+  		int count = parser.countTokens();
+  		if (count == 0) {
+  			// an expression with only wildcard(s) has no segments
+  			segments = new java.lang.String[count];
+  		} else {
+  			if (expression.startsWith( wildcard )) {
+  				count += 1; // provide for extra empty segment
+  			}
+  			if (expression.endsWith( wildcard )) {
+  				count += 1; // provide for extra empty segment
+  			}
+  			segments = new java.lang.String[count];
+  			int s = 0;
+  			if (expression.startsWith( wildcard )) {
+  				// empty first segment will always compare true
+  				segments[s++] = EmptyString.primitiveString();
+  			}
+  			while( parser.hasMoreTokens() ) {
+  				segments[s++] = parser.nextToken();
+  			}
+  			if (expression.endsWith( wildcard )) {
+  				// empty final segment will always compare true
+  				segments[s++] = EmptyString.primitiveString();;
+  			}
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object accepts(final Object aString)
+  {
+
+  		if (!(aString instanceof CharacterString)) return primitive.literalFalse();
+  		java.lang.String jString = ((CharacterString) aString).primitiveString();
+
+  		// optimize the comparisons where possible
+  		int count = segments.length - 1;
+  		if (count < 0) {
+  			// an empty pattern accepts everything
+  			return primitive.literalTrue();
+  		}
+  		// does aString start with first segment?
+  		if (!jString.startsWith( segments[0] )) {
+  			return primitive.literalFalse();
+  		}
+  		// is there only one segment?
+  		if (count == 0) {
+  			return( 
+  				primitive.BooleanFrom( 
+  					jString.length() == segments[0].length() 
+  				) 
+  			);
+  		}
+  		// does aString end with the final segment?
+  		if (!jString.endsWith( segments[count] )) {
+  			return primitive.literalFalse();
+  		}
+  		// does aString include all the other segments?
+  		if (count > 1) {
+  			int p = segments[0].length();
+  			for( int s = 1; s < count; s++ ) {
+  				int x = jString.indexOf( segments[s], p );
+  				if (x < 0)
+  					return primitive.literalFalse();
+  				else
+  					p = x + segments[s].length();
+  			}
+  		}
+  		return primitive.literalTrue();
+  	}
+}
\ No newline at end of file
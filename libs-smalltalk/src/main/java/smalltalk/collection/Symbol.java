@@ -0,0 +1,137 @@
+package smalltalk.collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+/** Represents a literal symbol.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Symbol extends smalltalk.collection.CharacterString 
+  implements SymbolFactory, Comparison
+{
+  /** Metaclass for Symbol. */
+  public static  class mClass extends CharacterString.mClass 
+    implements SymbolFactory.mClass, Comparison.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object SymbolFrom(final java.lang.String primitiveString)
+    {	return new Symbol( primitiveString );
+    		}
+
+
+    /**
+    * @return java.lang.String
+    */
+    @Override
+    public  java.lang.String symbolFrom(final Object aSymbol)
+    {	Symbol symbol = (Symbol) aSymbol;
+    			return symbol.primitiveString().replace( ':', '_' );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new()
+    {	return new Symbol( "" );
+    		}
+  }
+
+  /** class instance for Symbol. **/
+  public static final mClass $class = new mClass(Symbol.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.lang.String contents;
+
+  /**
+  * @return 
+  */
+  protected   Symbol(final java.lang.String primitiveString)
+  {	contents = primitiveString.intern();
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  @Override
+  public  java.lang.String primitiveString()
+  {	return contents;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object size()
+  {	return primitive.IntegerFrom( contents.length() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_ifAbsent(final Object index, final ZeroArgumentBlock aBlock)
+  {	int i = this.checkIndex_ifAbsent( index, aBlock );
+  		return primitive.CharacterFrom( contents.charAt( i ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object at_put(final Object index, final Object element) {
+    return (this.immutabilityError());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aCollection)
+  {	// optimizes equivalence testing
+  		CharacterString s = (CharacterString) aCollection;
+  		return primitive.BooleanFrom( contents.contentEquals( s.primitiveCharacters() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isLiteral() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString()
+  {	return primitive.StringFrom( "#" + primitiveString() );
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package smalltalk.example;
+import smalltalk.stream.Transcript;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Demonstrates Bistro syntax and Java integration. */
+public  class HelloWorld extends smalltalk.behavior.Object 
+{
+
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    new HelloWorld().printHello();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object printHello() {
+    Transcript.$class.printLine(((String)primitive.StringFrom("Hello World!")));
+    return (this);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package smalltalk.example;
+import smalltalk.magnitude.Time;
+import smalltalk.stream.Transcript;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Simple tower of Hanoi benchmark. This benchmark compares the performance of
+three variations: 1) Primitive Java, 2) Optimized Bistro, 3) Untyped Bistro.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class SimpleHanoi extends smalltalk.behavior.Object 
+{
+  /** Metaclass for SimpleHanoi. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("printString", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector1);
+  /** class instance for SimpleHanoi. **/
+  public static final mClass $class = new mClass(SimpleHanoi.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  SmallInteger unity = (SmallInteger)((SmallInteger)primitive.IntegerFrom(1));
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          Transcript.$class.printLine(((String)primitive.StringFrom("Transfering 22 disks")));
+          Transcript.$class.print(((String)primitive.StringFrom("Java Tower of Hanoi = ")));
+          Transcript.$class.print($send0.perform(new SimpleHanoi().hanoiJava()));
+          Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+          Transcript.$class.print(((String)primitive.StringFrom("Fast Tower of Hanoi = ")));
+          Transcript.$class.print($send1.perform(new SimpleHanoi().hanoiFast()));
+          Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+          Transcript.$class.print(((String)primitive.StringFrom("Slow Tower of Hanoi = ")));
+          Transcript.$class.print($send2.perform(new SimpleHanoi().hanoiSlow()));
+          Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));;
+          return Object.primitive.literalNil();
+        }
+        catch (java.lang.Throwable e) {
+          e.printStackTrace();
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object hanoiSlow() {
+     
+    Object duration;
+    duration = Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return SimpleHanoi.this.slowMove_from_to_temp(((SmallInteger)primitive.IntegerFrom(22)), ((SmallInteger)primitive.IntegerFrom(1)), ((SmallInteger)primitive.IntegerFrom(2)), ((SmallInteger)primitive.IntegerFrom(3)));
+      }
+    });
+    return ($send3.perform_with(duration, ((Float)primitive.FloatFrom(1000.0f))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object slowMove_from_to_temp(final Object numberOfDisks, final Object source, final Object dest, final Object temp) {
+    if (!Boolean.primitiveValue(numberOfDisks.$equal(unity))) {
+      (new ZeroArgumentBlock()
+      {
+         
+        Object disks;
+        @Override public Object value()  {
+          disks = $send4.perform_with(numberOfDisks, unity);
+          return new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              SimpleHanoi.this.slowMove_from_to_temp(disks, source, temp, dest);
+              return SimpleHanoi.this.slowMove_from_to_temp(disks, temp, dest, source);
+            }
+          }.value();
+        }
+      }).value();
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object hanoiFast() {
+     
+    Object duration;
+    duration = Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return SimpleHanoi.this.fastMove_from_to_temp(((SmallInteger)primitive.IntegerFrom(22)), ((SmallInteger)primitive.IntegerFrom(1)), ((SmallInteger)primitive.IntegerFrom(2)), ((SmallInteger)primitive.IntegerFrom(3)));
+      }
+    });
+    return ($send5.perform_with(duration, ((Float)primitive.FloatFrom(1000.0f))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object fastMove_from_to_temp(final SmallInteger numberOfDisks, final SmallInteger source, final SmallInteger dest, final SmallInteger temp) {
+    if (!Boolean.primitiveValue(numberOfDisks.$equal(unity))) {
+      (new ZeroArgumentBlock()
+      {
+         
+        SmallInteger disks;
+        @Override public Object value()  {
+          disks = ((SmallInteger)numberOfDisks.$minus(unity));
+          return new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              SimpleHanoi.this.fastMove_from_to_temp(disks, source, temp, dest);
+              return SimpleHanoi.this.fastMove_from_to_temp(disks, temp, dest, source);
+            }
+          }.value();
+        }
+      }).value();
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object hanoiJava() {
+     
+    Object duration;
+    duration = Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return SimpleHanoi.this.javaMove_from_to_temp(22, 1, 2, 3);
+      }
+    });
+    return ($send6.perform_with(duration, ((Float)primitive.FloatFrom(1000.0f))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object javaMove_from_to_temp(final int numberOfDisks, final int source, final int dest, final int temp)
+  {
+  		if (numberOfDisks == 1) return this;
+  		int disks = numberOfDisks - 1;
+  		this.javaMove_from_to_temp( disks, source, temp, dest );
+  		this.javaMove_from_to_temp( disks, temp, dest, source );
+  		return this;
+  	}
+}
\ No newline at end of file
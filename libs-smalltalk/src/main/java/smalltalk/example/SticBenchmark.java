@@ -0,0 +1,917 @@
+package smalltalk.example;
+import smalltalk.magnitude.Time;
+import smalltalk.stream.Transcript;
+import smalltalk.collection.*;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Provides simple benchmarks of Bistro performance. These tests were derived from
+those provided by the Smalltalk Industry Council (http://www.stic.org/). */
+public  class SticBenchmark extends smalltalk.behavior.Object 
+{
+  /** Metaclass for SticBenchmark. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("printString", 0);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("timesRepeat", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("at_put", 2);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("addLast", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send26 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send27 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send28 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send29 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send30 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send31 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send32 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send33 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send34 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send35 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send36 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send37 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send38 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send39 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send40 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send41 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send42 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send43 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send44 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send45 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send46 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send47 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send48 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send49 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send50 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send51 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send52 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send53 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send54 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send55 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send56 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send57 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send58 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send59 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send60 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send61 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send62 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send63 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send64 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send65 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send66 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send67 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send68 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send69 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send70 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send71 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send72 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send73 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send74 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send75 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send76 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send77 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send78 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send79 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send80 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send81 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send82 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send83 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send84 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send85 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send86 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send87 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send88 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send89 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send90 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send91 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send92 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send93 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send94 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send95 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send96 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send97 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send98 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send99 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send100 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send101 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send102 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send103 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send104 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send105 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send106 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send107 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send108 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send109 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send110 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send111 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send112 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send113 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send114 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send115 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send116 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send117 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send118 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send119 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send120 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send121 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send122 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send123 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send124 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send125 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send126 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send127 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send128 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send129 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send130 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send131 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send132 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send133 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send134 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send135 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send136 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send137 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send138 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send139 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send140 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send141 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send142 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send143 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send144 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send145 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send146 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send147 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send148 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send149 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send150 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send151 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send152 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send153 = new smalltalk.behavior.SendSite($selector2);
+  /** class instance for SticBenchmark. **/
+  public static final mClass $class = new mClass(SticBenchmark.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          new SticBenchmark().allTests();
+          return Object.primitive.literalNil();
+        }
+        catch (java.lang.Throwable e) {
+          e.printStackTrace();
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allTests() {
+    Transcript.$class.print(((String)primitive.StringFrom("100000 Array allocations =             ")));
+    Transcript.$class.print($send1.perform($send0.perform_with(this.allocationTestDuration(), ((Float)primitive.FloatFrom(1000.0f)))));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 Array writes =                  ")));
+    Transcript.$class.print($send3.perform($send2.perform_with(this.arrayWriteTestDuration(), ((Float)primitive.FloatFrom(1000.0f)))));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 Dictionary writes =             ")));
+    Transcript.$class.print($send5.perform($send4.perform_with(this.dictionaryWriteTestDuration(), ((Float)primitive.FloatFrom(1000.0f)))));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 Float operations =              ")));
+    Transcript.$class.print($send7.perform($send6.perform_with(this.floatMathTestDuration(), ((Float)primitive.FloatFrom(1000.0f)))));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 Integer operations =            ")));
+    Transcript.$class.print($send9.perform($send8.perform_with(this.integerMathTestDuration(), ((Float)primitive.FloatFrom(1000.0f)))));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 OrderedCollection iterations =  ")));
+    Transcript.$class.print($send11.perform($send10.perform_with(this.orderedCollectionIterateTestDuration(), ((Float)primitive.FloatFrom(1000.0f)))));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 OrderedCollection writes =      ")));
+    Transcript.$class.print($send13.perform($send12.perform_with(this.orderedCollectionWriteTestDuration(), ((Float)primitive.FloatFrom(1000.0f)))));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 String comparisons =            ")));
+    Transcript.$class.print($send15.perform($send14.perform_with(this.stringCompareTestDuration(), ((Float)primitive.FloatFrom(1000.0f)))));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" seconds")));;
+    return (this);
+  }
+
+
+  /**
+  * @return java.lang.Runtime
+  */
+  public  java.lang.Runtime getRuntime()
+  {	return java.lang.Runtime.getRuntime();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object allocationTestDuration() {
+    java.lang.Runtime[] runtime = { null };
+    runtime[0] = ((java.lang.Runtime)SticBenchmark.this.getRuntime());
+    runtime[0].gc();
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+           
+          Object x;
+          @Override public Object value()  {
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            x = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+            return Object.primitive.literalNil();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(100000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send16.perform_with($count4, $block4);
+          }
+        }
+        runtime[0].gc();
+        return Object.primitive.literalNil();
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object arrayWriteTestDuration() {
+    Object[] junk = { null };
+
+    Object[] array = { null };
+    junk[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(0)));
+    array[0] = ((smalltalk.behavior.Object)((Array)((Behavior)Array.$class).$new(((SmallInteger)primitive.IntegerFrom(10)))));
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                $send17.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(1)), junk[0]);
+                $send18.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(2)), junk[0]);
+                $send19.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(3)), junk[0]);
+                $send20.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(4)), junk[0]);
+                $send21.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(5)), junk[0]);
+                $send22.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(6)), junk[0]);
+                $send23.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(7)), junk[0]);
+                $send24.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(8)), junk[0]);
+                $send25.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(9)), junk[0]);
+                return $send26.perform_with_with(array[0], ((SmallInteger)primitive.IntegerFrom(10)), junk[0]);
+              }
+            }.value();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(10000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send27.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object dictionaryWriteTestDuration() {
+    Object[] junk = { null };
+
+    Object[] key1 = { null };
+
+    Object[] key2 = { null };
+
+    Object[] key3 = { null };
+
+    Object[] key4 = { null };
+
+    Object[] key5 = { null };
+
+    Object[] key6 = { null };
+
+    Object[] key7 = { null };
+
+    Object[] key8 = { null };
+
+    Object[] key9 = { null };
+
+    Object[] key10 = { null };
+    junk[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(0)));
+    key1[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(1)));
+    key2[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(2)));
+    key3[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(3)));
+    key4[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(4)));
+    key5[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(5)));
+    key6[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(6)));
+    key7[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(7)));
+    key8[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(8)));
+    key9[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(9)));
+    key10[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(10)));
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+           
+          Object dict;
+          @Override public Object value()  {
+            dict = ((smalltalk.behavior.Object)((Dictionary)((Behavior)Dictionary.$class).$new(((SmallInteger)primitive.IntegerFrom(20)))));
+            return new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                $send28.perform_with_with(dict, key1[0], junk[0]);
+                $send29.perform_with_with(dict, key2[0], junk[0]);
+                $send30.perform_with_with(dict, key3[0], junk[0]);
+                $send31.perform_with_with(dict, key4[0], junk[0]);
+                $send32.perform_with_with(dict, key5[0], junk[0]);
+                $send33.perform_with_with(dict, key6[0], junk[0]);
+                $send34.perform_with_with(dict, key7[0], junk[0]);
+                $send35.perform_with_with(dict, key8[0], junk[0]);
+                $send36.perform_with_with(dict, key9[0], junk[0]);
+                return $send37.perform_with_with(dict, key10[0], junk[0]);
+              }
+            }.value();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(10000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send38.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object floatMathTestDuration() {
+    Object[] a = { null };
+
+    Object[] b = { null };
+
+    Object[] c = { null };
+
+    Object[] d = { null };
+
+    Object[] e = { null };
+    a[0] = ((smalltalk.behavior.Object)((Float)primitive.FloatFrom(87.0f)));
+    b[0] = ((smalltalk.behavior.Object)((Float)primitive.FloatFrom(53.0f)));
+    c[0] = ((smalltalk.behavior.Object)((Float)primitive.FloatFrom(-87.0f)));
+    d[0] = ((smalltalk.behavior.Object)((Float)primitive.FloatFrom(42461.0f)));
+    e[0] = ((smalltalk.behavior.Object)((Float)primitive.FloatFrom(5.0f)));
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            e[0] = $send42.perform_with($send41.perform_with($send40.perform_with($send39.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send46.perform_with($send45.perform_with($send44.perform_with($send43.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send50.perform_with($send49.perform_with($send48.perform_with($send47.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send54.perform_with($send53.perform_with($send52.perform_with($send51.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send58.perform_with($send57.perform_with($send56.perform_with($send55.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send62.perform_with($send61.perform_with($send60.perform_with($send59.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send66.perform_with($send65.perform_with($send64.perform_with($send63.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send70.perform_with($send69.perform_with($send68.perform_with($send67.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send74.perform_with($send73.perform_with($send72.perform_with($send71.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send78.perform_with($send77.perform_with($send76.perform_with($send75.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            return Object.primitive.literalNil();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(10000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send79.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object integerMathTestDuration() {
+    Object[] a = { null };
+
+    Object[] b = { null };
+
+    Object[] c = { null };
+
+    Object[] d = { null };
+
+    Object[] e = { null };
+    a[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(87)));
+    b[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(53)));
+    c[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(-87)));
+    d[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(42461)));
+    e[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(5)));
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            e[0] = $send83.perform_with($send82.perform_with($send81.perform_with($send80.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send87.perform_with($send86.perform_with($send85.perform_with($send84.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send91.perform_with($send90.perform_with($send89.perform_with($send88.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send95.perform_with($send94.perform_with($send93.perform_with($send92.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send99.perform_with($send98.perform_with($send97.perform_with($send96.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send103.perform_with($send102.perform_with($send101.perform_with($send100.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send107.perform_with($send106.perform_with($send105.perform_with($send104.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send111.perform_with($send110.perform_with($send109.perform_with($send108.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send115.perform_with($send114.perform_with($send113.perform_with($send112.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            e[0] = $send119.perform_with($send118.perform_with($send117.perform_with($send116.perform_with(e[0], a[0]), b[0]), c[0]), d[0]);
+            return Object.primitive.literalNil();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(10000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send120.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object orderedCollectionIterateTestDuration() {
+     
+    Object junk;
+
+    Object[] oc = { null };
+    junk = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(0)));
+    oc[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new(((SmallInteger)primitive.IntegerFrom(20)))));
+    $send121.perform_with(oc[0], junk);
+    $send122.perform_with(oc[0], junk);
+    $send123.perform_with(oc[0], junk);
+    $send124.perform_with(oc[0], junk);
+    $send125.perform_with(oc[0], junk);
+    $send126.perform_with(oc[0], junk);
+    $send127.perform_with(oc[0], junk);
+    $send128.perform_with(oc[0], junk);
+    $send129.perform_with(oc[0], junk);
+    $send130.perform_with(oc[0], junk);;
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send131.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send132.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send133.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send134.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send135.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send136.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send137.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send138.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send139.perform_with($collection5, $block5);
+              }
+            }
+            {
+              final OneArgumentBlock $block5 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return Object.primitive.literalNil();
+              }
+            };
+              final smalltalk.behavior.Object $collection5 = oc[0];
+              if ($collection5.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements5 = ((smalltalk.collection.Array)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.length; $index5 < $limit5; $index5++) {
+                  $block5.value($elements5[$index5]);
+                }
+              }
+              else if ($collection5.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements5 = ((smalltalk.collection.OrderedCollection)$collection5).primitiveContents();
+                for (int $index5 = 0, $limit5 = $elements5.size(); $index5 < $limit5; $index5++) {
+                  $block5.value((smalltalk.behavior.Object)$elements5.get($index5));
+                }
+              }
+              else {
+                $send140.perform_with($collection5, $block5);
+              }
+            }
+            return Object.primitive.literalNil();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(1000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send141.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object orderedCollectionWriteTestDuration() {
+    Object[] junk = { null };
+
+    Object[] oc = { null };
+    junk[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(0)));
+    oc[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new(((SmallInteger)primitive.IntegerFrom(20)))));
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            oc[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new(((SmallInteger)primitive.IntegerFrom(20)))));
+            return new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                $send142.perform_with(oc[0], junk[0]);
+                $send143.perform_with(oc[0], junk[0]);
+                $send144.perform_with(oc[0], junk[0]);
+                $send145.perform_with(oc[0], junk[0]);
+                $send146.perform_with(oc[0], junk[0]);
+                $send147.perform_with(oc[0], junk[0]);
+                $send148.perform_with(oc[0], junk[0]);
+                $send149.perform_with(oc[0], junk[0]);
+                $send150.perform_with(oc[0], junk[0]);
+                return $send151.perform_with(oc[0], junk[0]);
+              }
+            }.value();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(10000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send152.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object stringCompareTestDuration() {
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            ((String)primitive.StringFrom("this is a test of a string compare of two long strings")).$equal(((String)primitive.StringFrom("this is a test of a string compare of two long strings")));
+            return Object.primitive.literalNil();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(10000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send153.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+}
\ No newline at end of file
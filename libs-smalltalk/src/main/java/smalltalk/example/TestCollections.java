@@ -0,0 +1,1043 @@
+package smalltalk.example;
+import smalltalk.stream.Transcript;
+import smalltalk.collection.*;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Regression tests the smalltalk.collection classes.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestCollections extends smalltalk.behavior.Object 
+{
+  /** Metaclass for TestCollections. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("asUppercase", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("addAll", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("at_put", 2);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("printString", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("asSortedCollection", 0);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("$imod", 1);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("first", 0);
+  private static final int $selector10 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector11 = smalltalk.behavior.SelectorTable.idOf("last", 0);
+  private static final int $selector12 = smalltalk.behavior.SelectorTable.idOf("$append", 1);
+  private static final int $selector13 = smalltalk.behavior.SelectorTable.idOf("size", 0);
+  private static final int $selector14 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector15 = smalltalk.behavior.SelectorTable.idOf("key", 0);
+  private static final int $selector16 = smalltalk.behavior.SelectorTable.idOf("$lessEqual", 1);
+  private static final int $selector17 = smalltalk.behavior.SelectorTable.idOf("sortBlock", 1);
+  private static final int $selector18 = smalltalk.behavior.SelectorTable.idOf("removeFirst", 0);
+  private static final int $selector19 = smalltalk.behavior.SelectorTable.idOf("isEmpty", 0);
+  private static final int $selector20 = smalltalk.behavior.SelectorTable.idOf("nextPut", 1);
+  private static final int $selector21 = smalltalk.behavior.SelectorTable.idOf("fork", 0);
+  private static final int $selector22 = smalltalk.behavior.SelectorTable.idOf("next", 0);
+  private static final int $selector23 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector24 = smalltalk.behavior.SelectorTable.idOf("removeAll", 1);
+  private static final int $selector25 = smalltalk.behavior.SelectorTable.idOf("asOrderedCollection", 0);
+  private static final int $selector26 = smalltalk.behavior.SelectorTable.idOf("asArray", 0);
+  private static final int $selector27 = smalltalk.behavior.SelectorTable.idOf("parallelCollect", 1);
+  private static final int $selector28 = smalltalk.behavior.SelectorTable.idOf("at", 1);
+  private static final int $selector29 = smalltalk.behavior.SelectorTable.idOf("$moreThan", 1);
+  private static final int $selector30 = smalltalk.behavior.SelectorTable.idOf("parallelSelect", 1);
+  private static final int $selector31 = smalltalk.behavior.SelectorTable.idOf("parallelDetect", 1);
+  private static final int $selector32 = smalltalk.behavior.SelectorTable.idOf("parallelInject_into", 2);
+  private static final int $selector33 = smalltalk.behavior.SelectorTable.idOf("lazy", 0);
+  private static final int $selector34 = smalltalk.behavior.SelectorTable.idOf("select", 1);
+  private static final int $selector35 = smalltalk.behavior.SelectorTable.idOf("collect", 1);
+  private static final int $selector36 = smalltalk.behavior.SelectorTable.idOf("detect", 1);
+  private static final int $selector37 = smalltalk.behavior.SelectorTable.idOf("first", 1);
+  private static final int $selector38 = smalltalk.behavior.SelectorTable.idOf("inject_into", 2);
+  private static final int $selector39 = smalltalk.behavior.SelectorTable.idOf("asBag", 0);
+  private static final int $selector40 = smalltalk.behavior.SelectorTable.idOf("keysAndValuesDo", 1);
+  private static final int $selector41 = smalltalk.behavior.SelectorTable.idOf("removeKey", 1);
+  private static final int $selector42 = smalltalk.behavior.SelectorTable.idOf("to_by_do", 3);
+  private static final int $selector43 = smalltalk.behavior.SelectorTable.idOf("withAllSubclasses", 0);
+  private static final int $selector44 = smalltalk.behavior.SelectorTable.idOf("name", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector14);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send26 = new smalltalk.behavior.SendSite($selector16);
+  private static final smalltalk.behavior.SendSite $send27 = new smalltalk.behavior.SendSite($selector17);
+  private static final smalltalk.behavior.SendSite $send28 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send29 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send30 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send31 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send32 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send33 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send34 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send35 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send36 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send37 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send38 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send39 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send40 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send41 = new smalltalk.behavior.SendSite($selector18);
+  private static final smalltalk.behavior.SendSite $send42 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send43 = new smalltalk.behavior.SendSite($selector18);
+  private static final smalltalk.behavior.SendSite $send44 = new smalltalk.behavior.SendSite($selector14);
+  private static final smalltalk.behavior.SendSite $send45 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send46 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send47 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send48 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send49 = new smalltalk.behavior.SendSite($selector14);
+  private static final smalltalk.behavior.SendSite $send50 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send51 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send52 = new smalltalk.behavior.SendSite($selector18);
+  private static final smalltalk.behavior.SendSite $send53 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send54 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send55 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send56 = new smalltalk.behavior.SendSite($selector16);
+  private static final smalltalk.behavior.SendSite $send57 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send58 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send59 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send60 = new smalltalk.behavior.SendSite($selector18);
+  private static final smalltalk.behavior.SendSite $send61 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send62 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send63 = new smalltalk.behavior.SendSite($selector20);
+  private static final smalltalk.behavior.SendSite $send64 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send65 = new smalltalk.behavior.SendSite($selector21);
+  private static final smalltalk.behavior.SendSite $send66 = new smalltalk.behavior.SendSite($selector22);
+  private static final smalltalk.behavior.SendSite $send67 = new smalltalk.behavior.SendSite($selector22);
+  private static final smalltalk.behavior.SendSite $send68 = new smalltalk.behavior.SendSite($selector23);
+  private static final smalltalk.behavior.SendSite $send69 = new smalltalk.behavior.SendSite($selector22);
+  private static final smalltalk.behavior.SendSite $send70 = new smalltalk.behavior.SendSite($selector23);
+  private static final smalltalk.behavior.SendSite $send71 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send72 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send73 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send74 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send75 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send76 = new smalltalk.behavior.SendSite($selector24);
+  private static final smalltalk.behavior.SendSite $send77 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send78 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send79 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send80 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send81 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send82 = new smalltalk.behavior.SendSite($selector25);
+  private static final smalltalk.behavior.SendSite $send83 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send84 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send85 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send86 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send87 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send88 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send89 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send90 = new smalltalk.behavior.SendSite($selector26);
+  private static final smalltalk.behavior.SendSite $send91 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send92 = new smalltalk.behavior.SendSite($selector27);
+  private static final smalltalk.behavior.SendSite $send93 = new smalltalk.behavior.SendSite($selector28);
+  private static final smalltalk.behavior.SendSite $send94 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send95 = new smalltalk.behavior.SendSite($selector28);
+  private static final smalltalk.behavior.SendSite $send96 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send97 = new smalltalk.behavior.SendSite($selector28);
+  private static final smalltalk.behavior.SendSite $send98 = new smalltalk.behavior.SendSite($selector29);
+  private static final smalltalk.behavior.SendSite $send99 = new smalltalk.behavior.SendSite($selector30);
+  private static final smalltalk.behavior.SendSite $send100 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send101 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send102 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send103 = new smalltalk.behavior.SendSite($selector29);
+  private static final smalltalk.behavior.SendSite $send104 = new smalltalk.behavior.SendSite($selector31);
+  private static final smalltalk.behavior.SendSite $send105 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send106 = new smalltalk.behavior.SendSite($selector23);
+  private static final smalltalk.behavior.SendSite $send107 = new smalltalk.behavior.SendSite($selector32);
+  private static final smalltalk.behavior.SendSite $send108 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send109 = new smalltalk.behavior.SendSite($selector33);
+  private static final smalltalk.behavior.SendSite $send110 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send111 = new smalltalk.behavior.SendSite($selector34);
+  private static final smalltalk.behavior.SendSite $send112 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send113 = new smalltalk.behavior.SendSite($selector35);
+  private static final smalltalk.behavior.SendSite $send114 = new smalltalk.behavior.SendSite($selector29);
+  private static final smalltalk.behavior.SendSite $send115 = new smalltalk.behavior.SendSite($selector36);
+  private static final smalltalk.behavior.SendSite $send116 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send117 = new smalltalk.behavior.SendSite($selector37);
+  private static final smalltalk.behavior.SendSite $send118 = new smalltalk.behavior.SendSite($selector23);
+  private static final smalltalk.behavior.SendSite $send119 = new smalltalk.behavior.SendSite($selector38);
+  private static final smalltalk.behavior.SendSite $send120 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send121 = new smalltalk.behavior.SendSite($selector39);
+  private static final smalltalk.behavior.SendSite $send122 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send123 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send124 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send125 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send126 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send127 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send128 = new smalltalk.behavior.SendSite($selector40);
+  private static final smalltalk.behavior.SendSite $send129 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send130 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send131 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send132 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send133 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send134 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send135 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send136 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send137 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send138 = new smalltalk.behavior.SendSite($selector41);
+  private static final smalltalk.behavior.SendSite $send139 = new smalltalk.behavior.SendSite($selector42);
+  private static final smalltalk.behavior.SendSite $send140 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send141 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send142 = new smalltalk.behavior.SendSite($selector28);
+  private static final smalltalk.behavior.SendSite $send143 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send144 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send145 = new smalltalk.behavior.SendSite($selector28);
+  private static final smalltalk.behavior.SendSite $send146 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send147 = new smalltalk.behavior.SendSite($selector28);
+  private static final smalltalk.behavior.SendSite $send148 = new smalltalk.behavior.SendSite($selector28);
+  private static final smalltalk.behavior.SendSite $send149 = new smalltalk.behavior.SendSite($selector43);
+  private static final smalltalk.behavior.SendSite $send150 = new smalltalk.behavior.SendSite($selector44);
+  private static final smalltalk.behavior.SendSite $send151 = new smalltalk.behavior.SendSite($selector5);
+  /** class instance for TestCollections. **/
+  public static final mClass $class = new mClass(TestCollections.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          new TestCollections().testCollections();
+          return Object.primitive.literalNil();
+        }
+        catch (java.lang.Throwable e) {
+          e.printStackTrace();
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object testCollections() {
+     
+    Object allThose;
+
+     
+    Object string;
+
+     
+    Object built;
+
+     
+    Object sample;
+
+    Object[] sorted = { null };
+
+    Object[] drained = { null };
+
+    Object[] sortedTies = { null };
+
+    Object[] appended = { null };
+
+    Object[] queue = { null };
+
+    Object[] ordered = { null };
+
+    Object[] previous = { null };
+
+    Object[] tasks = { null };
+
+    Object[] ties = { null };
+
+    Object[] shared = { null };
+
+     
+    Object total;
+
+     
+    Object s;
+
+     
+    Object o;
+
+    Object[] numbers = { null };
+
+     
+    Object squares;
+
+     
+    Object selected;
+
+     
+    Object detected;
+
+     
+    Object squared;
+
+     
+    Object b;
+
+    Object[] d = { null };
+
+     
+    Object id;
+    string = ((String)primitive.StringFrom("aaaa")).$append(((String)primitive.StringFrom("bbbb")));
+    Transcript.$class.print(((String)primitive.StringFrom("concat = ")));
+    Transcript.$class.printLine(string);;
+    Transcript.$class.print(((String)primitive.StringFrom("upper =  ")));
+    Transcript.$class.printLine($send0.perform(string));;
+    built = ((smalltalk.behavior.Object)((String)((Behavior)String.$class).$new(((SmallInteger)primitive.IntegerFrom(4)))));
+    $send1.perform_with(built, ((Character)primitive.CharacterFrom('a')));
+    $send2.perform_with(built, string);
+    $send3.perform_with_with(built, ((SmallInteger)primitive.IntegerFrom(1)), ((Character)primitive.CharacterFrom('c')));;
+    Transcript.$class.print(((String)primitive.StringFrom("built =  ")));
+    Transcript.$class.print(built);
+    Transcript.$class.print(((String)primitive.StringFrom(" equal ")));
+    Transcript.$class.printLine($send4.perform(built.$equal(((String)primitive.StringFrom("caaaabbbb")))));;
+    assert Boolean.primitiveValue(built.$equal(((String)primitive.StringFrom("caaaabbbb"))));
+    Transcript.$class.print(((String)primitive.StringFrom("array =  ")));
+    sample = ((smalltalk.behavior.Object)Array.withAll(new Object[]{
+      ((SmallInteger)primitive.IntegerFrom(5)), ((SmallInteger)primitive.IntegerFrom(4)), ((SmallInteger)primitive.IntegerFrom(3)), ((SmallInteger)primitive.IntegerFrom(2)), ((SmallInteger)primitive.IntegerFrom(1))
+    }));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+       
+      SmallInteger x;
+      @Override public Object value(final Object each)  {
+        x = ((SmallInteger)each);
+        return new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            Transcript.$class.print(x.asString());
+            return Transcript.$class.space();
+          }
+        }.value();
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = sample;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send5.perform_with($collection3, $block3);
+      }
+    }
+    Transcript.$class.cr();
+    Transcript.$class.print(((String)primitive.StringFrom("sorted = ")));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+       
+      SmallInteger x;
+      @Override public Object value(final Object each)  {
+        x = ((SmallInteger)each);
+        return new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            Transcript.$class.print(x.asString());
+            return Transcript.$class.space();
+          }
+        }.value();
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = $send6.perform(sample);
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send7.perform_with($collection3, $block3);
+      }
+    }
+    Transcript.$class.cr();
+    sorted[0] = ((smalltalk.behavior.Object)((SortedCollection)((Behavior)SortedCollection.$class).$new()));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        $send10.perform_with(sorted[0], $send9.perform_with($send8.perform_with(each, ((SmallInteger)primitive.IntegerFrom(37))), ((SmallInteger)primitive.IntegerFrom(101))));
+        return $send11.perform(sorted[0]);
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(200));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send12.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    Transcript.$class.print(((String)primitive.StringFrom("inserted first = ")));
+    Transcript.$class.print($send14.perform($send13.perform(sorted[0])));
+    Transcript.$class.print(((String)primitive.StringFrom(" last = ")));
+    Transcript.$class.printLine($send16.perform($send15.perform(sorted[0])));;
+    assert Boolean.primitiveValue($send17.perform(sorted[0]).$equal(((SmallInteger)primitive.IntegerFrom(0))));
+    assert Boolean.primitiveValue($send18.perform(sorted[0]).$equal(((SmallInteger)primitive.IntegerFrom(100))));
+    Transcript.$class.print(((String)primitive.StringFrom("stable =  ")));
+    drained[0] = ((smalltalk.behavior.Object)((String)primitive.StringFrom("")));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        Transcript.$class.print(each);
+        Transcript.$class.space();;
+        return drained[0] = $send19.perform_with(drained[0], each);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = Array.withAll(new Object[]{
+      ((String)primitive.StringFrom("bb")), ((String)primitive.StringFrom("a")), ((String)primitive.StringFrom("cc")), ((String)primitive.StringFrom("d"))
+    }).asSortedCollection(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object a, final Object b)  {
+        return $send22.perform_with($send20.perform(a), $send21.perform(b));
+      }
+    });
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send23.perform_with($collection3, $block3);
+      }
+    }
+    Transcript.$class.cr();
+    assert Boolean.primitiveValue(drained[0].$equal(((String)primitive.StringFrom("adbbcc"))));
+    sortedTies[0] = ((smalltalk.behavior.Object)((SortedCollection)((Behavior)SortedCollection.$class).$new()));
+    $send27.perform_with(sortedTies[0], new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object a, final Object b)  {
+        return $send26.perform_with($send24.perform(a), $send25.perform(b));
+      }
+    });
+    $send28.perform_with(sortedTies[0], Association.$class.key_value(((SmallInteger)primitive.IntegerFrom(1)), ((SmallInteger)primitive.IntegerFrom(0))));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send29.perform_with(sortedTies[0], Association.$class.key_value(((SmallInteger)primitive.IntegerFrom(0)), each));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(3));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send30.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    appended[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new()));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send31.perform_with(appended[0], Association.$class.key_value(((SmallInteger)primitive.IntegerFrom(0)), each));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(4));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(20));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send32.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    $send33.perform_with(sortedTies[0], appended[0]);
+    drained[0] = ((smalltalk.behavior.Object)((String)primitive.StringFrom("")));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return drained[0] = $send35.perform_with(drained[0], $send34.perform(each.value()));
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = sortedTies[0];
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send36.perform_with($collection3, $block3);
+      }
+    }
+    Transcript.$class.print(((String)primitive.StringFrom("sorted ties = ")));
+    Transcript.$class.printLine(drained[0]);;
+    assert Boolean.primitiveValue(drained[0].$equal(((String)primitive.StringFrom("12345678910111213141516171819200"))));
+    queue[0] = ((smalltalk.behavior.Object)((PriorityQueue)((Behavior)PriorityQueue.$class).$new()));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send39.perform_with(queue[0], $send38.perform_with($send37.perform_with(each, ((SmallInteger)primitive.IntegerFrom(37))), ((SmallInteger)primitive.IntegerFrom(101))));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(200));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send40.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    ordered[0] = ((smalltalk.behavior.Object)Object.primitive.literalTrue());
+    previous[0] = $send41.perform(queue[0]);
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send42.perform(queue[0]);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+         
+        Object value;
+        @Override public Object value()  {
+          value = $send43.perform(queue[0]);
+          if (Boolean.primitiveValue($send44.perform_with(value, previous[0]))) {
+            (new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                return ordered[0] = ((smalltalk.behavior.Object)Object.primitive.literalFalse());
+              }
+            }).value();
+          }
+          return previous[0] = value;
+        }
+      }).value()).value();
+    }
+    Transcript.$class.print(((String)primitive.StringFrom("queue ordered = ")));
+    Transcript.$class.print($send45.perform(ordered[0]));
+    Transcript.$class.print(((String)primitive.StringFrom(" last = ")));
+    Transcript.$class.printLine($send46.perform(previous[0]));;
+    assert Boolean.primitiveValue(ordered[0]);
+    assert Boolean.primitiveValue(previous[0].$equal(((SmallInteger)primitive.IntegerFrom(100))));
+    tasks[0] = PriorityQueue.$class.sortBlock(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object a, final Object b)  {
+        return $send49.perform_with($send47.perform(a), $send48.perform(b));
+      }
+    });
+    $send50.perform_with(tasks[0], Array.withAll(new Object[]{
+      ((String)primitive.StringFrom("bb")), ((String)primitive.StringFrom("a")), ((String)primitive.StringFrom("cc")), ((String)primitive.StringFrom("d"))
+    }));
+    Transcript.$class.print(((String)primitive.StringFrom("queue =   ")));
+    drained[0] = ((smalltalk.behavior.Object)((String)primitive.StringFrom("")));
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send51.perform(tasks[0]);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+         
+        Object value;
+        @Override public Object value()  {
+          value = $send52.perform(tasks[0]);
+          Transcript.$class.print(value);
+          Transcript.$class.space();;
+          return drained[0] = $send53.perform_with(drained[0], value);
+        }
+      }).value()).value();
+    }
+    Transcript.$class.cr();
+    assert Boolean.primitiveValue(drained[0].$equal(((String)primitive.StringFrom("adbbcc"))));
+    ties[0] = PriorityQueue.$class.sortBlock(new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object a, final Object b)  {
+        return $send56.perform_with($send54.perform(a), $send55.perform(b));
+      }
+    });
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send57.perform_with(ties[0], Association.$class.key_value(((SmallInteger)primitive.IntegerFrom(0)), each));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(6));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send58.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    drained[0] = ((smalltalk.behavior.Object)((String)primitive.StringFrom("")));
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send59.perform(ties[0]);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return drained[0] = $send62.perform_with(drained[0], $send61.perform($send60.perform(ties[0]).value()));
+        }
+      }).value()).value();
+    }
+    Transcript.$class.print(((String)primitive.StringFrom("queue ties = ")));
+    Transcript.$class.printLine(drained[0]);;
+    assert Boolean.primitiveValue(drained[0].$equal(((String)primitive.StringFrom("123456"))));
+    shared[0] = PriorityQueue.$class.concurrent();
+    $send65.perform(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final OneArgumentBlock $block4 = new OneArgumentBlock()
+        {
+          @Override public Object value(final Object each)  {
+            return $send63.perform_with(shared[0], each);
+          }
+        };
+          final smalltalk.behavior.Object $start4 = ((SmallInteger)primitive.IntegerFrom(1));
+          final smalltalk.behavior.Object $stop4 = ((SmallInteger)primitive.IntegerFrom(3));
+          if ($start4 instanceof smalltalk.magnitude.SmallInteger && $stop4 instanceof smalltalk.magnitude.SmallInteger) {
+            final long $limit4 = ((smalltalk.magnitude.SmallInteger)$stop4).primitiveInteger();
+            for (long $index4 = ((smalltalk.magnitude.SmallInteger)$start4).primitiveInteger(); $index4 <= $limit4; $index4 += 1) {
+              $block4.value(primitive.IntegerFrom((int)$index4));
+            }
+          }
+          else {
+            $send64.perform_with_with($start4, $stop4, $block4);
+          }
+          return $start4;
+        }
+      }
+    });
+    total = $send70.perform_with($send68.perform_with($send66.perform(shared[0]), $send67.perform(shared[0])), $send69.perform(shared[0]));
+    Transcript.$class.print(((String)primitive.StringFrom("shared total = ")));
+    Transcript.$class.printLine($send71.perform(total));;
+    assert Boolean.primitiveValue(total.$equal(((SmallInteger)primitive.IntegerFrom(6))));
+    Transcript.$class.print(((String)primitive.StringFrom("set =    ")));
+    s = ((smalltalk.behavior.Object)((Set)((Behavior)Set.$class).$new()));
+    $send72.perform_with(s, sample);
+    $send73.perform_with(s, sample);
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        Transcript.$class.print($send74.perform(each));
+        Transcript.$class.space();;
+        return Object.primitive.literalNil();
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = s;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send75.perform_with($collection3, $block3);
+      }
+    }
+    $send76.perform_with(s, sample);
+    Transcript.$class.cr();
+    Transcript.$class.print(((String)primitive.StringFrom("size after removal = ")));
+    Transcript.$class.printLine($send78.perform($send77.perform(s)));;
+    sample = ((smalltalk.behavior.Object)Array.withAll(new Object[]{
+      ((SmallInteger)primitive.IntegerFrom(1)), ((SmallInteger)primitive.IntegerFrom(2)), ((SmallInteger)primitive.IntegerFrom(3)), ((SmallInteger)primitive.IntegerFrom(4)), ((SmallInteger)primitive.IntegerFrom(5))
+    }));
+    Transcript.$class.print(((String)primitive.StringFrom("range = ( 1 to: 5 ) = ")));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        Transcript.$class.print($send79.perform(each));
+        Transcript.$class.space();;
+        return Object.primitive.literalNil();
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = ((SmallInteger)primitive.IntegerFrom(1)).to(((SmallInteger)primitive.IntegerFrom(5)));
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send80.perform_with($collection3, $block3);
+      }
+    }
+    Transcript.$class.cr();
+    Transcript.$class.print(((String)primitive.StringFrom("range = #( 1 2 3 4 5 ) ? ")));
+    Transcript.$class.printLine($send81.perform(((SmallInteger)primitive.IntegerFrom(1)).to(((SmallInteger)primitive.IntegerFrom(5))).$equal(sample)));;
+    Transcript.$class.print(((String)primitive.StringFrom("range = #( 1 2 3 4 5 ) asOrderedCollection ? ")));
+    Transcript.$class.printLine($send83.perform(((SmallInteger)primitive.IntegerFrom(1)).to(((SmallInteger)primitive.IntegerFrom(5))).$equal($send82.perform(sample))));;
+    Transcript.$class.print(((String)primitive.StringFrom("ordcol = ")));
+    o = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new()));
+    $send84.perform_with(o, sample);
+    $send85.perform_with(o, sample);
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        Transcript.$class.print($send86.perform(each));
+        Transcript.$class.space();;
+        return Object.primitive.literalNil();
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = o;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send87.perform_with($collection3, $block3);
+      }
+    }
+    Transcript.$class.cr();
+    numbers[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new()));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send88.perform_with(numbers[0], each);
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(5000));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send89.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    squares = $send92.perform_with($send90.perform(numbers[0]), new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send91.perform_with(each, each);
+      }
+    });
+    Transcript.$class.print(((String)primitive.StringFrom("parallel squares = ")));
+    Transcript.$class.print($send94.perform($send93.perform_with(squares, ((SmallInteger)primitive.IntegerFrom(1)))));
+    Transcript.$class.space();
+    Transcript.$class.printLine($send96.perform($send95.perform_with(squares, ((SmallInteger)primitive.IntegerFrom(5000)))));;
+    assert Boolean.primitiveValue($send97.perform_with(squares, ((SmallInteger)primitive.IntegerFrom(5000))).$equal(((SmallInteger)primitive.IntegerFrom(25000000))));
+    selected = $send99.perform_with(numbers[0], new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send98.perform_with(each, ((SmallInteger)primitive.IntegerFrom(4000)));
+      }
+    });
+    Transcript.$class.print(((String)primitive.StringFrom("parallel select = ")));
+    Transcript.$class.printLine($send101.perform($send100.perform(selected)));;
+    assert Boolean.primitiveValue($send102.perform(selected).$equal(((SmallInteger)primitive.IntegerFrom(1000))));
+    detected = $send104.perform_with(numbers[0], new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send103.perform_with(each, ((SmallInteger)primitive.IntegerFrom(2500)));
+      }
+    });
+    Transcript.$class.print(((String)primitive.StringFrom("parallel detect = ")));
+    Transcript.$class.printLine($send105.perform(detected));;
+    assert Boolean.primitiveValue(detected.$equal(((SmallInteger)primitive.IntegerFrom(2501))));
+    total = $send107.perform_with_with(numbers[0], ((SmallInteger)primitive.IntegerFrom(0)), new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object sum, final Object each)  {
+        return $send106.perform_with(sum, each);
+      }
+    });
+    Transcript.$class.print(((String)primitive.StringFrom("parallel inject = ")));
+    Transcript.$class.printLine($send108.perform(total));;
+    assert Boolean.primitiveValue(total.$equal(((SmallInteger)primitive.IntegerFrom(12502500))));
+    squared = $send113.perform_with($send111.perform_with($send109.perform(numbers[0]), new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send110.perform_with(each, ((SmallInteger)primitive.IntegerFrom(7))).$equal(((SmallInteger)primitive.IntegerFrom(0)));
+      }
+    }), new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send112.perform_with(each, each);
+      }
+    });
+    detected = $send115.perform_with(squared, new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send114.perform_with(each, ((SmallInteger)primitive.IntegerFrom(1000)));
+      }
+    });
+    Transcript.$class.print(((String)primitive.StringFrom("lazy detect = ")));
+    Transcript.$class.printLine($send116.perform(detected));;
+    assert Boolean.primitiveValue(detected.$equal(((SmallInteger)primitive.IntegerFrom(1225))));
+    total = $send119.perform_with_with($send117.perform_with(squared, ((SmallInteger)primitive.IntegerFrom(3))), ((SmallInteger)primitive.IntegerFrom(0)), new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object sum, final Object each)  {
+        return $send118.perform_with(sum, each);
+      }
+    });
+    Transcript.$class.print(((String)primitive.StringFrom("lazy first = ")));
+    Transcript.$class.printLine($send120.perform(total));;
+    assert Boolean.primitiveValue(total.$equal(((SmallInteger)primitive.IntegerFrom(686))));
+    Transcript.$class.print(((String)primitive.StringFrom("bag =    ")));
+    b = $send121.perform(o);
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        Transcript.$class.print($send122.perform(each));
+        Transcript.$class.space();;
+        return Object.primitive.literalNil();
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = b;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send123.perform_with($collection3, $block3);
+      }
+    }
+    Transcript.$class.cr();
+    Transcript.$class.printLine(((String)primitive.StringFrom("dictionary = ")));
+    d[0] = ((smalltalk.behavior.Object)((Dictionary)((Behavior)Dictionary.$class).$new()));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send125.perform_with_with(d[0], $send124.perform(each), each);
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = sample;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send126.perform_with($collection3, $block3);
+      }
+    }
+    $send128.perform_with(d[0], new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object key, final Object value)  {
+        return new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            Transcript.$class.print(((String)primitive.StringFrom("key = ")));
+            Transcript.$class.print(key);
+            Transcript.$class.print(((String)primitive.StringFrom(" value = ")));
+            return Transcript.$class.printLine($send127.perform(value));
+          }
+        }.value();
+      }
+    });
+    id = ((smalltalk.behavior.Object)((IdentityDictionary)((Behavior)IdentityDictionary.$class).$new()));
+    $send129.perform_with_with(id, ((SmallInteger)primitive.IntegerFrom(123456789)), ((SmallInteger)primitive.IntegerFrom(123456789)));
+    $send130.perform_with_with(id, ((SmallInteger)primitive.IntegerFrom(123456789)), ((SmallInteger)primitive.IntegerFrom(123456789)));
+    $send131.perform_with_with(id, ((SmallInteger)primitive.IntegerFrom(1)), ((SmallInteger)primitive.IntegerFrom(1)));
+    $send132.perform_with_with(id, ((SmallInteger)primitive.IntegerFrom(1)), ((SmallInteger)primitive.IntegerFrom(1)));
+    Transcript.$class.printLine(((String)primitive.StringFrom("id dictionary size = ")).$append($send134.perform($send133.perform(id))));
+    d[0] = ((smalltalk.behavior.Object)((Dictionary)((Behavior)Dictionary.$class).$new()));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send136.perform_with_with(d[0], each, $send135.perform_with(each, ((SmallInteger)primitive.IntegerFrom(2))));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(1000));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send137.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send138.perform_with(d[0], each);
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(1000));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 2) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send139.perform_with_with_with($start3, $stop3, ((SmallInteger)primitive.IntegerFrom(2)), $block3);
+      }
+    }
+    Transcript.$class.print(((String)primitive.StringFrom("grown dictionary size = ")));
+    Transcript.$class.print($send141.perform($send140.perform(d[0])));
+    Transcript.$class.print(((String)primitive.StringFrom(" at 500 = ")));
+    Transcript.$class.printLine($send143.perform($send142.perform_with(d[0], ((SmallInteger)primitive.IntegerFrom(500)))));;
+    assert Boolean.primitiveValue($send144.perform(d[0]).$equal(((SmallInteger)primitive.IntegerFrom(500))));
+    assert Boolean.primitiveValue($send145.perform_with(d[0], ((SmallInteger)primitive.IntegerFrom(500))).$equal(((SmallInteger)primitive.IntegerFrom(1000))));
+    d[0] = Dictionary.$class.concurrent();
+    $send146.perform_with_with(d[0], ((Symbol)primitive.SymbolFrom("key")), ((String)primitive.StringFrom("value")));
+    Transcript.$class.printLine(((String)primitive.StringFrom("concurrent dictionary at key = ")).$append($send147.perform_with(d[0], ((Symbol)primitive.SymbolFrom("key")))));
+    assert Boolean.primitiveValue($send148.perform_with(d[0], ((Symbol)primitive.SymbolFrom("key"))).$equal(((String)primitive.StringFrom("value"))));
+    Transcript.$class.cr();
+    Transcript.$class.printLine(((String)primitive.StringFrom("Hierarchy:")));;
+    allThose = ((Object)$send149.perform(new Object().$class()));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object aClass)  {
+        Transcript.$class.printLine($send150.perform(aClass));
+        return Object.primitive.literalNil();
+      }
+    };
+      final smalltalk.behavior.Object $collection3 = allThose;
+      if ($collection3.getClass() == smalltalk.collection.Array.class) {
+        final smalltalk.behavior.Object[] $elements3 = ((smalltalk.collection.Array)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.length; $index3 < $limit3; $index3++) {
+          $block3.value($elements3[$index3]);
+        }
+      }
+      else if ($collection3.getClass() == smalltalk.collection.OrderedCollection.class) {
+        final java.util.List $elements3 = ((smalltalk.collection.OrderedCollection)$collection3).primitiveContents();
+        for (int $index3 = 0, $limit3 = $elements3.size(); $index3 < $limit3; $index3++) {
+          $block3.value((smalltalk.behavior.Object)$elements3.get($index3));
+        }
+      }
+      else {
+        $send151.perform_with($collection3, $block3);
+      }
+    }
+    return (TestCollections.this);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package smalltalk.example;
+import smalltalk.stream.Transcript;
+import smalltalk.magnitude.ZeroDivide;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Regression tests the exception support.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestExceptions extends smalltalk.behavior.Object 
+{
+  /** Metaclass for TestExceptions. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("description", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("resignalAs", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("on_do", 2);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("pass", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector2);
+  /** class instance for TestExceptions. **/
+  public static final mClass $class = new mClass(TestExceptions.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    new TestExceptions().tests();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object tests() {
+    this.tieStreams();
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          TestExceptions.this.testExceptions();
+          return Object.primitive.literalNil();
+        }
+        catch (java.lang.Throwable e) {
+          Transcript.$class.printLine(primitive.StringFrom(e.getMessage()));
+          e.printStackTrace();
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return void
+  */
+  public  void tieStreams()
+  {
+  		System.setErr( System.out );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object testExceptions() {
+    Transcript.$class.printLine(((String)primitive.StringFrom("testing exceptions...")));
+    $send8.perform_with_with(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        $send6.perform_with_with(new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            $send2.perform_with_with(new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                TestExceptions.this.signalException();
+                Transcript.$class.printLine(((String)primitive.StringFrom("reached after resumption")));
+                return Object.primitive.literalNil();
+              }
+            }, ZeroDivide.$class, new OneArgumentBlock()
+            {
+              @Override public Object value(final Object exception)  {
+                Transcript.$class.printLine(((String)primitive.StringFrom("handled ")).$append($send0.perform(exception)));
+                Transcript.$class.printLine(((String)primitive.StringFrom("resignaling as Warning")));
+                $send1.perform_with(exception, ((Warning)((Behavior)Warning.$class).$new()));
+                return Object.primitive.literalNil();
+              }
+            });
+            return Object.primitive.literalNil();
+          }
+        }, Warning.$class, new OneArgumentBlock()
+        {
+          @Override public Object value(final Object exception)  {
+            Transcript.$class.printLine(((String)primitive.StringFrom("handled ")).$append($send3.perform(exception)));
+            Transcript.$class.printLine(((String)primitive.StringFrom("passing ")).$append($send4.perform(exception)));
+            $send5.perform(exception);
+            return Object.primitive.literalNil();
+          }
+        });
+        return Object.primitive.literalNil();
+      }
+    }, Warning.$class, new OneArgumentBlock()
+    {
+      @Override public Object value(final Object exception)  {
+        Transcript.$class.printLine(((String)primitive.StringFrom("received passed ")).$append($send7.perform(exception)));
+        return Object.primitive.literalNil();
+      }
+    });
+    Transcript.$class.printLine(((String)primitive.StringFrom("done")));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object signalException() {
+    Transcript.$class.printLine(((String)primitive.StringFrom("signaling ZeroDivide")));
+    return (((SmallInteger)primitive.IntegerFrom(1)).$dividedBy(((SmallInteger)primitive.IntegerFrom(0))));
+  }
+}
\ No newline at end of file
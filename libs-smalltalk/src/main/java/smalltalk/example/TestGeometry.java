@@ -0,0 +1,115 @@
+package smalltalk.example;
+import smalltalk.geometry.*;
+import smalltalk.stream.Transcript;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Regression tests the smalltalk.geometry classes.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestGeometry extends smalltalk.behavior.Object 
+{
+  /** Metaclass for TestGeometry. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("printTerm", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("printString", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("corner", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("area", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("center", 0);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("leftTop", 0);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("rightTop", 0);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("leftBottom", 0);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("rightBottom", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector2);
+  /** class instance for TestGeometry. **/
+  public static final mClass $class = new mClass(TestGeometry.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+           
+          Object origin;
+
+           
+          Object corner;
+
+           
+          Object r;origin = ((SmallInteger)primitive.IntegerFrom(10)).$at(((SmallInteger)primitive.IntegerFrom(10)));
+          corner = ((SmallInteger)primitive.IntegerFrom(50)).$at(((SmallInteger)primitive.IntegerFrom(50)));
+          Transcript.$class.print($send0.perform(corner));
+          Transcript.$class.print(((String)primitive.StringFrom(" - ")));
+          Transcript.$class.print($send1.perform(origin));
+          Transcript.$class.print(((String)primitive.StringFrom(" = ")));
+          Transcript.$class.printLine($send3.perform($send2.perform_with(corner, origin)));;
+          Transcript.$class.print($send4.perform(corner));
+          Transcript.$class.print(((String)primitive.StringFrom(" dotProduct: ")));
+          Transcript.$class.print($send5.perform(origin));
+          Transcript.$class.print(((String)primitive.StringFrom(" = ")));
+          Transcript.$class.printLine($send6.perform(((Point)corner).dotProduct(origin)));;
+          r = $send7.perform_with(origin, corner);
+          Transcript.$class.printLine($send8.perform(r));
+          Transcript.$class.print(((String)primitive.StringFrom("area =   ")));
+          Transcript.$class.printLine($send10.perform($send9.perform(r)));;
+          Transcript.$class.print(((String)primitive.StringFrom("center = ")));
+          Transcript.$class.printLine($send12.perform($send11.perform(r)));;
+          Transcript.$class.printLine(((String)primitive.StringFrom("corners = ")));
+          Transcript.$class.printLine($send14.perform($send13.perform(r)));
+          Transcript.$class.printLine($send16.perform($send15.perform(r)));
+          Transcript.$class.printLine($send18.perform($send17.perform(r)));
+          Transcript.$class.printLine($send20.perform($send19.perform(r)));;
+          return Object.primitive.literalNil();
+        }
+        catch (java.lang.Throwable e) {
+          e.printStackTrace();
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package smalltalk.example;
+import smalltalk.magnitude.Time;
+import smalltalk.stream.Transcript;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Compares addition versus increment.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestIntegers extends smalltalk.behavior.Object 
+{
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("printString", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("timesRepeat", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("asFastInteger", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector1);
+  protected 
+  SmallInteger unity = (SmallInteger)((SmallInteger)primitive.IntegerFrom(1));
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    new TestIntegers().testIntegers();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object testIntegers() {
+    this.testFlyweight();
+    this.testFullweight();
+    Transcript.$class.print(((String)primitive.StringFrom("100000 nonweight ops =  ")));
+    Transcript.$class.print($send0.perform(this.testNonweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 flyweight ops =  ")));
+    Transcript.$class.print($send1.perform(this.testFlyweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 fullweight ops = ")));
+    Transcript.$class.print($send2.perform(this.testFullweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 nonweight ops =  ")));
+    Transcript.$class.print($send3.perform(this.testNonweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 flyweight ops =  ")));
+    Transcript.$class.print($send4.perform(this.testFlyweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 fullweight ops = ")));
+    Transcript.$class.print($send5.perform(this.testFullweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 nonweight ops =  ")));
+    Transcript.$class.print($send6.perform(this.testNonweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 flyweight ops =  ")));
+    Transcript.$class.print($send7.perform(this.testFlyweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));
+    Transcript.$class.print(((String)primitive.StringFrom("100000 fullweight ops = ")));
+    Transcript.$class.print($send8.perform(this.testFullweight()));
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object fullweightSample()
+  {
+  		return primitive.IntegerFrom( java.lang.Short.MAX_VALUE + 2 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object testFlyweight() {
+    SmallInteger[] test = { null };
+    test[0] = ((SmallInteger)smalltalk.magnitude.SmallInteger.sum(0, 1));
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            test[0] = ((SmallInteger)test[0].$minus(unity));
+            test[0] = ((SmallInteger)test[0].$plus(unity));
+            return Object.primitive.literalNil();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(100000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send9.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object testFullweight() {
+    SmallInteger[] test = { null };
+    test[0] = ((SmallInteger)TestIntegers.this.fullweightSample());
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            test[0] = ((SmallInteger)test[0].$plus(unity));
+            test[0] = ((SmallInteger)test[0].$minus(unity));
+            return Object.primitive.literalNil();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(100000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send10.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object testNonweight() {
+    FastInteger[] test = { null };
+    test[0] = ((FastInteger)$send11.perform(TestIntegers.this.fullweightSample()));
+    return (Time.$class.millisecondsToRun(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        {
+          final ZeroArgumentBlock $block4 = new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            test[0].$incremented(unity);
+            test[0].$decremented(unity);
+            return Object.primitive.literalNil();
+          }
+        };
+          final smalltalk.behavior.Object $count4 = ((SmallInteger)primitive.IntegerFrom(100000));
+          if ($count4 instanceof smalltalk.magnitude.SmallInteger) {
+            for (int $index4 = ((smalltalk.magnitude.SmallInteger)$count4).primitiveInteger(); $index4 > 0; $index4--) {
+              $block4.value();
+            }
+          }
+          else {
+            $send12.perform_with($count4, $block4);
+          }
+          return $count4;
+        }
+      }
+    }));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package smalltalk.example;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Tests literals and their primitive conversions.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestLiterals extends smalltalk.behavior.Object 
+{
+
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    new TestLiterals().testLiterals();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object testLiterals() {
+     
+    java.lang.Object any;
+
+     
+    boolean aBool;
+
+     
+    char aChar;
+
+     
+    int anInt;
+
+     
+    float aFloat;
+
+     
+    java.lang.String aString;
+    any = ((java.lang.Object)null);
+    aBool = true;
+    aChar = 'x';
+    anInt = 10;
+    aFloat = 10.0f;
+    aString = "Hello World";
+    aString = "testLiterals";
+    return (TestLiterals.this);
+  }
+}
\ No newline at end of file
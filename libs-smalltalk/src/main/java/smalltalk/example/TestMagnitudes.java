@@ -0,0 +1,198 @@
+package smalltalk.example;
+import smalltalk.magnitude.Time;
+import smalltalk.stream.Transcript;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Regression tests the smalltalk.magnitude classes.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestMagnitudes extends smalltalk.behavior.Object 
+{
+  /** Metaclass for TestMagnitudes. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("asFraction", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("withScale", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("printString", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("asUTC", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("asFloat", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("numerator", 0);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("denominator", 0);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("abs", 0);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("ceiling", 0);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("reciprocal", 0);
+  private static final int $selector10 = smalltalk.behavior.SelectorTable.idOf("rounded", 0);
+  private static final int $selector11 = smalltalk.behavior.SelectorTable.idOf("sqrt", 0);
+  private static final int $selector12 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send26 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send27 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send28 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send29 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send30 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send31 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send32 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send33 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send34 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send35 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send36 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send37 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send38 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send39 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send40 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send41 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send42 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send43 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send44 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send45 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send46 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send47 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send48 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send49 = new smalltalk.behavior.SendSite($selector2);
+  /** class instance for TestMagnitudes. **/
+  public static final mClass $class = new mClass(TestMagnitudes.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    new TestMagnitudes().allTests();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allTests() {
+     
+    int count;
+
+     
+    LongInteger time;
+
+     
+    Object frac;
+    frac = $send1.perform_with($send0.perform(Float.$class.pi()), ((SmallInteger)primitive.IntegerFrom(5)));
+    Transcript.$class.print(((String)primitive.StringFrom("precision = ")));
+    Transcript.$class.printLine($send2.perform(Time.$class.clockPrecision()));
+    Transcript.$class.print(((String)primitive.StringFrom("time now = ")));
+    Transcript.$class.printLine($send3.perform(Time.$class.now()));
+    Transcript.$class.print(((String)primitive.StringFrom("time UTC = ")));
+    Transcript.$class.printLine($send5.perform($send4.perform(Time.$class.now())));
+    Transcript.$class.print(((String)primitive.StringFrom("SmallInteger maximum = ")));
+    Transcript.$class.printLine($send6.perform(SmallInteger.$class.maximum()));
+    Transcript.$class.print($send7.perform(Float.$class.pi()));
+    Transcript.$class.print(((String)primitive.StringFrom(" ?= (")));
+    Transcript.$class.print($send9.perform($send8.perform(Float.$class.pi())));
+    Transcript.$class.print(((String)primitive.StringFrom(") ?= ")));
+    Transcript.$class.printLine($send12.perform($send11.perform($send10.perform(Float.$class.pi()))));
+    Transcript.$class.print($send13.perform(Double.$class.pi()));
+    Transcript.$class.print(((String)primitive.StringFrom(" ?= (")));
+    Transcript.$class.print($send15.perform($send14.perform(Double.$class.pi())));
+    Transcript.$class.print(((String)primitive.StringFrom(") ?= ")));
+    Transcript.$class.printLine($send18.perform($send17.perform($send16.perform(Double.$class.pi()))));
+    Transcript.$class.print($send20.perform($send19.perform(frac)));
+    Transcript.$class.print(((String)primitive.StringFrom(" / ")));
+    Transcript.$class.print($send22.perform($send21.perform(frac)));
+    Transcript.$class.print(((String)primitive.StringFrom(" = ")));
+    Transcript.$class.printLine($send23.perform(frac));
+    Transcript.$class.print(((String)primitive.StringFrom("11.1234s5 + 3.14s4 = ")));
+    Transcript.$class.printLine($send24.perform(((Fixed)primitive.FixedFrom("11.1234s5")).$plus(((Fixed)primitive.FixedFrom("3.14s4")))));
+    Transcript.$class.print(((String)primitive.StringFrom("5 + 6 = ")));
+    Transcript.$class.printLine($send25.perform(smalltalk.magnitude.SmallInteger.sum(5, 6)));
+    Transcript.$class.print(((String)primitive.StringFrom("5 - 6 = ")));
+    Transcript.$class.printLine($send26.perform(smalltalk.magnitude.SmallInteger.difference(5, 6)));
+    Transcript.$class.print(((String)primitive.StringFrom("(5 - 6) abs = ")));
+    Transcript.$class.printLine($send28.perform($send27.perform(smalltalk.magnitude.SmallInteger.difference(5, 6))));
+    Transcript.$class.print(((String)primitive.StringFrom("5 * 6 = ")));
+    Transcript.$class.printLine($send29.perform(smalltalk.magnitude.SmallInteger.product(5, 6)));
+    Transcript.$class.print(((String)primitive.StringFrom("5 / 6 = ")));
+    Transcript.$class.printLine($send31.perform($send30.perform(((SmallInteger)primitive.IntegerFrom(5)).$dividedBy(((SmallInteger)primitive.IntegerFrom(6))))));
+    Transcript.$class.print(((String)primitive.StringFrom("(5 / 30) = ")));
+    Transcript.$class.printLine($send32.perform(((SmallInteger)primitive.IntegerFrom(5)).$dividedBy(((SmallInteger)primitive.IntegerFrom(30)))));
+    Transcript.$class.print(((String)primitive.StringFrom("5 % 6 = ")));
+    Transcript.$class.printLine($send33.perform(((SmallInteger)primitive.IntegerFrom(5)).$modulus(((SmallInteger)primitive.IntegerFrom(6)))));
+    Transcript.$class.print(((String)primitive.StringFrom("(5 / 6) ceiling = ")));
+    Transcript.$class.printLine($send35.perform($send34.perform(((SmallInteger)primitive.IntegerFrom(5)).$dividedBy(((SmallInteger)primitive.IntegerFrom(6))))));
+    Transcript.$class.print(((String)primitive.StringFrom("5 ** 6 = ")));
+    Transcript.$class.printLine($send36.perform(((SmallInteger)primitive.IntegerFrom(5)).$raised(((SmallInteger)primitive.IntegerFrom(6)))));
+    Transcript.$class.print(((String)primitive.StringFrom("(5 / 6) reciprocal = ")));
+    Transcript.$class.printLine($send38.perform($send37.perform(((SmallInteger)primitive.IntegerFrom(5)).$dividedBy(((SmallInteger)primitive.IntegerFrom(6))))));
+    Transcript.$class.print(((String)primitive.StringFrom("(5 / 6) rounded = ")));
+    Transcript.$class.printLine($send40.perform($send39.perform(((SmallInteger)primitive.IntegerFrom(5)).$dividedBy(((SmallInteger)primitive.IntegerFrom(6))))));
+    Transcript.$class.print(((String)primitive.StringFrom("(5 < 6) = ")));
+    Transcript.$class.printLine($send41.perform(((SmallInteger)primitive.IntegerFrom(5)).$lessThan(((SmallInteger)primitive.IntegerFrom(6)))));
+    Transcript.$class.print(((String)primitive.StringFrom("20 squared sqrt = ")));
+    Transcript.$class.printLine($send43.perform($send42.perform(((SmallInteger)primitive.IntegerFrom(20)).squared())));
+    Transcript.$class.printLine($send44.perform(((SmallInteger)primitive.IntegerFrom(5)).$at(((SmallInteger)primitive.IntegerFrom(6)))));
+    Transcript.$class.printLine($send45.perform(((SmallInteger)primitive.IntegerFrom(5)).$associateWith(((SmallInteger)primitive.IntegerFrom(6)))));
+    Transcript.$class.print(((String)primitive.StringFrom("(5 / 6) + (6 / 5) = ")));
+    Transcript.$class.printLine($send47.perform($send46.perform_with(((SmallInteger)primitive.IntegerFrom(5)).$dividedBy(((SmallInteger)primitive.IntegerFrom(6))), ((SmallInteger)primitive.IntegerFrom(6)).$dividedBy(((SmallInteger)primitive.IntegerFrom(5))))));
+    Transcript.$class.print(((Character)primitive.CharacterFrom('c')).printString());
+    Transcript.$class.print(((String)primitive.StringFrom(" asUppercase = ")));
+    Transcript.$class.printLine($send48.perform(((Character)primitive.CharacterFrom('c')).asUppercase()));
+    Transcript.$class.print(((Character)primitive.CharacterFrom('9')).printString());
+    Transcript.$class.print(((String)primitive.StringFrom(" isDigit = ")));
+    Transcript.$class.printLine($send49.perform(((Character)primitive.CharacterFrom('9')).isDigit()));
+    Transcript.$class.yourself();;
+    count = 100000;
+    time = ((LongInteger)Time.$class.millisecondsAfter_timesRepeating(((smalltalk.magnitude.SmallInteger)primitive.IntegerFrom(count)), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return smalltalk.magnitude.SmallInteger.sum(5, 6);
+      }
+    }));
+    Transcript.$class.print(((String)primitive.StringFrom("(5 + 6) * ")));
+    Transcript.$class.print(((smalltalk.magnitude.SmallInteger)primitive.IntegerFrom(count)).asString());
+    Transcript.$class.print(((String)primitive.StringFrom(" iterations = ")));
+    Transcript.$class.print(time.asString());
+    Transcript.$class.printLine(((String)primitive.StringFrom(" msecs")));;
+    return (TestMagnitudes.this);
+  }
+}
\ No newline at end of file
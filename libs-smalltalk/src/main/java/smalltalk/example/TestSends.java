@@ -0,0 +1,103 @@
+package smalltalk.example;
+import java.lang.System;
+import smalltalk.stream.Transcript;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Tests message optimization and structured names.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestSends extends smalltalk.behavior.Object 
+{
+
+  protected 
+  Object member;
+
+  protected 
+  Character c = (Character)((Character)primitive.CharacterFrom('x'));
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    new TestSends().testSends();
+  }
+
+
+  /**
+  * @return void
+  */
+  public  void testSends() {
+     
+    SmallInteger n;
+
+     
+    LongInteger m;
+    (new ZeroArgumentBlock()
+    {
+       
+      SmallInteger n;
+
+       
+      LongInteger m;
+      
+    public  void testSends() {
+        TestSends.this.member(TestSends.this.sampleText());
+        Transcript.$class.printLine("x");
+        Transcript.$class.printLine(TestSends.this.member);
+        Transcript.$class.printLine("" +  System.currentTimeMillis());
+        n = ((SmallInteger)((SmallInteger)primitive.IntegerFrom(5)));
+        m = ((LongInteger)n.asLongInteger());
+        assert Boolean.primitiveValue(((SmallInteger)primitive.IntegerFrom(5)).asLongInteger().$equal(m));
+        TestSends.this.member(((Character)primitive.CharacterFrom('x')));
+        assert Boolean.primitiveValue(c.$equal(member)) : new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return ((String)primitive.StringFrom("test assertion"));
+          }
+        }.value();
+        assert Boolean.primitiveValue(((SmallInteger)primitive.IntegerFrom(6)).$moreThan(((SmallInteger)primitive.IntegerFrom(5))));
+        assert Boolean.primitiveValue(TestSends.this.$moreEqual(((Character)primitive.CharacterFrom('x'))));
+      }
+    }).value();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sampleText() {
+    return (String.$class.StringFrom("Hello World".substring(6).substring(1)));
+  }
+
+
+  /**
+  * @return Boolean
+  */
+  public  Boolean $moreEqual(final Object aCharacter)
+  {
+          return Object.primitive.BooleanFrom(c.primitiveCharacter() >= ((Character)aCharacter).primitiveCharacter());
+      }
+
+
+  /**
+  * @return void
+  */
+  public  void member(final Object sampleText) {
+    TestSends.this.member = sampleText;
+  }
+}
\ No newline at end of file
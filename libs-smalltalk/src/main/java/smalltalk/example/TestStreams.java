@@ -0,0 +1,603 @@
+package smalltalk.example;
+import smalltalk.stream.*;
+import java.io.*;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Regression tests the smalltalk.collection classes.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestStreams extends smalltalk.behavior.Object 
+{
+  /** Metaclass for TestStreams. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("testStreams", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("testTextFiles", 0);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("nextPutAll", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("cr", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("close", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("atEnd", 0);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("upTo", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("readStream", 0);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("size", 0);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("next", 0);
+  private static final int $selector10 = smalltalk.behavior.SelectorTable.idOf("includes", 1);
+  private static final int $selector11 = smalltalk.behavior.SelectorTable.idOf("nextPut", 1);
+  private static final int $selector12 = smalltalk.behavior.SelectorTable.idOf("contents", 0);
+  private static final int $selector13 = smalltalk.behavior.SelectorTable.idOf("next", 1);
+  private static final int $selector14 = smalltalk.behavior.SelectorTable.idOf("copyFrom_to", 2);
+  private static final int $selector15 = smalltalk.behavior.SelectorTable.idOf("position", 0);
+  private static final int $selector16 = smalltalk.behavior.SelectorTable.idOf("reset", 0);
+  private static final int $selector17 = smalltalk.behavior.SelectorTable.idOf("position", 1);
+  private static final int $selector18 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector19 = smalltalk.behavior.SelectorTable.idOf("nextLine", 0);
+  private static final int $selector20 = smalltalk.behavior.SelectorTable.idOf("$append", 1);
+  private static final int $selector21 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector22 = smalltalk.behavior.SelectorTable.idOf("flush", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send26 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send27 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send28 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send29 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send30 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send31 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send32 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send33 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send34 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send35 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send36 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send37 = new smalltalk.behavior.SendSite($selector14);
+  private static final smalltalk.behavior.SendSite $send38 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send39 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send40 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send41 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send42 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send43 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send44 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send45 = new smalltalk.behavior.SendSite($selector16);
+  private static final smalltalk.behavior.SendSite $send46 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send47 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send48 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send49 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send50 = new smalltalk.behavior.SendSite($selector14);
+  private static final smalltalk.behavior.SendSite $send51 = new smalltalk.behavior.SendSite($selector17);
+  private static final smalltalk.behavior.SendSite $send52 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send53 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send54 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send55 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send56 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send57 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send58 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send59 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send60 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send61 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send62 = new smalltalk.behavior.SendSite($selector18);
+  private static final smalltalk.behavior.SendSite $send63 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send64 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send65 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send66 = new smalltalk.behavior.SendSite($selector18);
+  private static final smalltalk.behavior.SendSite $send67 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send68 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send69 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send70 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send71 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send72 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send73 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send74 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send75 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send76 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send77 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send78 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send79 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send80 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send81 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send82 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send83 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send84 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send85 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send86 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send87 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send88 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send89 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send90 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send91 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send92 = new smalltalk.behavior.SendSite($selector20);
+  private static final smalltalk.behavior.SendSite $send93 = new smalltalk.behavior.SendSite($selector20);
+  private static final smalltalk.behavior.SendSite $send94 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send95 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send96 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send97 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send98 = new smalltalk.behavior.SendSite($selector18);
+  private static final smalltalk.behavior.SendSite $send99 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send100 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send101 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send102 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send103 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send104 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send105 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send106 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send107 = new smalltalk.behavior.SendSite($selector19);
+  private static final smalltalk.behavior.SendSite $send108 = new smalltalk.behavior.SendSite($selector21);
+  private static final smalltalk.behavior.SendSite $send109 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send110 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send111 = new smalltalk.behavior.SendSite($selector17);
+  private static final smalltalk.behavior.SendSite $send112 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send113 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send114 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send115 = new smalltalk.behavior.SendSite($selector22);
+  private static final smalltalk.behavior.SendSite $send116 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send117 = new smalltalk.behavior.SendSite($selector4);
+  /** class instance for TestStreams. **/
+  public static final mClass $class = new mClass(TestStreams.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+           
+          Object local3_0;$send0.perform(local3_0 = ((smalltalk.behavior.Object)new TestStreams()));
+          $send1.perform(local3_0);;
+          return Object.primitive.literalNil();
+        }
+        catch (java.lang.Throwable e) {
+          e.printStackTrace();
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object testStreams() {
+    String[] fileName = { null };
+
+    String[] fileOut = { null };
+
+    Object[] oStream = { null };
+
+    Object[] iStream = { null };
+
+    Object[] vowels = { null };
+
+     
+    Object source;
+    fileName[0] = ((String)((String)primitive.StringFrom("stream.test.txt")));
+    fileOut[0] = ((String)((String)primitive.StringFrom("parsed.text.txt")));
+    oStream[0] = FileStream.$class.write(fileName[0]);
+    $send2.perform_with(oStream[0], ((String)primitive.StringFrom("a quick brown fox jumped over a lazy dog")));
+    $send3.perform(oStream[0]);;
+    $send4.perform(oStream[0]);
+    Transcript.$class.print(((String)primitive.StringFrom("reading ")));
+    Transcript.$class.printLine(fileName[0]);;
+    iStream[0] = FileStream.$class.read(fileName[0]);
+    oStream[0] = FileStream.$class.write(fileOut[0]);
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send5.perform(iStream[0]);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+         
+        Object line;
+        @Override public Object value()  {
+          line = $send6.perform_with(iStream[0], ((Character)primitive.CharacterFrom(' ')));
+          $send7.perform_with(oStream[0], line);
+          $send8.perform(oStream[0]);;
+          Transcript.$class.printLine(line);
+          return Object.primitive.literalNil();
+        }
+      }).value()).value();
+    }
+    $send9.perform(iStream[0]);
+    $send10.perform(oStream[0]);
+    new ZeroArgumentBlock()
+    {
+       
+      Object FileInputStream;
+
+       
+      Object FileOutputStream;
+      @Override public Object value() {
+      try {
+        return $value();
+      }
+      catch (Throwable e) {
+        throw new UnhandledJavaException(e);
+      }
+    }
+    public Object $value() throws FileNotFoundException {
+        iStream[0] = ElementaryInputStream.$class.from(new FileInputStream(fileName[0].primitiveString()));
+        oStream[0] = ElementaryOutputStream.$class.from(new FileOutputStream(fileOut[0].primitiveString()));
+        return Object.primitive.literalNil();
+      }
+    }.value();
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send11.perform(iStream[0]);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+         
+        Object line;
+        @Override public Object value()  {
+          line = $send12.perform_with(iStream[0], ((Character)primitive.CharacterFrom(' ')));
+          $send13.perform_with(oStream[0], line);
+          $send14.perform(oStream[0]);;
+          Transcript.$class.printLine(line);
+          return Object.primitive.literalNil();
+        }
+      }).value()).value();
+    }
+    $send15.perform(iStream[0]);
+    $send16.perform(oStream[0]);
+    vowels[0] = ((smalltalk.behavior.Object)((String)primitive.StringFrom("aeiou")));
+    source = ((smalltalk.behavior.Object)((String)primitive.StringFrom("abcdefghijklmnopqrstuvwxyz")));
+    iStream[0] = $send17.perform(source);
+    oStream[0] = String.$class.writeStream($send18.perform(source));
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send19.perform(iStream[0]);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+         
+        Object c;
+        @Override public Object value()  {
+          c = $send20.perform(iStream[0]);
+          if (!Boolean.primitiveValue($send21.perform_with(vowels[0], c))) {
+            (new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                return $send22.perform_with(oStream[0], c);
+              }
+            }).value();
+          }
+          return Object.primitive.literalNil();
+        }
+      }).value()).value();
+    }
+    Transcript.$class.print(source);
+    Transcript.$class.print(((String)primitive.StringFrom(" w/o vowels = ")));
+    Transcript.$class.printLine($send23.perform(oStream[0]));;
+    return (TestStreams.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object testTextFiles() {
+     
+    String fileName;
+
+    Object[] eAcute = { null };
+
+     
+    Object euro;
+
+     
+    Object high;
+
+     
+    Object low;
+
+     
+    Object expected;
+
+    Object[] oStream = { null };
+
+    Object[] iStream = { null };
+
+    Object[] lines = { null };
+
+     
+    Object line;
+
+    Object[] count = { null };
+    fileName = ((String)((String)primitive.StringFrom("encoded.test.txt")));
+    eAcute[0] = Character.$class.codePoint(((SmallInteger)primitive.IntegerFrom(233)));
+    euro = Character.$class.codePoint(((SmallInteger)primitive.IntegerFrom(8364)));
+    high = Character.$class.codePoint(((SmallInteger)primitive.IntegerFrom(55357)));
+    low = Character.$class.codePoint(((SmallInteger)primitive.IntegerFrom(56832)));
+    expected = String.$class.writeStream(((SmallInteger)primitive.IntegerFrom(8)));
+    $send24.perform_with(expected, ((String)primitive.StringFrom("caf")));
+    $send25.perform_with(expected, eAcute[0]);
+    $send26.perform_with(expected, euro);
+    $send27.perform_with(expected, high);
+    $send28.perform_with(expected, low);;
+    expected = $send29.perform(expected);
+    TestStreams.this.deleteFile(fileName);
+    oStream[0] = FileStream.$class.write(fileName);
+    $send30.perform_with(oStream[0], ((String)primitive.StringFrom("caf")));
+    $send31.perform_with(oStream[0], eAcute[0]);
+    $send32.perform_with(oStream[0], euro);
+    $send33.perform_with(oStream[0], high);
+    $send34.perform_with(oStream[0], low);;
+    $send35.perform(oStream[0]);
+    assert Boolean.primitiveValue(TestStreams.this.fileLength(fileName).$equal(((SmallInteger)primitive.IntegerFrom(12))));
+    iStream[0] = FileStream.$class.read(fileName);
+    assert Boolean.primitiveValue($send36.perform_with(iStream[0], ((SmallInteger)primitive.IntegerFrom(4))).$equal($send37.perform_with_with(expected, ((SmallInteger)primitive.IntegerFrom(1)), ((SmallInteger)primitive.IntegerFrom(4)))));
+    assert Boolean.primitiveValue($send38.perform(iStream[0]).$equal(((SmallInteger)primitive.IntegerFrom(5))));
+    assert Boolean.primitiveValue($send39.perform(iStream[0]).$equal(euro));
+    assert Boolean.primitiveValue($send40.perform(iStream[0]).$equal(((SmallInteger)primitive.IntegerFrom(8))));
+    assert Boolean.primitiveValue($send41.perform(iStream[0]).$equal(high));
+    assert Boolean.primitiveValue($send42.perform(iStream[0]).$equal(low));
+    assert Boolean.primitiveValue($send43.perform(iStream[0]).$equal(((SmallInteger)primitive.IntegerFrom(12))));
+    assert Boolean.primitiveValue($send44.perform(iStream[0]));
+    $send45.perform(iStream[0]);
+    assert Boolean.primitiveValue($send46.perform(iStream[0]).$equal(((Character)primitive.CharacterFrom('c'))));
+    assert Boolean.primitiveValue($send47.perform(iStream[0]).$equal(expected));
+    assert Boolean.primitiveValue($send48.perform(iStream[0]).$equal(((SmallInteger)primitive.IntegerFrom(1))));
+    assert Boolean.primitiveValue($send49.perform_with(iStream[0], ((SmallInteger)primitive.IntegerFrom(3))).$equal($send50.perform_with_with(expected, ((SmallInteger)primitive.IntegerFrom(2)), ((SmallInteger)primitive.IntegerFrom(4)))));
+    $send51.perform_with(iStream[0], ((SmallInteger)primitive.IntegerFrom(5)));
+    assert Boolean.primitiveValue($send52.perform(iStream[0]).$equal(euro));
+    $send53.perform(iStream[0]);
+    Transcript.$class.print(((String)primitive.StringFrom("encoded = ")));
+    Transcript.$class.printLine(expected);;
+    TestStreams.this.deleteFile(fileName);
+    oStream[0] = FileStream.$class.write_type(fileName, ((Symbol)primitive.SymbolFrom("binary")));
+    $send54.perform_with(oStream[0], ((SmallInteger)primitive.IntegerFrom(195)));
+    $send55.perform_with(oStream[0], ((SmallInteger)primitive.IntegerFrom(97)));;
+    $send56.perform(oStream[0]);
+    iStream[0] = FileStream.$class.read(fileName);
+    assert Boolean.primitiveValue($send57.perform(iStream[0]).$equal(Character.$class.codePoint(((SmallInteger)primitive.IntegerFrom(65533)))));
+    assert Boolean.primitiveValue($send58.perform(iStream[0]).$equal(((SmallInteger)primitive.IntegerFrom(1))));
+    assert Boolean.primitiveValue($send59.perform(iStream[0]).$equal(((Character)primitive.CharacterFrom('a'))));
+    $send60.perform(iStream[0]);
+    TestStreams.this.setProperty_to(((String)primitive.StringFrom("smalltalk.stream.bufferSize")), ((String)primitive.StringFrom("512")));
+    TestStreams.this.deleteFile(fileName);
+    oStream[0] = FileStream.$class.write(fileName);
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send61.perform_with(oStream[0], ((Character)primitive.CharacterFrom('x')));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(511));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send62.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    $send63.perform_with(oStream[0], euro);
+    $send64.perform_with(oStream[0], ((String)primitive.StringFrom("y")));;
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return $send65.perform_with(oStream[0], ((Character)primitive.CharacterFrom('x')));
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(507));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send66.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    $send67.perform_with(oStream[0], Character.$class.cr());
+    $send68.perform_with(oStream[0], Character.$class.lf());
+    $send69.perform_with(oStream[0], ((String)primitive.StringFrom("z")));;
+    $send70.perform(oStream[0]);
+    assert Boolean.primitiveValue(TestStreams.this.fileLength(fileName).$equal(((SmallInteger)primitive.IntegerFrom(1025))));
+    iStream[0] = FileStream.$class.read(fileName);
+    assert Boolean.primitiveValue($send72.perform($send71.perform_with(iStream[0], ((SmallInteger)primitive.IntegerFrom(511)))).$equal(((SmallInteger)primitive.IntegerFrom(511))));
+    assert Boolean.primitiveValue($send73.perform(iStream[0]).$equal(euro));
+    assert Boolean.primitiveValue($send74.perform(iStream[0]).$equal(((SmallInteger)primitive.IntegerFrom(514))));
+    assert Boolean.primitiveValue($send76.perform($send75.perform(iStream[0])).$equal(((SmallInteger)primitive.IntegerFrom(508))));
+    assert Boolean.primitiveValue($send77.perform(iStream[0]).$equal(((SmallInteger)primitive.IntegerFrom(1024))));
+    assert Boolean.primitiveValue($send78.perform(iStream[0]).$equal(((String)primitive.StringFrom("z"))));
+    assert Boolean.primitiveValue($send79.perform(iStream[0]));
+    $send80.perform(iStream[0]);
+    TestStreams.this.clearProperty(((String)primitive.StringFrom("smalltalk.stream.bufferSize")));
+    TestStreams.this.deleteFile(fileName);
+    oStream[0] = FileStream.$class.write(fileName);
+    $send81.perform_with(oStream[0], ((String)primitive.StringFrom("one")));
+    $send82.perform_with(oStream[0], Character.$class.cr());
+    $send83.perform_with(oStream[0], Character.$class.lf());;
+    $send84.perform_with(oStream[0], ((String)primitive.StringFrom("two")));
+    $send85.perform_with(oStream[0], Character.$class.lf());;
+    $send86.perform_with(oStream[0], ((String)primitive.StringFrom("three")));
+    $send87.perform_with(oStream[0], Character.$class.cr());;
+    $send88.perform_with(oStream[0], ((String)primitive.StringFrom("four")));
+    $send89.perform(oStream[0]);
+    iStream[0] = FileStream.$class.read(fileName);
+    lines[0] = ((smalltalk.behavior.Object)((String)primitive.StringFrom("")));
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send90.perform(iStream[0]);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return lines[0] = $send93.perform_with($send92.perform_with(lines[0], $send91.perform(iStream[0])), ((String)primitive.StringFrom("/")));
+        }
+      }).value()).value();
+    }
+    $send94.perform(iStream[0]);
+    Transcript.$class.print(((String)primitive.StringFrom("lines = ")));
+    Transcript.$class.printLine(lines[0]);;
+    assert Boolean.primitiveValue(lines[0].$equal(((String)primitive.StringFrom("one/two/three/four/"))));
+    TestStreams.this.setProperty_to(((String)primitive.StringFrom("smalltalk.stream.mappingThreshold")), ((String)primitive.StringFrom("1000")));
+    TestStreams.this.deleteFile(fileName);
+    oStream[0] = FileStream.$class.write(fileName);
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object each)  {
+        return new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            $send95.perform_with(oStream[0], ((String)primitive.StringFrom("line")));
+            $send96.perform_with(oStream[0], eAcute[0]);
+            return $send97.perform_with(oStream[0], Character.$class.lf());
+          }
+        }.value();
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(200));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send98.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    $send99.perform(oStream[0]);
+    assert Boolean.primitiveValue(TestStreams.this.fileLength(fileName).$equal(((SmallInteger)primitive.IntegerFrom(1400))));
+    line = String.$class.writeStream(((SmallInteger)primitive.IntegerFrom(5)));
+    $send100.perform_with(line, ((String)primitive.StringFrom("line")));
+    $send101.perform_with(line, eAcute[0]);;
+    line = $send102.perform(line);
+    iStream[0] = FileStream.$class.read(fileName);
+    assert Boolean.primitiveValue($send103.perform(iStream[0]).$equal(line));
+    assert Boolean.primitiveValue($send104.perform_with(iStream[0], ((SmallInteger)primitive.IntegerFrom(4))).$equal(((String)primitive.StringFrom("line"))));
+    assert Boolean.primitiveValue($send105.perform(iStream[0]).$equal(((SmallInteger)primitive.IntegerFrom(11))));
+    count[0] = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(1)));
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send106.perform(iStream[0]);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          $send107.perform(iStream[0]);
+          return count[0] = $send108.perform_with(count[0], ((SmallInteger)primitive.IntegerFrom(1)));
+        }
+      }).value()).value();
+    }
+    assert Boolean.primitiveValue(count[0].$equal(((SmallInteger)primitive.IntegerFrom(200))));
+    $send109.perform(iStream[0]);
+    TestStreams.this.clearProperty(((String)primitive.StringFrom("smalltalk.stream.mappingThreshold")));
+    TestStreams.this.deleteFile(fileName);
+    oStream[0] = FileStream.$class.write(fileName);
+    $send110.perform_with(oStream[0], ((String)primitive.StringFrom("abcdef")));
+    $send111.perform_with(oStream[0], ((SmallInteger)primitive.IntegerFrom(2)));
+    assert Boolean.primitiveValue($send112.perform_with(oStream[0], ((SmallInteger)primitive.IntegerFrom(3))).$equal(((String)primitive.StringFrom("cde"))));
+    $send113.perform_with(oStream[0], ((String)primitive.StringFrom("X")));
+    assert Boolean.primitiveValue($send114.perform(oStream[0]).$equal(((String)primitive.StringFrom("abcdeX"))));
+    assert Boolean.primitiveValue(TestStreams.this.fileLength(fileName).$equal(((SmallInteger)primitive.IntegerFrom(0))));
+    $send115.perform(oStream[0]);
+    assert Boolean.primitiveValue(TestStreams.this.fileLength(fileName).$equal(((SmallInteger)primitive.IntegerFrom(6))));
+    $send116.perform_with(oStream[0], ((String)primitive.StringFrom("gh")));
+    assert Boolean.primitiveValue(TestStreams.this.fileLength(fileName).$equal(((SmallInteger)primitive.IntegerFrom(6))));
+    $send117.perform(oStream[0]);
+    assert Boolean.primitiveValue(TestStreams.this.fileLength(fileName).$equal(((SmallInteger)primitive.IntegerFrom(8))));
+    TestStreams.this.deleteFile(fileName);
+    Transcript.$class.printLine(((String)primitive.StringFrom("text files tested")));
+    return (TestStreams.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object deleteFile(final String fileName)
+  {	new java.io.File( fileName.primitiveString() ).delete();
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object fileLength(final String fileName)
+  {	return primitive.IntegerFrom( (int) new java.io.File( fileName.primitiveString() ).length() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object setProperty_to(final String name, final String value)
+  {	System.setProperty( name.primitiveString(), value.primitiveString() );
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object clearProperty(final String name)
+  {	System.clearProperty( name.primitiveString() );
+  		return this;
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+package smalltalk.example;
+import smalltalk.stream.Transcript;
+import smalltalk.magnitude.Time;
+import smalltalk.behavior.Scheduler;
+import smalltalk.collection.OrderedCollection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Regression tests the thread and synchronization support.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TestThreads extends smalltalk.behavior.Object 
+{
+  /** Metaclass for TestThreads. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("fork", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("fork", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("inject_into", 2);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("printString", 0);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("nextPutAll", 1);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("contents", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector9);
+  /** class instance for TestThreads. **/
+  public static final mClass $class = new mClass(TestThreads.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return void
+  */
+  public static  void main(final java.lang.String[] args) {
+    new TestThreads().testThreads();
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object testThreads() {
+    FastInteger[] n = { null };
+
+    ZeroArgumentBlock[] b = { null };
+
+    Object[] promises = { null };
+    n[0] = ((FastInteger)((SmallInteger)primitive.IntegerFrom(0)).asFastInteger());
+    b[0] = ((ZeroArgumentBlock)UndefinedObject.$class.nullValue());
+    Transcript.$class.printLine(((String)primitive.StringFrom("main thread start")));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object x)  {
+        b[0] = ((ZeroArgumentBlock)$send0.perform(new ZeroArgumentBlock()
+        {
+           
+          Object t;
+
+           
+          Object i;
+          @Override public Object value()  {
+            t = Time.$class.now();
+            i = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(0)));
+            n[0].acquireMonitorDuring(new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                i = primitive.IntegerFrom(n[0].primitiveInteger());
+                n[0].$incremented(((SmallInteger)primitive.IntegerFrom(1)));
+                return Object.primitive.literalNil();
+              }
+            });
+            Scheduler.$class.wait(((SmallInteger)primitive.IntegerFrom(5000)));
+            TestThreads.this.report_index(t, i);
+            return Object.primitive.literalNil();
+          }
+        }));
+        Transcript.$class.print(((String)primitive.StringFrom("forked ")));
+        Transcript.$class.printLine(b[0].threadName());;
+        Scheduler.$class.wait(((SmallInteger)primitive.IntegerFrom(1000)));
+        return Object.primitive.literalNil();
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(3));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send1.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    Scheduler.$class.wait(((SmallInteger)primitive.IntegerFrom(8000)));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object x)  {
+        $send2.perform(new ZeroArgumentBlock()
+        {
+           
+          Object t;
+
+           
+          Object i;
+          @Override public Object value()  {
+            t = Time.$class.now();
+            i = ((smalltalk.behavior.Object)((SmallInteger)primitive.IntegerFrom(0)));
+            n[0].acquireMonitorDuring(new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                i = primitive.IntegerFrom(n[0].primitiveInteger());
+                n[0].$incremented(((SmallInteger)primitive.IntegerFrom(1)));
+                return Object.primitive.literalNil();
+              }
+            });
+            n[0].waitForChangeIfInterrupted(new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                return Object.primitive.literalNil();
+              }
+            });
+            TestThreads.this.report_index(t, i);
+            return Object.primitive.literalNil();
+          }
+        });
+        return Object.primitive.literalNil();
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = ((SmallInteger)primitive.IntegerFrom(3));
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send3.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    Scheduler.$class.wait(((SmallInteger)primitive.IntegerFrom(1000)));
+    n[0].awakenAllWaitingThreads();
+    promises[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new()));
+    TaskScope.$class.during(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object scope)  {
+        {
+          final OneArgumentBlock $block4 = new OneArgumentBlock()
+        {
+          @Override public Object value(final Object x)  {
+            return $send6.perform_with(promises[0], $send5.perform_with(scope, new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                return $send4.perform_with(x, x);
+              }
+            }));
+          }
+        };
+          final smalltalk.behavior.Object $start4 = ((SmallInteger)primitive.IntegerFrom(1));
+          final smalltalk.behavior.Object $stop4 = ((SmallInteger)primitive.IntegerFrom(3));
+          if ($start4 instanceof smalltalk.magnitude.SmallInteger && $stop4 instanceof smalltalk.magnitude.SmallInteger) {
+            final long $limit4 = ((smalltalk.magnitude.SmallInteger)$stop4).primitiveInteger();
+            for (long $index4 = ((smalltalk.magnitude.SmallInteger)$start4).primitiveInteger(); $index4 <= $limit4; $index4 += 1) {
+              $block4.value(primitive.IntegerFrom((int)$index4));
+            }
+          }
+          else {
+            $send7.perform_with_with($start4, $stop4, $block4);
+          }
+        }
+        return Object.primitive.literalNil();
+      }
+    });
+    Transcript.$class.print(((String)primitive.StringFrom("scheduled results total ")));
+    Transcript.$class.printLine($send10.perform($send9.perform_with_with(promises[0], ((SmallInteger)primitive.IntegerFrom(0)), new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object sum, final Object promise)  {
+        return $send8.perform_with(sum, promise.value());
+      }
+    })));;
+    assert Boolean.primitiveValue($send12.perform_with_with(promises[0], ((SmallInteger)primitive.IntegerFrom(0)), new TwoArgumentBlock()
+    {
+      @Override public Object value_value(final Object sum, final Object promise)  {
+        return $send11.perform_with(sum, promise.value());
+      }
+    }).$equal(((SmallInteger)primitive.IntegerFrom(14))));
+    Transcript.$class.async();
+    TaskScope.$class.during(new OneArgumentBlock()
+    {
+      @Override public Object value(final Object scope)  {
+        {
+          final OneArgumentBlock $block4 = new OneArgumentBlock()
+        {
+          @Override public Object value(final Object x)  {
+            return $send14.perform_with(scope, new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                Transcript.$class.print(((String)primitive.StringFrom("async line ")));
+                Transcript.$class.print($send13.perform(x));
+                Transcript.$class.cr();;
+                return Object.primitive.literalNil();
+              }
+            });
+          }
+        };
+          final smalltalk.behavior.Object $start4 = ((SmallInteger)primitive.IntegerFrom(1));
+          final smalltalk.behavior.Object $stop4 = ((SmallInteger)primitive.IntegerFrom(3));
+          if ($start4 instanceof smalltalk.magnitude.SmallInteger && $stop4 instanceof smalltalk.magnitude.SmallInteger) {
+            final long $limit4 = ((smalltalk.magnitude.SmallInteger)$stop4).primitiveInteger();
+            for (long $index4 = ((smalltalk.magnitude.SmallInteger)$start4).primitiveInteger(); $index4 <= $limit4; $index4 += 1) {
+              $block4.value(primitive.IntegerFrom((int)$index4));
+            }
+          }
+          else {
+            $send15.perform_with_with($start4, $stop4, $block4);
+          }
+        }
+        return Object.primitive.literalNil();
+      }
+    });
+    assert Boolean.primitiveValue(Transcript.$class.droppedLines().$equal(((SmallInteger)primitive.IntegerFrom(0))));
+    Transcript.$class.sync();
+    Transcript.$class.printLine(((String)primitive.StringFrom("main thread done")));
+    return (TestThreads.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object report_index(final Object startTime, final Object threadID) {
+    Transcript.$class.printLine(new ZeroArgumentBlock()
+    {
+       
+      Object local3_0;
+      @Override public Object value()  {
+        $send16.perform_with(local3_0 = ((String)((Behavior)String.$class).$new()).writeStream(), ((String)primitive.StringFrom("thread ")));
+        $send18.perform_with(local3_0, $send17.perform(threadID));
+        $send19.perform_with(local3_0, ((String)primitive.StringFrom(" ")));
+        $send21.perform_with(local3_0, $send20.perform(startTime));
+        $send22.perform_with(local3_0, ((String)primitive.StringFrom(" to ")));
+        $send24.perform_with(local3_0, $send23.perform(Time.$class.now()));
+        return $send25.perform(local3_0);
+      }
+    }.value());
+    return (this);
+  }
+}
\ No newline at end of file
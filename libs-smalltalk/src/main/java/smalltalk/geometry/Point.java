@@ -0,0 +1,473 @@
+package smalltalk.geometry;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Represents a point on a 2-dimensional plane.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Point extends smalltalk.magnitude.Magnitude 
+{
+  /** Metaclass for Point. */
+  public static  class mClass extends Magnitude.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object x_y(final Object xPosition, final Object yPosition)
+    {	return new Point( (Number) xPosition, (Number) yPosition );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (this.x_y(((SmallInteger)primitive.IntegerFrom(0)), ((SmallInteger)primitive.IntegerFrom(0))));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("x_y", 2);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("asPoint", 0);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("$at", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("$append", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send26 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send27 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send28 = new smalltalk.behavior.SendSite($selector5);
+  /** class instance for Point. **/
+  public static final mClass $class = new mClass(Point.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Number x;
+
+  protected 
+  Number y;
+
+  /**
+  * @return 
+  */
+  protected   Point(final Number xPosition, final Number yPosition) {
+    x = xPosition;
+    y = yPosition;
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object x() {
+    return (x);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object y() {
+    return (y);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object x(final Object xPosition) {
+    x = ((Number)xPosition);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object y(final Object yPosition) {
+    y = ((Number)yPosition);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $plus(final Point aPoint) {
+    return ($send0.perform_with_with(this.$class(), x.$plus(aPoint.x()), y.$plus(aPoint.y())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $plus(final Object delta) {
+     
+    Point aPoint;
+    aPoint = ((Point)$send1.perform(delta));
+    return (Point.this.$plus(aPoint));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $minus(final Point aPoint) {
+    return ($send2.perform_with_with(this.$class(), x.$minus(aPoint.x()), y.$minus(aPoint.y())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $minus(final Object delta) {
+     
+    Point aPoint;
+    aPoint = ((Point)$send3.perform(delta));
+    return (Point.this.$minus(aPoint));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $times(final Point aPoint) {
+    return ($send4.perform_with_with(this.$class(), x.$times(aPoint.x()), y.$times(aPoint.y())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $times(final Object scale) {
+     
+    Point aPoint;
+    aPoint = ((Point)$send5.perform(scale));
+    return (Point.this.$times(aPoint));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $dividedBy(final Point aPoint) {
+    return ($send6.perform_with_with(this.$class(), x.$dividedBy(aPoint.x()), y.$dividedBy(aPoint.y())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $dividedBy(final Object scale) {
+     
+    Point aPoint;
+    aPoint = ((Point)$send7.perform(scale));
+    return (Point.this.$dividedBy(aPoint));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $idiv(final Point aPoint) {
+    return ($send8.perform_with_with(this.$class(), x.$idiv(aPoint.x()), y.$idiv(aPoint.y())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $idiv(final Object scale) {
+     
+    Point aPoint;
+    aPoint = ((Point)$send9.perform(scale));
+    return (Point.this.$idiv(aPoint));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $imod(final Point aPoint) {
+    return ($send10.perform_with_with(this.$class(), x.$imod(aPoint.x()), y.$imod(aPoint.y())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $imod(final Object scale) {
+     
+    Point aPoint;
+    aPoint = ((Point)$send11.perform(scale));
+    return (Point.this.$imod(aPoint));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Point aPoint) {
+    return ($send12.perform_with(x.$equal(aPoint.x()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return y.$equal(aPoint.y());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aMagnitude) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            Point.this.$equal(((Point)aMagnitude)));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Object aMagnitude) {
+    Point[] aPoint = { null };
+    aPoint[0] = ((Point)$send13.perform(aMagnitude));
+    return ($send14.perform_with(x.$lessThan(aPoint[0].x()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return y.$lessThan(aPoint[0].y());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessEqual(final Object aMagnitude) {
+    Point[] aPoint = { null };
+    aPoint[0] = ((Point)$send15.perform(aMagnitude));
+    return ($send16.perform_with(x.$lessEqual(aPoint[0].x()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return y.$lessEqual(aPoint[0].y());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Object aMagnitude) {
+    Point[] aPoint = { null };
+    aPoint[0] = ((Point)$send17.perform(aMagnitude));
+    return ($send18.perform_with(x.$moreThan(aPoint[0].x()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return y.$moreThan(aPoint[0].y());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreEqual(final Object aMagnitude) {
+    Point[] aPoint = { null };
+    aPoint[0] = ((Point)$send19.perform(aMagnitude));
+    return ($send20.perform_with(x.$moreEqual(aPoint[0].x()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return y.$moreEqual(aPoint[0].y());
+      }
+    }));
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return x.hashCode() ^ y.hashCode();
+  	}
+
+
+  /**
+  * @return java.awt.Point
+  */
+  public  java.awt.Point primitivePoint() {
+    return (new java.awt.Point(x.primitiveInteger(), y.primitiveInteger()));
+  }
+
+
+  /**
+  * @return java.awt.Dimension
+  */
+  public  java.awt.Dimension primitiveDimension() {
+    return (new java.awt.Dimension(x.primitiveInteger(), y.primitiveInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asPoint() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object extent(final Object extent) {
+    return (Rectangle.$class.origin_extent(this, extent));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object corner(final Object corner) {
+    return (Rectangle.$class.origin_corner(this, corner));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object abs() {
+    return ($send21.perform_with(x.abs(), y.abs()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object negated() {
+    return ($send22.perform_with(x.negated(), y.negated()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object dotProduct(final Point aPoint) {
+    return ($send23.perform_with(x.$times(aPoint.x()), y.$times(aPoint.y())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object dotProduct(final Object aPoint)
+  {	return this.dotProduct( (Point) aPoint );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object truncated() {
+    return ($send24.perform_with(x.truncated(), y.truncated()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object truncatedTo(final Object aNumber) {
+    return ($send25.perform_with(x.truncatedTo(aNumber), y.truncatedTo(aNumber)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object rounded() {
+    return ($send26.perform_with(x.rounded(), y.rounded()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object transpose() {
+    return (y.$at(x));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+    return ($send28.perform_with($send27.perform_with(x.printString(), ((String)primitive.StringFrom(" @ "))), y.printString()));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,512 @@
+package smalltalk.geometry;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Represents a rectangle.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Rectangle extends smalltalk.behavior.Object 
+{
+  /** Metaclass for Rectangle. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("origin", 1);
+    private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("corner", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new() {
+      return (new Rectangle());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object origin_extent(final Object origin, final Object extent)
+    {	return new Rectangle( (Point) origin, (Point) extent );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object origin_corner(final Object origin, final Object corner) {
+      return (new ZeroArgumentBlock()
+      {
+         
+        Object local4_0;
+        @Override public Object value()  {
+          $send0.perform_with(local4_0 = ((smalltalk.behavior.Object)new Rectangle()), origin);
+          $send1.perform_with(local4_0, corner);
+          return local4_0.yourself();
+        }
+      }.value());
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$at", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("y", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("x", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("$idiv", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("$append", 1);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("$lessEqual", 1);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("$moreEqual", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send26 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send27 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send28 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send29 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send30 = new smalltalk.behavior.SendSite($selector6);
+  /** class instance for Rectangle. **/
+  public static final mClass $class = new mClass(Rectangle.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Point origin;
+
+  protected 
+  Point extent;
+
+  /**
+  * @return 
+  */
+  protected   Rectangle() {
+    origin = ((Point)((SmallInteger)primitive.IntegerFrom(0)).$at(((SmallInteger)primitive.IntegerFrom(0))));
+    extent = ((Point)((SmallInteger)primitive.IntegerFrom(0)).$at(((SmallInteger)primitive.IntegerFrom(0))));
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   Rectangle(final Point originPoint, final Point extentPoint) {
+    origin = originPoint;
+    extent = extentPoint;
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object origin() {
+    return (origin);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object origin(final Point originPoint) {
+    origin = originPoint;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object origin(final Object originPoint)
+  {	return origin( (Point) originPoint );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object corner() {
+    return ($send2.perform_with($send0.perform_with(origin.x(), extent.x()), $send1.perform_with(origin.y(), extent.y())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object corner(final Point cornerPoint) {
+    this.extent(cornerPoint.$minus(origin));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object corner(final Object cornerPoint)
+  {	return corner( (Point) cornerPoint );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object top() {
+    return ($send3.perform(this.origin()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bottom() {
+    return ($send4.perform(this.corner()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object left() {
+    return ($send5.perform(this.origin()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object right() {
+    return ($send6.perform(this.corner()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object center() {
+    return ($send8.perform_with(this.origin(), $send7.perform_with(this.extent(), ((SmallInteger)primitive.IntegerFrom(2)))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object topCenter() {
+    return ($send10.perform_with($send9.perform(this.center()), this.top()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bottomCenter() {
+    return ($send12.perform_with($send11.perform(this.center()), this.bottom()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object leftCenter() {
+    return ($send14.perform_with(this.left(), $send13.perform(this.center())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object rightCenter() {
+    return ($send16.perform_with(this.right(), $send15.perform(this.center())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bottomLeft() {
+    return ($send17.perform_with(this.left(), this.bottom()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bottomRight() {
+    return ($send18.perform_with(this.right(), this.bottom()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object leftTop() {
+    return ($send19.perform_with(this.left(), this.top()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object leftBottom() {
+    return (this.bottomLeft());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object rightTop() {
+    return ($send20.perform_with(this.right(), this.top()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object rightBottom() {
+    return (this.bottomRight());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object topLeft() {
+    return (this.leftTop());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object topRight() {
+    return (this.rightTop());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object extent() {
+    return (extent);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object extent(final Point extentPoint) {
+    extent = extentPoint;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object extent(final Object extentPoint)
+  {	return extent( (Point) extentPoint );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object width() {
+    return (extent.x());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object width(final Object width) {
+    extent.x(width);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object height() {
+    return (extent.y());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object height(final Object height) {
+    extent.y(height);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object area() {
+    return ($send21.perform_with(this.width(), this.height()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Rectangle aRectangle) {
+    return ($send22.perform_with(origin.$equal(aRectangle.origin()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return extent.$equal(aRectangle.extent());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aRectangle) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            Rectangle.this.$equal(((Rectangle)aRectangle)));
+          }
+          catch (java.lang.ClassCastException e) {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalFalse());
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return origin.hashCode() ^ extent.hashCode();
+  	}
+
+
+  /**
+  * @return java.awt.Rectangle
+  */
+  public  java.awt.Rectangle primitiveRectangle() {
+    return (new java.awt.Rectangle(origin.primitivePoint(), extent.primitiveDimension()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+    return ($send24.perform_with($send23.perform_with(origin.printString(), ((String)primitive.StringFrom(" extent: "))), extent.printString()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object contains(final Rectangle aRectangle) {
+    return ($send27.perform_with($send25.perform_with(this.origin(), aRectangle.origin()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send26.perform_with(Rectangle.this.corner(), aRectangle.corner());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object contains(final Object aRectangle)
+  {	return this.contains( (Rectangle) aRectangle );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object containsPoint(final Point aPoint) {
+    return (aPoint.between_and(this.origin(), this.corner()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object containsPoint(final Object aPoint)
+  {	return this.containsPoint( (Point) aPoint );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object intersects(final Rectangle aRectangle) {
+    return ($send30.perform_with($send28.perform_with(this.origin(), aRectangle.corner()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send29.perform_with(aRectangle.origin(), Rectangle.this.corner());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object intersects(final Object aRectangle)
+  {	return this.intersects( (Rectangle) aRectangle );
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Supports basic arithmetic operations.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface Arithmetic extends smalltalk.magnitude.IntegerArithmetic 
+{
+  /** Metatype for Arithmetic. */
+  public static  interface mClass extends IntegerArithmetic.mClass 
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object $idiv(final Object aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $imod(final Object aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public  Object reciprocal();
+
+
+  /**
+  * @return Object
+  */
+  public  Object quo(final Object aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public  Object rem(final Object aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public  Object squared();
+}
\ No newline at end of file
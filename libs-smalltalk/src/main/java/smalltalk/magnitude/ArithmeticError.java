@@ -0,0 +1,27 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents an arithmetic error raised by a thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ArithmeticError extends smalltalk.behavior.Error 
+{
+  /** Metaclass for ArithmeticError. */
+  public static  class mClass extends Error.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for ArithmeticError. **/
+  public static final mClass $class = new mClass(ArithmeticError.class);
+  @Override public Behavior $class() { return $class; }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents a key-value pair.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Association extends smalltalk.magnitude.Magnitude 
+  implements Comparison
+{
+  /** Metaclass for Association. */
+  public static  class mClass extends Magnitude.mClass 
+    implements Comparison.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object key_value(final Object aKey, final Object aValue) {
+      return (new Association(aKey, aValue));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("key", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("printString", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("$append", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector4);
+  /** class instance for Association. **/
+  public static final mClass $class = new mClass(Association.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Object key;
+
+  protected 
+  Object value;
+
+  /**
+  * @return 
+  */
+  protected   Association(final Object aKey, final Object aValue) {
+    this.key_value(aKey, aValue);
+  }
+
+
+  /**
+  * @return 
+  */
+  protected   Association() {
+    key = ((smalltalk.behavior.Object)Object.primitive.literalNil());
+    value = ((smalltalk.behavior.Object)Object.primitive.literalNil());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object key() {
+    return (key);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object key(final Object aKey) {
+    key = aKey;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object key_value(final Object aKey, final Object aValue) {
+    key = aKey;
+    value = aValue;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object value() {
+    return (value);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object value(final Object aValue) {
+    value = aValue;
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object anAssociation) {
+    return ($send2.perform_with(this.species().$is(anAssociation.species()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send1.perform_with(Association.this.key().$equal($send0.perform(anAssociation)), new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return Association.this.value().$equal(anAssociation.value());
+          }
+        });
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Object anAssociation) {
+    return ($send4.perform_with(this.key(), $send3.perform(anAssociation)));
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode() {
+    return (key.hashCode());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+    return ($send8.perform_with($send6.perform_with($send5.perform(key), primitive.StringFrom(" >> ")), $send7.perform(value)));
+  }
+}
\ No newline at end of file
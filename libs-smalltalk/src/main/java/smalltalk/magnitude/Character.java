@@ -0,0 +1,543 @@
+package smalltalk.magnitude;
+import smalltalk.Name;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents a literal character and manages flyweight instances for the
+ASCII character range (0-255). Provides utility methods for conversions
+and tests of letters and digits.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Character extends smalltalk.magnitude.Magnitude 
+  implements CharacterFactory
+{
+  /** Metaclass for Character. */
+  public static  class mClass extends Magnitude.mClass 
+    implements CharacterFactory.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+    private static 
+    int AsciiMaximum = 256;
+
+    private 
+    Character[] asciiCharacter;
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object initialize()
+    {
+    			asciiCharacter = new Character[AsciiMaximum];
+    			for( char c = 0; c < AsciiMaximum; c++ ) {
+    				asciiCharacter[c] = new Character( c );
+    			}
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object codePoint(final Object anInteger) {
+      return (this.CharacterFrom(((SmallInteger)anInteger)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object value(final Object anInteger) {
+      return (this.codePoint(anInteger));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object $null() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(0))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object bs() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(8))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object backspace() {
+      return (this.bs());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object cr() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(13))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object carriageReturn() {
+      return (this.cr());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lf() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(10))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lineFeed() {
+      return (this.lf());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object newLine() {
+      return (this.lf());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object del() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(127))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object delete() {
+      return (this.del());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object esc() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(27))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object escape() {
+      return (this.esc());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object ff() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(12))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object formFeed() {
+      return (this.ff());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object newPage() {
+      return (this.ff());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object space() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(32))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object tab() {
+      return (this.codePoint(((SmallInteger)primitive.IntegerFrom(9))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object CharacterFrom(final char primitiveCharacter)
+    {	return(
+    				primitiveCharacter < AsciiMaximum ?
+    				asciiCharacter[ primitiveCharacter ] :
+    				new Character( primitiveCharacter )
+    			);
+    		}
+
+
+    /**
+    * @return char
+    */
+    @Override
+    public  char charFrom(final Object anObject) {
+      return (((Character)anObject).primitiveCharacter());
+    }
+
+
+    /**
+    * @return Character
+    */
+    public  Character CharacterFrom(final int anInteger)
+    {	return (Character) CharacterFrom( (char) anInteger );
+    		}
+
+
+    /**
+    * @return Character
+    */
+    public  Character CharacterFrom(final SmallInteger anInteger) {
+      return (this.CharacterFrom(anInteger.primitiveInteger()));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object from(final int primitiveCharacter) {
+      return (this.CharacterFrom(primitiveCharacter));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("nextPut", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for Character. **/
+  public static final mClass $class = new mClass(Character.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  char primitiveValue;
+
+  /**
+  * @return 
+  */
+  protected   Character(final char primitiveCharacter)
+  {	primitiveValue = primitiveCharacter;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Character()
+  {	primitiveValue = 0;
+  	}
+
+
+  /**
+  * @return char
+  */
+  public  char primitiveCharacter()
+  {	return primitiveValue;
+  	}
+
+
+  /**
+  * @return char
+  */
+  public  char asPrimitive() {
+    return (this.primitiveCharacter());
+  }
+
+
+  /**
+  * @return int
+  */
+  public  int primitiveInteger()
+  {	return (int) primitiveValue;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asCharacter() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asInteger()
+  {	return primitive.IntegerFrom( primitiveInteger() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asLowercase()
+  {	return primitive.CharacterFrom(
+  			java.lang.Character.toLowerCase( primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asLowerCase() {
+    return (this.asLowercase());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asString()
+  {	return primitive.StringFrom( java.lang.String.valueOf( primitiveValue ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asUppercase()
+  {	return primitive.CharacterFrom(
+  			java.lang.Character.toUpperCase( primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asUpperCase() {
+    return (this.asUppercase());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object codePoint() {
+    return (this.asInteger());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object anObject)
+  {	try {
+  			Character c = (Character) anObject;
+  			return primitive.BooleanFrom(
+  				this.primitiveValue == c.primitiveValue
+  			);
+  		} catch( ClassCastException e ) {
+  			return primitive.literalFalse();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Object aMagnitude)
+  {	Character c = (Character) aMagnitude;
+  		return primitive.BooleanFrom(
+  			this.primitiveValue < c.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessEqual(final Object aMagnitude)
+  {	Character c = (Character) aMagnitude;
+  		return primitive.BooleanFrom(
+  			this.primitiveValue <= c.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Object aMagnitude)
+  {	Character c = (Character) aMagnitude;
+  		return primitive.BooleanFrom(
+  			this.primitiveValue > c.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreEqual(final Object aMagnitude)
+  {	Character c = (Character) aMagnitude;
+  		return primitive.BooleanFrom(
+  			this.primitiveValue >= c.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode() {
+    return (this.primitiveInteger());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printOn(final Object aStream) {
+    $send0.perform_with(aStream, this);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString()
+  {	return primitive.StringFrom( java.lang.String.valueOf( primitiveCharacter() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object isAlphaNumeric()
+  {	return primitive.BooleanFrom(
+  			java.lang.Character.isLetterOrDigit( primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object isDigit()
+  {	return primitive.BooleanFrom(
+  			java.lang.Character.isDigit( primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object isLetter()
+  {	return primitive.BooleanFrom(
+  			java.lang.Character.isLetter( primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object isLowercase()
+  {	return primitive.BooleanFrom(
+  			java.lang.Character.isLowerCase( primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object isLowerCase() {
+    return (this.isLowercase());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isUppercase()
+  {	return primitive.BooleanFrom(
+  			java.lang.Character.isUpperCase( primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object isUpperCase() {
+    return (this.isUppercase());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object isVowel() {
+    return (primitive.BooleanFrom(Name.isVowel(this.primitiveCharacter())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isCharacter() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isLiteral() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
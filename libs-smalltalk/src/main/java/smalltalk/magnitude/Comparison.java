@@ -0,0 +1,47 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Supports comparisons between magnitude values.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface Comparison
+{
+  /** Metatype for Comparison. */
+  public static  interface mClass
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object $lessThan(final Object aMagnitude);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $lessEqual(final Object aMagnitude);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $moreThan(final Object aMagnitude);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $moreEqual(final Object aMagnitude);
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents a moment in time within a specific date.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Date extends smalltalk.magnitude.Time 
+{
+  /** Metaclass for Date. */
+  public static  class mClass extends Time.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object now()
+    {	return new Date();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object fromTime(final long primitiveTime)
+    {
+    			return new Date( primitiveTime );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object fromTime(final long primitiveTime, final int offset)
+    {
+    			return new Date( primitiveTime, offset );
+    		}
+  }
+
+  /** class instance for Date. **/
+  public static final mClass $class = new mClass(Date.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   Date()
+  {
+  		super();
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Date(final long primitiveTime)
+  {
+  		super( primitiveTime );
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Date(final long primitiveTime, final int offset)
+  {
+  		super( primitiveTime, offset );
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,687 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents an approximation of a real number (double precision).
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Double extends smalltalk.magnitude.LimitedPrecisionReal 
+  implements DoubleFactory
+{
+  /** Metaclass for Double. */
+  public static  class mClass extends LimitedPrecisionReal.mClass 
+    implements DoubleFactory.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("raisedTo", 1);
+    private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+    private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+    private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object DoubleFrom(final double primitiveDouble)
+    {	return new Double( primitiveDouble );
+    		}
+
+
+    /**
+    * @return double
+    */
+    @Override
+    public  double doubleFrom(final Object anObject)
+    {	Double aDouble = (Double) anObject;
+    			return aDouble.primitiveDouble();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object coerce(final Number aNumber) {
+      return (aNumber.asFloatD());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize()
+    {	radiansPerDegree = (java.lang.Math.PI / 180.0);
+    			degreesPerRadian = (180.0 / java.lang.Math.PI);
+    			generality = new SmallInteger( 70 );
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object e()
+    {	return new Double( java.lang.Math.E );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object pi()
+    {	return new Double( java.lang.Math.PI );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object zero()
+    {	return new Double( 0.0 );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object unity()
+    {	return new Double( 1.0 );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object denormalized() {
+      return (Object.primitive.literalFalse());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object emax() {
+      return (((SmallInteger)primitive.IntegerFrom(308)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object emin() {
+      return (((SmallInteger)primitive.IntegerFrom(-324)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object epsilon() {
+      return ($send0.perform_with(this.radix(), ((SmallInteger)primitive.IntegerFrom(1)).$minus(this.precision())));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object fmax()
+    {	return new Double( java.lang.Double.MAX_VALUE );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object fmin()
+    {	return new Double( java.lang.Double.MIN_VALUE );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object fminDenormalized() {
+      return ($send2.perform_with(this.radix(), $send1.perform_with(this.emin(), this.precision())));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object fminNormalized() {
+      return ($send4.perform_with(this.radix(), $send3.perform_with(this.emin(), ((SmallInteger)primitive.IntegerFrom(1)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object precision() {
+      return (((SmallInteger)primitive.IntegerFrom(64)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object radix() {
+      return (((SmallInteger)primitive.IntegerFrom(2)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object significance() {
+      return (((SmallInteger)primitive.IntegerFrom(16)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("asFloat", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("floor", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("ln", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector1);
+  /** class instance for Double. **/
+  public static final mClass $class = new mClass(Double.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  double radiansPerDegree;
+
+  protected static 
+  double degreesPerRadian;
+
+  protected static 
+  SmallInteger generality;
+
+  protected 
+  double primitiveValue;
+
+  /**
+  * @return 
+  */
+  protected   Double(final double primitiveDouble)
+  {	primitiveValue = primitiveDouble;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Double()
+  {	primitiveValue = 0.0d;
+  	}
+
+
+  /**
+  * @return byte
+  */
+  @Override
+  public  byte primitiveByte()
+  {	return (byte) primitiveValue;
+  	}
+
+
+  /**
+  * @return char
+  */
+  @Override
+  public  char primitiveCharacter()
+  {	return (char) primitiveValue;
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int primitiveInteger()
+  {	return (int) primitiveValue;
+  	}
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public  long primitiveLong()
+  {	return (long) primitiveValue;
+  	}
+
+
+  /**
+  * @return float
+  */
+  @Override
+  public  float primitiveFloat()
+  {	return (float) primitiveValue;
+  	}
+
+
+  /**
+  * @return double
+  */
+  @Override
+  public  double primitiveDouble()
+  {	return primitiveValue;
+  	}
+
+
+  /**
+  * @return java.lang.Double
+  */
+  public  java.lang.Double elementaryDouble()
+  {	return new java.lang.Double( primitiveValue );
+  	}
+
+
+  /**
+  * @return java.lang.Number
+  */
+  @Override
+  public  java.lang.Number elementaryNumber()
+  {	return this.elementaryDouble();
+  	}
+
+
+  /**
+  * @return double
+  */
+  public  double asPrimitive() {
+    return (this.primitiveDouble());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFloat() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFloatD() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object generality() {
+    return (generality);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object narrowGenerality()
+  {	int resultI = (int) primitiveValue;
+  		if (((double) resultI) == primitiveValue) 
+  			return primitive.IntegerFrom( resultI );
+
+  		long resultL = (long) primitiveValue;
+  		if (((double) resultL) == primitiveValue) 
+  			return new LongInteger( resultL );
+
+  		float resultF = (float) primitiveValue;
+  		if (((double) resultF) == primitiveValue) 
+  			return primitive.FloatFrom( resultF );
+
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $equal(final Double aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue == aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $lessThan(final Double aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue < aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Number aNumber) {
+    return ((Boolean.primitiveValue($send0.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$equal(Double.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Double.this.$equal(((Double)aNumber.asFloatD()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send1.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$moreThan(Double.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Double.this.$lessThan(((Double)aNumber.asFloatD()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send2.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$lessThan(Double.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ((Double)aNumber.asFloatD()).$lessThan(Double.this);
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return elementaryDouble().hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $plus(final Double aNumber)
+  {	return new Double(
+  			this.primitiveValue + aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $times(final Double aNumber)
+  {	return new Double(
+  			this.primitiveValue * aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $dividedBy(final Double aNumber)
+  {
+  		if (aNumber.primitiveValue == 0.0) zeroDivide();
+  		return new Double(
+  			this.primitiveValue / aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Number aNumber) {
+    return ((Boolean.primitiveValue($send3.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$plus(Double.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Double.this.$plus(((Double)aNumber.asFloatD()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Number aNumber) {
+    return ((Boolean.primitiveValue($send4.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$times(Double.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Double.this.$times(((Double)aNumber.asFloatD()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Number aNumber) {
+    return ((Boolean.primitiveValue($send5.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send6.perform_with(Double.this.coerceTo(aNumber.$class()), aNumber);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Double.this.$dividedBy(((Double)aNumber.asFloatD()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object arcCos()
+  {	return new Double( java.lang.Math.acos( primitiveDouble() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object arcSin()
+  {	return new Double( java.lang.Math.asin( primitiveDouble() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object arcTan()
+  {	return new Double( java.lang.Math.atan( primitiveDouble() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object cos()
+  {	return new Double( java.lang.Math.cos( primitiveDouble() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object degreesToRadians()
+  {	return new Double( primitiveDouble() * radiansPerDegree );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object exp()
+  {	return new Double( java.lang.Math.exp( primitiveDouble() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object floorLog(final Object radix) {
+    return ($send8.perform(this.log($send7.perform(radix))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ln()
+  {	return new Double( java.lang.Math.log( primitiveDouble() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object log(final Object radix) {
+    return ($send11.perform_with(this.ln(), $send10.perform($send9.perform(radix))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated()
+  {	return new Double( - primitiveDouble() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object radiansToDegrees()
+  {	return new Double( primitiveDouble() * degreesPerRadian );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object raisedTo(final double power)
+  {	return new Double( 
+  			java.lang.Math.pow( primitiveDouble(), power ) 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object sin()
+  {	return new Double( java.lang.Math.sin( primitiveDouble() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object tan()
+  {	return new Double( java.lang.Math.tan( primitiveDouble() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString()
+  {	return primitive.StringFrom(
+  			java.lang.Double.toString( primitiveDouble() ).replace( 'E', 'd' )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isFloat() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isLiteral() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
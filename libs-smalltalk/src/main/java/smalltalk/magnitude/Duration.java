@@ -0,0 +1,497 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents a length of time.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Duration extends smalltalk.magnitude.Magnitude 
+  implements IntegerArithmetic
+{
+  /** Metaclass for Duration. */
+  public static  class mClass extends Magnitude.mClass 
+    implements IntegerArithmetic.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object from(final long primitiveLong)
+    {	return new Duration( primitiveLong );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object from(final Object anInteger) {
+      return (this.from(((Integer)anInteger).primitiveLong()));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object days_hours_minutes_seconds(final Object days, final Object hours, final Object minutes, final Object seconds)
+    {	long d = ((IntegerArithmetic) days).primitiveLong();
+    			long h = ((IntegerArithmetic) hours).primitiveLong();
+    			long m = ((IntegerArithmetic) minutes).primitiveLong();
+    			long s = ((IntegerArithmetic) seconds).primitiveLong();
+    			long msecs = 0L;
+    			msecs += d * MSecsPerDay;
+    			msecs += h * MSecsPerHour;
+    			msecs += m * MSecsPerMinute;
+    			msecs += s * MSecsPerSecond;
+    			return new Duration( msecs );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object seconds(final Object seconds)
+    {	long s = ((IntegerArithmetic) seconds).primitiveLong();
+    			long msecs = s * MSecsPerSecond;
+    			return new Duration( msecs );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object zero()
+    {	return new Duration( 0L );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize()
+    {	MSecsPerDay = 86400000L;
+    			MSecsPerHour = 3600000L;
+    			MSecsPerMinute = 60000L;
+    			MSecsPerSecond =  1000L;
+    			return this;
+    		}
+  }
+
+  /** class instance for Duration. **/
+  public static final mClass $class = new mClass(Duration.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  long MSecsPerDay;
+
+  protected static 
+  long MSecsPerHour;
+
+  protected static 
+  long MSecsPerMinute;
+
+  protected static 
+  long MSecsPerSecond;
+
+  protected 
+  long primitiveValue;
+
+  /**
+  * @return 
+  */
+  protected   Duration(final long primitiveLong)
+  {	primitiveValue = primitiveLong;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Duration()
+  {	primitiveValue = 0L;
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int primitiveInteger()
+  {	return (int) primitiveValue;
+  	}
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public  long primitiveLong()
+  {	return primitiveValue;
+  	}
+
+
+  /**
+  * @return java.lang.Long
+  */
+  public  java.lang.Long elementaryLong()
+  {	return new java.lang.Long( primitiveValue );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object days()
+  {	long msecs = primitiveLong();
+  		long days = msecs / MSecsPerDay;
+  		return primitive.IntegerFrom( (int) days );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object hours()
+  {	long msecs = primitiveLong();
+  		long days = msecs / MSecsPerDay;
+  		msecs -= days * MSecsPerDay;
+  		long hours = msecs / MSecsPerHour;
+  		return primitive.IntegerFrom( (int) hours );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object minutes()
+  {	long msecs = primitiveLong();
+  		long days = msecs / MSecsPerDay;
+  		msecs -= days * MSecsPerDay;
+  		long hours = msecs / MSecsPerHour;
+  		msecs -= hours * MSecsPerHour;
+  		long mins = msecs / MSecsPerMinute;
+  		return primitive.IntegerFrom( (int) mins );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object seconds()
+  {	long msecs = primitiveLong();
+  		long days = msecs / MSecsPerDay;
+  		msecs -= days * MSecsPerDay;
+  		long hours = msecs / MSecsPerHour;
+  		msecs -= hours * MSecsPerHour;
+  		long mins = msecs / MSecsPerMinute;
+  		msecs -= mins * MSecsPerMinute;
+  		long secs = msecs / MSecsPerSecond;
+  		return primitive.IntegerFrom( (int) secs );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asSeconds()
+  {	long secs = primitiveLong() / MSecsPerSecond;
+  		return primitive.IntegerFrom( (int) secs );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString()
+  {	long msecs = primitiveLong();
+  		long days = msecs / MSecsPerDay;
+  		msecs -= days * MSecsPerDay;
+  		long hours = msecs / MSecsPerHour;
+  		msecs -= hours * MSecsPerHour;
+  		long mins = msecs / MSecsPerMinute;
+  		msecs -= mins * MSecsPerMinute;
+  		long secs = msecs / MSecsPerSecond;
+  		msecs -= secs * MSecsPerSecond;
+
+  		java.text.DecimalFormat digits2 = new java.text.DecimalFormat( "00" );
+  		java.text.DecimalFormat digits4 = new java.text.DecimalFormat( "0000" );
+  		java.lang.StringBuilder result = new java.lang.StringBuilder();
+  		if (primitiveLong() < 0) result.append( "-" );
+  		result.append( java.lang.Integer.toString( (int) days ) );
+  		result.append( ":" );
+  		result.append( digits2.format( (int) hours ) );
+  		result.append( ":" );
+  		result.append( digits2.format( (int) mins ) );
+  		result.append( ":" );
+  		result.append( digits2.format( (int) secs ) );
+  		result.append( "." );
+  		result.append( digits4.format( (int) msecs ) );
+  		return primitive.StringFrom( result.toString() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aDuration)
+  {	IntegerArithmetic d = (IntegerArithmetic) aDuration;
+  		return primitive.BooleanFrom( primitiveLong() == d.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Object aDuration)
+  {	IntegerArithmetic d = (IntegerArithmetic) aDuration;
+  		return primitive.BooleanFrom( primitiveLong() < d.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Object aDuration)
+  {	IntegerArithmetic d = (IntegerArithmetic) aDuration;
+  		return primitive.BooleanFrom( primitiveLong() > d.primitiveLong() );
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return elementaryLong().hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Object aDuration)
+  {	IntegerArithmetic d = (IntegerArithmetic) aDuration;
+  		return new Duration( primitiveLong() + d.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $minus(final Object aDuration)
+  {	IntegerArithmetic d = (IntegerArithmetic) aDuration;
+  		return new Duration( primitiveLong() - d.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Object aDuration)
+  {	IntegerArithmetic d = (IntegerArithmetic) aDuration;
+  		return new Duration( primitiveLong() * d.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Object aDuration)
+  {	IntegerArithmetic d = (IntegerArithmetic) aDuration;
+  		return new Duration( primitiveLong() / d.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $incremented(final long aDuration)
+  {	primitiveValue += aDuration;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $incremented(final IntegerArithmetic aDuration)
+  {	return $incremented( aDuration.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $incremented(final Object aDuration)
+  {	return $incremented( (IntegerArithmetic) aDuration );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $decremented(final long aDuration)
+  {	primitiveValue -= aDuration;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $decremented(final IntegerArithmetic aDuration)
+  {	return $decremented( aDuration.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $decremented(final Object aDuration)
+  {	return $decremented( (IntegerArithmetic) aDuration );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $magnified(final long aDuration)
+  {	primitiveValue *= aDuration;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $magnified(final IntegerArithmetic aDuration)
+  {	return $magnified( aDuration.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $magnified(final Object aDuration)
+  {	return $magnified( (IntegerArithmetic) aDuration );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $divided(final long aDuration)
+  {	primitiveValue /= aDuration;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $divided(final IntegerArithmetic aDuration)
+  {	return $divided( aDuration.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $divided(final Object aDuration)
+  {	return $divided( (IntegerArithmetic) aDuration );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object abs()
+  {	return( primitiveLong() < 0 ? this.negated() : this );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated()
+  {	return new Duration( -primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object sign() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.strictlyPositive())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ((SmallInteger)primitive.IntegerFrom(1)));
+          }
+        }).value();
+      }
+      if (Boolean.primitiveValue(this.negative())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ((SmallInteger)primitive.IntegerFrom(-1)));
+          }
+        }).value();
+      }
+      return (((SmallInteger)primitive.IntegerFrom(0)));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negative()
+  {	return primitive.BooleanFrom( primitiveLong() < 0L );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object positive()
+  {	return primitive.BooleanFrom( primitiveLong() >= 0L );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object strictlyPositive()
+  {	return primitive.BooleanFrom( primitiveLong() > 0L );
+  	}
+}
\ No newline at end of file
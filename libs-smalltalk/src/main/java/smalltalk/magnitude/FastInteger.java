@@ -0,0 +1,115 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents an integer value, especially for a fast integer arithmetic.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class FastInteger extends smalltalk.magnitude.SmallInteger 
+{
+  /** Metaclass for FastInteger. */
+  public static  class mClass extends SmallInteger.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return FastInteger
+    */
+    public  FastInteger fromInteger(final Integer anInteger)
+    {
+    			return new FastInteger( anInteger.primitiveInteger() );
+    		}
+  }
+
+  /** class instance for FastInteger. **/
+  public static final mClass $class = new mClass(FastInteger.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   FastInteger(final int primitiveInteger)
+  {
+  		super( primitiveInteger );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $incremented(final int aNumber)
+  {
+  		primitiveValue += aNumber;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $decremented(final int aNumber)
+  {
+  		primitiveValue -= aNumber;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $magnified(final int aNumber)
+  {
+  		primitiveValue *= aNumber;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $divided(final int aNumber)
+  {
+  		primitiveValue /= aNumber;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $incremented(final Object aNumber) {
+    return (this.$incremented(((SmallInteger)aNumber).primitiveInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $decremented(final Object aNumber) {
+    return (this.$decremented(((SmallInteger)aNumber).primitiveInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $magnified(final Object aNumber) {
+    return (this.$magnified(((SmallInteger)aNumber).primitiveInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $divided(final Object aNumber) {
+    return (this.$divided(((SmallInteger)aNumber).primitiveInteger()));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,598 @@
+package smalltalk.magnitude;
+import java.math.BigDecimal;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents a fixed point decimal number.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Fixed extends smalltalk.magnitude.Rational 
+  implements FixedFactory
+{
+  /** Metaclass for Fixed. */
+  public static  class mClass extends Rational.mClass 
+    implements FixedFactory.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("truncated", 0);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object FixedFrom(final java.lang.String fixedString)
+    {	int point = fixedString.indexOf( '.' );
+    			int mark  = fixedString.indexOf( 's' );
+    			java.lang.String iString = fixedString.substring( 0, point );
+    			java.lang.String fString = fixedString.substring( point + 1, mark );
+    			java.lang.String sString = fixedString.substring( mark + 1 );
+    			int numerator = 0;
+    			int denominator = 1;
+    			int scale = 0;
+    			for( int i = 0; i < fString.length(); i++ ) denominator *= 10;
+    			try {
+    				numerator = java.lang.Integer.parseInt( iString + fString );
+    				scale = java.lang.Integer.parseInt( sString );
+    			} catch( NumberFormatException e ) {
+    				// should never happen
+    			}
+    			return new Fixed( 
+    				new SmallInteger( numerator ), 
+    				new SmallInteger( denominator ), 
+    				new SmallInteger( scale )
+    			);
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object exponentCharacter() {
+      return (((Character)primitive.CharacterFrom('s')));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object numerator_denominator_scale(final Object numerator, final Object denominator, final Object scale) {
+      return (new Fixed(((Integer)$send0.perform(numerator)), ((Integer)$send1.perform(denominator)), ((Integer)$send2.perform(scale))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object coerce(final Number aNumber) {
+      return (aNumber.asScaledDecimal(((SmallInteger)primitive.IntegerFrom(0))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize() {
+      generality = ((SmallInteger)((SmallInteger)primitive.IntegerFrom(50)));
+      return (this);
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("numerator_denominator_scale", 3);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("withScale", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("resolvedToClass", 0);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("on", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("contents", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector7);
+  /** class instance for Fixed. **/
+  public static final mClass $class = new mClass(Fixed.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  SmallInteger generality;
+
+  protected 
+  Integer numerator;
+
+  protected 
+  Integer denominator;
+
+  protected 
+  Integer scale;
+
+  /**
+  * @return 
+  */
+  protected   Fixed(final Integer aNumerator, final Integer aDenominator, final Integer aScale)
+  {	numerator   = aNumerator;
+  		denominator = aDenominator;
+  		scale       = aScale;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Fixed()
+  {	numerator   = (SmallInteger) primitive.IntegerFrom( 0 );
+  		denominator = (SmallInteger) primitive.IntegerFrom( 1 );
+  		scale       = (SmallInteger) primitive.IntegerFrom( 0 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object numerator() {
+    return (numerator);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object denominator() {
+    return (denominator);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object scale() {
+    return (scale);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object withScale(final Object newScale) {
+    return ($send0.perform_with_with_with(this.$class(), numerator, denominator, newScale));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $plus(final Fixed aNumber) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(denominator.$equal(aNumber.denominator()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            $send1.perform_with_with_with(Fixed.this.$class(), numerator.$plus(aNumber.numerator()), denominator, scale.max(aNumber.scale())));
+          }
+        }).value();
+      }
+      return ($send3.perform_with_with_with(this.$class(), $send2.perform_with(numerator.$times(aNumber.denominator()), denominator.$times(aNumber.numerator())), denominator.$times(aNumber.denominator()), scale.max(aNumber.scale())));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $times(final Fixed aNumber) {
+    return ($send4.perform_with_with_with(this.$class(), numerator.$times(aNumber.numerator()), denominator.$times(aNumber.denominator()), scale.max(aNumber.scale())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $dividedBy(final Fixed aNumber) {
+    return ($send5.perform_with_with_with(this.$class(), numerator.$times(aNumber.denominator()), denominator.$times(aNumber.numerator()), scale.max(aNumber.scale())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Number aNumber) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.generality().$equal(aNumber.generality()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Fixed.this.$plus(((Fixed)aNumber)));
+          }
+        }).value();
+      }
+      if (Boolean.primitiveValue($send6.perform_with(this.generality(), aNumber.generality()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            aNumber.$plus(Fixed.this));
+          }
+        }).value();
+      }
+      return (this.$plus($send7.perform_with(aNumber.asFraction(), scale)));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Number aNumber) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.generality().$equal(aNumber.generality()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Fixed.this.$times(((Fixed)aNumber)));
+          }
+        }).value();
+      }
+      if (Boolean.primitiveValue($send8.perform_with(this.generality(), aNumber.generality()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            aNumber.$times(Fixed.this));
+          }
+        }).value();
+      }
+      return (this.$times($send9.perform_with(aNumber.asFraction(), scale)));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Number aNumber) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.generality().$equal(aNumber.generality()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Fixed.this.$dividedBy(((Fixed)aNumber)));
+          }
+        }).value();
+      }
+      if (Boolean.primitiveValue($send10.perform_with(this.generality(), aNumber.generality()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            $send11.perform_with(Fixed.this.coerceTo(aNumber.$class()), aNumber));
+          }
+        }).value();
+      }
+      return (this.$dividedBy($send12.perform_with(aNumber.asFraction(), scale)));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return byte
+  */
+  @Override
+  public  byte primitiveByte()
+  {	return (byte) primitiveLong();
+  	}
+
+
+  /**
+  * @return char
+  */
+  @Override
+  public  char primitiveCharacter()
+  {	return (char) primitiveLong();
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int primitiveInteger()
+  {	return (int) primitiveLong();
+  	}
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public  long primitiveLong()
+  {	double d = primitiveDouble();
+  		return (long)( d < 0 ? 
+  			java.lang.Math.ceil( d ) : java.lang.Math.floor( d )
+  		);
+  	}
+
+
+  /**
+  * @return float
+  */
+  @Override
+  public  float primitiveFloat()
+  {	return numerator.primitiveFloat() / denominator.primitiveFloat();
+  	}
+
+
+  /**
+  * @return double
+  */
+  @Override
+  public  double primitiveDouble()
+  {	return numerator.primitiveDouble() / denominator.primitiveDouble();
+  	}
+
+
+  /**
+  * @return java.lang.Double
+  */
+  public  java.lang.Double elementaryDouble()
+  {	return new java.lang.Double( primitiveDouble() );
+  	}
+
+
+  /**
+  * @return java.lang.Number
+  */
+  @Override
+  public  java.lang.Number elementaryNumber()
+  {	return this.elementaryDouble();
+  	}
+
+
+  /**
+  * @return BigDecimal
+  */
+  public  BigDecimal asBigDecimal() {
+    return (new BigDecimal(numerator.asBigInteger(), scale.primitiveInteger()));
+  }
+
+
+  /**
+  * @return BigDecimal
+  */
+  public  BigDecimal asPrimitive() {
+    return (this.asBigDecimal());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFraction() {
+    return (Fraction.$class.numerator_denominator(numerator, denominator));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asScaledDecimal(final Object newScale) {
+    return (this.withScale(newScale));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFixedPoint(final Object newScale) {
+    return (this.withScale(newScale));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object generality() {
+    return (generality);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated() {
+    return ($send13.perform_with_with_with(this.$class(), numerator.negated(), denominator, scale));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reciprocal() {
+    return ($send14.perform_with_with_with(this.$class(), denominator, numerator, scale));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object reduced() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+     
+    Object gcd;
+    try {
+      gcd = numerator.gcd(denominator);
+      if (Boolean.primitiveValue(gcd.$equal(((SmallInteger)primitive.IntegerFrom(1))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Fixed.this);
+          }
+        }).value();
+      }
+      return ($send15.perform_with_with_with(Fixed.this.$class(), numerator.$idiv(gcd), denominator.$idiv(gcd), scale));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printOn(final Object aStream)
+  {	SmallInteger ten = new SmallInteger( 10 );
+  		SmallInteger d = (SmallInteger) ten.raisedToInteger( scale );
+  		long n = numerator.primitiveLong() * d.primitiveLong();
+  		n += denominator.primitiveLong() >> 1;
+  		n /= denominator.primitiveLong();
+  		if (numerator.primitiveInteger() < 0) {
+  			primitive.CharacterFrom( '-' ).printOn( aStream );
+  			n = 0 - n;
+  		}
+  		long quo = n / d.primitiveLong();
+  		long rem = n % d.primitiveLong();
+  		SmallInteger q = new SmallInteger( (int) quo );
+  		q.printOn( (Object) aStream );
+  		primitive.CharacterFrom( '.' ).printOn( aStream );
+  		int s = scale.primitiveInteger();
+  		while( s-- > 0 ) {
+  			rem = rem * 10L;
+  			int digit = (int)(rem / d.primitiveLong());
+
+  			SmallInteger.$class
+  				.digitValue( new SmallInteger( digit ) )
+  					.printOn( aStream );
+
+  			rem = rem % d.primitiveLong();
+  		};
+  		$class.exponentCharacter().printOn( aStream );
+  		scale.printOn( (Object) aStream );
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+     
+    Object aStream;
+    aStream = $send18.perform_with($send16.perform(primitive.StringFrom("smalltalk.stream.WriteStream")), ((Behavior)$send17.perform(primitive.StringFrom("smalltalk.collection.String"))).$new());
+    Fixed.this.printOn(aStream);
+    return ($send19.perform(aStream));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object roundedToScale()
+  {	SmallInteger ten = new SmallInteger( 10 );
+  		SmallInteger d = (SmallInteger) ten.raisedToInteger( scale );
+  		long n = numerator.primitiveLong() * d.primitiveLong();
+  		n += denominator.primitiveLong() >> 1;
+  		n /= denominator.primitiveLong();
+  		return $class.numerator_denominator_scale(
+  			new SmallInteger( (int) n ), d, scale
+  		)
+  		.perform( "reduced" );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ceiling()
+  {	return new SmallInteger( (int)
+  			java.lang.Math.ceil( primitiveDouble() )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object floor()
+  {	return new SmallInteger( (int)
+  			java.lang.Math.floor( primitiveDouble() )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object truncatedToScale()
+  {	SmallInteger ten = new SmallInteger( 10 );
+  		SmallInteger d = (SmallInteger) ten.raisedToInteger( scale );
+  		long n = numerator.primitiveLong() * d.primitiveLong();
+  		n /= denominator.primitiveLong();
+  		return $class.numerator_denominator_scale(
+  			new SmallInteger( (int) n ), d, scale
+  		)
+  		.perform( "reduced" );
+  	}
+}
\ No newline at end of file
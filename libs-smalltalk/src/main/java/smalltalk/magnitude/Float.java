@@ -0,0 +1,656 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents an approximation of a real number (single precision).
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Float extends smalltalk.magnitude.LimitedPrecisionReal 
+  implements FloatFactory
+{
+  /** Metaclass for Float. */
+  public static  class mClass extends LimitedPrecisionReal.mClass 
+    implements FloatFactory.mClass
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("raisedTo", 1);
+    private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+    private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+    private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object FloatFrom(final float primitiveFloat)
+    {	return new Float( primitiveFloat );
+    		}
+
+
+    /**
+    * @return float
+    */
+    @Override
+    public  float floatFrom(final Object anObject)
+    {	Float aFloat = (Float) anObject;
+    			return aFloat.primitiveFloat();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object coerce(final Number aNumber) {
+      return (aNumber.asFloat());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize()
+    {	radiansPerDegree = (float)(java.lang.Math.PI / 180.0);
+    			degreesPerRadian = (float)(180.0 / java.lang.Math.PI);
+    			generality = new SmallInteger( 60 );
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object e()
+    {	return new Float( (float) java.lang.Math.E );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object pi()
+    {	return new Float( (float) java.lang.Math.PI );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object zero()
+    {	return new Float( 0.0f );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object unity()
+    {	return new Float( 1.0f );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object denormalized() {
+      return (Object.primitive.literalFalse());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object emax() {
+      return (((SmallInteger)primitive.IntegerFrom(38)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object emin() {
+      return (((SmallInteger)primitive.IntegerFrom(-45)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object epsilon() {
+      return ($send0.perform_with(this.radix(), ((SmallInteger)primitive.IntegerFrom(1)).$minus(this.precision())));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object fmax()
+    {	return new Float( java.lang.Float.MAX_VALUE );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object fmin()
+    {	return new Float( java.lang.Float.MIN_VALUE );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object fminDenormalized() {
+      return ($send2.perform_with(this.radix(), $send1.perform_with(this.emin(), this.precision())));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object fminNormalized() {
+      return ($send4.perform_with(this.radix(), $send3.perform_with(this.emin(), ((SmallInteger)primitive.IntegerFrom(1)))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object precision() {
+      return (((SmallInteger)primitive.IntegerFrom(32)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object radix() {
+      return (((SmallInteger)primitive.IntegerFrom(2)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object significance() {
+      return (((SmallInteger)primitive.IntegerFrom(8)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("asFloat", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("floor", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("ln", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector1);
+  /** class instance for Float. **/
+  public static final mClass $class = new mClass(Float.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  float radiansPerDegree;
+
+  protected static 
+  float degreesPerRadian;
+
+  protected static 
+  SmallInteger generality;
+
+  protected 
+  float primitiveValue;
+
+  /**
+  * @return 
+  */
+  protected   Float(final float primitiveFloat)
+  {	primitiveValue = primitiveFloat;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Float()
+  {	primitiveValue = 0.0f;
+  	}
+
+
+  /**
+  * @return byte
+  */
+  @Override
+  public  byte primitiveByte()
+  {	return (byte) primitiveValue;
+  	}
+
+
+  /**
+  * @return char
+  */
+  @Override
+  public  char primitiveCharacter()
+  {	return (char) primitiveValue;
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int primitiveInteger()
+  {	return (int) primitiveValue;
+  	}
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public  long primitiveLong()
+  {	return (long) primitiveValue;
+  	}
+
+
+  /**
+  * @return float
+  */
+  @Override
+  public  float primitiveFloat()
+  {	return primitiveValue;
+  	}
+
+
+  /**
+  * @return double
+  */
+  @Override
+  public  double primitiveDouble()
+  {	return (double) primitiveValue;
+  	}
+
+
+  /**
+  * @return java.lang.Float
+  */
+  public  java.lang.Float elementaryFloat()
+  {	return new java.lang.Float( primitiveValue );
+  	}
+
+
+  /**
+  * @return java.lang.Number
+  */
+  @Override
+  public  java.lang.Number elementaryNumber()
+  {	return this.elementaryFloat();
+  	}
+
+
+  /**
+  * @return float
+  */
+  public  float asPrimitive() {
+    return (this.primitiveFloat());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFloat() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFloatE() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object generality() {
+    return (generality);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $equal(final Float aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue == aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $lessThan(final Float aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue < aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Number aNumber) {
+    return ((Boolean.primitiveValue($send0.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$equal(Float.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Float.this.$equal(((Float)aNumber.asFloat()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send1.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$moreThan(Float.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Float.this.$lessThan(((Float)aNumber.asFloat()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send2.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$lessThan(Float.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ((Float)aNumber.asFloat()).$lessThan(Float.this);
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return elementaryFloat().hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $plus(final Float aNumber)
+  {	return new Float(
+  			this.primitiveValue + aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $times(final Float aNumber)
+  {	return new Float(
+  			this.primitiveValue * aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $dividedBy(final Float aNumber)
+  {
+  		if (aNumber.primitiveValue == 0.0) zeroDivide();
+  		return new Float(
+  			this.primitiveValue / aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Number aNumber) {
+    return ((Boolean.primitiveValue($send3.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$plus(Float.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Float.this.$plus(((Float)aNumber.asFloat()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Number aNumber) {
+    return ((Boolean.primitiveValue($send4.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$times(Float.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Float.this.$times(((Float)aNumber.asFloat()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Number aNumber) {
+    return ((Boolean.primitiveValue($send5.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send6.perform_with(Float.this.coerceTo(aNumber.$class()), aNumber);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Float.this.$dividedBy(((Float)aNumber.asFloat()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object arcCos()
+  {	return new Float( (float) java.lang.Math.acos( primitiveFloat() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object arcSin()
+  {	return new Float( (float) java.lang.Math.asin( primitiveFloat() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object arcTan()
+  {	return new Float( (float) java.lang.Math.atan( primitiveFloat() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object cos()
+  {	return new Float( (float) java.lang.Math.cos( primitiveFloat() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object degreesToRadians()
+  {	return new Float( (float)(primitiveFloat() * radiansPerDegree) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object exp()
+  {	return new Float( (float) java.lang.Math.exp( primitiveFloat() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object floorLog(final Object radix) {
+    return ($send8.perform(this.log($send7.perform(radix))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object ln()
+  {	return new Float( (float) java.lang.Math.log( primitiveFloat() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object log(final Object radix) {
+    return ($send11.perform_with(this.ln(), $send10.perform($send9.perform(radix))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated()
+  {	return new Float( - primitiveFloat() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object radiansToDegrees()
+  {	return new Float( (float)(primitiveFloat() * degreesPerRadian) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object sin()
+  {	return new Float( (float) java.lang.Math.sin( primitiveFloat() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object tan()
+  {	return new Float( (float) java.lang.Math.tan( primitiveFloat() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString()
+  {	return primitive.StringFrom(
+  			java.lang.Float.toString( primitiveFloat() ).replace( 'E', 'e' )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isFloat() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isLiteral() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,431 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Provides an exact representation for rational numbers.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Fraction extends smalltalk.magnitude.Rational 
+{
+  /** Metaclass for Fraction. */
+  public static  class mClass extends Rational.mClass 
+  {
+
+    private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("truncated", 0);
+    private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+    private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    protected  Object basic_over(final SmallInteger numerator, final SmallInteger denominator)
+    {	return new Fraction( numerator, denominator );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object rationalized_over(final Object numerator, final Object denominator) {
+      final java.lang.Object $exitScope = new java.lang.Object();
+      SmallInteger[] num = { null };
+
+       
+      SmallInteger den;
+
+      SmallInteger[] d = { null };
+
+      SmallInteger[] n = { null };
+
+      SmallInteger[] gcd = { null };
+      try {
+        num[0] = ((SmallInteger)$send0.perform(numerator));
+        den = ((SmallInteger)$send1.perform(denominator));
+        d[0] = ((SmallInteger)den.abs());
+        n[0] = ((SmallInteger)(Boolean.primitiveValue(den.negative()) ? (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return num[0].negated();
+          }
+        }).value() : (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            return num[0];
+          }
+        }).value()));
+        gcd[0] = ((SmallInteger)n[0].gcd(d[0]));
+        if (Boolean.primitiveValue(d[0].$equal(gcd[0]))) {
+          (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              n[0].$idiv(gcd[0]));
+            }
+          }).value();
+        }
+        if (Boolean.primitiveValue(gcd[0].$equal(((SmallInteger)primitive.IntegerFrom(1))))) {
+          (new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              throw new MethodExit($exitScope,
+              Fraction.mClass.this.basic_over(n[0], d[0]));
+            }
+          }).value();
+        }
+        n[0] = ((SmallInteger)n[0].$idiv(gcd[0]));
+        d[0] = ((SmallInteger)d[0].$idiv(gcd[0]));
+        return (Fraction.mClass.this.basic_over(n[0], d[0]));
+      }
+      catch (MethodExit e) {
+        return e.exitOn($exitScope);
+      }
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object numerator_denominator(final Object numerator, final Object denominator) {
+      return (this.rationalized_over(numerator, denominator));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object coerce(final Number aNumber) {
+      return (aNumber.asFraction());
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize() {
+      generality = ((SmallInteger)((SmallInteger)primitive.IntegerFrom(40)));
+      return (this);
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("numerator_denominator", 2);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$plus", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for Fraction. **/
+  public static final mClass $class = new mClass(Fraction.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  SmallInteger generality;
+
+  protected 
+  SmallInteger numerator;
+
+  protected 
+  SmallInteger denominator;
+
+  /**
+  * @return 
+  */
+  protected   Fraction(final SmallInteger aNumerator, final SmallInteger aDenominator)
+  {	numerator   = aNumerator;
+  		denominator = aDenominator;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Fraction()
+  {	numerator   = (SmallInteger) primitive.IntegerFrom( 0 );
+  		denominator = (SmallInteger) primitive.IntegerFrom( 0 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object numerator() {
+    return (numerator);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object denominator() {
+    return (denominator);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $plus(final Rational aNumber) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(denominator.$equal(aNumber.denominator()))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            $send0.perform_with_with(Fraction.this.$class(), numerator.$plus(aNumber.numerator()), denominator));
+          }
+        }).value();
+      }
+      return ($send2.perform_with_with(this.$class(), $send1.perform_with(numerator.$times(aNumber.denominator()), denominator.$times(aNumber.numerator())), denominator.$times(aNumber.denominator())));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $times(final Rational aNumber) {
+    return ($send3.perform_with_with(this.$class(), numerator.$times(aNumber.numerator()), denominator.$times(aNumber.denominator())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $dividedBy(final Rational aNumber) {
+    return ($send4.perform_with_with(this.$class(), numerator.$times(aNumber.denominator()), denominator.$times(aNumber.numerator())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Number aNumber) {
+    return ((Boolean.primitiveValue($send5.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$plus(Fraction.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Fraction.this.$plus(((Rational)aNumber));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Number aNumber) {
+    return ((Boolean.primitiveValue($send6.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$times(Fraction.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Fraction.this.$times(((Rational)aNumber));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Number aNumber) {
+    return ((Boolean.primitiveValue($send7.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send8.perform_with(Fraction.this.coerceTo(aNumber.$class()), aNumber);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Fraction.this.$dividedBy(((Rational)aNumber));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return byte
+  */
+  @Override
+  public  byte primitiveByte()
+  {	return (byte) primitiveLong();
+  	}
+
+
+  /**
+  * @return char
+  */
+  @Override
+  public  char primitiveCharacter()
+  {	return (char) primitiveLong();
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int primitiveInteger()
+  {	return (int) primitiveLong();
+  	}
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public  long primitiveLong()
+  {	double d = primitiveDouble();
+  		return (long)( d < 0 ? 
+  			java.lang.Math.ceil( d ) : java.lang.Math.floor( d )
+  		);
+  	}
+
+
+  /**
+  * @return float
+  */
+  @Override
+  public  float primitiveFloat()
+  {	return numerator.primitiveFloat() / denominator.primitiveFloat();
+  	}
+
+
+  /**
+  * @return double
+  */
+  @Override
+  public  double primitiveDouble()
+  {	return numerator.primitiveDouble() / denominator.primitiveDouble();
+  	}
+
+
+  /**
+  * @return java.lang.Double
+  */
+  public  java.lang.Double elementaryDouble()
+  {	return new java.lang.Double( primitiveDouble() );
+  	}
+
+
+  /**
+  * @return java.lang.Number
+  */
+  @Override
+  public  java.lang.Number elementaryNumber()
+  {	return this.elementaryDouble();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFraction() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object generality() {
+    return (generality);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object withScale(final Object scale) {
+    return (Fixed.$class.numerator_denominator_scale(numerator, denominator, scale));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated() {
+    return ($send9.perform_with_with(this.$class(), numerator.negated(), denominator));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reciprocal() {
+    return ($send10.perform_with_with(this.$class(), denominator, numerator));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ceiling()
+  {	return new SmallInteger( (int)
+  			java.lang.Math.ceil( primitiveDouble() )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object floor()
+  {	return new SmallInteger( (int)
+  			java.lang.Math.floor( primitiveDouble() )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString()
+  {	return primitive.StringFrom(
+  			new java.lang.String( 
+  				numerator.primitiveInteger() + " / " + 
+  				denominator.primitiveInteger()
+  			)
+  		);
+  	}
+}
\ No newline at end of file
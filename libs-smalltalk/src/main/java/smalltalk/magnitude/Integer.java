@@ -0,0 +1,529 @@
+package smalltalk.magnitude;
+import java.math.BigInteger;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Metaclass for Integer. */
+public abstract  class Integer extends smalltalk.magnitude.Rational 
+{
+  /** Metaclass for Integer. */
+  public static  class mClass extends Rational.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object initialize()
+    {	radixDigits = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object digitValue(final Object index) {
+      return (primitive.CharacterFrom(radixDigits.charAt(((SmallInteger)index).primitiveInteger())));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("unity", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("highBit", 0);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("not", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("zero", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("gcd", 1);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("narrowGenerality", 0);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("abs", 0);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("raisedToInteger", 1);
+  private static final int $selector10 = smalltalk.behavior.SelectorTable.idOf("nextPut", 1);
+  private static final int $selector11 = smalltalk.behavior.SelectorTable.idOf("printOn_base_showRadix", 3);
+  private static final int $selector12 = smalltalk.behavior.SelectorTable.idOf("printOn", 1);
+  private static final int $selector13 = smalltalk.behavior.SelectorTable.idOf("printDigitsOn_base", 2);
+  private static final int $selector14 = smalltalk.behavior.SelectorTable.idOf("digitValue", 1);
+  private static final int $selector15 = smalltalk.behavior.SelectorTable.idOf("resolvedToClass", 0);
+  private static final int $selector16 = smalltalk.behavior.SelectorTable.idOf("writeStream", 1);
+  private static final int $selector17 = smalltalk.behavior.SelectorTable.idOf("contents", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector14);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector16);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector17);
+  /** class instance for Integer. **/
+  public static final mClass $class = new mClass(Integer.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  java.lang.String radixDigits;
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object numerator() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object denominator() {
+    return ($send0.perform(this.$class()));
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return elementaryNumber().hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFraction() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asInteger() {
+    return (this);
+  }
+
+
+  /**
+  * @return BigInteger
+  */
+  public  BigInteger asBigInteger() {
+    return (BigInteger.valueOf(this.primitiveLong()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asCharacter() {
+    return (primitive.CharacterFrom(this.primitiveCharacter()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object bitAnd(final Integer anInteger);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object bitOr(final Integer anInteger);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object bitXor(final Integer anInteger);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object bitInvert();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object bitAt(final SmallInteger index);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object bitAt_put(final SmallInteger index, final SmallInteger bitValue);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object bitShift(final SmallInteger count);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $and(final Object anInteger) {
+    return (this.bitAnd(anInteger));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $or(final Object anInteger) {
+    return (this.bitOr(anInteger));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object allMask(final Object mask) {
+    return (this.bitAnd(mask).$equal(mask));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object anyMask(final Object mask) {
+    return (this.bitAnd(mask).$notEqual(((SmallInteger)primitive.IntegerFrom(0))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object noMask(final Object mask) {
+    return (this.bitAnd(mask).$is(((SmallInteger)primitive.IntegerFrom(0))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitAt(final Object index) {
+    return (this.bitAt(((Integer)index).asSmallInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitAt_put(final Object index, final Object bitValue) {
+    return (this.bitAt_put(((Integer)index).asSmallInteger(), ((Integer)bitValue).asSmallInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitShift(final Object count) {
+    return (this.bitAt(((Integer)count).asSmallInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object highBit() {
+    return ($send1.perform(this.asLargeInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object even() {
+    return (this.$imod(((SmallInteger)primitive.IntegerFrom(2))).$is(((SmallInteger)primitive.IntegerFrom(0))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object odd() {
+    return ($send2.perform(this.even()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isInteger() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ceiling() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object floor() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object factorial() {
+    Object[] result = { null };
+    if (Boolean.primitiveValue(Integer.this.$lessThan($send3.perform(Integer.this.$class())))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return Integer.this.error(primitive.StringFrom("Negative integers cannot use #factorial"));
+        }
+      }).value();
+    }
+    result[0] = $send4.perform(Integer.this.$class());
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object n)  {
+        return result[0] = $send5.perform_with(result[0], n);
+      }
+    };
+      final smalltalk.behavior.Object $start3 = $send6.perform(Integer.this.$class());
+      final smalltalk.behavior.Object $stop3 = Integer.this;
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send7.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object gcd(final Object aNumber) {
+    return ($send9.perform($send8.perform_with(this.asLargeInteger(), aNumber)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object lcm(final Object aNumber) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] gcd = { null };
+    try {
+      gcd[0] = Integer.this.gcd(aNumber);
+      if (!Boolean.primitiveValue(gcd[0].$equal(((SmallInteger)primitive.IntegerFrom(0))))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            $send11.perform($send10.perform_with(Integer.this.$idiv(gcd[0]), aNumber)));
+          }
+        }).value();
+      }
+      return (((SmallInteger)primitive.IntegerFrom(1)));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object raisedToInteger(final Object anInteger) {
+    return ($send13.perform($send12.perform_with(this.asLargeInteger(), anInteger)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object timesRepeat(final ZeroArgumentBlock aBlock) {
+    Integer[] count = { null };
+
+    Integer[] unity = { null };
+    count[0] = ((Integer)$send14.perform(Integer.this.$class()));
+    unity[0] = ((Integer)$send15.perform(Integer.this.$class()));
+    while(Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return count[0].$lessEqual(Integer.this);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          aBlock.value();
+          count[0] = ((Integer)count[0].$plus(unity[0]));
+          return Object.primitive.literalNil();
+        }
+      }).value()).value();
+    }
+    return (Integer.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object timesRepeat(final Object aBlock) {
+    return (this.timesRepeat(((ZeroArgumentBlock)aBlock)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printOn(final Object aStream) {
+    this.printOn_base_showRadix(aStream, ((SmallInteger)primitive.IntegerFrom(10)), Object.primitive.literalFalse());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object printOn_base_showRadix(final Object aStream, final Object radix, final Object showRadix) {
+    if (Boolean.primitiveValue(this.negative())) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          $send16.perform_with(aStream, ((Character)primitive.CharacterFrom('-')));
+          return $send17.perform_with_with_with(Integer.this.negated(), aStream, radix, showRadix);
+        }
+      }).value();
+    }
+    else {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          if (Boolean.primitiveValue(showRadix)) {
+            (new ZeroArgumentBlock()
+            {
+               
+              Object base;
+              @Override public Object value()  {
+                $send18.perform_with(base, aStream);
+                return $send19.perform_with(aStream, ((Character)primitive.CharacterFrom('r')));
+              }
+            }).value();
+          }
+          return Integer.this.printDigitsOn_base(aStream, radix);
+        }
+      }).value();
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object printDigitsOn_base(final Object aStream, final Object radix) {
+    if (Boolean.primitiveValue(this.$moreEqual(radix))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send20.perform_with_with(Integer.this.$idiv(radix), aStream, radix);
+        }
+      }).value();
+    }
+    $send22.perform_with(aStream, $send21.perform_with(this.$class(), this.$imod(radix)));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object printStringRadix(final Object radix) {
+    return (this.printStringRadix_showRadix(radix, Object.primitive.literalTrue()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object printStringRadix_showRadix(final Object radix, final Object showRadix) {
+     
+    Object aStream;
+    aStream = $send24.perform_with($send23.perform(primitive.StringFrom("smalltalk.collection.String")), ((SmallInteger)primitive.IntegerFrom(16)));
+    Integer.this.printOn_base_showRadix(aStream, radix, showRadix);
+    return ($send25.perform(aStream));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitAnd(final Object anInteger) {
+    return this.bitAnd(((Integer)anInteger));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitOr(final Object anInteger) {
+    return this.bitOr(((Integer)anInteger));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitXor(final Object anInteger) {
+    return this.bitXor(((Integer)anInteger));
+  }
+}
\ No newline at end of file
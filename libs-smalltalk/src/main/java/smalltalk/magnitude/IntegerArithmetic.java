@@ -0,0 +1,95 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Supports basic arithmetic operations.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface IntegerArithmetic
+{
+  /** Metatype for IntegerArithmetic. */
+  public static  interface mClass
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object $plus(final Object anInteger);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $minus(final Object anInteger);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $times(final Object anInteger);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $dividedBy(final Object anInteger);
+
+
+  /**
+  * @return int
+  */
+  public  int primitiveInteger();
+
+
+  /**
+  * @return long
+  */
+  public  long primitiveLong();
+
+
+  /**
+  * @return Object
+  */
+  public  Object abs();
+
+
+  /**
+  * @return Object
+  */
+  public  Object negated();
+
+
+  /**
+  * @return Object
+  */
+  public  Object sign();
+
+
+  /**
+  * @return Object
+  */
+  public  Object negative();
+
+
+  /**
+  * @return Object
+  */
+  public  Object positive();
+
+
+  /**
+  * @return Object
+  */
+  public  Object strictlyPositive();
+}
\ No newline at end of file
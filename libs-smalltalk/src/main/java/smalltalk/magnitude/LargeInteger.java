@@ -0,0 +1,523 @@
+package smalltalk.magnitude;
+import java.math.BigInteger;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents an arbitrary precision integer.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class LargeInteger extends smalltalk.magnitude.Integer 
+{
+  /** Metaclass for LargeInteger. */
+  public static  class mClass extends Integer.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    protected  Object coerce(final long primitiveLong)
+    {	return new LargeInteger( primitiveLong );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object coerce(final Number aNumber) {
+      return (this.coerce(aNumber.primitiveLong()));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object initialize() {
+      generality = ((SmallInteger)((SmallInteger)primitive.IntegerFrom(30)));
+      return (this);
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for LargeInteger. **/
+  public static final mClass $class = new mClass(LargeInteger.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  SmallInteger generality;
+
+  protected 
+  BigInteger primitiveValue;
+
+  /**
+  * @return 
+  */
+  protected   LargeInteger(final BigInteger primitiveInteger)
+  {	primitiveValue = primitiveInteger;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   LargeInteger(final long primitiveLong)
+  {	this( BigInteger.valueOf( primitiveLong ) );
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   LargeInteger()
+  {	this( 0L );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $plus(final LargeInteger aNumber)
+  {	return new LargeInteger(
+  			primitiveValue.add( aNumber.primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $times(final LargeInteger aNumber)
+  {	return new LargeInteger(
+  			primitiveValue.multiply( aNumber.primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $dividedBy(final LargeInteger aNumber)
+  {
+  		if (aNumber.primitiveValue.equals( BigInteger.valueOf( 0L ))) zeroDivide();
+  		return new LargeInteger(
+  			primitiveValue.divide( aNumber.primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Number aNumber) {
+    return ((Boolean.primitiveValue($send0.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$plus(LargeInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LargeInteger.this.$plus(aNumber.asLargeInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Number aNumber) {
+    return ((Boolean.primitiveValue($send1.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$times(LargeInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LargeInteger.this.$times(aNumber.asLargeInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Number aNumber) {
+    return ((Boolean.primitiveValue($send2.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send3.perform_with(LargeInteger.this.coerceTo(aNumber.$class()), aNumber);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LargeInteger.this.$dividedBy(aNumber.asLargeInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return byte
+  */
+  @Override
+  public  byte primitiveByte()
+  {	return (byte) primitiveValue.intValue();
+  	}
+
+
+  /**
+  * @return char
+  */
+  @Override
+  public  char primitiveCharacter()
+  {	return (char) primitiveValue.intValue();
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int primitiveInteger()
+  {	return primitiveValue.intValue();
+  	}
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public  long primitiveLong()
+  {	return primitiveValue.longValue();
+  	}
+
+
+  /**
+  * @return float
+  */
+  @Override
+  public  float primitiveFloat()
+  {	return primitiveValue.floatValue();
+  	}
+
+
+  /**
+  * @return double
+  */
+  @Override
+  public  double primitiveDouble()
+  {	return primitiveValue.doubleValue();
+  	}
+
+
+  /**
+  * @return BigInteger
+  */
+  public  BigInteger elementaryInteger()
+  {	return primitiveValue;
+  	}
+
+
+  /**
+  * @return BigInteger
+  */
+  @Override
+  public  BigInteger asBigInteger() {
+    return (this.elementaryInteger());
+  }
+
+
+  /**
+  * @return java.lang.Number
+  */
+  @Override
+  public  java.lang.Number elementaryNumber()
+  {	return elementaryInteger();
+  	}
+
+
+  /**
+  * @return LargeInteger
+  */
+  @Override
+  public  LargeInteger asLargeInteger() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object generality() {
+    return (generality);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object narrowGenerality()
+  {	int bits = primitiveValue.bitLength();
+  		if (bits < 32) return new SmallInteger( primitiveInteger() );
+  		if (bits < 64) return new LongInteger( primitiveLong() );
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $equal(final LargeInteger aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue.compareTo( aNumber.primitiveValue ) == 0
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $lessThan(final LargeInteger aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue.compareTo( aNumber.primitiveValue ) < 0
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Number aNumber) {
+    return ((Boolean.primitiveValue($send4.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$equal(LargeInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LargeInteger.this.$equal(aNumber.asLargeInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send5.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$moreThan(LargeInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LargeInteger.this.$lessThan(aNumber.asLargeInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send6.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$lessThan(LargeInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send7.perform_with(aNumber.asLargeInteger(), LargeInteger.this);
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return primitiveValue.hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated()
+  {	return new LargeInteger( primitiveValue.negate() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object gcd(final LargeInteger anInteger)
+  {	return new LargeInteger( primitiveValue.gcd( anInteger.primitiveValue ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object gcd(final Object anInteger) {
+    return (this.gcd(((Integer)anInteger).asLargeInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object raisedToInteger(final SmallInteger anInteger)
+  {	return new LargeInteger( primitiveValue.pow( anInteger.primitiveInteger() ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object raisedToInteger(final Object anInteger) {
+    return (this.raisedToInteger(((Integer)anInteger).asSmallInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitAnd(final LargeInteger anInteger)
+  {	return new LargeInteger(
+  			primitiveValue.and( anInteger.primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitOr(final LargeInteger anInteger)
+  {	return new LargeInteger(
+  			primitiveValue.or( anInteger.primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitXor(final LargeInteger anInteger)
+  {	return new LargeInteger(
+  			primitiveValue.xor( anInteger.primitiveValue )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAnd(final Integer anInteger) {
+    return (this.bitAnd(anInteger.asLargeInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitOr(final Integer anInteger) {
+    return (this.bitOr(anInteger.asLargeInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitXor(final Integer anInteger) {
+    return (this.bitXor(anInteger.asLargeInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitInvert()
+  {	return new LargeInteger( primitiveValue.not() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAt(final SmallInteger index)
+  {	return primitive.IntegerFrom(
+  			primitiveValue.testBit( index.primitiveInteger() ) ? 1 : 0
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAt_put(final SmallInteger index, final SmallInteger bitValue)
+  {	return new LargeInteger(
+  			bitValue.primitiveInteger() == 0 ?
+  				primitiveValue.clearBit( index.primitiveInteger() ) :
+  				primitiveValue.setBit( index.primitiveInteger() )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitShift(final SmallInteger count)
+  {	int shift = count.primitiveInteger();
+  		return new LargeInteger(
+  			shift < 0 ?
+  				primitiveValue.shiftRight( - shift ) :
+  				primitiveValue.shiftLeft( shift )
+  		);
+  	}
+}
\ No newline at end of file
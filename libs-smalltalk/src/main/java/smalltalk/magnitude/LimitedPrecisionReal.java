@@ -0,0 +1,106 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Metaclass for LimitedPrecisionReal. */
+public abstract  class LimitedPrecisionReal extends smalltalk.magnitude.Number 
+{
+  /** Metaclass for LimitedPrecisionReal. */
+  public static  class mClass extends Number.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object significance() {
+      return (((SmallInteger)primitive.IntegerFrom(0)));
+    }
+
+
+    /**
+    * @return double
+    */
+    public  double truncate(final double value)
+    {	return( value < 0.0d ?
+    				java.lang.Math.ceil( value ) :
+    				java.lang.Math.floor( value )
+    			);
+    		}
+  }
+
+  /** class instance for LimitedPrecisionReal. **/
+  public static final mClass $class = new mClass(LimitedPrecisionReal.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asFraction()
+  {	SmallInteger sig = (SmallInteger) Float.$class.significance();
+  		double limit = java.lang.Math.pow( 10.0d, sig.primitiveInteger() );
+  		double value = this.primitiveDouble();
+  		double n1 = this.$class.truncate( value );
+  		double n2 = 1.0d;
+  		double d1 = 1.0d;
+  		double d2 = 0.0d;
+  		double i  = n1;
+  		double x  = 0.0d;
+  		double f = value - n1;
+  		while( f != 0.0d ) {
+  			double dn = 1.0d / f;
+  			i = this.$class.truncate( dn );
+  			f = dn - i;
+  			x = n2;
+  			n2 = n1;
+  			n1 = ( n1 * i ) + x;
+  			x = d2;
+  			d2 = d1;
+  			d1 = ( d1 * i ) + x;
+  			if (limit < d1 ) {
+  				return( n2 == 0.0d ?
+  					Fraction.$class.numerator_denominator( 
+  						new SmallInteger( (int) n1 ), new SmallInteger( (int) d1 ) ) :
+  					Fraction.$class.numerator_denominator(
+  						new SmallInteger( (int) n2 ), new SmallInteger( (int) d2 ) )
+  				);
+  			}
+  		}
+  		return( d1 == 1.0d ? new SmallInteger( (int) n1 ) :
+  			Fraction.$class.numerator_denominator(
+  				new SmallInteger( (int) n1 ), new SmallInteger( (int) d1 ) )
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object ceiling()
+  {	return new SmallInteger( (int) 
+  			java.lang.Math.ceil( primitiveDouble() ) 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object floor()
+  {	return new SmallInteger( (int) 
+  			java.lang.Math.floor( primitiveDouble() ) 
+  		);
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,805 @@
+package smalltalk.magnitude;
+import java.math.BigInteger;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents a long integer value.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class LongInteger extends smalltalk.magnitude.Integer 
+{
+  /** Metaclass for LongInteger. */
+  public static  class mClass extends Integer.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object from(final long primitiveLong) {
+      return (new LongInteger(primitiveLong));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object coerce(final Number aNumber) {
+      return (this.from(aNumber.primitiveLong()));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object initialize() {
+      generality = ((SmallInteger)((SmallInteger)primitive.IntegerFrom(20)));
+      return (this);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object maximum()
+    {	return new LongInteger( java.lang.Long.MAX_VALUE );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object minimum()
+    {	return new LongInteger( java.lang.Long.MIN_VALUE );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object precision() {
+      return (((SmallInteger)primitive.IntegerFrom(64)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object radix() {
+      return (((SmallInteger)primitive.IntegerFrom(2)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("generality", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("bitAnd", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("asLongInteger", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("whileTrue", 1);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("unity", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector6);
+  /** class instance for LongInteger. **/
+  public static final mClass $class = new mClass(LongInteger.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  SmallInteger generality;
+
+  protected 
+  long primitiveValue;
+
+  /**
+  * @return 
+  */
+  protected   LongInteger(final long primitiveInteger)
+  {	primitiveValue = primitiveInteger;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   LongInteger()
+  {	primitiveValue = 0L;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $plus(final LongInteger aNumber)
+  {	try {
+  			return new LongInteger( Math.addExact( this.primitiveValue, aNumber.primitiveValue ) );
+  		} catch( ArithmeticException e ) {
+  			return new LargeInteger( BigInteger.valueOf( this.primitiveValue )
+  				.add( BigInteger.valueOf( aNumber.primitiveValue ) ) );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $minus(final LongInteger aNumber)
+  {	try {
+  			return new LongInteger( Math.subtractExact( this.primitiveValue, aNumber.primitiveValue ) );
+  		} catch( ArithmeticException e ) {
+  			return new LargeInteger( BigInteger.valueOf( this.primitiveValue )
+  				.subtract( BigInteger.valueOf( aNumber.primitiveValue ) ) );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $times(final LongInteger aNumber)
+  {	try {
+  			return new LongInteger( Math.multiplyExact( this.primitiveValue, aNumber.primitiveValue ) );
+  		} catch( ArithmeticException e ) {
+  			return new LargeInteger( BigInteger.valueOf( this.primitiveValue )
+  				.multiply( BigInteger.valueOf( aNumber.primitiveValue ) ) );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $dividedBy(final LongInteger aNumber)
+  {
+  		if (aNumber.primitiveValue == 0L) zeroDivide();
+  		return Fraction.$class.numerator_denominator( this, aNumber );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Number aNumber) {
+    return ((Boolean.primitiveValue($send0.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$plus(LongInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LongInteger.this.$plus(aNumber.asLongInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Number aNumber) {
+    return ((Boolean.primitiveValue($send1.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$times(LongInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LongInteger.this.$times(aNumber.asLongInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Number aNumber) {
+    return ((Boolean.primitiveValue($send2.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send3.perform_with(LongInteger.this.coerceTo(aNumber.$class()), aNumber);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LongInteger.this.$dividedBy(aNumber.asLongInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $idiv(final LongInteger aNumber)
+  {
+  		if (aNumber.primitiveValue == 0L) zeroDivide();
+  		return new LongInteger(
+  			this.primitiveValue / aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $imod(final LongInteger aNumber)
+  {
+  		if (aNumber.primitiveValue == 0L) zeroDivide();
+  		return new LongInteger(
+  			this.primitiveValue % aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $equal(final LongInteger aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue == aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $lessThan(final LongInteger aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue < aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $moreThan(final LongInteger aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue > aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Number aNumber) {
+    return ((Boolean.primitiveValue($send4.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$equal(LongInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LongInteger.this.$equal(aNumber.asLongInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send5.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$moreThan(LongInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LongInteger.this.$lessThan(aNumber.asLongInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send6.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$lessThan(LongInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send7.perform_with(aNumber.asLongInteger(), LongInteger.this);
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return byte
+  */
+  @Override
+  public  byte primitiveByte()
+  {	return (byte) primitiveValue;
+  	}
+
+
+  /**
+  * @return char
+  */
+  @Override
+  public  char primitiveCharacter()
+  {	return (char) primitiveValue;
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int primitiveInteger()
+  {	return (int) primitiveValue;
+  	}
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public  long primitiveLong()
+  {	return primitiveValue;
+  	}
+
+
+  /**
+  * @return float
+  */
+  @Override
+  public  float primitiveFloat()
+  {	return (float) primitiveValue;
+  	}
+
+
+  /**
+  * @return double
+  */
+  @Override
+  public  double primitiveDouble()
+  {	return (double) primitiveValue;
+  	}
+
+
+  /**
+  * @return java.lang.Long
+  */
+  public  java.lang.Long elementaryInteger()
+  {	return new java.lang.Long( primitiveValue );
+  	}
+
+
+  /**
+  * @return java.lang.Number
+  */
+  @Override
+  public  java.lang.Number elementaryNumber()
+  {	return elementaryInteger();
+  	}
+
+
+  /**
+  * @return LongInteger
+  */
+  @Override
+  public  LongInteger asLongInteger() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asString()
+  {	return primitive.StringFrom( 
+  			java.lang.Long.toString( primitiveValue ) 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object generality() {
+    return (generality);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAnd(final Integer anInteger) {
+     
+    Object aNumber = null;
+    return ((Boolean.primitiveValue($send9.perform_with(LongInteger.this.generality(), $send8.perform(aNumber))) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return $send10.perform_with(aNumber, LongInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LongInteger.this.bitAnd($send11.perform(aNumber));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitOr(final Integer anInteger) {
+    return ((Boolean.primitiveValue($send12.perform_with(this.generality(), anInteger.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return anInteger.bitOr(LongInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LongInteger.this.bitOr(anInteger.asLongInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitXor(final Integer anInteger) {
+    return ((Boolean.primitiveValue($send13.perform_with(this.generality(), anInteger.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return anInteger.bitXor(LongInteger.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return LongInteger.this.bitXor(anInteger.asLongInteger());
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitInvert()
+  {	return new LongInteger( ~primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitAnd(final LongInteger anInteger)
+  {	return new LongInteger( 
+  			primitiveLong() & anInteger.primitiveLong() 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitOr(final LongInteger anInteger)
+  {	return new LongInteger( 
+  			primitiveLong() | anInteger.primitiveLong() 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitXor(final LongInteger anInteger)
+  {	return new LongInteger( 
+  			primitiveLong() ^ anInteger.primitiveLong() 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAt(final SmallInteger index)
+  {	int x = index.primitiveInteger() - 1;
+  		if (x < 0 || x > 63) {
+  			throw new java.lang.IllegalArgumentException(
+  				"Bit index out of range, not 1 - 64"
+  			);
+  		}
+  		long n = 1L << x;
+  		return new SmallInteger( 
+  			(primitiveLong() & n) == 0 ? 0 : 1
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAt_put(final SmallInteger index, final SmallInteger bitValue)
+  {	int x = index.primitiveInteger() - 1;
+  		int v = bitValue.primitiveInteger();		
+  		if (x < 0 || x > 63) {
+  			throw new java.lang.IllegalArgumentException(
+  				"Bit index out of range, not 1 - 64"
+  			);
+  		}
+  		long n = 1L << x;
+  		if (v == 0) {
+  			return new LongInteger( primitiveLong() & ~n );
+  		}
+  		else
+  		if (v == 1) {
+  			return new LongInteger( primitiveLong() | n );
+  		}
+  		else {
+  			throw new java.lang.IllegalArgumentException(
+  				"Bit value must be 0 or 1"
+  			);
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitShift(final SmallInteger count)
+  {	int n = count.primitiveInteger();
+  		LongInteger result = new LongInteger( primitiveLong() );
+
+  		if (n < 0) {
+  			result.primitiveValue >>= -n;
+  		} else {
+  			result.primitiveValue <<= n;
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected final  Object $incremented(final long aNumber)
+  {	primitiveValue += aNumber;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected final  Object $decremented(final long aNumber)
+  {	primitiveValue -= aNumber;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected final  Object $magnified(final long aNumber)
+  {	primitiveValue *= aNumber;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  protected final  Object $divided(final long aNumber)
+  {	primitiveValue /= aNumber;
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $incremented(final Object aNumber) {
+    return (this.$incremented(((Number)aNumber).primitiveLong()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $decremented(final Object aNumber) {
+    return (this.$decremented(((Number)aNumber).primitiveLong()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $magnified(final Object aNumber) {
+    return (this.$magnified(((Number)aNumber).primitiveLong()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $divided(final Object aNumber) {
+    return (this.$divided(((Number)aNumber).primitiveLong()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated()
+  {	if (primitiveValue == java.lang.Long.MIN_VALUE) {
+  			return new LargeInteger( BigInteger.valueOf( primitiveValue ).negate() );
+  		}
+  		return new LongInteger( - primitiveValue );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object to_by_do(final Object aNumber, final Object delta, final OneArgumentBlock aBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            LongInteger.this.to_by_do(((LongInteger)aNumber), ((LongInteger)delta), aBlock));
+          }
+          catch (java.lang.ClassCastException e) {
+            return Object.primitive.literalNil();
+          }
+        }
+      }).value();
+      return (super.to_by_do(aNumber, delta, aBlock));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object to_by_do(final LongInteger aNumber, final LongInteger delta, final OneArgumentBlock aBlock) {
+    LongInteger[] index = { null };
+
+     
+    LongInteger zero;
+    index[0] = ((LongInteger)LongInteger.this.copy());
+    zero = ((LongInteger)((SmallInteger)primitive.IntegerFrom(0)).asLongInteger());
+    if (Boolean.primitiveValue(delta.$moreThan(zero))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send14.perform_with(new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              return index[0].$lessEqual(aNumber);
+            }
+          }, new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              aBlock.value(index[0]);
+              index[0].$incremented(delta);
+              return Object.primitive.literalNil();
+            }
+          });
+        }
+      }).value();
+    }
+    else {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send15.perform_with(new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              return aNumber.$lessEqual(index[0]);
+            }
+          }, new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              aBlock.value(index[0]);
+              index[0].$incremented(delta);
+              return Object.primitive.literalNil();
+            }
+          });
+        }
+      }).value();
+    }
+    return (LongInteger.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object timesRepeat(final ZeroArgumentBlock aBlock) {
+    LongInteger[] count = { null };
+
+    LongInteger[] unity = { null };
+    count[0] = ((LongInteger)$send16.perform(LongInteger.this.$class()));
+    unity[0] = ((LongInteger)$send17.perform(LongInteger.this.$class()));
+    while(Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return count[0].$lessEqual(LongInteger.this);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          aBlock.value();
+          return count[0].$incremented(unity[0]);
+        }
+      }).value()).value();
+    }
+    return (LongInteger.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+    return (primitive.StringFrom(java.lang.Long.toString(this.primitiveLong())));
+  }
+}
\ No newline at end of file
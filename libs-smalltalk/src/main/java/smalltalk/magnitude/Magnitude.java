@@ -0,0 +1,126 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Metaclass for Magnitude. */
+public abstract  class Magnitude extends smalltalk.behavior.Object 
+  implements Comparison
+{
+  /** Metaclass for Magnitude. */
+  public static  class mClass extends Object.mClass 
+    implements Comparison.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("not", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$lessEqual", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector2);
+  /** class instance for Magnitude. **/
+  public static final mClass $class = new mClass(Magnitude.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessEqual(final Object aMagnitude) {
+    return ($send0.perform(((Magnitude)aMagnitude).$lessThan(this)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Object aMagnitude) {
+    return (((Magnitude)aMagnitude).$lessThan(this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreEqual(final Object aMagnitude) {
+    return ($send1.perform(this.$lessThan(aMagnitude)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object between_and(final Object minimum, final Object maximum) {
+    return ($send3.perform_with($send2.perform_with(minimum, this), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Magnitude.this.$lessEqual(maximum);
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object inside_and(final Object minimum, final Object maximum) {
+    return ($send5.perform_with($send4.perform_with(minimum, this), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Magnitude.this.$lessThan(maximum);
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object max(final Object aMagnitude) {
+    return ((Boolean.primitiveValue(this.$moreThan(aMagnitude)) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Magnitude.this;
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aMagnitude;
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object min(final Object aMagnitude) {
+    return ((Boolean.primitiveValue(this.$lessThan(aMagnitude)) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Magnitude.this;
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aMagnitude;
+      }
+    }).value()));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,743 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Metaclass for Number. */
+public abstract  class Number extends smalltalk.magnitude.Magnitude 
+  implements Arithmetic
+{
+  /** Metaclass for Number. */
+  public static  class mClass extends Magnitude.mClass 
+    implements Arithmetic.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object coerce(final Number aNumber) {
+      return (this.error(primitive.StringFrom("Concrete derived metaclasses must override this method.")));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object coerce(final Object aNumber) {
+      return (this.coerce(((Number)aNumber)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object zero() {
+      return (this.coerce(((SmallInteger)primitive.IntegerFrom(0))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object unity() {
+      return (this.coerce(((SmallInteger)primitive.IntegerFrom(1))));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("withScale", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("negated", 0);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("floor", 0);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("resolvedToClass", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("x_y", 2);
+  private static final int $selector6 = smalltalk.behavior.SelectorTable.idOf("zero", 0);
+  private static final int $selector7 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+  private static final int $selector8 = smalltalk.behavior.SelectorTable.idOf("unity", 0);
+  private static final int $selector9 = smalltalk.behavior.SelectorTable.idOf("$dividedBy", 1);
+  private static final int $selector10 = smalltalk.behavior.SelectorTable.idOf("truncated", 0);
+  private static final int $selector11 = smalltalk.behavior.SelectorTable.idOf("rounded", 0);
+  private static final int $selector12 = smalltalk.behavior.SelectorTable.idOf("from_to", 2);
+  private static final int $selector13 = smalltalk.behavior.SelectorTable.idOf("from_to_by", 3);
+  private static final int $selector14 = smalltalk.behavior.SelectorTable.idOf("$moreThan", 1);
+  private static final int $selector15 = smalltalk.behavior.SelectorTable.idOf("whileTrue", 1);
+  private static final int $selector16 = smalltalk.behavior.SelectorTable.idOf("$lessEqual", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector5);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector7);
+  private static final smalltalk.behavior.SendSite $send10 = new smalltalk.behavior.SendSite($selector8);
+  private static final smalltalk.behavior.SendSite $send11 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send12 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send13 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send14 = new smalltalk.behavior.SendSite($selector9);
+  private static final smalltalk.behavior.SendSite $send15 = new smalltalk.behavior.SendSite($selector10);
+  private static final smalltalk.behavior.SendSite $send16 = new smalltalk.behavior.SendSite($selector11);
+  private static final smalltalk.behavior.SendSite $send17 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send18 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send19 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send20 = new smalltalk.behavior.SendSite($selector6);
+  private static final smalltalk.behavior.SendSite $send21 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send22 = new smalltalk.behavior.SendSite($selector12);
+  private static final smalltalk.behavior.SendSite $send23 = new smalltalk.behavior.SendSite($selector13);
+  private static final smalltalk.behavior.SendSite $send24 = new smalltalk.behavior.SendSite($selector14);
+  private static final smalltalk.behavior.SendSite $send25 = new smalltalk.behavior.SendSite($selector15);
+  private static final smalltalk.behavior.SendSite $send26 = new smalltalk.behavior.SendSite($selector16);
+  private static final smalltalk.behavior.SendSite $send27 = new smalltalk.behavior.SendSite($selector15);
+  /** class instance for Number. **/
+  public static final mClass $class = new mClass(Number.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  public abstract  Object $equal(final Number aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object $lessThan(final Number aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public  Object $moreThan(final Number aNumber) {
+    return (aNumber.$lessThan(this));
+  }
+
+
+  /**
+  * @return byte
+  */
+  public abstract  byte primitiveByte();
+
+
+  /**
+  * @return char
+  */
+  public abstract  char primitiveCharacter();
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public abstract  int primitiveInteger();
+
+
+  /**
+  * @return short
+  */
+  public  short primitiveShort() {
+    return (((short)this.primitiveInteger()));
+  }
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public abstract  long primitiveLong();
+
+
+  /**
+  * @return float
+  */
+  public abstract  float primitiveFloat();
+
+
+  /**
+  * @return double
+  */
+  public abstract  double primitiveDouble();
+
+
+  /**
+  * @return java.lang.Number
+  */
+  public abstract  java.lang.Number elementaryNumber();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object asFraction();
+
+
+  /**
+  * @return LargeInteger
+  */
+  public  LargeInteger asLargeInteger() {
+    return (((LargeInteger)LargeInteger.$class.coerce(this)));
+  }
+
+
+  /**
+  * @return LongInteger
+  */
+  public  LongInteger asLongInteger() {
+    return (((LongInteger)LongInteger.$class.coerce(this)));
+  }
+
+
+  /**
+  * @return SmallInteger
+  */
+  public  SmallInteger asSmallInteger() {
+    return (((SmallInteger)SmallInteger.$class.coerce(this)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asRational() {
+    return (this.asFraction());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asFloat() {
+    return (primitive.FloatFrom(this.primitiveFloat()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asFloatE() {
+    return (primitive.FloatFrom(this.primitiveFloat()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asFloatD() {
+    return (primitive.DoubleFrom(this.primitiveDouble()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asInteger() {
+    return (primitive.IntegerFrom(this.primitiveInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asPoint() {
+    return (this.$at(this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asScaledDecimal(final Object scale) {
+    return ($send0.perform_with(this.asFraction(), scale));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asFixedPoint(final Object scale) {
+    return ($send1.perform_with(this.asFraction(), scale));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object coerceTo(final Object numberClass)
+  {	return ((Number.mClass)numberClass).coerce( this );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object generality();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object $plus(final Number aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object $times(final Number aNumber);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object $dividedBy(final Number aNumber);
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $minus(final Object aNumber) {
+    return (this.$plus($send2.perform(aNumber)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $idiv(final Object aNumber) {
+    return ($send3.perform(this.$dividedBy(aNumber)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $imod(final Object aNumber) {
+    return (this.$minus($send4.perform_with(this.$idiv(aNumber), aNumber)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $modulus(final Object aNumber) {
+    return (this.$imod(aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object zeroDivide() {
+    ZeroDivide.$class.dividend(this);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $at(final Object aNumber) {
+    return ($send6.perform_with_with($send5.perform(primitive.StringFrom("smalltalk.geometry.Point")), this, aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $raised(final Object aNumber) {
+    return (this.raisedTo(aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object abs() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.$lessThan($send7.perform(this.$class())))) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Number.this.negated());
+          }
+        }).value();
+      }
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object fractionPart() {
+    return (this.$minus(this.truncated()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object integerPart() {
+    return (this.truncated());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated() {
+    return ($send9.perform_with($send8.perform(this.$class()), this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reciprocal() {
+    return ($send11.perform_with($send10.perform(this.$class()), this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object quo(final Object aNumber) {
+    return ($send12.perform(this.$dividedBy(aNumber)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object rem(final Object aNumber) {
+    return (this.$minus(this.truncatedTo(aNumber)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object raisedTo(final Object aNumber) {
+    return (this.raisedTo(((Number)aNumber).primitiveDouble()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object raisedTo(final double power) {
+    return (((Double)((Double)this.asFloatD()).raisedTo(power)).narrowGenerality());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object raisedToInteger(final Object anInteger) {
+    return (this.raisedTo(((Number)anInteger).primitiveDouble()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object sign() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.strictlyPositive())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ((SmallInteger)primitive.IntegerFrom(1)));
+          }
+        }).value();
+      }
+      if (Boolean.primitiveValue(this.negative())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            ((SmallInteger)primitive.IntegerFrom(-1)));
+          }
+        }).value();
+      }
+      return (((SmallInteger)primitive.IntegerFrom(0)));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object sqrt()
+  {	double rootD = java.lang.Math.sqrt( primitiveDouble() );
+  		long rootL = (long) rootD;
+  		if (((double) rootL) == rootD) {
+  			int rootI = (int) rootL;
+  			if (((long) rootI) == rootL) {
+  				return new SmallInteger( rootI );
+  			} else {
+  				return new LongInteger( rootL );
+  			}
+  		} else {
+  			float rootF = (float) rootD;
+  			if (((double) rootF) == rootD) {
+  				return new smalltalk.magnitude.Float( rootF );
+  			} else {
+  				return new smalltalk.magnitude.Double( rootD );
+  			}
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object squared() {
+    return (this.$times(this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object ceiling();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object floor();
+
+
+  /**
+  * @return Object
+  */
+  public  Object truncated() {
+    return ((Boolean.primitiveValue(this.$lessThan(((SmallInteger)primitive.IntegerFrom(0)))) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Number.this.ceiling();
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Number.this.floor();
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object truncatedTo(final Object aNumber) {
+    return ($send13.perform_with(this.quo(aNumber), aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object rounded() {
+    return ($send15.perform(this.$plus($send14.perform_with(this.sign(), ((SmallInteger)primitive.IntegerFrom(2))))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object roundTo(final Object aNumber) {
+    return ($send17.perform_with($send16.perform(this.$dividedBy(aNumber)), aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negative() {
+    return (this.$lessThan($send18.perform(this.$class())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object positive() {
+    return (this.$moreEqual($send19.perform(this.$class())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object strictlyPositive() {
+    return (this.$moreThan($send20.perform(this.$class())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object intervalClass() {
+    return ($send21.perform(primitive.StringFrom("smalltalk.collection.Interval")));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object to(final Object aNumber) {
+    return ($send22.perform_with_with(this.intervalClass(), this, aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object to_by(final Object aNumber, final Object delta) {
+    return ($send23.perform_with_with_with(this.intervalClass(), this, aNumber, delta));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object to_by_do(final Object aNumber, final Object delta, final OneArgumentBlock aBlock) {
+    Number[] index = { null };
+    index[0] = ((Number)Number.this);
+    if (Boolean.primitiveValue($send24.perform_with(delta, ((SmallInteger)primitive.IntegerFrom(0))))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send25.perform_with(new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              return index[0].$lessEqual(aNumber);
+            }
+          }, new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              aBlock.value(index[0]);
+              return index[0] = ((Number)index[0].$plus(delta));
+            }
+          });
+        }
+      }).value();
+    }
+    else {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send27.perform_with(new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              return $send26.perform_with(aNumber, index[0]);
+            }
+          }, new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              aBlock.value(index[0]);
+              return index[0] = ((Number)index[0].$plus(delta));
+            }
+          });
+        }
+      }).value();
+    }
+    return (Number.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object to_do(final Object aNumber, final OneArgumentBlock aBlock) {
+    this.to_by_do(aNumber, ((SmallInteger)primitive.IntegerFrom(1)), aBlock);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aNumber) {
+    return this.$equal(((Number)aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Object aNumber) {
+    return this.$lessThan(((Number)aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Object aNumber) {
+    return this.$moreThan(((Number)aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Object aNumber) {
+    return this.$plus(((Number)aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Object aNumber) {
+    return this.$times(((Number)aNumber));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Object aNumber) {
+    return this.$dividedBy(((Number)aNumber));
+  }
+}
\ No newline at end of file
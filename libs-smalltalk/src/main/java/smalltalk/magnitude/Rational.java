@@ -0,0 +1,158 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Metaclass for Rational. */
+public abstract  class Rational extends smalltalk.magnitude.Number 
+{
+  /** Metaclass for Rational. */
+  public static  class mClass extends Number.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$times", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("$lessThan", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("$moreThan", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send8 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send9 = new smalltalk.behavior.SendSite($selector2);
+  /** class instance for Rational. **/
+  public static final mClass $class = new mClass(Rational.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  public abstract  Object numerator();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object denominator();
+
+
+  /**
+  * @return Object
+  */
+  public  Object $equal(final Rational aNumber) {
+    return ($send0.perform_with(this.numerator().$equal(aNumber.numerator()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Rational.this.denominator().$equal(aNumber.denominator());
+      }
+    }));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $lessThan(final Rational aNumber) {
+    return ($send3.perform_with($send1.perform_with(this.numerator(), aNumber.denominator()), $send2.perform_with(this.denominator(), aNumber.numerator())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object $moreThan(final Rational aNumber) {
+    return ($send6.perform_with($send4.perform_with(this.numerator(), aNumber.denominator()), $send5.perform_with(this.denominator(), aNumber.numerator())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Number aNumber) {
+    return ((Boolean.primitiveValue($send7.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$equal(Rational.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Rational.this.$equal(((Rational)aNumber.asRational()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send8.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$moreThan(Rational.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Rational.this.$lessThan(((Rational)aNumber.asRational()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Number aNumber) {
+    return ((Boolean.primitiveValue($send9.perform_with(this.generality(), aNumber.generality())) ? (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return aNumber.$lessThan(Rational.this);
+      }
+    }).value() : (new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return Rational.this.$moreThan(((Rational)aNumber.asRational()));
+      }
+    }).value()));
+  }
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return(
+  			((SmallInteger) numerator()).primitiveInteger() ^ 
+  			((SmallInteger) denominator()).primitiveInteger()
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object asRational() {
+    return (this);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,892 @@
+package smalltalk.magnitude;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents an integer value, especially for a literal integer. Manages
+flyweight instances of 16 bits precision or whatever maximum is specified 
+by the system property named smalltalk.flyweight.integers. The flyweights
+get created on demand, rather than all at once during startup.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class SmallInteger extends smalltalk.magnitude.Integer 
+  implements IntegerFactory
+{
+  /** Metaclass for SmallInteger. */
+  public static  class mClass extends Integer.mClass 
+    implements IntegerFactory.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+    private static 
+    int DefaultExtremum = 32767;
+
+    private static 
+    int FlyweightExtremum = 0;
+
+    private 
+    AtomicReferenceArray positiveInteger;
+
+    private 
+    AtomicReferenceArray negativeInteger;
+
+    private 
+    LongAdder missCount;
+
+    private 
+    LongAdder fillCount;
+
+    private 
+    AtomicLongArray missLengths;
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object IntegerFrom(final int primitiveInteger) {
+      return (this.fromPrimitive(primitiveInteger));
+    }
+
+
+    /**
+    * @return int
+    */
+    @Override
+    public  int intFrom(final Object anObject)
+    {	SmallInteger anInteger = (SmallInteger) anObject;
+    			return anInteger.primitiveInteger();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object coerce(final Number aNumber) {
+      return (primitive.IntegerFrom(aNumber.primitiveInteger()));
+    }
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object initialize()
+    {
+    			FlyweightExtremum = DefaultExtremum;
+    			java.lang.String flymax = System.getProperty( "smalltalk.flyweight.integers" );
+    			if (flymax != null) {
+    				try {
+    					int maxspec = java.lang.Integer.parseInt( flymax.trim() );
+    					if (maxspec >= 0) FlyweightExtremum = maxspec;
+    				} catch( NumberFormatException e ) {
+    					// keep the default extremum
+    				}
+    			}
+    			positiveInteger = new AtomicReferenceArray( FlyweightExtremum );
+    			negativeInteger = new AtomicReferenceArray( FlyweightExtremum );
+    			missCount = new LongAdder();
+    			fillCount = new LongAdder();
+    			if (java.lang.Boolean.getBoolean( "smalltalk.flyweight.metrics" )) {
+    				missLengths = new AtomicLongArray( 33 );
+    				Runtime.getRuntime().addShutdownHook( new Thread( () ->
+    					System.err.println( flyweightReport() )
+    				) );
+    			}
+    			// this method MUST be primitive to prevent a runtime recursion error!
+    			generality = (SmallInteger) fromPrimitive( 10 );
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object fromPrimitive(final int primitiveInteger)
+    {
+    			if (primitiveInteger >= 0) {
+    				if (primitiveInteger < FlyweightExtremum) {
+    					return flyweightAt( positiveInteger, primitiveInteger, primitiveInteger );
+    				}
+    			} else if (primitiveInteger > -FlyweightExtremum) {
+    				return flyweightAt( negativeInteger, -primitiveInteger, primitiveInteger );
+    			}
+    			missCount.increment();
+    			if (missLengths != null) {
+    				missLengths.incrementAndGet( 32 - java.lang.Integer.numberOfLeadingZeros(
+    					primitiveInteger < 0 ? ~primitiveInteger : primitiveInteger ) );
+    			}
+    			return new SmallInteger( primitiveInteger );
+    		}
+
+
+    /**
+    * @return SmallInteger
+    */
+    private  SmallInteger flyweightAt(final AtomicReferenceArray flyweights, final int index, final int primitiveInteger)
+    {
+    			SmallInteger result = (SmallInteger) flyweights.get( index );
+    			if (result != null) return result;
+    			result = new SmallInteger( primitiveInteger );
+    			if (flyweights.compareAndSet( index, null, result )) {
+    				fillCount.increment();
+    				return result;
+    			}
+    			return (SmallInteger) flyweights.get( index );
+    		}
+
+
+    /**
+    * @return int
+    */
+    public  int flyweightExtremum()
+    {
+    			return FlyweightExtremum;
+    		}
+
+
+    /**
+    * @return long
+    */
+    public  long flyweightMisses()
+    {
+    			return missCount.sum();
+    		}
+
+
+    /**
+    * @return long
+    */
+    public  long flyweightFills()
+    {
+    			return fillCount.sum();
+    		}
+
+
+    /**
+    * @return java.lang.String
+    */
+    public  java.lang.String flyweightReport()
+    {
+    			StringBuilder buffer = new StringBuilder( "SmallInteger flyweights: extremum = " );
+    			buffer.append( FlyweightExtremum );
+    			buffer.append( ", filled = " ).append( fillCount.sum() );
+    			buffer.append( ", missed = " ).append( missCount.sum() );
+    			if (missLengths == null) return buffer.toString();
+    			for( int bits = 0; bits < missLengths.length(); bits++ ) {
+    				long count = missLengths.get( bits );
+    				if (count > 0) {
+    					buffer.append( System.lineSeparator() );
+    					buffer.append( "  missed below 2^" ).append( bits ).append( " = " ).append( count );
+    				}
+    			}
+    			return buffer.toString();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object maximum()
+    {	return primitive.IntegerFrom( java.lang.Integer.MAX_VALUE );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object minimum()
+    {	return primitive.IntegerFrom( java.lang.Integer.MIN_VALUE );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object precision() {
+      return (((SmallInteger)primitive.IntegerFrom(32)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object radix() {
+      return (((SmallInteger)primitive.IntegerFrom(2)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("whileTrue", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for SmallInteger. **/
+  public static final mClass $class = new mClass(SmallInteger.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  SmallInteger generality;
+
+  protected 
+  int primitiveValue;
+
+  /**
+  * @return 
+  */
+  protected   SmallInteger(final int primitiveInteger)
+  {	primitiveValue = primitiveInteger;
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   SmallInteger()
+  {	primitiveValue = 0;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object integerFrom(final long primitiveLong)
+  {
+  		int result = (int) primitiveLong;
+  		if (result == primitiveLong) return primitive.IntegerFrom( result );
+  		return new LongInteger( primitiveLong );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object sum(final int a, final int b)
+  {
+  		return integerFrom( (long) a + b );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object difference(final int a, final int b)
+  {
+  		return integerFrom( (long) a - b );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public static  Object product(final int a, final int b)
+  {
+  		return integerFrom( (long) a * b );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $plus(final SmallInteger aNumber)
+  {
+  		return sum( primitiveValue, aNumber.primitiveValue );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $minus(final SmallInteger aNumber)
+  {
+  		return difference( primitiveValue, aNumber.primitiveValue );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $times(final SmallInteger aNumber)
+  {
+  		return product( primitiveValue, aNumber.primitiveValue );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $dividedBy(final SmallInteger aNumber)
+  {
+  		if (aNumber.primitiveValue == 0) zeroDivide();
+  		return Fraction.$class.numerator_denominator( this, aNumber );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $plus(final Number aNumber)
+  {
+  		try {
+  			return this.$plus( (SmallInteger) aNumber );
+  		} catch( ClassCastException e ) {
+  			return aNumber.$plus( this );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $times(final Number aNumber)
+  {
+  		try {
+  			return this.$times( (SmallInteger) aNumber );
+  		} catch( ClassCastException e ) {
+  			return aNumber.$times( this );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $dividedBy(final Number aNumber)
+  {
+  		try {
+  			return this.$dividedBy( (SmallInteger) aNumber );
+  		} catch( ClassCastException e ) {
+  			return this.coerceTo( aNumber.$class() ).perform_with( "/", aNumber );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $idiv(final SmallInteger aNumber)
+  {
+  		if (aNumber.primitiveValue == 0) zeroDivide();
+  		return integerFrom( (long) this.primitiveValue / aNumber.primitiveValue );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $imod(final SmallInteger aNumber)
+  {
+  		if (aNumber.primitiveValue == 0) zeroDivide();
+  		return primitive.IntegerFrom(
+  			this.primitiveValue % aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $equal(final SmallInteger aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue == aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $lessThan(final SmallInteger aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue < aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public final  Object $moreThan(final SmallInteger aNumber)
+  {	return primitive.BooleanFrom(
+  			this.primitiveValue > aNumber.primitiveValue
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Number aNumber)
+  {
+  		try {
+  			return this.$equal( (SmallInteger) aNumber );
+  		} catch( ClassCastException e ) {
+  			return aNumber.$equal( this );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Number aNumber)
+  {
+  		try {
+  			return this.$lessThan( (SmallInteger) aNumber );
+  		} catch( ClassCastException e ) {
+  			return aNumber.$moreThan( this );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Number aNumber)
+  {
+  		try {
+  			return this.$moreThan( (SmallInteger) aNumber );
+  		} catch( ClassCastException e ) {
+  			return aNumber.$lessThan( this );
+  		}
+  	}
+
+
+  /**
+  * @return byte
+  */
+  @Override
+  public  byte primitiveByte()
+  {	return (byte) primitiveValue;
+  	}
+
+
+  /**
+  * @return char
+  */
+  @Override
+  public  char primitiveCharacter()
+  {	return (char) primitiveValue;
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int primitiveInteger()
+  {	return primitiveValue;
+  	}
+
+
+  /**
+  * @return long
+  */
+  @Override
+  public  long primitiveLong()
+  {	return (long) primitiveValue;
+  	}
+
+
+  /**
+  * @return float
+  */
+  @Override
+  public  float primitiveFloat()
+  {	return (float) primitiveValue;
+  	}
+
+
+  /**
+  * @return double
+  */
+  @Override
+  public  double primitiveDouble()
+  {	return (double) primitiveValue;
+  	}
+
+
+  /**
+  * @return java.lang.Integer
+  */
+  public  java.lang.Integer elementaryInteger()
+  {	return new java.lang.Integer( primitiveValue );
+  	}
+
+
+  /**
+  * @return java.lang.Number
+  */
+  @Override
+  public  java.lang.Number elementaryNumber()
+  {	return this.elementaryInteger();
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int asPrimitive() {
+    return (this.primitiveInteger());
+  }
+
+
+  /**
+  * @return SmallInteger
+  */
+  @Override
+  public  SmallInteger asSmallInteger() {
+    return (this);
+  }
+
+
+  /**
+  * @return FastInteger
+  */
+  public  FastInteger asFastInteger() {
+    return (FastInteger.$class.fromInteger(this));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object asString() {
+    return (this.printString());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object generality() {
+    return (generality);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object deepCopy() {
+    return (this.shallowCopy());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object shallowCopy() {
+    return (primitive.IntegerFrom(this.primitiveInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object unmodifiableInteger() {
+    this.error(primitive.StringFrom("Attempt to change an unmodifiable SmallInteger instance"));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAnd(final Integer anInteger)
+  {
+  		try {
+  			return this.bitAnd( (SmallInteger) anInteger );
+  		} catch( ClassCastException e ) {
+  			return anInteger.bitAnd( this );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitOr(final Integer anInteger)
+  {
+  		try {
+  			return this.bitOr( (SmallInteger) anInteger );
+  		} catch( ClassCastException e ) {
+  			return anInteger.bitOr( this );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitXor(final Integer anInteger)
+  {
+  		try {
+  			return this.bitXor( (SmallInteger) anInteger );
+  		} catch( ClassCastException e ) {
+  			return anInteger.bitXor( this );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitInvert()
+  {	return primitive.IntegerFrom( ~primitiveInteger() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitAnd(final SmallInteger anInteger)
+  {	return primitive.IntegerFrom( 
+  			primitiveInteger() & anInteger.primitiveInteger() 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitOr(final SmallInteger anInteger)
+  {	return primitive.IntegerFrom( 
+  			primitiveInteger() | anInteger.primitiveInteger() 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object bitXor(final SmallInteger anInteger)
+  {	return primitive.IntegerFrom( 
+  			primitiveInteger() ^ anInteger.primitiveInteger() 
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAt(final SmallInteger index)
+  {	int x = index.primitiveInteger() - 1;
+  		if (x < 0 || x > 31) {
+  			throw new java.lang.IllegalArgumentException(
+  				"Bit index out of range, not 1 - 32"
+  			);
+  		}
+  		x = 1 << x;
+  		return primitive.IntegerFrom( 
+  			(primitiveInteger() & x) == 0 ? 0 : 1
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitAt_put(final SmallInteger index, final SmallInteger bitValue)
+  {	int x = index.primitiveInteger() - 1;
+  		int v = bitValue.primitiveInteger();		
+  		if (x < 0 || x > 31) {
+  			throw new java.lang.IllegalArgumentException(
+  				"Bit index out of range, not 1 - 32"
+  			);
+  		}
+  		x = 1 << x;
+  		if (v == 0) {
+  			return primitive.IntegerFrom(
+  				primitiveInteger() & ~x
+  			);
+  		}
+  		else
+  		if (v == 1) {
+  			return primitive.IntegerFrom(
+  				primitiveInteger() | x
+  			);
+  		}
+  		else {
+  			throw new java.lang.IllegalArgumentException(
+  				"Bit value must be 0 or 1"
+  			);
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object bitShift(final SmallInteger count)
+  {	int n = count.primitiveInteger();
+  		SmallInteger result = (SmallInteger) 
+  			primitive.IntegerFrom( primitiveInteger() );
+
+  		if (n < 0) {
+  			result.primitiveValue >>= -n;
+  		} else {
+  			result.primitiveValue <<= n;
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isLiteral() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isSmallInteger() {
+    return (Object.primitive.literalTrue());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object negated()
+  {	return integerFrom( - (long) primitiveValue );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object timesRepeat(final ZeroArgumentBlock aBlock) {
+    FastInteger[] count = { null };
+    count[0] = ((FastInteger)((SmallInteger)primitive.IntegerFrom(1)).asFastInteger());
+    while(Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return count[0].$lessEqual(SmallInteger.this);
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          aBlock.value();
+          count[0].$incremented(1);
+          return Object.primitive.literalNil();
+        }
+      }).value()).value();
+    }
+    return (SmallInteger.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object to_by_do(final Object aNumber, final Object delta, final OneArgumentBlock aBlock) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            SmallInteger.this.to_by_do(((SmallInteger)aNumber), ((SmallInteger)delta), aBlock));
+          }
+          catch (java.lang.ClassCastException e) {
+            return Object.primitive.literalNil();
+          }
+        }
+      }).value();
+      return (super.to_by_do(aNumber, delta, aBlock));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object to_by_do(final SmallInteger aNumber, final SmallInteger delta, final OneArgumentBlock aBlock) {
+    FastInteger[] index = { null };
+    index[0] = ((FastInteger)SmallInteger.this.asFastInteger());
+    if (Boolean.primitiveValue(delta.$moreThan(((SmallInteger)primitive.IntegerFrom(0))))) {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send0.perform_with(new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              return index[0].$lessEqual(aNumber);
+            }
+          }, new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              aBlock.value(index[0]);
+              index[0].$incremented(delta);
+              return Object.primitive.literalNil();
+            }
+          });
+        }
+      }).value();
+    }
+    else {
+      (new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return $send1.perform_with(new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              return aNumber.$lessEqual(index[0]);
+            }
+          }, new ZeroArgumentBlock()
+          {
+            @Override public Object value()  {
+              aBlock.value(index[0]);
+              index[0].$incremented(delta);
+              return Object.primitive.literalNil();
+            }
+          });
+        }
+      }).value();
+    }
+    return (SmallInteger.this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString() {
+    return (primitive.StringFrom(java.lang.Integer.toString(this.primitiveInteger())));
+  }
+}
\ No newline at end of file
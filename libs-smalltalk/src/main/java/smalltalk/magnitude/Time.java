@@ -0,0 +1,602 @@
+package smalltalk.magnitude;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.Date;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents a moment in time with millisecond resolution.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Time extends smalltalk.magnitude.Magnitude 
+{
+  /** Metaclass for Time. */
+  public static  class mClass extends Magnitude.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object millisecondsToRun(final Object aBlock) {
+       
+      ZeroArgumentBlock block;
+      block = ((ZeroArgumentBlock)aBlock);
+      return (Time.mClass.this.millisecondsToRun(block));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object millisecondsToRun(final ZeroArgumentBlock aBlock)
+    {	long before = java.lang.System.currentTimeMillis();
+    			aBlock.value();
+    			long after =  java.lang.System.currentTimeMillis();
+    			return LongInteger.$class.from( after - before );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object millisecondsAfter_timesRepeating(final Object count, final Object aBlock) {
+      SmallInteger[] n = { null };
+
+      ZeroArgumentBlock[] block = { null };
+      n[0] = ((SmallInteger)count);
+      block[0] = ((ZeroArgumentBlock)aBlock);
+      return (Time.mClass.this.millisecondsToRun(new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return n[0].timesRepeat(block[0]);
+        }
+      }));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object clockPrecision()
+    {	long a = java.lang.System.currentTimeMillis();
+    			long b = java.lang.System.currentTimeMillis();
+    			long c = b - a;
+    			return new Duration( c > 0 ? c : 1 );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object year_month_day_hour_minute_second(final Object year, final Object month, final Object dayOfMonth, final Object hour, final Object minute, final Object second)
+    {	IntegerArithmetic y = (IntegerArithmetic) year;
+    			IntegerArithmetic n = (IntegerArithmetic) month;
+    			IntegerArithmetic d = (IntegerArithmetic) dayOfMonth;
+    			IntegerArithmetic h = (IntegerArithmetic) hour;
+    			IntegerArithmetic m = (IntegerArithmetic) minute;
+    			IntegerArithmetic s = (IntegerArithmetic) second;
+    	
+    			Time result = (Time) this.now();
+    			result.moment.set( Calendar.YEAR, y.primitiveInteger() );
+    			result.moment.set( Calendar.MONTH, n.primitiveInteger() );
+    			result.moment.set( Calendar.DAY_OF_MONTH, d.primitiveInteger() );
+    			result.moment.set( Calendar.HOUR, h.primitiveInteger() );
+    			result.moment.set( Calendar.MINUTE, m.primitiveInteger() );
+    			result.moment.set( Calendar.SECOND, s.primitiveInteger() );
+    			return result;
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object year_month_day_hour_minute_second_offset(final Object year, final Object month, final Object dayOfMonth, final Object hour, final Object minute, final Object second, final Object offset)
+    {	Time result = (Time) year_month_day_hour_minute_second(
+    				year, month, dayOfMonth, hour, minute, second
+    			);
+    			IntegerArithmetic o = (IntegerArithmetic) offset;
+    			result.moment.set( Calendar.ZONE_OFFSET, o.primitiveInteger() );
+    			return result;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object year_day_hour_minute_second(final Object year, final Object dayOfYear, final Object hour, final Object minute, final Object second)
+    {	IntegerArithmetic y = (IntegerArithmetic) year;
+    			IntegerArithmetic d = (IntegerArithmetic) dayOfYear;
+    			IntegerArithmetic h = (IntegerArithmetic) hour;
+    			IntegerArithmetic m = (IntegerArithmetic) minute;
+    			IntegerArithmetic s = (IntegerArithmetic) second;
+    	
+    			Time result = (Time) this.now();
+    			result.moment.set( Calendar.YEAR, y.primitiveInteger() );
+    			result.moment.set( Calendar.DAY_OF_YEAR, d.primitiveInteger() );
+    			result.moment.set( Calendar.HOUR, h.primitiveInteger() );
+    			result.moment.set( Calendar.MINUTE, m.primitiveInteger() );
+    			result.moment.set( Calendar.SECOND, s.primitiveInteger() );
+    			return result;
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object year_day_hour_minute_second_offset(final Object year, final Object dayOfYear, final Object hour, final Object minute, final Object second, final Object offset)
+    {	Time result = (Time) year_day_hour_minute_second(
+    				year, dayOfYear, hour, minute, second
+    			);
+    			IntegerArithmetic o = (IntegerArithmetic) offset;
+    			result.moment.set( Calendar.ZONE_OFFSET, o.primitiveInteger() );
+    			return result;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object now()
+    {	return new Time();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize()
+    {	java.lang.String dayNames[] = {
+    				"Sunday", "Monday", "Tuesday", "Wednesday", 
+    				"Thursday", "Friday", "Saturday"
+    			};
+    			java.lang.String dayAbbreviations[] = {
+    				"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"
+    			};
+    			java.lang.String monthNames[] = {
+    				"January", "February", "March", "April", 
+    				"May", "June", "July", "August", "September", 
+    				"October", "November", "December"
+    			};
+    			java.lang.String monthAbbreviations[] = {
+    				"Jan", "Feb", "Mar", "Apr", "May", "Jun",
+    				"Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    			};
+    			java.lang.String meridianAbbreviations[] = { "AM", "PM" };
+    			java.lang.String timeZones[] = {
+    				"IDLW", "NT", "HST", "YST", "PST", "MST",
+    				"CST", "EST", "AST", "BST", "AT", "WAT",
+    				"GMT",
+    				"MET", "EET", "BT", "ZP4", "ZP5", "ZP6", 
+    				"WAST", "CCT", "JST", "GST", "XRAY", "IDLE"
+    			};
+    	
+    			Time.dayNames = dayNames;
+    			Time.monthNames = monthNames;
+    			Time.dayAbbreviations = dayAbbreviations;
+    			Time.monthAbbreviations = monthAbbreviations;
+    			Time.meridianAbbreviations = meridianAbbreviations;
+    			Time.zoneAbbreviations = timeZones;
+    			return this;
+    	    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object fromTime(final long primitiveTime)
+    {
+    			return new Time( primitiveTime );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object fromTime(final long primitiveTime, final int offset)
+    {
+    			return new Time( primitiveTime, offset );
+    		}
+  }
+
+  /** class instance for Time. **/
+  public static final mClass $class = new mClass(Time.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  java.lang.String[] dayNames;
+
+  protected static 
+  java.lang.String[] dayAbbreviations;
+
+  protected static 
+  java.lang.String[] monthNames;
+
+  protected static 
+  java.lang.String[] monthAbbreviations;
+
+  protected static 
+  java.lang.String[] meridianAbbreviations;
+
+  protected static 
+  java.lang.String[] zoneAbbreviations;
+
+  protected 
+  Calendar moment;
+
+  /**
+  * @return 
+  */
+  protected   Time()
+  {	moment = Calendar.getInstance();
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Time(final long primitiveTime)
+  {	this();
+  		moment.setTime( new Date( primitiveTime ) );
+  	}
+
+
+  /**
+  * @return 
+  */
+  protected   Time(final long primitiveTime, final int offset)
+  {	java.lang.String ids[] = TimeZone.getAvailableIDs( offset );
+  		TimeZone zone = TimeZone.getTimeZone( ids[0] );
+  		moment = Calendar.getInstance( zone );
+  		moment.setTime( new Date( primitiveTime ) );
+  	}
+
+
+  /**
+  * @return long
+  */
+  public  long primitiveTime()
+  {	return moment.getTime().getTime();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object offset(final Object offset)
+  {
+  		IntegerArithmetic delta = (IntegerArithmetic) offset;
+  		Time utc = (Time) this.asUTC();
+  		return this.$class.fromTime( utc.primitiveTime(), delta.primitiveInteger() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $equal(final Object aTime)
+  {	Time t = (Time) aTime;
+  		return primitive.BooleanFrom( primitiveTime() == t.primitiveTime() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $lessThan(final Object aTime)
+  {	Time t = (Time) aTime;
+  		return primitive.BooleanFrom( primitiveTime() < t.primitiveTime() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $moreThan(final Object aTime)
+  {	Time t = (Time) aTime;
+  		return primitive.BooleanFrom( primitiveTime() > t.primitiveTime() );
+  	}
+
+
+  /**
+  * @return int
+  */
+  @Override
+  public  int hashCode()
+  {	return moment.getTime().hashCode();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asLocal()
+  {	int diff = moment.get( Calendar.ZONE_OFFSET );
+  		if (diff > 0) return this;
+  		Time result = (Time) this.$class.now();
+  		int dst = result.moment.get( Calendar.DST_OFFSET );
+  		return this.$class.fromTime( primitiveTime() - dst );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object asUTC()
+  {	int diff = moment.get( Calendar.ZONE_OFFSET );
+  		if (diff == 0) return this;
+  		int dst = moment.get( Calendar.DST_OFFSET );
+  		return this.$class.fromTime( primitiveTime() + dst, 0 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $plus(final Object duration)
+  {	IntegerArithmetic d = (IntegerArithmetic) duration;
+  		return this.$class.fromTime( primitiveTime() + d.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $minus(final Object operand)
+  {
+  		try {
+  			return this.$minus( (Duration) operand );
+  		} catch( ClassCastException e ) {
+  			return this.$minus( (Time) operand );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $minus(final Duration duration)
+  {
+  		return this.$class.fromTime( primitiveTime() - duration.primitiveLong() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object $minus(final Time aTime)
+  {
+  		long delta = primitiveTime() - aTime.primitiveTime();
+  		return new Duration( -delta );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object dayOfMonth()
+  {	return primitive.IntegerFrom( moment.get( Calendar.DAY_OF_MONTH ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object dayOfWeek()
+  {	return primitive.IntegerFrom( moment.get( Calendar.DAY_OF_WEEK ) + 1 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object dayOfWeekAbbreviation()
+  {	return primitive.StringFrom(
+  			dayAbbreviations[ moment.get( Calendar.DAY_OF_WEEK ) ]
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object dayOfWeekName()
+  {	return primitive.StringFrom(
+  			dayNames[ moment.get( Calendar.DAY_OF_WEEK ) ]
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object dayOfYear()
+  {	return primitive.IntegerFrom( moment.get( Calendar.DAY_OF_YEAR ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object isLeapYear()
+  {	int year = moment.get( Calendar.YEAR );
+  		if ((year % 4) != 0) return primitive.literalFalse();
+  		if ((year % 100) != 0) return primitive.literalTrue();
+  		if ((year % 400) == 0) return primitive.literalTrue();
+  		return primitive.literalFalse();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object meridianAbbreviation()
+  {	return primitive.StringFrom(
+  			meridianAbbreviations[ moment.get( Calendar.AM_PM ) ]
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object month()
+  {	return primitive.IntegerFrom( moment.get( Calendar.MONTH ) + 1 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object monthAbbreviation()
+  {	return primitive.StringFrom(
+  			monthAbbreviations[ moment.get( Calendar.MONTH ) ]
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object monthName()
+  {	return primitive.StringFrom(
+  			monthNames[ moment.get( Calendar.MONTH ) ]
+  		);
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object timeZoneAbbreviation()
+  {	long diff = moment.get( Calendar.ZONE_OFFSET );
+  		int zone = (int) (diff / Duration.MSecsPerHour);
+  		return primitive.StringFrom( zoneAbbreviations[ zone + 12 ] );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object timeZoneName()
+  {	int diff = moment.get( Calendar.ZONE_OFFSET );
+  		java.lang.String ids[] = TimeZone.getAvailableIDs( diff );
+  		return primitive.StringFrom( ids[0] );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object year()
+  {	return primitive.IntegerFrom( moment.get( Calendar.YEAR ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object hour() {
+    return (this.hour24());
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object hour12()
+  {	return primitive.IntegerFrom( moment.get( Calendar.HOUR ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object hour24()
+  {	return primitive.IntegerFrom( moment.get( Calendar.HOUR_OF_DAY ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object minute()
+  {	return primitive.IntegerFrom( moment.get( Calendar.MINUTE ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object second()
+  {	return primitive.IntegerFrom( moment.get( Calendar.SECOND ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object offset()
+  {
+  		return new Duration( moment.getTimeZone().getRawOffset() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object printString()
+  {	java.lang.String dash = "-";
+  		java.lang.String colon = ":";
+  		java.text.DecimalFormat digits2 = new java.text.DecimalFormat( "00" );
+  		java.text.DecimalFormat digits4 = new java.text.DecimalFormat( "0000" );
+  		java.lang.StringBuilder result = new java.lang.StringBuilder();
+  		int year = moment.get( Calendar.YEAR );
+  		int msec = moment.get( Calendar.MILLISECOND );
+  		result.append( year < 0 ? "-" : " " );
+  		result.append( digits4.format( year ) );
+  		result.append( dash );
+  		result.append( digits2.format( moment.get( Calendar.MONTH ) ) );
+  		result.append( dash );
+  		result.append( digits2.format( moment.get( Calendar.DAY_OF_MONTH ) ) );
+  		result.append( "T" );
+  		result.append( digits2.format( moment.get( Calendar.HOUR ) ) );
+  		result.append( colon );
+  		result.append( digits2.format( moment.get( Calendar.MINUTE ) ) );
+  		result.append( colon );
+  		result.append( digits2.format( moment.get( Calendar.SECOND ) ) );
+  		if (msec > 0) {
+  			result.append( "." );
+  			result.append( digits4.format( msec ) );
+  		}
+  		long diff = moment.get( Calendar.ZONE_OFFSET );
+  		if (diff >= 0) result.append( "+" );
+  		long h = diff / Duration.MSecsPerHour;
+  		diff -= h * Duration.MSecsPerHour;
+  		long m = diff / Duration.MSecsPerMinute;
+  		diff -= m * Duration.MSecsPerMinute;
+  		long s = diff / Duration.MSecsPerSecond;
+  		diff -= s * Duration.MSecsPerSecond;
+  		result.append( digits2.format( h ) );
+  		result.append( colon );
+  		result.append( digits2.format( m ) );
+  		if (diff > 0 || s > 0) {
+  			result.append( digits2.format( s ) );
+  			result.append( "." );
+  			result.append( digits4.format( diff ) );
+  		}
+  		return primitive.StringFrom( result.toString() );
+  	}
+}
\ No newline at end of file
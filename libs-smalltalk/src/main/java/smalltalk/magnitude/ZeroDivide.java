@@ -0,0 +1,61 @@
+package smalltalk.magnitude;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+/** Represents an exception raised upon a division by zero.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ZeroDivide extends smalltalk.magnitude.ArithmeticError 
+{
+  /** Metaclass for ZeroDivide. */
+  public static  class mClass extends ArithmeticError.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object dividend(final Object aDividend) {
+      new ZeroDivide(aDividend).signal();
+      return (this);
+    }
+  }
+
+  /** class instance for ZeroDivide. **/
+  public static final mClass $class = new mClass(ZeroDivide.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Object dividend;
+
+  /**
+  * @return 
+  */
+  public   ZeroDivide(final Object aDividend) {
+    dividend = aDividend;
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object dividend() {
+    return (dividend);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isResumable() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package smalltalk.stream;
+import smalltalk.collection.ByteArray;
+import java.io.RandomAccessFile;
+import java.io.IOException;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Supports reading bytes sequentially from a binary file.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class BinaryFileReadStream extends smalltalk.stream.FileReadStream 
+{
+  /** Metaclass for BinaryFileReadStream. */
+  public static  class mClass extends FileReadStream.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object on(final RandomAccessFile primitiveFile) {
+      return (new BinaryFileReadStream(primitiveFile));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("emptyString", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("$minus", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector1);
+  /** class instance for BinaryFileReadStream. **/
+  public static final mClass $class = new mClass(BinaryFileReadStream.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   BinaryFileReadStream(final RandomAccessFile primitiveFile)
+  {	super( primitiveFile );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next()
+  {	try {
+  			int value = buffer.read();
+  			return primitive.IntegerFrom( value < 0 ? 0 : value );
+  		} catch( IOException e ) {
+  			return primitive.IntegerFrom( 0 );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next(final Object count) {
+    return (this.nextBytes(((Integer)count).asSmallInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextLine() {
+    return ($send0.perform(this.$class()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object upTo(final Object anObject) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] position = { null };
+    try {
+      position[0] = BinaryFileReadStream.this.position();
+      BinaryFileReadStream.this.$do(new OneArgumentBlock()
+      {
+        @Override public Object value(final Object nextByte)  {
+          return (Boolean.primitiveValue(nextByte.$equal(anObject)) ? (new ZeroArgumentBlock()
+          {
+             
+            Object result;
+            @Override public Object value()  {
+              BinaryFileReadStream.this.position(position[0]);
+              result = BinaryFileReadStream.this.next($send2.perform_with($send1.perform_with(BinaryFileReadStream.this.position(), position[0]), ((SmallInteger)primitive.IntegerFrom(1))));
+              BinaryFileReadStream.this.skip(((SmallInteger)primitive.IntegerFrom(1)));
+              throw new MethodExit($exitScope,
+              result);
+            }
+          }).value() : primitive.literalNil());
+        }
+      });
+      BinaryFileReadStream.this.position(position[0]);
+      return (BinaryFileReadStream.this.next($send3.perform_with(BinaryFileReadStream.this.length(), position[0])));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package smalltalk.stream;
+import smalltalk.collection.ByteArray;
+import java.io.RandomAccessFile;
+import java.io.IOException;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Supports writing bytes sequentially into a binary file.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class BinaryFileWriteStream extends smalltalk.stream.FileWriteStream 
+{
+  /** Metaclass for BinaryFileWriteStream. */
+  public static  class mClass extends FileWriteStream.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object on(final RandomAccessFile primitiveFile) {
+      return (new BinaryFileWriteStream(primitiveFile));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("$do", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for BinaryFileWriteStream. **/
+  public static final mClass $class = new mClass(BinaryFileWriteStream.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   BinaryFileWriteStream(final RandomAccessFile primitiveFile)
+  {	super( primitiveFile );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next(final Object count) {
+    return (this.nextBytes(((Integer)count).asSmallInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextPut(final Object element) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          buffer.write(((SmallInteger)element).primitiveInteger());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPutAll(final ByteArray elements) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          buffer.write(elements.primitiveContents());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextPutAll(final Object elements) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+            throw new MethodExit($exitScope,
+            BinaryFileWriteStream.this.nextPutAll(((ByteArray)elements)));
+          }
+          catch (java.lang.ClassCastException e) {
+            {
+              final OneArgumentBlock $block4 = new OneArgumentBlock()
+            {
+              @Override public Object value(final Object element)  {
+                return BinaryFileWriteStream.this.nextPut(element);
+              }
+            };
+              final smalltalk.behavior.Object $collection4 = elements;
+              if ($collection4.getClass() == smalltalk.collection.Array.class) {
+                final smalltalk.behavior.Object[] $elements4 = ((smalltalk.collection.Array)$collection4).primitiveContents();
+                for (int $index4 = 0, $limit4 = $elements4.length; $index4 < $limit4; $index4++) {
+                  $block4.value($elements4[$index4]);
+                }
+              }
+              else if ($collection4.getClass() == smalltalk.collection.OrderedCollection.class) {
+                final java.util.List $elements4 = ((smalltalk.collection.OrderedCollection)$collection4).primitiveContents();
+                for (int $index4 = 0, $limit4 = $elements4.size(); $index4 < $limit4; $index4++) {
+                  $block4.value((smalltalk.behavior.Object)$elements4.get($index4));
+                }
+              }
+              else {
+                $send0.perform_with($collection4, $block4);
+              }
+            }
+            return Object.primitive.literalNil();
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+}
\ No newline at end of file
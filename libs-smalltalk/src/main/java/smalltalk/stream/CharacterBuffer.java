@@ -0,0 +1,325 @@
+package smalltalk.stream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Decodes the characters of a text file with a CharsetDecoder. Decodes the bytes straight out of the
+window of a FileBuffer into a reused CharBuffer, and answers lines and other runs of characters as
+slices of that CharBuffer, without copying the bytes anywhere else. Replaces any malformed input with
+the replacement character of its charset.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class CharacterBuffer extends smalltalk.behavior.Object 
+{
+  /** Metaclass for CharacterBuffer. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return CharacterBuffer
+    */
+    public  CharacterBuffer on_charset(final FileBuffer fileBuffer, final Charset charset)
+    {	return new CharacterBuffer( fileBuffer, charset );
+    		}
+  }
+
+  /** class instance for CharacterBuffer. **/
+  public static final mClass $class = new mClass(CharacterBuffer.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  FileBuffer bytes;
+
+  protected 
+  Charset charset;
+
+  protected 
+  CharsetDecoder decoder;
+
+  protected 
+  CharBuffer characters;
+
+  protected 
+  boolean flushed;
+
+  protected 
+  long mark;
+
+  protected 
+  boolean singleBytes;
+
+  protected 
+  CharsetDecoder counter;
+
+  protected 
+  CharBuffer counted;
+
+  /**
+  * @return 
+  */
+  protected   CharacterBuffer(final FileBuffer fileBuffer, final Charset aCharset)
+  {	bytes = fileBuffer;
+  		charset = aCharset;
+  		decoder = newDecoder();
+  		singleBytes = (decoder.maxCharsPerByte() == 1.0f && aCharset.newEncoder().maxBytesPerChar() == 1.0f);
+  		characters = CharBuffer.allocate( 8192 );
+  		characters.flip();
+  		mark = fileBuffer.position();
+  	}
+
+
+  /**
+  * @return CharsetDecoder
+  */
+  private  CharsetDecoder newDecoder()
+  {	return charset.newDecoder()
+  			.onMalformedInput( CodingErrorAction.REPLACE )
+  			.onUnmappableCharacter( CodingErrorAction.REPLACE );
+  	}
+
+
+  /**
+  * @return long
+  */
+  public  long position()throws IOException
+  {	if (!characters.hasRemaining()) return bytes.position();
+  		int read = characters.position();
+  		if (read == 0) return mark;
+  		if (singleBytes) return mark + read;
+  		return mark + countBytes( read );
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void position(final long position)throws IOException
+  {	characters.clear();
+  		characters.flip();
+  		decoder.reset();
+  		flushed = false;
+  		bytes.position( position );
+  		mark = position;
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  public  boolean atEnd()throws IOException
+  {	return !characters.hasRemaining() && !fill();
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int read()throws IOException
+  {	if (!characters.hasRemaining() && !fill()) return -1;
+  		return characters.get();
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int peek()throws IOException
+  {	if (!characters.hasRemaining() && !fill()) return -1;
+  		return characters.get( characters.position() );
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  public  java.lang.String read(final int count)throws IOException
+  {	StringBuilder result = new StringBuilder( Math.max( 0, Math.min( count, 8192 ) ) );
+  		while (result.length() < count && (characters.hasRemaining() || fill())) {
+  			int size = Math.min( count - result.length(), characters.remaining() );
+  			int start = characters.arrayOffset() + characters.position();
+  			result.append( characters.array(), start, size );
+  			characters.position( characters.position() + size );
+  		}
+  		return result.toString();
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  public  java.lang.String readLine()throws IOException
+  {	if (!characters.hasRemaining() && !fill()) return null;
+  		return readUpTo_lines( '\n', true );
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  public  java.lang.String readUpTo(final char delimiter)throws IOException
+  {	return readUpTo_lines( delimiter, false );
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void skip(final long count)throws IOException
+  {	long remaining = count;
+  		while (remaining > 0 && (characters.hasRemaining() || fill())) {
+  			int size = (int) Math.min( remaining, characters.remaining() );
+  			characters.position( characters.position() + size );
+  			remaining -= size;
+  		}
+  	}
+
+
+  /**
+  * @return int
+  */
+  private static  int scan_from_to_for_lines(final char[] array, final int start, final int stop, final char delimiter, final boolean lines)
+  {	if (lines) {
+  			for (int index = start; index < stop; index++) {
+  				char c = array[index];
+  				if (c <= '\r' && (c == '\n' || c == '\r')) return index;
+  			}
+  			return stop;
+  		}
+  		for (int index = start; index < stop; index++) {
+  			if (array[index] == delimiter) return index;
+  		}
+  		return stop;
+  	}
+
+
+  /**
+  * @return java.lang.String
+  */
+  private  java.lang.String readUpTo_lines(final char delimiter, final boolean lines)throws IOException
+  {	StringBuilder spill = null;
+  		while (characters.hasRemaining() || fill()) {
+  			char[] array = characters.array();
+  			int offset = characters.arrayOffset();
+  			int start = offset + characters.position();
+  			int stop = offset + characters.limit();
+  			int found = scan_from_to_for_lines( array, start, stop, delimiter, lines );
+  			if (found < stop) {
+  				characters.position( found - offset + 1 );
+  				java.lang.String result = (spill == null ?
+  					new java.lang.String( array, start, found - start ) :
+  					spill.append( array, start, found - start ).toString());
+
+  				if (lines && array[found] == '\r' && (characters.hasRemaining() || fill())
+  					&& characters.get( characters.position() ) == '\n') {
+  					characters.get();
+  				}
+  				return result;
+  			}
+
+  			if (spill == null) spill = new StringBuilder( (stop - start) * 2 );
+  			spill.append( array, start, stop - start );
+  			characters.position( characters.limit() );
+  		}
+  		return (spill == null ? "" : spill.toString());
+  	}
+
+
+  /**
+  * @return long
+  */
+  private  long countBytes(final int count)throws IOException
+  {	if (counter == null) {
+  			counter = newDecoder();
+  			counted = CharBuffer.allocate( characters.capacity() );
+  		}
+  		counter.reset();
+  		counted.clear();
+  		counted.limit( count );
+
+  		long resumed = bytes.position();
+  		long result = 0;
+  		try {
+  			bytes.position( mark );
+  			boolean moving = false;
+  			while (counted.hasRemaining()) {
+  				ByteBuffer window = bytes.window( moving );
+  				if (window == null) break;
+
+  				int start = window.position();
+  				CoderResult coded = counter.decode( window, counted, false );
+  				if (coded.isUnderflow() && window.hasRemaining() && moving) {
+  					// the file ends within a character
+  					counter.decode( window, counted, true );
+  				}
+  				bytes.consume( window.position() - start );
+  				result += window.position() - start;
+  				if (coded.isOverflow()) break;
+  				moving = window.hasRemaining();
+  			}
+  		}
+  		finally {
+  			bytes.position( resumed );
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  private  boolean fill()throws IOException
+  {	characters.compact();
+  		mark = bytes.position();
+  		try {
+  			boolean moving = false;
+  			while (characters.position() == 0 && !flushed) {
+  				ByteBuffer window = bytes.window( moving );
+  				if (window == null) {
+  					decoder.decode( ByteBuffer.allocate( 0 ), characters, true );
+  					decoder.flush( characters );
+  					flushed = true;
+  					break;
+  				}
+
+  				int start = window.position();
+  				decoder.decode( window, characters, false );
+  				if (characters.position() == 0 && window.hasRemaining() && moving) {
+  					// the file ends within a character
+  					decoder.decode( window, characters, true );
+  					decoder.flush( characters );
+  					flushed = true;
+  				}
+  				bytes.consume( window.position() - start );
+
+  				// a character that spans the end of the window needs the bytes that follow
+  				moving = (characters.position() == 0 && window.hasRemaining());
+  			}
+  		}
+  		finally {
+  			characters.flip();
+  		}
+  		return characters.hasRemaining();
+  	}
+}
\ No newline at end of file
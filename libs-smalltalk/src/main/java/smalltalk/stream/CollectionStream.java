@@ -0,0 +1,122 @@
+package smalltalk.stream;
+import smalltalk.collection.Collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Metaclass for CollectionStream. */
+public abstract  class CollectionStream extends smalltalk.stream.PositionableStream 
+{
+  /** Metaclass for CollectionStream. */
+  public static  class mClass extends PositionableStream.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for CollectionStream. **/
+  public static final mClass $class = new mClass(CollectionStream.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Collection contents;
+
+  protected 
+  SmallInteger position;
+
+  /**
+  * @return 
+  */
+  protected   CollectionStream(final Collection aCollection) {
+    contents = aCollection;
+    position = ((SmallInteger)((SmallInteger)primitive.IntegerFrom(0)));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object contents() {
+    return (contents);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object atEnd() {
+    return (position.$equal(contents.size()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isEmpty() {
+    return (contents.isEmpty());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object close() {
+    return (this.setToEnd());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position() {
+    return (position);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position(final Object aPosition) {
+    position = ((SmallInteger)aPosition);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reset() {
+    this.position(((SmallInteger)primitive.IntegerFrom(0)));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object setToEnd() {
+    position = ((SmallInteger)contents.size());
+    return (this);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,494 @@
+package smalltalk.stream;
+import java.io.Reader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import smalltalk.magnitude.LongInteger;
+import smalltalk.collection.Array;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Reads characters and strings from an elementary Java input stream.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ElementaryInputStream extends smalltalk.stream.PositionableStream 
+  implements ReadableStream
+{
+  /** Metaclass for ElementaryInputStream. */
+  public static  class mClass extends PositionableStream.mClass 
+    implements ReadableStream.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object from(final Reader aReader) {
+      return (new ElementaryInputStream(aReader));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object from(final InputStream inputStream) {
+      return (this.from(new InputStreamReader(inputStream)));
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("emptyString", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("timesRepeat", 1);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("whileFalse", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("last", 0);
+  private static final int $selector5 = smalltalk.behavior.SelectorTable.idOf("and", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector4);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send6 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send7 = new smalltalk.behavior.SendSite($selector5);
+  /** class instance for ElementaryInputStream. **/
+  public static final mClass $class = new mClass(ElementaryInputStream.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  SmallInteger peek;
+
+  protected 
+  LongInteger position;
+
+  protected 
+  Reader iStream;
+
+  /**
+  * @return 
+  */
+  public   ElementaryInputStream(final Reader aReader) {
+    iStream = aReader;
+    this.reset();
+  }
+
+
+  /**
+  * @return Reader
+  */
+  protected  Reader primitiveStream() {
+    return (iStream);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object contents() {
+    Object[] result = { null };
+
+     
+    Object location;
+
+    Object[] c = { null };
+    result[0] = $send0.perform(ElementaryInputStream.this.$class());
+    location = ElementaryInputStream.this.position();
+    ElementaryInputStream.this.reset();
+    c[0] = ElementaryInputStream.this.next();
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ElementaryInputStream.this.atEnd();
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          $send1.perform_with(result[0], c[0]);
+          c[0] = ElementaryInputStream.this.next();
+          return Object.primitive.literalNil();
+        }
+      }).value()).value();
+    }
+    ElementaryInputStream.this.reset();
+    ElementaryInputStream.this.position(location);
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object close() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          iStream.close();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position() {
+    return (position);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position(final Object count) {
+    this.reset();
+    this.skip(count);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reset() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          if (Boolean.primitiveValue(ElementaryInputStream.this.canReset())) {
+            (new ZeroArgumentBlock()
+            {
+              @Override public Object value()  {
+                return (new ZeroArgumentBlock()
+                {  @Override public Object value()  {
+                    try {
+                      iStream.reset();
+                      return Object.primitive.literalNil();
+                    }
+                    catch (IOException e) {
+                      return Object.primitive.literalNil();
+                    }
+                  }
+                }).value();
+              }
+            }).value();
+          }
+          position = ((LongInteger)LongInteger.$class.zero());
+          peek = ((SmallInteger)primitive.IntegerFrom(iStream.read()));
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          UnhandledJavaException.$class.raise(e);
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object setToEnd() {
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ElementaryInputStream.this.atEnd();
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return ElementaryInputStream.this.next();
+        }
+      }).value()).value();
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock) {
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ElementaryInputStream.this.atEnd();
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return aBlock.value(ElementaryInputStream.this.next());
+        }
+      }).value()).value();
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object skip(final Object count) {
+    {
+      final ZeroArgumentBlock $block3 = new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ElementaryInputStream.this.next();
+      }
+    };
+      final smalltalk.behavior.Object $count3 = count;
+      if ($count3 instanceof smalltalk.magnitude.SmallInteger) {
+        for (int $index3 = ((smalltalk.magnitude.SmallInteger)$count3).primitiveInteger(); $index3 > 0; $index3--) {
+          $block3.value();
+        }
+      }
+      else {
+        $send2.perform_with($count3, $block3);
+      }
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object skipTo(final Object anObject) {
+    $send3.perform(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ElementaryInputStream.this.next().$equal(anObject);
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.atEnd())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalNil());
+          }
+        }).value();
+      }
+      (new ZeroArgumentBlock()
+      {  @Override public Object value()  {
+          try {
+             
+            Object result;result = peek.asCharacter();
+            peek = ((SmallInteger)primitive.IntegerFrom(iStream.read()));
+            position.$incremented(((SmallInteger)primitive.IntegerFrom(1)));
+            throw new MethodExit($exitScope,
+            result);
+          }
+          catch (IOException e) {
+            UnhandledJavaException.$class.raise(e);
+            return Object.primitive.literalNil();
+          }
+        }
+      }).value();
+      return (this);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object next(final SmallInteger count)
+  {   if (Boolean.$class.booleanFrom(atEnd())) return Object.primitive.literalNil();
+              try {
+                  int length = count.primitiveInteger();
+                  int offset = 1;
+                  char[] buffer = Array.$class.ofCharacters(count);
+                  char first = peek.primitiveCharacter();
+                  Array.$class.put_at_in(first, Object.primitive.IntegerFrom(0), buffer);
+                  iStream.read(buffer, offset, length - offset);
+                  peek = (SmallInteger)Object.primitive.IntegerFrom(iStream.read());
+                  position.$incremented(count);
+                  return Object.primitive.StringFrom(new java.lang.String(buffer));
+              }
+              catch (IOException ex) {
+                  return $class().emptyString();
+              }
+          }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next(final Object count) {
+    return (this.next(((Integer)count).asSmallInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextLine() {
+    return (this.upTo($send4.perform(WriteStream.$class.lineSeparator())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextMatchFor(final Object anObject) {
+    return (this.next().$equal(anObject));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object peek() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.atEnd())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalNil());
+          }
+        }).value();
+      }
+      return (peek);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object peekFor(final Object anObject) {
+    return (this.peek().$equal(anObject));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object upTo(final Object anObject) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] result = { null };
+    try {
+      result[0] = $send5.perform(ElementaryInputStream.this.$class());
+      while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return ElementaryInputStream.this.atEnd();
+        }
+      }).value())) {
+        ((new ZeroArgumentBlock()
+        {
+           
+          Object element;
+          @Override public Object value()  {
+            element = ElementaryInputStream.this.next();
+            if (Boolean.primitiveValue(element.$equal(anObject))) {
+              (new ZeroArgumentBlock()
+              {
+                @Override public Object value()  {
+                  throw new MethodExit($exitScope,
+                  result[0]);
+                }
+              }).value();
+            }
+            $send6.perform_with(result[0], element);
+            return Object.primitive.literalNil();
+          }
+        }).value()).value();
+      }
+      return (result[0]);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object canReset() {
+    return (primitive.BooleanFrom(iStream.markSupported()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object atEnd() {
+    return (peek.$lessThan(((SmallInteger)primitive.IntegerFrom(0))));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isEmpty() {
+    return ($send7.perform_with(position.$equal(LongInteger.$class.zero()), new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ElementaryInputStream.this.atEnd();
+      }
+    }));
+  }
+}
\ No newline at end of file
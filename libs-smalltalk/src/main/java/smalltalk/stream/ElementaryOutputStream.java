@@ -0,0 +1,229 @@
+package smalltalk.stream;
+import java.io.Writer;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.IOException;
+import smalltalk.magnitude.LongInteger;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Writes characters and strings onto an elementary Java output stream.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ElementaryOutputStream extends smalltalk.stream.Stream 
+  implements WriteableStream
+{
+  /** Metaclass for ElementaryOutputStream. */
+  public static  class mClass extends Stream.mClass 
+    implements WriteableStream.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object from(final Writer aWriter) {
+      return (new ElementaryOutputStream(aWriter));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object from(final OutputStream outputStream) {
+      return (this.from(new OutputStreamWriter(outputStream)));
+    }
+  }
+
+  /** class instance for ElementaryOutputStream. **/
+  public static final mClass $class = new mClass(ElementaryOutputStream.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  LongInteger position;
+
+  protected 
+  Writer oStream;
+
+  /**
+  * @return 
+  */
+  public   ElementaryOutputStream(final Writer aWriter) {
+    oStream = aWriter;
+    position = ((LongInteger)LongInteger.$class.zero());
+  }
+
+
+  /**
+  * @return Writer
+  */
+  protected  Writer primitiveStream() {
+    return (oStream);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object close() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          oStream.close();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object position() {
+    return (position);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object cr() {
+    this.nextPutAll(WriteStream.$class.lineSeparator());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object flush() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          oStream.flush();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          UnhandledJavaException.$class.raise(e);
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPut(final Character element) {
+    position.$incremented(((SmallInteger)primitive.IntegerFrom(1)));
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          oStream.write(element.primitiveInteger());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          UnhandledJavaException.$class.raise(e);
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextPut(final Object element) {
+    this.nextPutAll(((Character)element));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPutAll(final String elements) {
+    position.$incremented(elements.size());
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          oStream.write(elements.primitiveString());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          UnhandledJavaException.$class.raise(e);
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextPutAll(final Object elements) {
+    this.nextPutAll(((String)elements));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPutLine(final Object line) {
+    this.nextPutAll(line);
+    this.cr();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object space() {
+    this.nextPut(Character.$class.space());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object tab() {
+    this.nextPut(Character.$class.tab());
+    return (this);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,348 @@
+package smalltalk.stream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Buffers the bytes read from and written into a file through its FileChannel. Keeps a window of the
+file in a reusable direct ByteBuffer, and tracks the file position and length itself, so that reading
+or writing a byte costs no system call until the window has been exhausted. Maps the windows of
+large files into memory when it only reads them. Writes its changes into the file when flushed or
+closed, and when the window moves.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class FileBuffer extends smalltalk.behavior.Object 
+{
+  /** Metaclass for FileBuffer. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return FileBuffer
+    */
+    public  FileBuffer on(final RandomAccessFile primitiveFile)throws IOException
+    {	return new FileBuffer( primitiveFile.getChannel() );
+    		}
+  }
+
+  /** class instance for FileBuffer. **/
+  public static final mClass $class = new mClass(FileBuffer.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  FileChannel channel;
+
+  protected 
+  ByteBuffer buffer;
+
+  protected 
+  ByteBuffer directBuffer;
+
+  protected 
+  boolean mapped;
+
+  protected 
+  long start;
+
+  protected 
+  int index;
+
+  protected 
+  int count;
+
+  protected 
+  long length;
+
+  protected 
+  boolean dirty;
+
+  protected 
+  boolean mapping;
+
+  /**
+  * @return 
+  */
+  protected   FileBuffer(final FileChannel aChannel)throws IOException
+  {	channel = aChannel;
+  		length = aChannel.size();
+  		start = aChannel.position();
+  	}
+
+
+  /**
+  * @return long
+  */
+  public  long length()
+  {	return length;
+  	}
+
+
+  /**
+  * @return long
+  */
+  public  long position()
+  {	return start + index;
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void position(final long position)throws IOException
+  {	if (position >= start && position <= start + count) {
+  			index = (int) (position - start);
+  			return;
+  		}
+
+  		flush();
+  		start = position;
+  		index = 0;
+  		count = 0;
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void skip(final long skipCount)throws IOException
+  {	position( Math.min( length, position() + Math.max( 0, skipCount ) ) );
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int read()throws IOException
+  {	if (index >= count && !fill()) return -1;
+  		return buffer.get( index++ ) & 0xFF;
+  	}
+
+
+  /**
+  * @return int
+  */
+  public  int read(final byte[] bytes)throws IOException
+  {	int result = 0;
+  		while (result < bytes.length) {
+  			if (index >= count && !fill()) break;
+  			int size = Math.min( bytes.length - result, count - index );
+  			ByteBuffer window = buffer.duplicate();
+  			window.position( index );
+  			window.get( bytes, result, size );
+  			index += size;
+  			result += size;
+  		}
+  		return result;
+  	}
+
+
+  /**
+  * @return ByteBuffer
+  */
+  public  ByteBuffer window(final boolean moving)throws IOException
+  {	if ((index >= count || moving) && !fill()) return null;
+  		ByteBuffer result = buffer.duplicate();
+  		result.limit( count );
+  		result.position( index );
+  		return result;
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void consume(final int byteCount)
+  {	index += byteCount;
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void write(final int value)throws IOException
+  {	prepareWindow();
+  		buffer.put( index++, (byte) value );
+  		wrote();
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void write(final byte[] bytes)throws IOException
+  {	int offset = 0;
+  		while (offset < bytes.length) {
+  			prepareWindow();
+  			int size = Math.min( bytes.length - offset, buffer.capacity() - index );
+  			ByteBuffer window = buffer.duplicate();
+  			window.position( index );
+  			window.put( bytes, offset, size );
+  			index += size;
+  			offset += size;
+  			wrote();
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void writeCharacters_charset(final java.lang.String characters, final java.nio.charset.Charset charset)throws IOException
+  {	write( characters.getBytes( charset ) );
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void flush()throws IOException
+  {	if (!dirty) return;
+  		ByteBuffer window = buffer.duplicate();
+  		window.position( 0 );
+  		window.limit( count );
+  		long position = start;
+  		while (window.hasRemaining()) {
+  			position += channel.write( window, position );
+  		}
+  		dirty = false;
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void close()throws IOException
+  {	try {
+  			flush();
+  		}
+  		finally {
+  			buffer = null;
+  			directBuffer = null;
+  			mapped = false;
+  			count = 0;
+  			channel.close();
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void mapLargeFiles()
+  {	mapping = (length >= mappingThreshold());
+  	}
+
+
+  /**
+  * @return int
+  */
+  public static  int bufferSize()
+  {	return Math.max( 512, java.lang.Integer.getInteger( "smalltalk.stream.bufferSize", 65536 ) );
+  	}
+
+
+  /**
+  * @return long
+  */
+  public static  long mappingThreshold()
+  {	return Long.getLong( "smalltalk.stream.mappingThreshold", 16L << 20 );
+  	}
+
+
+  /**
+  * @return int
+  */
+  public static  int mappingSize()
+  {	return 1 << 28;
+  	}
+
+
+  /**
+  * @return ByteBuffer
+  */
+  private  ByteBuffer directBuffer()
+  {	if (directBuffer == null) directBuffer = ByteBuffer.allocateDirect( bufferSize() );
+  		return directBuffer;
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void prepareWindow()throws IOException
+  {	if (buffer == null || mapped) {
+  			advance();
+  			buffer = directBuffer();
+  			mapped = false;
+  		}
+  		else if (index >= buffer.capacity()) {
+  			advance();
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void advance()throws IOException
+  {	flush();
+  		start += index;
+  		index = 0;
+  		count = 0;
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  private  boolean fill()throws IOException
+  {	advance();
+  		if (start >= length) return false;
+
+  		if (mapping) {
+  			int size = (int) Math.min( mappingSize(), length - start );
+  			buffer = channel.map( FileChannel.MapMode.READ_ONLY, start, size );
+  			mapped = true;
+  			count = size;
+  			return true;
+  		}
+
+  		buffer = directBuffer();
+  		mapped = false;
+  		ByteBuffer window = buffer.duplicate();
+  		window.clear();
+  		while (window.hasRemaining()) {
+  			if (channel.read( window, start + window.position() ) < 0) break;
+  		}
+  		count = window.position();
+  		return count > 0;
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void wrote()
+  {	if (index > count) count = index;
+  		if (start + count > length) length = start + count;
+  		dirty = true;
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package smalltalk.stream;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Represents an exception raised upon discovery of a missing file.
+@author Copyright 1999,2010 Nikolas S. Boyd. All rights reserved. */
+public  class FileNotFound extends smalltalk.behavior.Error 
+{
+  /** Metaclass for FileNotFound. */
+  public static  class mClass extends Error.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object filePath(final Object aFilePath) {
+      new FileNotFound(aFilePath).signal();
+      return (this);
+    }
+  }
+
+  /** class instance for FileNotFound. **/
+  public static final mClass $class = new mClass(FileNotFound.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  Object filePath;
+
+  /**
+  * @return 
+  */
+  public   FileNotFound(final Object aFilePath) {
+    filePath = aFilePath;
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object filePath() {
+    return (filePath);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isResumable() {
+    return (Object.primitive.literalTrue());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+package smalltalk.stream;
+import java.io.RandomAccessFile;
+import java.io.IOException;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Metaclass for FileReadStream. */
+public abstract  class FileReadStream extends smalltalk.stream.FileStream 
+  implements ReadableStream
+{
+  /** Metaclass for FileReadStream. */
+  public static  class mClass extends FileStream.mClass 
+    implements ReadableStream.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("whileFalse", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  /** class instance for FileReadStream. **/
+  public static final mClass $class = new mClass(FileReadStream.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   FileReadStream(final RandomAccessFile primitiveFile)
+  {	super( primitiveFile );
+  		buffer.mapLargeFiles();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock) {
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return FileReadStream.this.atEnd();
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return aBlock.value(FileReadStream.this.next());
+        }
+      }).value()).value();
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object skip(final Object count) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          buffer.skip(((SmallInteger)count).primitiveInteger());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object skipTo(final Object anObject) {
+    $send0.perform(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return FileReadStream.this.next().$equal(anObject);
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextMatchFor(final Object anObject) {
+    return (this.next().$equal(anObject));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object peek() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+     
+    Object position;
+
+     
+    Object result;
+    try {
+      if (Boolean.primitiveValue(FileReadStream.this.atEnd())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalNil());
+          }
+        }).value();
+      }
+      position = FileReadStream.this.position();
+      result = FileReadStream.this.next();
+      FileReadStream.this.position(position);
+      return (result);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object peekFor(final Object anObject) {
+    return (this.peek().$equal(anObject));
+  }
+}
\ No newline at end of file
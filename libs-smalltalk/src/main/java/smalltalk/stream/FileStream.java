@@ -0,0 +1,359 @@
+package smalltalk.stream;
+import smalltalk.magnitude.LongInteger;
+import smalltalk.collection.ByteArray;
+import smalltalk.collection.Dictionary;
+import java.io.RandomAccessFile;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Metaclass for FileStream. */
+public abstract  class FileStream extends smalltalk.stream.PositionableStream 
+{
+  /** Metaclass for FileStream. */
+  public static  class mClass extends PositionableStream.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+    protected 
+    String readMode = (String)((String)primitive.StringFrom("r"));
+
+    protected 
+    String writeMode = (String)((String)primitive.StringFrom("rw"));
+
+    protected 
+    Dictionary openingMap;
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object initialize() {
+      openingMap = ((Dictionary)((Dictionary)((Behavior)Dictionary.$class).$new()));
+      openingMap.at_put(((String)primitive.StringFrom("rtext")), ((String)primitive.StringFrom("smalltalk.stream.TextFileReadStream")));
+      openingMap.at_put(((String)primitive.StringFrom("rwtext")), ((String)primitive.StringFrom("smalltalk.stream.TextFileWriteStream")));
+      openingMap.at_put(((String)primitive.StringFrom("rbinary")), ((String)primitive.StringFrom("smalltalk.stream.BinaryFileReadStream")));
+      openingMap.at_put(((String)primitive.StringFrom("rwbinary")), ((String)primitive.StringFrom("smalltalk.stream.BinaryFileWriteStream")));
+      openingMap.yourself();;
+      return (this);
+    }
+
+
+    /**
+    * @return Object
+    */
+    protected  Object on(final RandomAccessFile primitiveFile) {
+      return (Object.primitive.literalNil());
+    }
+
+
+    /**
+    * @return Object
+    */
+    protected  Object streamClass_type(final String fileMode, final Symbol fileType) {
+       
+      String modeType;
+
+       
+      String className;
+      modeType = ((String)fileMode.$append(fileType));
+      className = ((String)openingMap.at(fileMode.$append(fileType)));
+      return (className.resolvedToClass());
+    }
+
+
+    /**
+    * @return java.io.File
+    */
+    protected  java.io.File fileNamed_mode(final String fileName, final String fileMode)
+    {	java.lang.String name = fileName.primitiveString();
+    			java.io.File file = new java.io.File( name );
+    			if (fileMode == readMode && !file.exists()) {
+    				fileNotFound(fileName);
+    				return null;
+    			}
+    			return file;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object fileNotFound(final Object aFilePath) {
+      FileNotFound.$class.filePath(aFilePath);
+      return (this);
+    }
+
+
+    /**
+    * @return RandomAccessFile
+    */
+    protected  RandomAccessFile randomFile_mode(final java.io.File file, final String mode)
+    {	try {
+    				if (file == null) return null;
+    				return new RandomAccessFile( file, mode.primitiveString() );
+    			} catch( IOException e ) {
+    				e.printStackTrace();
+    				return null;
+    			}
+    		}
+
+
+    /**
+    * @return Object
+    */
+    protected  Object open_mode_type(final String fileName, final String fileMode, final Symbol fileType)
+    {	java.io.File file = this.fileNamed_mode( fileName, fileMode );
+    			RandomAccessFile rFile = this.randomFile_mode( file, fileMode );
+    			FileStream.mClass streamClass = 
+    				(FileStream.mClass) this.streamClass_type( fileMode, fileType );
+    	
+    			if (rFile == null || streamClass == null) return primitive.literalNil();
+    			return streamClass.on( rFile );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object read_type(final Object fileName, final Object fileType) {
+      return (this.open_mode_type(((String)fileName), readMode, ((Symbol)fileType)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object read(final Object fileName) {
+      return (this.read_type(fileName, ((Symbol)primitive.SymbolFrom("text"))));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object write_type(final Object fileName, final Object fileType) {
+      return (this.open_mode_type(((String)fileName), writeMode, ((Symbol)fileType)));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object write(final Object fileName) {
+      return (this.write_type(fileName, ((Symbol)primitive.SymbolFrom("text"))));
+    }
+  }
+
+  /** class instance for FileStream. **/
+  public static final mClass $class = new mClass(FileStream.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  RandomAccessFile file;
+
+  protected 
+  FileBuffer buffer;
+
+  /**
+  * @return 
+  */
+  protected   FileStream(final RandomAccessFile primitiveFile)
+  {	file = primitiveFile;
+  		try {
+  			buffer = FileBuffer.$class.on( primitiveFile );
+  		} catch( IOException e ) {
+  			throw new java.io.UncheckedIOException( e );
+  		}
+  	}
+
+
+  /**
+  * @return java.nio.charset.Charset
+  */
+  public static  java.nio.charset.Charset defaultCharset()
+  {	return java.nio.charset.Charset.forName( System.getProperty( "smalltalk.stream.charset", "UTF-8" ) );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object contents() {
+     
+    Object position;
+
+     
+    Object result;
+    position = FileStream.this.position();
+    FileStream.this.reset();
+    result = FileStream.this.next(FileStream.this.length());
+    FileStream.this.position(position);
+    return (result);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object nextBytes(final SmallInteger count) {
+    ByteArray[] result = { null };
+    result[0] = ((ByteArray)((ByteArray)((Behavior)ByteArray.$class).$new(count)));
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          buffer.read(result[0].primitiveContents());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  protected  Object nextString(final SmallInteger count) {
+    return (primitive.StringFrom(new java.lang.String(((ByteArray)this.nextBytes(count)).primitiveContents())));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object next(final Object count);
+
+
+  /**
+  * @return Object
+  */
+  public  Object atEnd()
+  {	return primitive.BooleanFrom( buffer.position() >= buffer.length() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object isEmpty()
+  {	return primitive.BooleanFrom( buffer.length() == 0 );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object close() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          buffer.close();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object length() {
+    return (LongInteger.$class.from(buffer.length()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position() {
+    return (LongInteger.$class.from(buffer.position()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object position(final LongInteger position) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          buffer.position(position.primitiveLong());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position(final Object position) {
+    this.position(((Integer)position).asLongInteger());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object reset() {
+    this.position(((SmallInteger)primitive.IntegerFrom(0)));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object setToEnd() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          buffer.position(buffer.length());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+}
\ No newline at end of file
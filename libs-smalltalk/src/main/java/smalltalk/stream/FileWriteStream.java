@@ -0,0 +1,105 @@
+package smalltalk.stream;
+import java.io.RandomAccessFile;
+import java.io.IOException;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Metaclass for FileWriteStream. */
+public abstract  class FileWriteStream extends smalltalk.stream.FileStream 
+  implements WriteableStream
+{
+  /** Metaclass for FileWriteStream. */
+  public static  class mClass extends FileStream.mClass 
+    implements WriteableStream.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for FileWriteStream. **/
+  public static final mClass $class = new mClass(FileWriteStream.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   FileWriteStream(final RandomAccessFile primitiveFile)
+  {	super( primitiveFile );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object cr() {
+    this.nextPutAll(WriteStream.$class.lineSeparator());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object flush() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          buffer.flush();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object space() {
+    this.nextPut(Character.$class.space());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object tab() {
+    this.nextPut(Character.$class.tab());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPutLine(final Object line) {
+    this.nextPutAll(line);
+    this.cr();
+    return (this);
+  }
+}
\ No newline at end of file
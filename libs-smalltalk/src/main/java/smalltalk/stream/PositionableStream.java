@@ -0,0 +1,69 @@
+package smalltalk.stream;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Metaclass for PositionableStream. */
+public abstract  class PositionableStream extends smalltalk.stream.Stream 
+{
+  /** Metaclass for PositionableStream. */
+  public static  class mClass extends Stream.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+  }
+
+  /** class instance for PositionableStream. **/
+  public static final mClass $class = new mClass(PositionableStream.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return Object
+  */
+  public abstract  Object contents();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object position();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object position(final Object count);
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object reset();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object setToEnd();
+
+
+  /**
+  * @return Object
+  */
+  public abstract  Object isEmpty();
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+package smalltalk.stream;
+import smalltalk.collection.SequenceableCollection;
+import smalltalk.collection.OrderedCollection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Supports reading from a stream of values.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class ReadStream extends smalltalk.stream.CollectionStream 
+  implements ReadableStream
+{
+  /** Metaclass for ReadStream. */
+  public static  class mClass extends CollectionStream.mClass 
+    implements ReadableStream.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object on(final SequenceableCollection aCollection) {
+      return (new ReadStream(aCollection));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object on(final Object aCollection)
+    {	return this.on( (SequenceableCollection) aCollection );
+    		}
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("whileFalse", 0);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("at", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("to_do", 2);
+  private static final int $selector3 = smalltalk.behavior.SelectorTable.idOf("emptyString", 0);
+  private static final int $selector4 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  private static final smalltalk.behavior.SendSite $send3 = new smalltalk.behavior.SendSite($selector3);
+  private static final smalltalk.behavior.SendSite $send4 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send5 = new smalltalk.behavior.SendSite($selector4);
+  /** class instance for ReadStream. **/
+  public static final mClass $class = new mClass(ReadStream.class);
+  @Override public Behavior $class() { return $class; }
+
+  /**
+  * @return 
+  */
+  protected   ReadStream(final SequenceableCollection aCollection)
+  {	super( aCollection );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object $do(final OneArgumentBlock aBlock) {
+    while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ReadStream.this.atEnd();
+      }
+    }).value())) {
+      ((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return aBlock.value(ReadStream.this.next());
+        }
+      }).value()).value();
+    }
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object skip(final Object count) {
+    position = ((SmallInteger)position.$plus(count));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object skipTo(final Object anObject) {
+    $send0.perform(new ZeroArgumentBlock()
+    {
+      @Override public Object value()  {
+        return ReadStream.this.next().$equal(anObject);
+      }
+    });
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next() {
+    position = ((SmallInteger)position.$plus(((SmallInteger)primitive.IntegerFrom(1))));
+    return ($send1.perform_with(this.contents(), position));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next(final Object count) {
+    OrderedCollection[] result = { null };
+    result[0] = ((OrderedCollection)((OrderedCollection)((Behavior)OrderedCollection.$class).$new(count)));
+    {
+      final OneArgumentBlock $block3 = new OneArgumentBlock()
+    {
+      @Override public Object value(final Object index)  {
+        return result[0].at_put(index, ReadStream.this.next());
+      }
+    };
+      final smalltalk.behavior.Object $start3 = ((SmallInteger)primitive.IntegerFrom(1));
+      final smalltalk.behavior.Object $stop3 = count;
+      if ($start3 instanceof smalltalk.magnitude.SmallInteger && $stop3 instanceof smalltalk.magnitude.SmallInteger) {
+        final long $limit3 = ((smalltalk.magnitude.SmallInteger)$stop3).primitiveInteger();
+        for (long $index3 = ((smalltalk.magnitude.SmallInteger)$start3).primitiveInteger(); $index3 <= $limit3; $index3 += 1) {
+          $block3.value(primitive.IntegerFrom((int)$index3));
+        }
+      }
+      else {
+        $send2.perform_with_with($start3, $stop3, $block3);
+      }
+    }
+    return (result[0]);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextLine() {
+    return ($send3.perform(this.$class()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextMatchFor(final Object anObject) {
+    return (this.next().$equal(anObject));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object peek() {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    try {
+      if (Boolean.primitiveValue(this.atEnd())) {
+        (new ZeroArgumentBlock()
+        {
+          @Override public Object value()  {
+            throw new MethodExit($exitScope,
+            Object.primitive.literalNil());
+          }
+        }).value();
+      }
+      return ($send4.perform_with(this.contents(), position.$plus(((SmallInteger)primitive.IntegerFrom(1)))));
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object peekFor(final Object anObject) {
+    return (this.peek().$equal(anObject));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object upTo(final Object anObject) {
+    final java.lang.Object $exitScope = new java.lang.Object();
+    Object[] result = { null };
+    try {
+      result[0] = ((smalltalk.behavior.Object)((OrderedCollection)((Behavior)OrderedCollection.$class).$new()));
+      while(!Boolean.primitiveValue((new ZeroArgumentBlock()
+      {
+        @Override public Object value()  {
+          return ReadStream.this.atEnd();
+        }
+      }).value())) {
+        ((new ZeroArgumentBlock()
+        {
+           
+          Object element;
+          @Override public Object value()  {
+            element = ReadStream.this.next();
+            if (Boolean.primitiveValue(element.$equal(anObject))) {
+              (new ZeroArgumentBlock()
+              {
+                @Override public Object value()  {
+                  throw new MethodExit($exitScope,
+                  result[0]);
+                }
+              }).value();
+            }
+            $send5.perform_with(result[0], element);
+            return Object.primitive.literalNil();
+          }
+        }).value()).value();
+      }
+      return (result[0]);
+    }
+    catch (MethodExit e) {
+      return e.exitOn($exitScope);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package smalltalk.stream;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Supports reading from a stream of values.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface ReadableStream
+{
+  /** Metatype for ReadableStream. */
+  public static  interface mClass
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object atEnd();
+
+
+  /**
+  * @return Object
+  */
+  public  Object $do(final OneArgumentBlock aBlock);
+
+
+  /**
+  * @return Object
+  */
+  public  Object next();
+
+
+  /**
+  * @return Object
+  */
+  public  Object next(final Object count);
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextLine();
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextMatchFor(final Object anObject);
+
+
+  /**
+  * @return Object
+  */
+  public  Object peek();
+
+
+  /**
+  * @return Object
+  */
+  public  Object peekFor(final Object anObject);
+
+
+  /**
+  * @return Object
+  */
+  public  Object skip(final Object count);
+
+
+  /**
+  * @return Object
+  */
+  public  Object skipTo(final Object anObject);
+
+
+  /**
+  * @return Object
+  */
+  public  Object upTo(final Object anObject);
+}
\ No newline at end of file
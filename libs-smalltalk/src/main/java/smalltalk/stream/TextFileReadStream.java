@@ -0,0 +1,231 @@
+package smalltalk.stream;
+import java.io.RandomAccessFile;
+import java.io.IOException;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.LongInteger;
+import smalltalk.collection.CharacterString;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Supports reading characters sequentially from a text file. Decodes the characters with the
+default charset of the FileStreams, or another charset established before reading.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TextFileReadStream extends smalltalk.stream.FileReadStream 
+{
+  /** Metaclass for TextFileReadStream. */
+  public static  class mClass extends FileReadStream.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object on(final RandomAccessFile primitiveFile) {
+      return (new TextFileReadStream(primitiveFile));
+    }
+  }
+
+  /** class instance for TextFileReadStream. **/
+  public static final mClass $class = new mClass(TextFileReadStream.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  CharacterBuffer text;
+
+  /**
+  * @return 
+  */
+  protected   TextFileReadStream(final RandomAccessFile primitiveFile)
+  {	super( primitiveFile );
+  		text = CharacterBuffer.$class.on_charset( buffer, defaultCharset() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object charset(final Object charsetName)
+  {	try {
+  			long position = text.position();
+  			text = CharacterBuffer.$class.on_charset( buffer,
+  				java.nio.charset.Charset.forName( ((CharacterString) charsetName).primitiveString() ) );
+  			text.position( position );
+  		} catch( IOException e ) {
+  		}
+  		return this;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position()
+  {	try {
+  			return LongInteger.$class.from( text.position() );
+  		} catch( IOException e ) {
+  			return primitive.IntegerFrom( 0 );
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position(final LongInteger position) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          text.position(position.primitiveLong());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object setToEnd() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          text.position(buffer.length());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object skip(final Object count) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          text.skip(((SmallInteger)count).primitiveInteger());
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next()
+  {	try {
+  			int value = text.read();
+  			if (value >= 0) return Character.$class.from( value );
+  		} catch( IOException e ) {
+  		}
+  		return Character.$class.$null();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next(final Object count)
+  {	try {
+  			return primitive.StringFrom( text.read( ((Number) count).primitiveInteger() ) );
+  		} catch( IOException e ) {
+  			return $class().emptyString();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextLine()
+  {	try {
+  			return primitive.StringFrom( text.readLine() );
+  		} catch( IOException e ) {
+  			return $class().emptyString();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object peek()
+  {	try {
+  			int value = text.peek();
+  			if (value >= 0) return Character.$class.from( value );
+  		} catch( IOException e ) {
+  		}
+  		return primitive.literalNil();
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object upTo(final Object anObject)
+  {	try {
+  			if (anObject instanceof Character) {
+  				char delimiter = ((Character) anObject).primitiveCharacter();
+  				return primitive.StringFrom( text.readUpTo( delimiter ) );
+  			}
+  			return primitive.StringFrom( text.read( java.lang.Integer.MAX_VALUE ) );
+  		} catch( IOException e ) {
+  			return $class().emptyString();
+  		}
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object atEnd()
+  {	try {
+  			return primitive.BooleanFrom( text.atEnd() );
+  		} catch( IOException e ) {
+  			return primitive.literalTrue();
+  		}
+  	}
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package smalltalk.stream;
+import smalltalk.collection.CharacterString;
+import smalltalk.magnitude.LongInteger;
+import java.io.RandomAccessFile;
+import java.io.IOException;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Supports writing characters sequentially into a text file. Encodes the characters with the
+default charset of the FileStreams, or another charset established before writing.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TextFileWriteStream extends smalltalk.stream.FileWriteStream 
+{
+  /** Metaclass for TextFileWriteStream. */
+  public static  class mClass extends FileWriteStream.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    @Override
+    protected  Object on(final RandomAccessFile primitiveFile) {
+      return (new TextFileWriteStream(primitiveFile));
+    }
+  }
+
+  /** class instance for TextFileWriteStream. **/
+  public static final mClass $class = new mClass(TextFileWriteStream.class);
+  @Override public Behavior $class() { return $class; }
+  protected 
+  java.nio.charset.Charset charset;
+
+  protected 
+  boolean asciiBytes;
+
+  protected 
+  char pendingSurrogate;
+
+  /**
+  * @return 
+  */
+  protected   TextFileWriteStream(final RandomAccessFile primitiveFile)
+  {	super( primitiveFile );
+  		useCharset( defaultCharset() );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  public  Object charset(final Object charsetName)
+  {	useCharset( java.nio.charset.Charset.forName( ((CharacterString) charsetName).primitiveString() ) );
+  		return this;
+  	}
+
+
+  /**
+  * @return void
+  */
+  protected  void useCharset(final java.nio.charset.Charset aCharset)
+  {	charset = aCharset;
+  		asciiBytes = java.util.Arrays.equals( "\t\n\r ~".getBytes( aCharset ), new byte[] { 9, 10, 13, 32, 126 } );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object next(final Object count) {
+    return (this.nextString(((Integer)count).asSmallInteger()));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextPut(final Object element)
+  {	char c = ((Character) element).primitiveCharacter();
+  		try {
+  			if (pendingSurrogate != 0 && java.lang.Character.isLowSurrogate( c )) {
+  				char[] pair = { pendingSurrogate, c };
+  				pendingSurrogate = 0;
+  				buffer.writeCharacters_charset( new java.lang.String( pair ), charset );
+  				return element;
+  			}
+
+  			writePending();
+  			if (asciiBytes && c < 0x80) {
+  				buffer.write( c );
+  			} else if (java.lang.Character.isHighSurrogate( c )) {
+  				pendingSurrogate = c;
+  			} else {
+  				buffer.writeCharacters_charset( java.lang.String.valueOf( c ), charset );
+  			}
+  		} catch( IOException e ) {
+  		}
+  		return element;
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextPutAll(final Object elements) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          TextFileWriteStream.this.writePending();
+          buffer.writeCharacters_charset(((CharacterString)elements).primitiveString(), charset);
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (this);
+  }
+
+
+  /**
+  * @return void
+  */
+  protected  void writePending()throws IOException
+  {	if (pendingSurrogate == 0) return;
+  		char c = pendingSurrogate;
+  		pendingSurrogate = 0;
+  		buffer.writeCharacters_charset( java.lang.String.valueOf( c ), charset );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object flush() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          TextFileWriteStream.this.writePending();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (super.flush());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object close() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          TextFileWriteStream.this.writePending();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (super.close());
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object position(final LongInteger position) {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          TextFileWriteStream.this.writePending();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (super.position(position));
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object setToEnd() {
+    (new ZeroArgumentBlock()
+    {  @Override public Object value()  {
+        try {
+          TextFileWriteStream.this.writePending();
+          return Object.primitive.literalNil();
+        }
+        catch (IOException e) {
+          return Object.primitive.literalNil();
+        }
+      }
+    }).value();
+    return (super.setToEnd());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package smalltalk.stream;
+import smalltalk.magnitude.LongInteger;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Logs messages on the system console. Writes each message directly by default. In its asynchronous
+mode, a Transcript collects the messages of each thread into whole lines, and a TranscriptBuffer
+writes those lines on the console in batches from a background thread.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class Transcript
+{
+  /** Metaclass for Transcript. */
+  public static  class mClass extends smalltalk.behavior.Class 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+    private 
+    java.util.concurrent.atomic.AtomicReference output = new java.util.concurrent.atomic.AtomicReference(TranscriptBuffer.$class.configured());
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object $new()
+    {	return primitive.literalNil();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object async()
+    {	if (output.get() == null) useBuffer( TranscriptBuffer.$class.onConsole() );
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object async_dropping(final Object capacity, final Object dropping)
+    {	if (output.get() == null) useBuffer( TranscriptBuffer.$class.on_capacity_dropping(
+    				System.out, primitive.intFrom( capacity ), primitive.booleanFrom( dropping ) ) );
+    			return this;
+    		}
+
+
+    /**
+    * @return void
+    */
+    private  void useBuffer(final TranscriptBuffer buffer)
+    {	if (!output.compareAndSet( null, buffer )) buffer.close();
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object sync()
+    {	TranscriptBuffer buffer = (TranscriptBuffer) output.getAndSet( null );
+    			if (buffer != null) buffer.close();
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object flush()
+    {	TranscriptBuffer buffer = (TranscriptBuffer) output.get();
+    			if (buffer != null) buffer.flush();
+    			System.out.flush();
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object droppedLines()
+    {	TranscriptBuffer buffer = (TranscriptBuffer) output.get();
+    			return LongInteger.$class.from( buffer == null ? 0L : buffer.droppedLines() );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object cr()
+    {	return printLine( "" );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object tab()
+    {	return print( "\t" );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object space()
+    {	return print( " " );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object print(final java.lang.String aString)
+    {	TranscriptBuffer buffer = (TranscriptBuffer) output.get();
+    			if (buffer == null) System.out.print( aString ); else buffer.print( aString );
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object print(final String aString) {
+      this.print(aString.primitiveString());
+      return (this);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object print(final Object aString) {
+       
+      String string;
+      string = ((String)aString);
+      Transcript.mClass.this.print(string);
+      return (Transcript.mClass.this);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object printLine(final java.lang.String aString)
+    {	TranscriptBuffer buffer = (TranscriptBuffer) output.get();
+    			if (buffer == null) System.out.println( aString ); else buffer.printLine( aString );
+    			return this;
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object printLine(final String aString) {
+      this.printLine(aString.primitiveString());
+      return (this);
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object printLine(final Object aString) {
+       
+      String string;
+      string = ((String)aString);
+      Transcript.mClass.this.printLine(string);
+      return (Transcript.mClass.this);
+    }
+  }
+
+  /** class instance for Transcript. **/
+  public static final mClass $class = new mClass(Transcript.class);
+  public Behavior $class() { return $class; }
+}
\ No newline at end of file
@@ -0,0 +1,302 @@
+package smalltalk.stream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Buffers the lines logged by a Transcript, and writes them on the console from a background thread.
+Each thread collects its own partial line, and publishes it as a whole into a lock-free ring once the
+line ends, so that lines never interleave. The writer thread drains the ring in large batches, each
+written with a single print and flush. A full ring either blocks the threads that publish lines until
+the writer catches up, or drops their lines and counts them. Closing the buffer publishes the partial
+lines of all threads, writes the lines, and stops the writer. Lines printed after that get written directly.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class TranscriptBuffer extends smalltalk.behavior.Object 
+{
+  /** Metaclass for TranscriptBuffer. */
+  public static  class mClass extends Object.mClass 
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return TranscriptBuffer
+    */
+    public  TranscriptBuffer on_capacity_dropping(final PrintStream out, final int capacity, final boolean dropping)
+    {	return new TranscriptBuffer( out, capacity, dropping );
+    		}
+
+
+    /**
+    * @return TranscriptBuffer
+    */
+    public  TranscriptBuffer onConsole()
+    {	return on_capacity_dropping( System.out,
+    				java.lang.Integer.getInteger( "smalltalk.transcript.capacity", 1024 ),
+    				java.lang.Boolean.getBoolean( "smalltalk.transcript.dropping" ) );
+    		}
+
+
+    /**
+    * @return TranscriptBuffer
+    */
+    public  TranscriptBuffer configured()
+    {	return (java.lang.Boolean.getBoolean( "smalltalk.transcript.async" ) ? onConsole() : null);
+    		}
+  }
+
+  /** class instance for TranscriptBuffer. **/
+  public static final mClass $class = new mClass(TranscriptBuffer.class);
+  @Override public Behavior $class() { return $class; }
+  private static final 
+  int BatchSize = 65536;
+
+  protected 
+  PrintStream out;
+
+  protected 
+  AtomicReferenceArray entries;
+
+  protected 
+  int mask;
+
+  protected 
+  AtomicLong tail;
+
+  protected 
+  AtomicLong head;
+
+  protected 
+  AtomicLong written;
+
+  protected 
+  AtomicLong dropped;
+
+  protected 
+  boolean dropping;
+
+  protected 
+  AtomicBoolean sleeping;
+
+  protected 
+  AtomicBoolean closed;
+
+  protected 
+  AtomicBoolean stopped;
+
+  protected 
+  Thread writer;
+
+  protected 
+  Thread hook;
+
+  protected 
+  ThreadLocal lines;
+
+  protected 
+  java.util.Set partialLines;
+
+  /**
+  * @return 
+  */
+  protected   TranscriptBuffer(final PrintStream aStream, final int capacity, final boolean dropsLines)
+  {	int length = 16;
+  		while (length < capacity) length <<= 1;
+  		out = aStream;
+  		entries = new AtomicReferenceArray( length );
+  		mask = length - 1;
+  		tail = new AtomicLong();
+  		head = new AtomicLong();
+  		written = new AtomicLong();
+  		dropped = new AtomicLong();
+  		dropping = dropsLines;
+  		sleeping = new AtomicBoolean();
+  		closed = new AtomicBoolean();
+  		stopped = new AtomicBoolean();
+  		lines = ThreadLocal.withInitial( () -> new StringBuilder() );
+  		partialLines = java.util.concurrent.ConcurrentHashMap.newKeySet();
+  		writer = new Thread( () -> drain(), "Transcript writer" );
+  		writer.setDaemon( true );
+  		writer.start();
+  		hook = new Thread( () -> close() );
+  		Runtime.getRuntime().addShutdownHook( hook );
+  	}
+
+
+  /**
+  * @return long
+  */
+  public  long droppedLines()
+  {	return dropped.get();
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void print(final java.lang.String text)
+  {	StringBuilder line = (StringBuilder) lines.get();
+  		synchronized( line ) {
+  			if (closed.get()) {
+  				out.print( text );
+  				return;
+  			}
+  			if (line.length() == 0) partialLines.add( line );
+  			line.append( text );
+  			if (line.length() >= BatchSize) publishLine( line );
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void printLine(final java.lang.String text)
+  {	StringBuilder line = (StringBuilder) lines.get();
+  		synchronized( line ) {
+  			if (closed.get()) {
+  				out.println( text );
+  				return;
+  			}
+  			line.append( text ).append( System.lineSeparator() );
+  			publishLine( line );
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void flush()
+  {	StringBuilder line = (StringBuilder) lines.get();
+  		synchronized( line ) {
+  			if (line.length() > 0) publishLine( line );
+  		}
+  		awaitWritten( tail.get() );
+  		out.flush();
+  	}
+
+
+  /**
+  * @return void
+  */
+  public  void close()
+  {	if (!closed.compareAndSet( false, true )) return;
+  		for (java.lang.Object each : partialLines.toArray()) {
+  			StringBuilder line = (StringBuilder) each;
+  			synchronized( line ) {
+  				if (line.length() > 0) publishLine( line );
+  			}
+  		}
+
+  		awaitWritten( tail.get() );
+  		stopped.set( true );
+  		LockSupport.unpark( writer );
+  		try {
+  			writer.join();
+  			Runtime.getRuntime().removeShutdownHook( hook );
+  		}
+  		catch (InterruptedException e) {
+  			Thread.currentThread().interrupt();
+  		}
+  		catch (IllegalStateException e) {
+  			// already shutting down
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void awaitWritten(final long target)
+  {	while (written.get() < target) {
+  			LockSupport.unpark( writer );
+  			LockSupport.parkNanos( 50000L );
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void publishLine(final StringBuilder line)
+  {	java.lang.String text = line.toString();
+  		line.setLength( 0 );
+  		partialLines.remove( line );
+  		while (!offer( text )) {
+  			if (dropping) {
+  				dropped.incrementAndGet();
+  				return;
+  			}
+  			LockSupport.unpark( writer );
+  			LockSupport.parkNanos( 50000L );
+  		}
+  		if (sleeping.get()) LockSupport.unpark( writer );
+  	}
+
+
+  /**
+  * @return boolean
+  */
+  private  boolean offer(final java.lang.String text)
+  {	while (true) {
+  			long position = tail.get();
+  			if (position - head.get() > mask) return false;
+  			if (tail.compareAndSet( position, position + 1 )) {
+  				entries.set( (int) position & mask, text );
+  				return true;
+  			}
+  		}
+  	}
+
+
+  /**
+  * @return void
+  */
+  private  void drain()
+  {	StringBuilder batch = new StringBuilder( BatchSize );
+  		long next = head.get();
+  		while (true) {
+  			java.lang.Object entry;
+  			while (batch.length() < BatchSize && (entry = entries.get( (int) next & mask )) != null) {
+  				entries.set( (int) next & mask, null );
+  				batch.append( (java.lang.String) entry );
+  				head.lazySet( ++next );
+  			}
+
+  			if (batch.length() > 0) {
+  				out.print( batch );
+  				out.flush();
+  				batch.setLength( 0 );
+  				written.set( next );
+  				continue;
+  			}
+
+  			if (stopped.get()) return;
+
+  			// a line published after this check finds the writer sleeping, and wakes it
+  			sleeping.set( true );
+  			if (entries.get( (int) next & mask ) == null) LockSupport.park( this );
+  			sleeping.set( false );
+  		}
+  	}
+}
\ No newline at end of file
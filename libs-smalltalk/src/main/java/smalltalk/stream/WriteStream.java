@@ -0,0 +1,161 @@
+package smalltalk.stream;
+import smalltalk.collection.ExtensibleCollection;
+import smalltalk.collection.OrderedCollection;
+import smalltalk.collection.Collection;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Supports reading from a stream of values.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  class WriteStream extends smalltalk.stream.CollectionStream 
+  implements WriteableStream
+{
+  /** Metaclass for WriteStream. */
+  public static  class mClass extends CollectionStream.mClass 
+    implements WriteableStream.mClass
+  {
+
+    /** Constructs a new mClass. **/
+    protected mClass(final java.lang.Class aClass) { super(aClass); }
+
+    /**
+    * @return Object
+    */
+    public  Object on(final ExtensibleCollection aCollection) {
+      return (new WriteStream(aCollection));
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object on(final Object aCollection)
+    {	return this.on( (ExtensibleCollection) aCollection );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    public  Object with(final Object aCollection)
+    {
+    			return this.on( (ExtensibleCollection) aCollection );
+    		}
+
+
+    /**
+    * @return Object
+    */
+    @Override
+    public  Object initialize() {
+       
+      String separatorName;
+      separatorName = ((String)((String)primitive.StringFrom("line.separator")));
+      lineSeparator = ((String)primitive.StringFrom(java.lang.System.getProperty(separatorName.primitiveString())));
+      return (Object.primitive.literalNil());
+    }
+
+
+    /**
+    * @return Object
+    */
+    public  Object lineSeparator() {
+      return (lineSeparator);
+    }
+  }
+
+  private static final int $selector0 = smalltalk.behavior.SelectorTable.idOf("add", 1);
+  private static final int $selector1 = smalltalk.behavior.SelectorTable.idOf("addAll", 1);
+  private static final int $selector2 = smalltalk.behavior.SelectorTable.idOf("size", 0);
+  private static final smalltalk.behavior.SendSite $send0 = new smalltalk.behavior.SendSite($selector0);
+  private static final smalltalk.behavior.SendSite $send1 = new smalltalk.behavior.SendSite($selector1);
+  private static final smalltalk.behavior.SendSite $send2 = new smalltalk.behavior.SendSite($selector2);
+  /** class instance for WriteStream. **/
+  public static final mClass $class = new mClass(WriteStream.class);
+  @Override public Behavior $class() { return $class; }
+  protected static 
+  String lineSeparator;
+
+  /**
+  * @return 
+  */
+  protected   WriteStream(final ExtensibleCollection aCollection)
+  {	super( (Collection) aCollection );
+  	}
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object cr() {
+    this.nextPutAll(lineSeparator);
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object flush() {
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextPut(final Object element) {
+    $send0.perform_with(this.contents(), element);
+    position = ((SmallInteger)position.$plus(((SmallInteger)primitive.IntegerFrom(1))));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object nextPutAll(final Object elements) {
+    $send1.perform_with(this.contents(), elements);
+    position = ((SmallInteger)position.$plus($send2.perform(elements)));
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object space() {
+    this.nextPut(Character.$class.space());
+    return (this);
+  }
+
+
+  /**
+  * @return Object
+  */
+  @Override
+  public  Object tab() {
+    this.nextPut(Character.$class.tab());
+    return (this);
+  }
+}
\ No newline at end of file
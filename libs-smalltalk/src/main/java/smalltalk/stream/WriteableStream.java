@@ -0,0 +1,67 @@
+package smalltalk.stream;
+import smalltalk.behavior.Boolean;
+import smalltalk.magnitude.SmallInteger;
+import smalltalk.collection.String;
+import smalltalk.behavior.*;
+import smalltalk.behavior.Object;
+import smalltalk.behavior.Behavior;
+import smalltalk.behavior.Class;
+import smalltalk.behavior.UndefinedObject;
+import smalltalk.behavior.Exception;
+import smalltalk.behavior.Error;
+import smalltalk.magnitude.Float;
+import smalltalk.magnitude.Double;
+import smalltalk.magnitude.Number;
+import smalltalk.magnitude.Integer;
+import smalltalk.magnitude.Character;
+import smalltalk.magnitude.*;
+import smalltalk.collection.Symbol;
+import smalltalk.collection.Array;
+/** Supports writing a stream of values.
+@author Copyright 1999,2000 Nikolas S. Boyd. All rights reserved. */
+public  interface WriteableStream
+{
+  /** Metatype for WriteableStream. */
+  public static  interface mClass
+  {
+
+  }
+
+  /** Indicates a Bistro type definition. **/
+  public static final boolean $class = true;
+
+  /**
+  * @return Object
+  */
+  public  Object cr();
+
+
+  /**
+  * @return Object
+  */
+  public  Object flush();
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPut(final Object element);
+
+
+  /**
+  * @return Object
+  */
+  public  Object nextPutAll(final Object elements);
+
+
+  /**
+  * @return Object
+  */
+  public  Object space();
+
+
+  /**
+  * @return Object
+  */
+  public  Object tab();
+}
\ No newline at end of file